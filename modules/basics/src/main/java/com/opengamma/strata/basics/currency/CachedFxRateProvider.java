@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * An {@code FxRateProvider} that caches the rates obtained from its underlying provider.
+ * <p>
+ * This is typically useful where the underlying provider, such as a {@code MarketDataFxRateProvider},
+ * triangulates each rate from several market data lookups and the same rates are requested many times,
+ * for example when converting a large number of amounts to a reporting currency.
+ * <p>
+ * Each rate is requested from the underlying provider at most once per currency pair.
+ * Failures are not cached, thus a rate that cannot be found is requested again on the next call.
+ */
+class CachedFxRateProvider implements FxRateProvider {
+
+  /**
+   * The underlying provider.
+   */
+  private final FxRateProvider underlying;
+  /**
+   * The cached rates, keyed by currency pair.
+   */
+  private final ConcurrentHashMap<CurrencyPair, Double> rates = new ConcurrentHashMap<>();
+
+  /**
+   * Package-scoped constructor.
+   *
+   * @param underlying  the underlying provider
+   */
+  CachedFxRateProvider(FxRateProvider underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+  }
+
+  @Override
+  public double convert(double amount, Currency fromCurrency, Currency toCurrency) {
+    if (fromCurrency.equals(toCurrency)) {
+      return amount;
+    }
+    return amount * fxRate(CurrencyPair.of(fromCurrency, toCurrency));
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency) {
+    return fxRate(CurrencyPair.of(baseCurrency, counterCurrency));
+  }
+
+  @Override
+  public double fxRate(CurrencyPair currencyPair) {
+    if (currencyPair.getBase().equals(currencyPair.getCounter())) {
+      return 1;
+    }
+    Double rate = rates.get(currencyPair);
+    if (rate == null) {
+      // not using computeIfAbsent, as the underlying provider may itself be slow or reentrant
+      rate = underlying.fxRate(currencyPair);
+      rates.putIfAbsent(currencyPair, rate);
+    }
+    return rate;
+  }
+
+}
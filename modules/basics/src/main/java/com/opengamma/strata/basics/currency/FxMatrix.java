@@ -249,6 +249,61 @@ public final class FxMatrix
     return CurrencyAmount.of(targetCurrency, total);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this matrix with the rate for a currency pair added or updated.
+   * <p>
+   * This applies the same rules as {@link FxMatrixBuilder#addRate(Currency, Currency, double)}.
+   * If both currencies are already in the matrix, the first currency is treated as the reference
+   * currency and all the rates involving the second currency are updated. Only the row and column
+   * of the second currency are recalculated, avoiding a rebuild of the whole matrix.
+   * <p>
+   * If one of the currencies is not in the matrix, the currency is added.
+   * If neither currency is in the matrix, an exception is thrown.
+   *
+   * @param ccy1  the first currency of the pair, the reference currency if both are present
+   * @param ccy2  the second currency of the pair, the updated currency if both are present
+   * @param rate  the FX rate between the first currency and the second currency.
+   *   The rate indicates the value of one unit of the first currency in terms
+   *   of the second currency.
+   * @return a new matrix containing the rate
+   * @throws IllegalStateException if the matrix is not empty and neither currency is in the matrix
+   */
+  public FxMatrix withRate(Currency ccy1, Currency ccy2, double rate) {
+    ArgChecker.notNull(ccy1, "ccy1");
+    ArgChecker.notNull(ccy2, "ccy2");
+    Integer index1 = currencies.get(ccy1);
+    Integer index2 = currencies.get(ccy2);
+    if (index1 == null || index2 == null || index1.equals(index2)) {
+      return toBuilder().addRate(ccy1, ccy2, rate).build();
+    }
+    // a single copy of the matrix, updating the rates of the second currency in place
+    double[][] updated = rates.toArray();
+    for (int i = 0; i < updated.length; i++) {
+      if (i != index2) {
+        double convertedRate = rate * updated[i][index1];
+        updated[i][index2] = convertedRate;
+        updated[index2][i] = 1d / convertedRate;
+      }
+    }
+    return new FxMatrix(currencies, DoubleMatrix.ofUnsafe(updated));
+  }
+
+  /**
+   * Returns a copy of this matrix with the rate for a currency pair added or updated.
+   * <p>
+   * See {@link #withRate(Currency, Currency, double)} for full details.
+   *
+   * @param currencyPair  the currency pair to be added or updated
+   * @param rate  the FX rate between the base currency of the pair and the counter currency
+   * @return a new matrix containing the rate
+   * @throws IllegalStateException if the matrix is not empty and neither currency is in the matrix
+   */
+  public FxMatrix withRate(CurrencyPair currencyPair, double rate) {
+    ArgChecker.notNull(currencyPair, "currencyPair");
+    return withRate(currencyPair.getBase(), currencyPair.getCounter(), rate);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Merges the entries from the other matrix into this one.
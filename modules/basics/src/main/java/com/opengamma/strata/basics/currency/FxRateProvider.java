@@ -35,6 +35,24 @@ public interface FxRateProvider {
     return new LazyFxRateProvider(target);
   }
 
+  /**
+   * Returns an {@code FxRateProvider} that caches the rates of its underlying provider.
+   * <p>
+   * This is typically useful where the underlying provider triangulates each rate from market data,
+   * such as {@code MarketDataFxRateProvider}, and many amounts are to be converted.
+   * Each rate is obtained from the underlying provider once per currency pair, after which it is cached.
+   * The underlying provider must therefore not change the rates it provides.
+   *
+   * @param underlying  the underlying provider
+   * @return the provider
+   */
+  public static FxRateProvider cached(FxRateProvider underlying) {
+    if (underlying instanceof CachedFxRateProvider || underlying instanceof FxMatrix) {
+      return underlying;
+    }
+    return new CachedFxRateProvider(underlying);
+  }
+
   /**
    * Returns a provider that always throws an exception.
    * <p>
@@ -32,6 +32,9 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
  * This implementation is intended for short-lived queries.
  * To combine two calendars for the long-term, such as in a static constant,
  * see {@link ImmutableHolidayCalendar#combined(ImmutableHolidayCalendar, ImmutableHolidayCalendar)}.
+ * <p>
+ * If both underlying calendars are immutable, the methods that shift and count business days
+ * use a merged immutable calendar, created on first use.
  */
 @BeanDefinition(builderScope = "private", constructorScope = "package")
 final class CombinedHolidayCalendar
@@ -47,6 +50,12 @@ final class CombinedHolidayCalendar
    */
   @PropertyDefinition(validate = "notNull")
   private final HolidayCalendar calendar2;
+  /**
+   * The merged calendar, null until first used.
+   * This is only created if both calendars are immutable or combinations of immutable calendars.
+   * No synchronization is needed, as the merged calendar is immutable and may be created more than once.
+   */
+  private transient ImmutableHolidayCalendar merged;  // derived and cached, not a property
 
   //-------------------------------------------------------------------------
   @Override
@@ -59,6 +68,58 @@ final class CombinedHolidayCalendar
     return calendar1.isHoliday(date) || calendar2.isHoliday(date);
   }
 
+  @Override
+  public LocalDate shift(LocalDate date, int amount) {
+    ImmutableHolidayCalendar merged = merged();
+    return merged != null ? merged.shift(date, amount) : HolidayCalendar.super.shift(date, amount);
+  }
+
+  @Override
+  public LocalDate next(LocalDate date) {
+    ImmutableHolidayCalendar merged = merged();
+    return merged != null ? merged.next(date) : HolidayCalendar.super.next(date);
+  }
+
+  @Override
+  public LocalDate previous(LocalDate date) {
+    ImmutableHolidayCalendar merged = merged();
+    return merged != null ? merged.previous(date) : HolidayCalendar.super.previous(date);
+  }
+
+  @Override
+  public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+    ImmutableHolidayCalendar merged = merged();
+    return merged != null ?
+        merged.daysBetween(startInclusive, endExclusive) :
+        HolidayCalendar.super.daysBetween(startInclusive, endExclusive);
+  }
+
+  // obtains the merged calendar, null if either calendar is not immutable
+  ImmutableHolidayCalendar merged() {
+    ImmutableHolidayCalendar result = merged;
+    if (result == null) {
+      ImmutableHolidayCalendar immutable1 = immutable(calendar1);
+      ImmutableHolidayCalendar immutable2 = immutable(calendar2);
+      if (immutable1 == null || immutable2 == null) {
+        return null;
+      }
+      result = ImmutableHolidayCalendar.merged(getId(), immutable1, immutable2);
+      merged = result;
+    }
+    return result;
+  }
+
+  // obtains the immutable form of the calendar, null if not available
+  private static ImmutableHolidayCalendar immutable(HolidayCalendar calendar) {
+    if (calendar instanceof ImmutableHolidayCalendar) {
+      return (ImmutableHolidayCalendar) calendar;
+    }
+    if (calendar instanceof CombinedHolidayCalendar) {
+      return ((CombinedHolidayCalendar) calendar).merged();
+    }
+    return null;
+  }
+
   @Override
   public String toString() {
     return "HolidayCalendar[" + getName() + ']';
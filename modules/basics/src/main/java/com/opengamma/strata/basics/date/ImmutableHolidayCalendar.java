@@ -27,6 +27,7 @@ import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
 import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
@@ -68,6 +69,8 @@ public final class ImmutableHolidayCalendar
   // (most logic involves finding business days, finding 1 is easier than finding 0
   // when using Integer.numberOfTrailingZeros and Integer.numberOfLeadingZeros)
   // benchmarking showed nextOrSame() and previousOrSame() do not need to be overridden
+  // a second int array holds the cumulative count of business days at the start of each month
+  // this allows daysBetween() and shift() to use business day ordinals rather than loop across months
   // out-of-range and weekend-only (used in testing) are handled using exceptions to fast-path the common case
 
   /**
@@ -106,6 +109,11 @@ public final class ImmutableHolidayCalendar
    */
   @PropertyDefinition(validate = "notNull", get = "")
   private final int[] lookup;
+  /**
+   * The business day ordinals, where each item is the number of business days in the lookup table
+   * before the matching month, with a final item for the total.
+   */
+  private final transient int[] ordinals;  // derived, not a property
 
   //-------------------------------------------------------------------------
   /**
@@ -235,6 +243,48 @@ public final class ImmutableHolidayCalendar
     return new ImmutableHolidayCalendar(newId, newWeekends, newStartYear, newLookup, false);
   }
 
+  // merges two calendars, such that a date is a business day only if it is a business day in both
+  // unlike combined(), the weekend days of each calendar are applied beyond the range of its lookup table
+  // this matches the behavior of CombinedHolidayCalendar
+  static ImmutableHolidayCalendar merged(
+      HolidayCalendarId id,
+      ImmutableHolidayCalendar cal1,
+      ImmutableHolidayCalendar cal2) {
+
+    int newWeekends = cal1.weekends | cal2.weekends; // use | because 1 = weekend day
+    if (cal1.lookup.length == 0 && cal2.lookup.length == 0) {
+      return new ImmutableHolidayCalendar(id, newWeekends, 0, new int[0], false);
+    }
+    int newStartYear = cal1.lookup.length == 0 ? cal2.startYear :
+        (cal2.lookup.length == 0 ? cal1.startYear : Math.min(cal1.startYear, cal2.startYear));
+    int endYear1 = cal1.lookup.length == 0 ? newStartYear : cal1.startYear + cal1.lookup.length / 12;
+    int endYear2 = cal2.lookup.length == 0 ? newStartYear : cal2.startYear + cal2.lookup.length / 12;
+    int[] newLookup = new int[(Math.max(endYear1, endYear2) - newStartYear) * 12];
+    LocalDate firstOfMonth = LocalDate.of(newStartYear, 1, 1);
+    for (int i = 0; i < newLookup.length; i++) {
+      newLookup[i] = cal1.monthData(firstOfMonth) & cal2.monthData(firstOfMonth); // use & because 1 = business day
+      firstOfMonth = firstOfMonth.plusMonths(1);
+    }
+    return new ImmutableHolidayCalendar(id, newWeekends, newStartYear, newLookup, false);
+  }
+
+  // the lookup data for a month, using the weekend days beyond the range of the lookup table
+  private int monthData(LocalDate firstOfMonth) {
+    int index = (firstOfMonth.getYear() - startYear) * 12 + firstOfMonth.getMonthValue() - 1;
+    if (index >= 0 && index < lookup.length) {
+      return lookup[index];
+    }
+    int monthData = (1 << firstOfMonth.lengthOfMonth()) - 1;
+    int firstDow0 = firstOfMonth.getDayOfWeek().ordinal();
+    for (int dow0 = 0; dow0 < 7; dow0++) {
+      if ((weekends & (1 << dow0)) != 0) {
+        int offset = (dow0 - firstDow0 + 7) % 7;
+        monthData &= ~(0b10000001000000100000010000001 << offset); // CSIGNORE
+      }
+    }
+    return monthData;
+  }
+
   // creates an instance calculating the supported range
   static ImmutableHolidayCalendar of(
       HolidayCalendarId id,
@@ -304,6 +354,16 @@ public final class ImmutableHolidayCalendar
     return array;
   }
 
+  // create and populate the int[] ordinals from the lookup
+  // each item is the count of business days before the month, with a final item for the total
+  private static int[] buildOrdinalArray(int[] lookup) {
+    int[] array = new int[lookup.length + 1];
+    for (int i = 0; i < lookup.length; i++) {
+      array[i + 1] = array[i] + Integer.bitCount(lookup[i]);
+    }
+    return array;
+  }
+
   //-------------------------------------------------------------------------
   // writes the binary format
   void writeExternal(DataOutput out) throws IOException {
@@ -342,6 +402,27 @@ public final class ImmutableHolidayCalendar
     this.weekends = weekendDays;
     this.startYear = startYear;
     this.lookup = ArgChecker.notNull(lookup, "lookup");
+    this.ordinals = buildOrdinalArray(lookup);
+  }
+
+  @ImmutableConstructor
+  private ImmutableHolidayCalendar(
+      HolidayCalendarId id,
+      int weekends,
+      int startYear,
+      int[] lookup) {
+    JodaBeanUtils.notNull(id, "id");
+    JodaBeanUtils.notNull(lookup, "lookup");
+    this.id = id;
+    this.weekends = weekends;
+    this.startYear = startYear;
+    this.lookup = lookup.clone();
+    this.ordinals = buildOrdinalArray(this.lookup);
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new ImmutableHolidayCalendar(id, weekends, startYear, lookup, false);
   }
 
   //-------------------------------------------------------------------------
@@ -421,7 +502,9 @@ public final class ImmutableHolidayCalendar
   @Override
   public LocalDate shift(LocalDate date, int amount) {
     try {
-      if (amount > 0) {
+      if (amount > 1 || amount < -1) {
+        return shiftByOrdinal(date, amount);
+      } else if (amount > 0) {
         // day-of-month: minus one for zero-based day-of-month, plus one to start from next day
         return shiftNext(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), amount);
       } else if (amount < 0) {
@@ -435,6 +518,45 @@ public final class ImmutableHolidayCalendar
     }
   }
 
+  // shift by more than one working day using the business day ordinals, avoiding a loop
+  private LocalDate shiftByOrdinal(LocalDate date, int amount) {
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    int monthData = lookup[index];
+    int dom0 = date.getDayOfMonth() - 1;
+    // the ordinal of the date is the number of earlier business days
+    int ordinal = ordinals[index] + Integer.bitCount(monthData & ((1 << dom0) - 1));
+    if (amount > 0) {
+      // the first later business day has the next ordinal if the date is a business day
+      return businessDay(ordinal + ((monthData >>> dom0) & 1) + amount - 1);
+    }
+    return businessDay(ordinal + amount);
+  }
+
+  // finds the business day with the specified ordinal
+  // throws ArrayIndexOutOfBoundsException if outside the range of the lookup table
+  private LocalDate businessDay(int ordinal) {
+    if (ordinal < 0 || ordinal >= ordinals[lookup.length]) {
+      throw new ArrayIndexOutOfBoundsException(ordinal);
+    }
+    // binary search for the month, skipping months without business days
+    int low = 0;
+    int high = lookup.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ordinals[mid + 1] <= ordinal) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    // unset the earlier business days, leaving the target as the least significant bit
+    int monthData = lookup[low];
+    for (int i = ordinals[low]; i < ordinal; i++) {
+      monthData &= monthData - 1;
+    }
+    return LocalDate.of(startYear + low / 12, low % 12 + 1, Integer.numberOfTrailingZeros(monthData) + 1);
+  }
+
   // pulled out to aid hotspot inlining
   private LocalDate shiftOutOfRange(LocalDate date, int amount) {
     if (date.getYear() >= 0 && date.getYear() < 10000) {
@@ -613,33 +735,23 @@ public final class ImmutableHolidayCalendar
   public int daysBetween(LocalDate startInclusive, LocalDate endExclusive) {
     ArgChecker.inOrderOrEqual(startInclusive, endExclusive, "startInclusive", "endExclusive");
     try {
-      // find data for start and end month
-      int startIndex = (startInclusive.getYear() - startYear) * 12 + startInclusive.getMonthValue() - 1;
-      int endIndex = (endExclusive.getYear() - startYear) * 12 + endExclusive.getMonthValue() - 1;
-      
-      // count of first month = ones after day of month inclusive
-      // e.g 4th day of month - want holidays from index 3 inclusive
-      int start = Integer.bitCount(lookup[startIndex] >>> (startInclusive.getDayOfMonth() - 1));
-      // count of last month = ones before day of month exclusive == total for month - ones after end inclusive
-      int missingEnd = Integer.bitCount(lookup[endIndex] >>> (endExclusive.getDayOfMonth() - 1));
-      if (startIndex == endIndex) {
-        // same month - return holidays up to end exclusive 
-        return start - missingEnd;
-      }
-      
-      int end = Integer.bitCount(lookup[endIndex]) - missingEnd;
-      // otherwise add start and end month counts, and sum months between
-      int count = start + end;
-      for (int i = startIndex + 1; i < endIndex; i++) {
-        count += Integer.bitCount(lookup[i]);
-      }
-      return count;
+      // difference of the ordinals, which are the number of earlier business days
+      return ordinal(endExclusive) - ordinal(startInclusive);
 
     } catch (ArrayIndexOutOfBoundsException ex) {
       return daysBetweenOutOfRange(startInclusive, endExclusive);
     }
   }
 
+  // finds the ordinal of the date, which is the number of earlier business days in the lookup table
+  private int ordinal(LocalDate date) {
+    // find data for month
+    int index = (date.getYear() - startYear) * 12 + date.getMonthValue() - 1;
+    int monthData = lookup[index];
+    // count the ones before the zero-based day-of-month
+    return ordinals[index] + Integer.bitCount(monthData & ((1 << (date.getDayOfMonth() - 1)) - 1));
+  }
+
   // pulled out to aid hotspot inlining
   private int daysBetweenOutOfRange(LocalDate startInclusive, LocalDate endExclusive) {
     if (startInclusive.getYear() >= 0 && startInclusive.getYear() < 10000 &&
@@ -692,19 +804,6 @@ public final class ImmutableHolidayCalendar
     MetaBean.register(ImmutableHolidayCalendar.Meta.INSTANCE);
   }
 
-  private ImmutableHolidayCalendar(
-      HolidayCalendarId id,
-      int weekends,
-      int startYear,
-      int[] lookup) {
-    JodaBeanUtils.notNull(id, "id");
-    JodaBeanUtils.notNull(lookup, "lookup");
-    this.id = id;
-    this.weekends = weekends;
-    this.startYear = startYear;
-    this.lookup = lookup.clone();
-  }
-
   @Override
   public ImmutableHolidayCalendar.Meta metaBean() {
     return ImmutableHolidayCalendar.Meta.INSTANCE;
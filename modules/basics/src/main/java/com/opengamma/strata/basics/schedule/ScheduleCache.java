@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.schedule;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+import com.opengamma.strata.basics.ImmutableReferenceData;
+import com.opengamma.strata.basics.ReferenceData;
+
+/**
+ * A cache of the schedules created from periodic schedule definitions.
+ * <p>
+ * Many trades in a portfolio share identical schedule definitions, such that the same
+ * schedule would otherwise be created many times when the trades are resolved.
+ * The cache is keyed by the definition, which is compared by value, and the reference data.
+ * <p>
+ * Only schedules created using {@link ImmutableReferenceData} are cached.
+ * The reference data is compared by identity and held weakly, such that the cached schedules
+ * are discarded once the reference data is no longer in use.
+ * The number of schedules held for each instance of reference data is limited.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ScheduleCache {
+
+  /**
+   * The maximum number of schedules cached for each instance of reference data.
+   */
+  private static final int MAX_SIZE = 10_000;
+  /**
+   * The cached schedules, keyed by the identity of the reference data.
+   */
+  private static final ConcurrentMap<ReferenceData, ConcurrentMap<PeriodicSchedule, Schedule>> CACHE =
+      new MapMaker().weakKeys().makeMap();
+
+  /**
+   * Restricted constructor.
+   */
+  private ScheduleCache() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the schedule for the definition, creating it if not cached.
+   * <p>
+   * Exceptions thrown when creating the schedule are propagated, and nothing is cached.
+   *
+   * @param definition  the schedule definition
+   * @param refData  the reference data, used to find the holiday calendars
+   * @return the schedule
+   * @throws ScheduleException if the definition is invalid
+   */
+  static Schedule schedule(PeriodicSchedule definition, ReferenceData refData) {
+    if (!(refData instanceof ImmutableReferenceData)) {
+      return definition.createScheduleUncached(refData);
+    }
+    ConcurrentMap<PeriodicSchedule, Schedule> schedules =
+        CACHE.computeIfAbsent(refData, key -> new ConcurrentHashMap<>());
+    Schedule cached = schedules.get(definition);
+    if (cached != null) {
+      return cached;
+    }
+    // the schedule is created outside any lock, thus may be created more than once
+    Schedule created = definition.createScheduleUncached(refData);
+    if (schedules.size() >= MAX_SIZE) {
+      schedules.clear();
+    }
+    Schedule existing = schedules.putIfAbsent(definition, created);
+    return existing != null ? existing : created;
+  }
+
+}
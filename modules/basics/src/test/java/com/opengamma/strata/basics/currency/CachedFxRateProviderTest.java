@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.basics.currency;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CachedFxRateProvider}.
+ */
+public class CachedFxRateProviderTest {
+
+  @Test
+  public void testSameCurrency() {
+    FxRateProvider underlying = mock(FxRateProvider.class);
+
+    FxRateProvider provider = FxRateProvider.cached(underlying);
+
+    assertThat(provider.convert(2, USD, USD)).isEqualTo(2);
+    assertThat(provider.fxRate(USD, USD)).isEqualTo(1);
+    assertThat(provider.fxRate(CurrencyPair.of(USD, USD))).isEqualTo(1);
+    verifyNoInteractions(underlying);
+  }
+
+  @Test
+  public void testCaching() {
+    FxRateProvider underlying = mock(FxRateProvider.class);
+    when(underlying.fxRate(CurrencyPair.of(GBP, USD))).thenReturn(1.6d);
+    when(underlying.fxRate(CurrencyPair.of(EUR, USD))).thenReturn(1.4d);
+
+    FxRateProvider provider = FxRateProvider.cached(underlying);
+
+    assertThat(provider.convert(2, GBP, USD)).isEqualTo(3.2d);
+    assertThat(provider.fxRate(GBP, USD)).isEqualTo(1.6d);
+    assertThat(provider.fxRate(CurrencyPair.of(GBP, USD))).isEqualTo(1.6d);
+    assertThat(provider.fxRate(EUR, USD)).isEqualTo(1.4d);
+
+    // each rate is only requested from the underlying provider once
+    verify(underlying, times(1)).fxRate(CurrencyPair.of(GBP, USD));
+    verify(underlying, times(1)).fxRate(CurrencyPair.of(EUR, USD));
+  }
+
+  @Test
+  public void testFailureNotCached() {
+    FxRateProvider underlying = mock(FxRateProvider.class);
+    when(underlying.fxRate(CurrencyPair.of(GBP, USD)))
+        .thenThrow(new IllegalArgumentException("No rate"))
+        .thenReturn(1.6d);
+
+    FxRateProvider provider = FxRateProvider.cached(underlying);
+
+    assertThatIllegalArgumentException().isThrownBy(() -> provider.fxRate(GBP, USD));
+    assertThat(provider.fxRate(GBP, USD)).isEqualTo(1.6d);
+  }
+
+  @Test
+  public void testNotWrappedTwice() {
+    FxMatrix matrix = FxMatrix.of(GBP, USD, 1.6d);
+    assertThat(FxRateProvider.cached(matrix)).isSameAs(matrix);
+    FxRateProvider cached = FxRateProvider.cached(mock(FxRateProvider.class));
+    assertThat(FxRateProvider.cached(cached)).isSameAs(cached);
+  }
+
+}
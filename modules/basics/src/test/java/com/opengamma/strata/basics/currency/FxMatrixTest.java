@@ -256,6 +256,37 @@ public class FxMatrixTest {
     assertThat(matrix2.fxRate(GBP, USD)).isEqualTo(1.6);
   }
 
+  @Test
+  public void rateCanBeUpdatedWithoutBuilder() {
+    FxMatrix matrix1 = FxMatrix.builder()
+        .addRate(GBP, USD, 1.5)
+        .addRate(EUR, USD, 1.4)
+        .build();
+
+    FxMatrix matrix2 = matrix1.withRate(GBP, USD, 1.6);
+    assertThat(matrix2).isEqualTo(matrix1.toBuilder().addRate(GBP, USD, 1.6).build());
+    assertThat(matrix2.fxRate(GBP, USD)).isEqualTo(1.6);
+    assertThat(matrix2.fxRate(EUR, USD)).isEqualTo(1.4 * (1.6 / 1.5), TOL);
+    assertThat(matrix2.fxRate(EUR, GBP)).isEqualTo(1.4 / 1.5, TOL);
+
+    FxMatrix matrix3 = matrix1.withRate(CurrencyPair.of(USD, GBP), 1 / 1.6);
+    assertThat(matrix3).isEqualTo(matrix1.toBuilder().addRate(USD, GBP, 1 / 1.6).build());
+    assertThat(matrix3.fxRate(EUR, USD)).isEqualTo(1.4);
+
+    // the original matrix is unchanged
+    assertThat(matrix1.fxRate(GBP, USD)).isEqualTo(1.5);
+  }
+
+  @Test
+  public void rateCanBeAddedWithoutBuilder() {
+    FxMatrix matrix1 = FxMatrix.of(GBP, USD, 1.5);
+    FxMatrix matrix2 = matrix1.withRate(EUR, USD, 1.4);
+    assertThat(matrix2).isEqualTo(matrix1.toBuilder().addRate(EUR, USD, 1.4).build());
+    assertThat(matrix2.getCurrencies()).containsOnly(GBP, USD, EUR);
+    assertThat(FxMatrix.empty().withRate(GBP, USD, 1.5)).isEqualTo(matrix1);
+    assertThatIllegalStateException().isThrownBy(() -> matrix1.withRate(EUR, CHF, 1.1));
+  }
+
   @Test
   public void addSimpleMultipleRates() {
 
@@ -903,6 +903,27 @@ public class ImmutableHolidayCalendarTest {
     assertThat(test.isHoliday(MON_2014_07_21)).isEqualTo(false);
   }
 
+  @Test
+  public void test_combinedWith_shift() {
+    // holidays only in 2014 and 2015, different weekends beyond that range
+    Iterable<LocalDate> holidays1 = Arrays.asList(WED_2014_07_16, FRI_2015_01_02);
+    ImmutableHolidayCalendar base1 = ImmutableHolidayCalendar.of(TEST_ID, holidays1, SATURDAY, SUNDAY);
+    Iterable<LocalDate> holidays2 = Arrays.asList(MON_2014_07_14, TUE_2015_03_31);
+    ImmutableHolidayCalendar base2 = ImmutableHolidayCalendar.of(TEST_ID2, holidays2, FRIDAY, SATURDAY);
+    HolidayCalendar test = base1.combinedWith(base2);
+
+    assertThat(test.shift(THU_2014_07_10, 3)).isEqualTo(MON_2014_07_21);
+    assertThat(test.shift(MON_2014_07_21, -3)).isEqualTo(THU_2014_07_10);
+    assertThat(test.next(THU_2014_07_10)).isEqualTo(TUE_2014_07_15);
+    assertThat(test.previous(MON_2014_07_21)).isEqualTo(THU_2014_07_17);
+    assertThat(test.daysBetween(THU_2014_07_10, MON_2014_07_21)).isEqualTo(3);
+    // Monday to Thursday are the only business days beyond the range
+    assertThat(test.shift(date(2016, 1, 4), 4)).isEqualTo(date(2016, 1, 11));
+    assertThat(test.shift(date(2013, 12, 30), -4)).isEqualTo(date(2013, 12, 23));
+    assertThat(test.daysBetween(date(2013, 1, 1), date(2017, 1, 1)))
+        .isEqualTo((int) LocalDateUtils.stream(date(2013, 1, 1), date(2017, 1, 1)).filter(test::isBusinessDay).count());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_combineWith_same() {
@@ -967,6 +988,37 @@ public class ImmutableHolidayCalendarTest {
     }
   }
 
+  @Test
+  public void test_broadCheck_ordinals() {
+    LocalDate start = LocalDate.of(2010, 1, 1);
+    LocalDate end = LocalDate.of(2020, 1, 1);
+    Random random = new Random(547698);
+    for (int i = 0; i < 5; i++) {
+      // create sample holiday dates
+      LocalDate date = start;
+      SortedSet<LocalDate> set = new TreeSet<>();
+      while (date.isBefore(end)) {
+        set.add(date);
+        date = date.plusDays(random.nextInt(10) + 1);
+      }
+      // check shift and daysBetween against simple algorithms, including beyond the range of the holidays
+      ImmutableHolidayCalendar test = ImmutableHolidayCalendar.of(
+          HolidayCalendarId.of("TestBroad" + i), set, SATURDAY, SUNDAY);
+      for (int j = 0; j < 200; j++) {
+        LocalDate base = LocalDate.of(2008, 1, 1).plusDays(random.nextInt(365 * 14));
+        int amount = random.nextInt(601) - 300;
+        LocalDate expected = base;
+        for (int k = 0; k < Math.abs(amount); k++) {
+          expected = amount > 0 ? test.next(expected) : test.previous(expected);
+        }
+        assertThat(test.shift(base, amount)).isEqualTo(expected);
+        LocalDate other = base.plusDays(random.nextInt(800));
+        long expectedCount = LocalDateUtils.stream(base, other).filter(test::isBusinessDay).count();
+        assertThat(test.daysBetween(base, other)).isEqualTo((int) expectedCount);
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_equals() {
@@ -63,6 +63,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ReferenceDataId;
 import com.opengamma.strata.basics.date.AdjustableDate;
 import com.opengamma.strata.basics.date.BusinessDayAdjustment;
 import com.opengamma.strata.basics.date.BusinessDayConvention;
@@ -1183,6 +1184,30 @@ public class PeriodicScheduleTest {
         .withMessageMatching(".*duplicate unadjusted dates.*");
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_createSchedule_cached() {
+    PeriodicSchedule defn1 = PeriodicSchedule.of(JUN_04, SEP_17, P1M, BDA, SHORT_INITIAL, false);
+    PeriodicSchedule defn2 = PeriodicSchedule.of(JUN_04, SEP_17, P1M, BDA, SHORT_INITIAL, false);
+    Schedule test = defn1.createSchedule(REF_DATA);
+    assertThat(defn2.createSchedule(REF_DATA)).isSameAs(test);
+    assertThat(defn1.createScheduleUncached(REF_DATA)).isEqualTo(test);
+  }
+
+  @Test
+  public void test_createSchedule_notCachedForOtherReferenceData() {
+    ReferenceData refData = new ReferenceData() {
+      @Override
+      public <T> T queryValueOrNull(ReferenceDataId<T> id) {
+        return REF_DATA.queryValueOrNull(id);
+      }
+    };
+    PeriodicSchedule defn = PeriodicSchedule.of(JUN_04, SEP_17, P1M, BDA, SHORT_INITIAL, false);
+    Schedule test = defn.createSchedule(refData);
+    assertThat(defn.createSchedule(refData)).isEqualTo(test).isNotSameAs(test);
+    assertThat(defn.createSchedule(REF_DATA)).isEqualTo(test);
+  }
+
   //-------------------------------------------------------------------------
   @ParameterizedTest
   @MethodSource("data_generation")
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.CalculationRunner;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Calculates counterparty exposure profiles by revaluing calculation targets along simulated paths.
+ * <p>
+ * For each date of the exposure date grid, the {@link ExposureSimulation} is asked for the
+ * market data of every path at that date. The targets are then valued using the standard
+ * calculation functions, treating each path as a scenario.
+ * <p>
+ * The values are aggregated as the results arrive from the calculation runner.
+ * Only the netted value of each counterparty along each path is retained, thus the memory
+ * used is proportional to the number of counterparties times the number of paths, and is
+ * independent of the number of targets. Once all targets have been valued at a date,
+ * the exposure statistics of that date are calculated and the netted values are discarded.
+ * <p>
+ * The dates are processed one after another, with the calculations for each date
+ * run concurrently by the underlying {@link CalculationTaskRunner}.
+ * This ensures that only the market data of a single date is held in memory at any time.
+ */
+public final class ExposureCalculator {
+
+  /**
+   * The underlying task runner.
+   */
+  private final CalculationTaskRunner taskRunner;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that uses the task runner of the specified calculation runner.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the runner.
+   *
+   * @param runner  the calculation runner
+   * @return the calculator
+   */
+  public static ExposureCalculator of(CalculationRunner runner) {
+    return new ExposureCalculator(runner.getTaskRunner());
+  }
+
+  /**
+   * Obtains an instance that uses the specified task runner.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the runner.
+   *
+   * @param taskRunner  the calculation task runner
+   * @return the calculator
+   */
+  public static ExposureCalculator of(CalculationTaskRunner taskRunner) {
+    return new ExposureCalculator(taskRunner);
+  }
+
+  // restricted constructor
+  private ExposureCalculator(CalculationTaskRunner taskRunner) {
+    this.taskRunner = ArgChecker.notNull(taskRunner, "taskRunner");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the exposure profile of each counterparty.
+   * <p>
+   * The counterparty function is used to determine the counterparty of each target.
+   * All targets with the same counterparty are netted together.
+   * The targets are resolved once, before the first date is simulated.
+   *
+   * @param calculationRules  the rules defining how the calculation is performed
+   * @param targets  the targets to be valued, typically trades
+   * @param counterpartyFn  the function that determines the counterparty of each target
+   * @param definition  the definition of the exposure calculation
+   * @param simulation  the simulation providing the market data along each path
+   * @param refData  the reference data
+   * @return the exposure results
+   */
+  public ExposureResults calculate(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      Function<? super CalculationTarget, StandardId> counterpartyFn,
+      ExposureDefinition definition,
+      ExposureSimulation simulation,
+      ReferenceData refData) {
+
+    ArgChecker.notEmpty(targets, "targets");
+    int pathCount = ArgChecker.notNegativeOrZero(simulation.getPathCount(), "pathCount");
+
+    // assign each counterparty an index, in the order they are first seen
+    Map<StandardId, Integer> counterpartyIndices = new LinkedHashMap<>();
+    int[] rowCounterparties = new int[targets.size()];
+    for (int row = 0; row < targets.size(); row++) {
+      StandardId counterparty = ArgChecker.notNull(counterpartyFn.apply(targets.get(row)), "counterparty");
+      rowCounterparties[row] = counterpartyIndices.computeIfAbsent(counterparty, id -> counterpartyIndices.size());
+    }
+    int counterpartyCount = counterpartyIndices.size();
+
+    // the tasks are created once and reused for each date
+    Column column = Column.of(definition.getMeasure(), definition.getCurrency());
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, ImmutableList.of(column), refData);
+    MarketDataRequirements requirements = tasks.requirements(refData);
+
+    // loop around the dates, aggregating the statistics of each date
+    List<LocalDate> dates = definition.getDates();
+    double[][] expectedExposure = new double[counterpartyCount][dates.size()];
+    double[][] expectedNegativeExposure = new double[counterpartyCount][dates.size()];
+    double[][] potentialFutureExposure = new double[counterpartyCount][dates.size()];
+    List<FailureItem> failures = new ArrayList<>();
+    for (int dateIndex = 0; dateIndex < dates.size(); dateIndex++) {
+      LocalDate date = dates.get(dateIndex);
+      ScenarioMarketData marketData = simulation.simulate(date, requirements, refData);
+      if (marketData.getScenarioCount() != pathCount) {
+        throw new IllegalArgumentException(Messages.format(
+            "Simulated market data for {} has {} scenarios but {} paths were expected",
+            date, marketData.getScenarioCount(), pathCount));
+      }
+      ExposureListener listener =
+          new ExposureListener(date, definition.getCurrency(), rowCounterparties, counterpartyCount, pathCount);
+      taskRunner.calculateMultiScenarioAsync(tasks, marketData, refData, listener);
+      double[][] nettedValues = listener.result();
+      for (int cpty = 0; cpty < counterpartyCount; cpty++) {
+        double[] values = nettedValues[cpty];
+        expectedExposure[cpty][dateIndex] = ExposureListener.expectedExposure(values);
+        expectedNegativeExposure[cpty][dateIndex] = ExposureListener.expectedNegativeExposure(values);
+        potentialFutureExposure[cpty][dateIndex] =
+            ExposureListener.potentialFutureExposure(values, definition.getConfidenceLevel());
+      }
+      failures.addAll(listener.getFailures());
+    }
+
+    // build the profiles
+    ImmutableMap.Builder<StandardId, ExposureProfile> profiles = ImmutableMap.builder();
+    for (Map.Entry<StandardId, Integer> entry : counterpartyIndices.entrySet()) {
+      int cpty = entry.getValue();
+      profiles.put(entry.getKey(), ExposureProfile.of(
+          entry.getKey(),
+          definition.getCurrency(),
+          dates,
+          DoubleArray.ofUnsafe(expectedExposure[cpty]),
+          DoubleArray.ofUnsafe(expectedNegativeExposure[cpty]),
+          DoubleArray.ofUnsafe(potentialFutureExposure[cpty])));
+    }
+    return ExposureResults.of(profiles.build(), failures);
+  }
+
+}
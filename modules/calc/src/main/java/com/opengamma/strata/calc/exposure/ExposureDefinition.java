@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The definition of an exposure calculation.
+ * <p>
+ * This defines the grid of dates at which the exposure is measured, the measure used to
+ * value each target, the currency in which the exposure is expressed and the confidence level
+ * of the potential future exposure.
+ * <p>
+ * The measure must produce a {@code CurrencyScenarioArray}, or another scenario array of
+ * {@code CurrencyAmount}, such as the standard present value measure.
+ */
+@BeanDefinition(style = "light")
+public final class ExposureDefinition implements ImmutableBean {
+
+  /**
+   * The dates at which the exposure is measured.
+   * <p>
+   * The dates must be in ascending order with no duplicates.
+   */
+  @PropertyDefinition(validate = "notEmpty")
+  private final List<LocalDate> dates;
+  /**
+   * The measure used to value the targets, typically the present value.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Measure measure;
+  /**
+   * The currency in which the exposure is expressed.
+   * <p>
+   * The values of the targets are converted to this currency before netting.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The confidence level of the potential future exposure, such as 0.95.
+   */
+  @PropertyDefinition
+  private final double confidenceLevel;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the date grid, measure, currency and confidence level.
+   *
+   * @param dates  the dates at which the exposure is measured, in ascending order
+   * @param measure  the measure used to value the targets
+   * @param currency  the currency in which the exposure is expressed
+   * @param confidenceLevel  the confidence level of the potential future exposure
+   * @return the definition
+   */
+  public static ExposureDefinition of(
+      List<LocalDate> dates,
+      Measure measure,
+      Currency currency,
+      double confidenceLevel) {
+
+    return new ExposureDefinition(dates, measure, currency, confidenceLevel);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    ArgChecker.inRangeExclusive(confidenceLevel, 0d, 1d, "confidenceLevel");
+    for (int i = 1; i < dates.size(); i++) {
+      ArgChecker.inOrderNotEqual(dates.get(i - 1), dates.get(i), "dates(i-1)", "dates(i)");
+    }
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ExposureDefinition}.
+   */
+  private static final TypedMetaBean<ExposureDefinition> META_BEAN =
+      LightMetaBean.of(
+          ExposureDefinition.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "dates",
+              "measure",
+              "currency",
+              "confidenceLevel"},
+          ImmutableList.of(),
+          null,
+          null,
+          0d);
+
+  /**
+   * The meta-bean for {@code ExposureDefinition}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ExposureDefinition> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private ExposureDefinition(
+      List<LocalDate> dates,
+      Measure measure,
+      Currency currency,
+      double confidenceLevel) {
+    JodaBeanUtils.notEmpty(dates, "dates");
+    JodaBeanUtils.notNull(measure, "measure");
+    JodaBeanUtils.notNull(currency, "currency");
+    this.dates = ImmutableList.copyOf(dates);
+    this.measure = measure;
+    this.currency = currency;
+    this.confidenceLevel = confidenceLevel;
+    validate();
+  }
+
+  @Override
+  public TypedMetaBean<ExposureDefinition> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates at which the exposure is measured.
+   * <p>
+   * The dates must be in ascending order with no duplicates.
+   * @return the value of the property, not empty
+   */
+  public List<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the measure used to value the targets, typically the present value.
+   * @return the value of the property, not null
+   */
+  public Measure getMeasure() {
+    return measure;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency in which the exposure is expressed.
+   * <p>
+   * The values of the targets are converted to this currency before netting.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the confidence level of the potential future exposure, such as 0.95.
+   * @return the value of the property
+   */
+  public double getConfidenceLevel() {
+    return confidenceLevel;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureDefinition other = (ExposureDefinition) obj;
+      return JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(measure, other.measure) &&
+          JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(confidenceLevel, other.confidenceLevel);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(measure);
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(confidenceLevel);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(160);
+    buf.append("ExposureDefinition{");
+    buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+    buf.append("measure").append('=').append(JodaBeanUtils.toString(measure)).append(',').append(' ');
+    buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+    buf.append("confidenceLevel").append('=').append(JodaBeanUtils.toString(confidenceLevel));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Listener that nets the values of the targets of each counterparty along each path.
+ * <p>
+ * One instance is used for each date of the exposure date grid.
+ * The value of each target is added to the netted value of its counterparty as soon as it
+ * is received, allowing the individual result to be garbage collected.
+ * The aggregate result is indexed by counterparty, then by path.
+ */
+final class ExposureListener extends AggregatingCalculationListener<double[][]> {
+
+  /**
+   * The exposure date.
+   */
+  private final LocalDate date;
+  /**
+   * The currency of the exposure.
+   */
+  private final Currency currency;
+  /**
+   * The counterparty index of each row.
+   */
+  private final int[] rowCounterparties;
+  /**
+   * The netted values, indexed by counterparty, then by path.
+   */
+  private final double[][] nettedValues;
+  /**
+   * The failures.
+   */
+  private final List<FailureItem> failures = new ArrayList<>();
+
+  /**
+   * Creates an instance.
+   *
+   * @param date  the exposure date
+   * @param currency  the currency of the exposure
+   * @param rowCounterparties  the counterparty index of each row
+   * @param counterpartyCount  the number of counterparties
+   * @param pathCount  the number of paths
+   */
+  ExposureListener(LocalDate date, Currency currency, int[] rowCounterparties, int counterpartyCount, int pathCount) {
+    this.date = date;
+    this.currency = currency;
+    this.rowCounterparties = rowCounterparties;
+    this.nettedValues = new double[counterpartyCount][pathCount];
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult calculationResult) {
+    Result<?> result = calculationResult.getResult();
+    if (result.isFailure()) {
+      failures.addAll(result.getFailure().getItems());
+      return;
+    }
+    double[] values = nettedValues[rowCounterparties[calculationResult.getRowIndex()]];
+    Object value = result.getValue();
+    if (value instanceof CurrencyScenarioArray) {
+      CurrencyScenarioArray array = (CurrencyScenarioArray) value;
+      if (checkCurrency(target, array.getCurrency()) && checkPathCount(target, array.getScenarioCount(), values)) {
+        DoubleArray amounts = array.getAmounts().getValues();
+        for (int i = 0; i < values.length; i++) {
+          values[i] += amounts.get(i);
+        }
+      }
+    } else if (value instanceof ScenarioArray) {
+      ScenarioArray<?> array = (ScenarioArray<?>) value;
+      if (checkPathCount(target, array.getScenarioCount(), values)) {
+        // every path is checked before any is added, so an invalid value leaves the netted values unchanged
+        double[] amounts = new double[values.length];
+        for (int i = 0; i < amounts.length; i++) {
+          Object amount = array.get(i);
+          if (!(amount instanceof CurrencyAmount)) {
+            failures.add(failure(target, "value of type '{}' is not a currency amount", amount.getClass().getName()));
+            return;
+          }
+          CurrencyAmount currencyAmount = (CurrencyAmount) amount;
+          if (!checkCurrency(target, currencyAmount.getCurrency())) {
+            return;
+          }
+          amounts[i] = currencyAmount.getAmount();
+        }
+        for (int i = 0; i < values.length; i++) {
+          values[i] += amounts[i];
+        }
+      }
+    } else {
+      failures.add(failure(target, "value of type '{}' is not a scenario array", value.getClass().getName()));
+    }
+  }
+
+  @Override
+  protected double[][] createAggregateResult() {
+    return nettedValues;
+  }
+
+  /**
+   * Gets the failures.
+   *
+   * @return the failures
+   */
+  List<FailureItem> getFailures() {
+    return failures;
+  }
+
+  // checks the currency, adding a failure if it does not match
+  private boolean checkCurrency(CalculationTarget target, Currency valueCurrency) {
+    if (!valueCurrency.equals(currency)) {
+      failures.add(failure(
+          target, "value in currency {} does not match exposure currency {}", valueCurrency, currency));
+      return false;
+    }
+    return true;
+  }
+
+  // checks the number of scenarios, adding a failure if it does not match
+  private boolean checkPathCount(CalculationTarget target, int scenarioCount, double[] values) {
+    if (scenarioCount != values.length) {
+      failures.add(failure(target, "value has {} scenarios but {} paths were expected", scenarioCount, values.length));
+      return false;
+    }
+    return true;
+  }
+
+  // creates a failure item
+  private FailureItem failure(CalculationTarget target, String message, Object... args) {
+    Object[] allArgs = new Object[args.length + 2];
+    allArgs[0] = target;
+    allArgs[1] = date;
+    System.arraycopy(args, 0, allArgs, 2, args.length);
+    return FailureItem.of(
+        FailureReason.CALCULATION_FAILED, "Exposure of target '{}' at {} ignored, " + message, allArgs);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the expected exposure, the mean of the positive part of the values.
+   *
+   * @param values  the values, one for each path
+   * @return the expected exposure
+   */
+  static double expectedExposure(double[] values) {
+    double sum = 0d;
+    for (double value : values) {
+      sum += Math.max(value, 0d);
+    }
+    return sum / values.length;
+  }
+
+  /**
+   * Calculates the expected negative exposure, the mean of the negative part of the values.
+   *
+   * @param values  the values, one for each path
+   * @return the expected negative exposure
+   */
+  static double expectedNegativeExposure(double[] values) {
+    double sum = 0d;
+    for (double value : values) {
+      sum += Math.min(value, 0d);
+    }
+    return sum / values.length;
+  }
+
+  /**
+   * Calculates the potential future exposure, the empirical quantile of the positive part of the values.
+   * <p>
+   * The quantile is the smallest value such that the proportion of paths with an exposure
+   * less than or equal to it is at least the confidence level.
+   *
+   * @param values  the values, one for each path
+   * @param confidenceLevel  the confidence level
+   * @return the potential future exposure
+   */
+  static double potentialFutureExposure(double[] values, double confidenceLevel) {
+    double[] exposures = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      exposures[i] = Math.max(values[i], 0d);
+    }
+    Arrays.sort(exposures);
+    int index = Math.max((int) Math.ceil(confidenceLevel * exposures.length) - 1, 0);
+    return exposures[index];
+  }
+
+}
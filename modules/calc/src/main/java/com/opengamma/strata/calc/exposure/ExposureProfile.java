@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * The exposure profile of a single counterparty.
+ * <p>
+ * This holds the exposure statistics of the netted value of all the targets
+ * associated with a counterparty, measured at each date of the exposure date grid.
+ * The statistics are calculated across the simulated paths.
+ * <p>
+ * The expected exposure at a date is the mean of the positive part of the netted value.
+ * The expected negative exposure is the mean of the negative part of the netted value.
+ * The potential future exposure is the quantile of the positive part of the netted value
+ * at the confidence level used for the calculation.
+ */
+@BeanDefinition(style = "light")
+public final class ExposureProfile implements ImmutableBean {
+
+  /**
+   * The counterparty identifier.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final StandardId counterparty;
+  /**
+   * The currency of the exposure.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The dates at which the exposure is measured, in ascending order.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final List<LocalDate> dates;
+  /**
+   * The expected exposure, one value for each date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray expectedExposure;
+  /**
+   * The expected negative exposure, one value for each date.
+   * <p>
+   * The values are zero or negative.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray expectedNegativeExposure;
+  /**
+   * The potential future exposure, one value for each date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleArray potentialFutureExposure;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the dates and statistics.
+   *
+   * @param counterparty  the counterparty identifier
+   * @param currency  the currency of the exposure
+   * @param dates  the dates at which the exposure is measured
+   * @param expectedExposure  the expected exposure, one value for each date
+   * @param expectedNegativeExposure  the expected negative exposure, one value for each date
+   * @param potentialFutureExposure  the potential future exposure, one value for each date
+   * @return the profile
+   */
+  public static ExposureProfile of(
+      StandardId counterparty,
+      Currency currency,
+      List<LocalDate> dates,
+      DoubleArray expectedExposure,
+      DoubleArray expectedNegativeExposure,
+      DoubleArray potentialFutureExposure) {
+
+    return new ExposureProfile(
+        counterparty, currency, dates, expectedExposure, expectedNegativeExposure, potentialFutureExposure);
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    int size = dates.size();
+    ArgChecker.isTrue(expectedExposure.size() == size, "Expected exposure must have one value for each date");
+    ArgChecker.isTrue(
+        expectedNegativeExposure.size() == size, "Expected negative exposure must have one value for each date");
+    ArgChecker.isTrue(
+        potentialFutureExposure.size() == size, "Potential future exposure must have one value for each date");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of dates in the profile.
+   *
+   * @return the number of dates
+   */
+  public int getDateCount() {
+    return dates.size();
+  }
+
+  /**
+   * Calculates the maximum potential future exposure over all dates.
+   *
+   * @return the peak potential future exposure
+   */
+  public double peakPotentialFutureExposure() {
+    return potentialFutureExposure.max();
+  }
+
+  /**
+   * Calculates the unilateral credit value adjustment implied by the expected exposure.
+   * <p>
+   * The adjustment is computed as the discrete sum over the dates of the profile of
+   * {@code (1 - R) * EE(t_i) * DF(t_i) * PD(t_i)}, where {@code PD(t_i)} is the probability
+   * of the counterparty defaulting in the interval ending at the date {@code t_i}.
+   * The result is a positive amount representing the cost of the counterparty credit risk.
+   *
+   * @param discountFactors  the discount factors, one for each date
+   * @param defaultProbabilities  the marginal default probabilities, one for each date
+   * @param recoveryRate  the recovery rate of the counterparty
+   * @return the credit value adjustment
+   */
+  public double creditValueAdjustment(
+      DoubleArray discountFactors,
+      DoubleArray defaultProbabilities,
+      double recoveryRate) {
+
+    int size = dates.size();
+    ArgChecker.isTrue(discountFactors.size() == size, "Discount factors must have one value for each date");
+    ArgChecker.isTrue(defaultProbabilities.size() == size, "Default probabilities must have one value for each date");
+    ArgChecker.inRangeInclusive(recoveryRate, 0d, 1d, "recoveryRate");
+    double sum = 0d;
+    for (int i = 0; i < size; i++) {
+      sum += expectedExposure.get(i) * discountFactors.get(i) * defaultProbabilities.get(i);
+    }
+    return (1d - recoveryRate) * sum;
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ExposureProfile}.
+   */
+  private static final TypedMetaBean<ExposureProfile> META_BEAN =
+      LightMetaBean.of(
+          ExposureProfile.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "counterparty",
+              "currency",
+              "dates",
+              "expectedExposure",
+              "expectedNegativeExposure",
+              "potentialFutureExposure"},
+          null,
+          null,
+          ImmutableList.of(),
+          null,
+          null,
+          null);
+
+  /**
+   * The meta-bean for {@code ExposureProfile}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ExposureProfile> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private ExposureProfile(
+      StandardId counterparty,
+      Currency currency,
+      List<LocalDate> dates,
+      DoubleArray expectedExposure,
+      DoubleArray expectedNegativeExposure,
+      DoubleArray potentialFutureExposure) {
+    JodaBeanUtils.notNull(counterparty, "counterparty");
+    JodaBeanUtils.notNull(currency, "currency");
+    JodaBeanUtils.notNull(dates, "dates");
+    JodaBeanUtils.notNull(expectedExposure, "expectedExposure");
+    JodaBeanUtils.notNull(expectedNegativeExposure, "expectedNegativeExposure");
+    JodaBeanUtils.notNull(potentialFutureExposure, "potentialFutureExposure");
+    this.counterparty = counterparty;
+    this.currency = currency;
+    this.dates = ImmutableList.copyOf(dates);
+    this.expectedExposure = expectedExposure;
+    this.expectedNegativeExposure = expectedNegativeExposure;
+    this.potentialFutureExposure = potentialFutureExposure;
+    validate();
+  }
+
+  @Override
+  public TypedMetaBean<ExposureProfile> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the counterparty identifier.
+   * @return the value of the property, not null
+   */
+  public StandardId getCounterparty() {
+    return counterparty;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency of the exposure.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the dates at which the exposure is measured, in ascending order.
+   * @return the value of the property, not null
+   */
+  public List<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the expected exposure, one value for each date.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getExpectedExposure() {
+    return expectedExposure;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the expected negative exposure, one value for each date.
+   * <p>
+   * The values are zero or negative.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getExpectedNegativeExposure() {
+    return expectedNegativeExposure;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the potential future exposure, one value for each date.
+   * @return the value of the property, not null
+   */
+  public DoubleArray getPotentialFutureExposure() {
+    return potentialFutureExposure;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureProfile other = (ExposureProfile) obj;
+      return JodaBeanUtils.equal(counterparty, other.counterparty) &&
+          JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(expectedExposure, other.expectedExposure) &&
+          JodaBeanUtils.equal(expectedNegativeExposure, other.expectedNegativeExposure) &&
+          JodaBeanUtils.equal(potentialFutureExposure, other.potentialFutureExposure);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(counterparty);
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(expectedExposure);
+    hash = hash * 31 + JodaBeanUtils.hashCode(expectedNegativeExposure);
+    hash = hash * 31 + JodaBeanUtils.hashCode(potentialFutureExposure);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(224);
+    buf.append("ExposureProfile{");
+    buf.append("counterparty").append('=').append(JodaBeanUtils.toString(counterparty)).append(',').append(' ');
+    buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+    buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+    buf.append("expectedExposure").append('=').append(JodaBeanUtils.toString(expectedExposure)).append(',').append(' ');
+    buf.append("expectedNegativeExposure").append('=').append(JodaBeanUtils.toString(expectedNegativeExposure)).append(',').append(' ');
+    buf.append("potentialFutureExposure").append('=').append(JodaBeanUtils.toString(potentialFutureExposure));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
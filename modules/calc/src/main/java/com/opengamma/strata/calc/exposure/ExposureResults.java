@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.result.FailureItem;
+
+/**
+ * The results of an exposure calculation.
+ * <p>
+ * This contains the exposure profile of each counterparty, together with any
+ * failures that occurred when valuing the targets along the simulated paths.
+ * A target whose valuation failed at a date does not contribute to the exposure at that date.
+ */
+@BeanDefinition(style = "light")
+public final class ExposureResults implements ImmutableBean {
+
+  /**
+   * The exposure profiles, keyed by counterparty.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<StandardId, ExposureProfile> profiles;
+  /**
+   * The failures that occurred during the calculation.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<FailureItem> failures;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the profiles and failures.
+   *
+   * @param profiles  the exposure profiles, keyed by counterparty
+   * @param failures  the failures that occurred during the calculation
+   * @return the results
+   */
+  public static ExposureResults of(Map<StandardId, ExposureProfile> profiles, List<FailureItem> failures) {
+    return new ExposureResults(ImmutableMap.copyOf(profiles), ImmutableList.copyOf(failures));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the exposure profile of a counterparty.
+   *
+   * @param counterparty  the counterparty identifier
+   * @return the profile, empty if the counterparty has no targets
+   */
+  public Optional<ExposureProfile> findProfile(StandardId counterparty) {
+    return Optional.ofNullable(profiles.get(counterparty));
+  }
+
+  /**
+   * Checks if any failures occurred during the calculation.
+   *
+   * @return true if there were failures
+   */
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ExposureResults}.
+   */
+  private static final TypedMetaBean<ExposureResults> META_BEAN =
+      LightMetaBean.of(
+          ExposureResults.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "profiles",
+              "failures"},
+          ImmutableMap.of(),
+          ImmutableList.of());
+
+  /**
+   * The meta-bean for {@code ExposureResults}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ExposureResults> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private ExposureResults(
+      Map<StandardId, ExposureProfile> profiles,
+      List<FailureItem> failures) {
+    JodaBeanUtils.notNull(profiles, "profiles");
+    JodaBeanUtils.notNull(failures, "failures");
+    this.profiles = ImmutableMap.copyOf(profiles);
+    this.failures = ImmutableList.copyOf(failures);
+  }
+
+  @Override
+  public TypedMetaBean<ExposureResults> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the exposure profiles, keyed by counterparty.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<StandardId, ExposureProfile> getProfiles() {
+    return profiles;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the failures that occurred during the calculation.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<FailureItem> getFailures() {
+    return failures;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExposureResults other = (ExposureResults) obj;
+      return JodaBeanUtils.equal(profiles, other.profiles) &&
+          JodaBeanUtils.equal(failures, other.failures);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(profiles);
+    hash = hash * 31 + JodaBeanUtils.hashCode(failures);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(96);
+    buf.append("ExposureResults{");
+    buf.append("profiles").append('=').append(JodaBeanUtils.toString(profiles)).append(',').append(' ');
+    buf.append("failures").append('=').append(JodaBeanUtils.toString(failures));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
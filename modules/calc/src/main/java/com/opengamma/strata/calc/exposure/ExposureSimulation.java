@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Simulates market data at future dates for the purpose of exposure calculation.
+ * <p>
+ * Exposure calculation values the calculation targets at a grid of future dates along
+ * a number of simulated paths. An implementation of this interface provides the market data
+ * for one date of the grid, returning a {@link ScenarioMarketData} where each scenario is one path.
+ * <p>
+ * The scenario index must refer to the same path for every date that is simulated.
+ * This allows the exposure to be aggregated consistently along each path.
+ * Implementations typically hold the state of the underlying stochastic process, such as
+ * the random number generator seed, and are not required to be thread-safe.
+ */
+public interface ExposureSimulation {
+
+  /**
+   * Gets the number of paths that are simulated.
+   * <p>
+   * The market data returned by {@link #simulate(LocalDate, MarketDataRequirements, ReferenceData)}
+   * must have this number of scenarios.
+   *
+   * @return the number of paths
+   */
+  public abstract int getPathCount();
+
+  /**
+   * Simulates the market data at the specified date.
+   * <p>
+   * The returned market data must have a valuation date equal to the exposure date
+   * and must contain one scenario for each simulated path.
+   * Dates are requested in ascending order, allowing path-dependent simulation
+   * to evolve the state from one date to the next.
+   *
+   * @param exposureDate  the date at which the exposure is to be measured
+   * @param requirements  the market data required by the calculations
+   * @param refData  the reference data
+   * @return the market data, with one scenario per path
+   * @throws RuntimeException if the market data cannot be simulated
+   */
+  public abstract ScenarioMarketData simulate(
+      LocalDate exposureDate,
+      MarketDataRequirements requirements,
+      ReferenceData refData);
+
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Calculates counterparty exposure profiles over simulated future market data.
+ * <p>
+ * The main entry point is {@link com.opengamma.strata.calc.exposure.ExposureCalculator ExposureCalculator}.
+ * It values the targets along the paths of an
+ * {@link com.opengamma.strata.calc.exposure.ExposureSimulation ExposureSimulation}
+ * and aggregates the exposure of each counterparty as the results are received.
+ */
+package com.opengamma.strata.calc.exposure;
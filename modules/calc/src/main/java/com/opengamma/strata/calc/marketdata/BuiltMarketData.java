@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -115,6 +116,15 @@ public final class BuiltMarketData
     return underlying.getTimeSeriesFailures();
   }
 
+  /**
+   * Gets the time taken to build each item of non-observable market data, such as curves and surfaces.
+   * 
+   * @return the build times
+   */
+  public ImmutableMap<MarketDataId<?>, Duration> getBuildTimes() {
+    return underlying.getBuildTimes();
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code BuiltMarketData}.
@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +44,9 @@ final class BuiltScenarioMarketDataBuilder {
   /** Details of failures when building time series of market data values. */
   private final Map<MarketDataId<?>, Failure> timeSeriesFailures = new HashMap<>();
 
+  /** The time taken to build items of non-observable market data, keyed by ID. */
+  private final Map<MarketDataId<?>, Duration> buildTimes = new HashMap<>();
+
   /**
    * Creates a builder pre-populated with the valuation date.
    *
@@ -190,6 +194,20 @@ final class BuiltScenarioMarketDataBuilder {
     return this;
   }
 
+  /**
+   * Adds the time taken to build an item of market data, replacing any existing time with the same ID.
+   *
+   * @param id  the ID of the market data
+   * @param buildTime  the time taken to build the market data
+   * @return this builder
+   */
+  BuiltScenarioMarketDataBuilder addBuildTime(MarketDataId<?> id, Duration buildTime) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(buildTime, "buildTime");
+    buildTimes.put(id, buildTime);
+    return this;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data from the data in this builder.
@@ -206,7 +224,7 @@ final class BuiltScenarioMarketDataBuilder {
     ImmutableScenarioMarketDataBuilder builder = ImmutableScenarioMarketData.builder(valuationDate)
         .addBoxMap(values)
         .addTimeSeriesMap(timeSeries);
-    return new BuiltScenarioMarketData(builder.build(), valueFailures, timeSeriesFailures);
+    return new BuiltScenarioMarketData(builder.build(), valueFailures, timeSeriesFailures, buildTimes);
   }
 
   //-------------------------------------------------------------------------
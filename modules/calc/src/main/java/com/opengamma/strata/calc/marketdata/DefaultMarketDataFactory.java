@@ -9,17 +9,24 @@ import static com.opengamma.strata.collect.Guavate.not;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.result.Result;
-import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.ObservableId;
@@ -30,6 +37,9 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * Non-observable market data, such as curves and surfaces, is built using an executor.
+ * Items that do not depend on one another are built concurrently if the executor is multi-threaded.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +52,9 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** The executor used to build non-observable market data. */
+  private final Executor executor;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +65,35 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    this(observableDataProvider, timeSeriesProvider, MoreExecutors.directExecutor(), functions);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * building non-observable market data using an executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param executor  the executor used to build non-observable market data
+   * @param functions  the functions that create the market data
+   */
   @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
       List<MarketDataFunction<?, ?>> functions) {
 
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = ArgChecker.notNull(executor, "executor");
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -103,7 +137,6 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition) {
 
     BuiltScenarioMarketDataBuilder dataBuilder = BuiltScenarioMarketData.builder(suppliedData.getValuationDate());
-    BuiltScenarioMarketData builtData = dataBuilder.build();
 
     // Build a tree of the market data dependencies. The root of the tree represents the calculations.
     // The children of the root represent the market data directly used in the calculations. The children
@@ -116,133 +149,184 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     //   * Observable data whose value can be obtained from a market data provider
     //   * Market data that can be built from data that is already available
     //
-    // Therefore the market data represented by the leaf nodes can be built immediately.
+    // Observable data and time series are always leaves, thus they can all be obtained in the first step.
     //
-    // Market data building proceeds in multiple steps. The operations in each step are:
-    //   1) Build the market data represented by the leaf nodes of the dependency tree
-    //   2) Create a copy of the dependency tree without the leaf nodes
-    //   3) If the root of new dependency tree has children, go to step 1 with the new tree
-    //
-    // When the tree has no children it indicates all dependencies have been built and the market data
-    // needed for the calculations is available.
+    // The remaining non-observable data, such as curves and surfaces, forms a directed acyclic graph
+    // of dependencies. Each item is built on the executor as soon as all the items it depends on are available,
+    // thus items that do not depend on one another are built concurrently if the executor is multi-threaded.
     //
     // The result of this method also contains details of the problems for market data can't be built or found.
 
-    while (!root.isLeaf()) {
-      // Effectively final reference to buildData which can be used in a lambda expression
-      BuiltScenarioMarketData marketData = builtData;
-
-      // The leaves of the dependency tree represent market data with no dependencies that can be built immediately
-      Pair<MarketDataNode, MarketDataRequirements> pair = root.withLeavesRemoved();
-
-      // The requirements contained in the leaf nodes
-      MarketDataRequirements leafRequirements = pair.getSecond();
+    // The requirements contained in the leaf nodes
+    MarketDataRequirements leafRequirements = root.withLeavesRemoved().getSecond();
 
-      // Time series of observable data ------------------------------------------------------------
+    // Time series of observable data ------------------------------------------------------------
 
-      // Build any time series that are required but not available
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> marketData.getTimeSeries(id).isEmpty())
-          .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
+    // Build any time series that are required but not available
+    leafRequirements.getTimeSeries().stream()
+        .filter(id -> suppliedData.getTimeSeries(id).isEmpty())
+        .forEach(id -> dataBuilder.addTimeSeriesResult(id, timeSeriesProvider.provideTimeSeries(id)));
 
-      // Copy supplied time series to the scenario data
-      leafRequirements.getTimeSeries().stream()
-          .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
-          .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
+    // Copy supplied time series to the scenario data
+    leafRequirements.getTimeSeries().stream()
+        .filter(id -> !suppliedData.getTimeSeries(id).isEmpty())
+        .forEach(id -> dataBuilder.addTimeSeries(id, suppliedData.getTimeSeries(id)));
 
-      // Single values of observable data -----------------------------------------------------------
+    // Single values of observable data -----------------------------------------------------------
 
-      // Filter out IDs for the data that is already available
-      Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
-          .filter(not(marketData::containsValue))
-          .filter(not(suppliedData::containsValue))
-          .collect(toImmutableSet());
-
-      // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
-      if (!observableIds.isEmpty()) {
-        Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
-        MapStream.of(observableResults)
-            .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
-      }
+    // Filter out IDs for the data that is already available
+    Set<ObservableId> observableIds = leafRequirements.getObservables().stream()
+        .filter(not(suppliedData::containsValue))
+        .collect(toImmutableSet());
 
-      // Copy observable data from the supplied data to the builder, applying any matching perturbations
-      leafRequirements.getObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
-
-      // Non-observable data -----------------------------------------------------------------------
+    // Observable data is built in bulk so it can be efficiently requested from data provider in one operation
+    if (!observableIds.isEmpty()) {
+      Map<ObservableId, Result<Double>> observableResults = observableDataProvider.provideObservableData(observableIds);
+      MapStream.of(observableResults)
+          .forEach((id, res) -> addObservableResult(id, res, refData, scenarioDefinition, dataBuilder));
+    }
 
-      // Filter out IDs for the data that is already available and build the rest
-      Set<MarketDataId<?>> nonObservableIds = leafRequirements.getNonObservables().stream()
-          .filter(not(marketData::containsValue))
-          .filter(not(suppliedData::containsValue))
-          .collect(toImmutableSet());
+    // Copy observable data from the supplied data to the builder, applying any matching perturbations
+    leafRequirements.getObservables().stream()
+        .filter(suppliedData::containsValue)
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
 
-      Map<MarketDataId<?>, Result<MarketDataBox<?>>> nonObservableResults =
-          buildNonObservableData(nonObservableIds, marketDataConfig, marketData, refData);
+    // Non-observable data -----------------------------------------------------------------------
 
-      MapStream.of(nonObservableResults)
-          .forEach((id, result) -> addResult(id, result, refData, scenarioDefinition, dataBuilder));
+    // Copy supplied data to the scenario data after applying perturbations
+    leafRequirements.getNonObservables().stream()
+        .filter(suppliedData::containsValue)
+        .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
 
-      // Copy supplied data to the scenario data after applying perturbations
-      leafRequirements.getNonObservables().stream()
-          .filter(suppliedData::containsValue)
-          .forEach(id -> addValue(id, suppliedData.getValue(id), refData, scenarioDefinition, dataBuilder));
+    // Build the rest of the data, scheduling it according to the graph of dependencies
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> graph = root.nonObservableDependencies();
+    Set<MarketDataId<?>> nonObservableIds = graph.keySet().stream()
+        .filter(not(suppliedData::containsValue))
+        .collect(toImmutableSet());
 
-      // --------------------------------------------------------------------------------------------
+    buildNonObservableData(nonObservableIds, graph, marketDataConfig, refData, scenarioDefinition, dataBuilder);
+    return dataBuilder.build();
+  }
 
-      // Put the data built so far into an object that will be used in the next phase of building data
-      builtData = dataBuilder.build();
+  @Override
+  public LazyScenarioMarketData createLazyMultiScenario(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
 
-      // A copy of the dependency tree not including the leaf nodes
-      root = pair.getFirst();
-    }
-    return builtData;
+    return new LazyScenarioMarketData(
+        requirements,
+        marketDataConfig,
+        suppliedData,
+        refData,
+        scenarioDefinition,
+        observableDataProvider,
+        timeSeriesProvider,
+        functions);
   }
 
   //-------------------------------------------------------------------------
   /**
-   * Builds items of non-observable market data using a market data function.
+   * Builds items of non-observable market data using the market data functions.
+   * <p>
+   * Each item is built on the executor once all the items it depends on have been added to the builder.
+   * The results are added to the builder on the calling thread, together with the time taken to build them.
    *
-   * @param id  ID of the market data that should be built
+   * @param ids  the IDs of the market data that should be built
+   * @param graph  the IDs of the non-observable market data that each item depends on
    * @param marketDataConfig  configuration specifying how the market data should be built
-   * @param suppliedData  existing set of market data that contains any data required to build the values
    * @param refData  the reference data, used to resolve trades
-   * @return a result containing the market data or details of why it wasn't built
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @param dataBuilder  the market data built so far, the results are added to this builder
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private Result<MarketDataBox<?>> buildNonObservableData(
-      MarketDataId id,
+  private void buildNonObservableData(
+      Set<MarketDataId<?>> ids,
+      Map<MarketDataId<?>, Set<MarketDataId<?>>> graph,
       MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData suppliedData,
-      ReferenceData refData) {
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition,
+      BuiltScenarioMarketDataBuilder dataBuilder) {
+
+    // Find the functions first so that a missing function is reported before any data is built
+    Map<MarketDataId<?>, MarketDataFunction<?, ?>> idFunctions = ids.stream()
+        .collect(toImmutableMap(id -> id, id -> function(id)));
+
+    // The number of dependencies of each item that are still to be built, and the items that depend on each item
+    Map<MarketDataId<?>, Integer> pendingCounts = new HashMap<>();
+    Map<MarketDataId<?>, List<MarketDataId<?>>> dependents = new HashMap<>();
+    List<MarketDataId<?>> ready = new ArrayList<>();
+    for (MarketDataId<?> id : ids) {
+      int pendingCount = 0;
+      for (MarketDataId<?> dependency : graph.get(id)) {
+        if (ids.contains(dependency)) {
+          dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(id);
+          pendingCount++;
+        }
+      }
+      if (pendingCount == 0) {
+        ready.add(id);
+      } else {
+        pendingCounts.put(id, pendingCount);
+      }
+    }
 
-    // The raw types in this method are an unfortunate necessity. The type parameters on MarketDataBuilder
-    // are mainly a useful guide for implementors as they constrain the method type signatures.
-    // In this class a mixture of functions with different types are stored in a map. This loses the type
-    // parameter information. When the functions are extracted from the map and used it's impossible to
-    // convince the compiler the operations are safe, although the logic guarantees it.
+    // The graph is acyclic, thus there is always an item that is ready or being built until all are built
+    BlockingQueue<NodeResult> completed = new LinkedBlockingQueue<>();
+    for (int remaining = ids.size(); remaining > 0; remaining--) {
+      if (!ready.isEmpty()) {
+        // Effectively final reference to the data built so far, including the dependencies of the ready items
+        BuiltScenarioMarketData marketData = dataBuilder.build();
+        for (MarketDataId<?> id : ready) {
+          MarketDataFunction<?, ?> function = idFunctions.get(id);
+          executor.execute(() -> completed.add(NodeResult.build(id, function, marketDataConfig, marketData, refData)));
+        }
+        ready.clear();
+      }
+      NodeResult nodeResult = take(completed);
+      addResult(nodeResult.id, nodeResult.result, refData, scenarioDefinition, dataBuilder);
+      dataBuilder.addBuildTime(nodeResult.id, nodeResult.buildTime);
+      for (MarketDataId<?> dependent : dependents.getOrDefault(nodeResult.id, ImmutableList.of())) {
+        if (pendingCounts.merge(dependent, -1, Integer::sum) == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+  }
 
+  /**
+   * Finds the market data function that builds the market data identified by the ID.
+   *
+   * @param id  ID of the market data that should be built
+   * @return the market data function
+   * @throws IllegalStateException if there is no function for the type of the ID
+   */
+  @SuppressWarnings("unchecked")
+  private MarketDataFunction<?, ?> function(MarketDataId<?> id) {
     // This cast removes a spurious warning
     Class<? extends MarketDataId<?>> idClass = (Class<? extends MarketDataId<?>>) id.getClass();
-    MarketDataFunction marketDataFunction = functions.get(idClass);
+    MarketDataFunction<?, ?> marketDataFunction = functions.get(idClass);
 
     if (marketDataFunction == null) {
       throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
     }
-    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    return marketDataFunction;
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
-      Set<? extends MarketDataId<?>> ids,
-      MarketDataConfig marketDataConfig,
-      BuiltScenarioMarketData marketData,
-      ReferenceData refData) {
-
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+  // takes the next completed item, rethrowing any error thrown when building it
+  private static NodeResult take(BlockingQueue<NodeResult> completed) {
+    NodeResult nodeResult;
+    try {
+      nodeResult = completed.take();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+    if (nodeResult.error != null) {
+      throw nodeResult.error;
+    }
+    return nodeResult;
   }
 
   /**
@@ -310,7 +394,6 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param scenarioDefinition  definition of a set of scenarios
    * @param builder  the market data is added to this builder
    */
-  @SuppressWarnings("unchecked")
   private void addValue(
       MarketDataId<?> id,
       MarketDataBox<?> value,
@@ -318,6 +401,31 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       ScenarioDefinition scenarioDefinition,
       BuiltScenarioMarketDataBuilder builder) {
 
+    Optional<Result<MarketDataBox<?>>> perturbed = perturbValue(id, value, refData, scenarioDefinition);
+    if (perturbed.isPresent()) {
+      builder.addResult(id, perturbed.get());
+    } else {
+      builder.addBox(id, value);
+    }
+  }
+
+  /**
+   * Applies the first matching mapping from the scenario definition to an item of market data.
+   *
+   * @param id  ID of the market data value
+   * @param value  the market data value
+   * @param refData  the reference data
+   * @param scenarioDefinition  definition of a set of scenarios
+   * @return a result containing the perturbed value or details of why the perturbation failed,
+   *   empty if no mapping matches the value
+   */
+  @SuppressWarnings("unchecked")
+  static Optional<Result<MarketDataBox<?>>> perturbValue(
+      MarketDataId<?> id,
+      MarketDataBox<?> value,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
     Optional<PerturbationMapping<?>> optionalMapping = scenarioDefinition.getMappings().stream()
         .filter(m -> m.matches(id, value, refData))
         .findFirst();
@@ -328,10 +436,66 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
       PerturbationMapping<Object> mapping = (PerturbationMapping<Object>) optionalMapping.get();
       MarketDataBox<Object> objectValue = ((MarketDataBox<Object>) value);
       // Result.of() catches any exceptions thrown by the mapping and wraps them in a failure
-      Result<MarketDataBox<?>> result = Result.of(() -> mapping.applyPerturbation(objectValue, refData));
-      builder.addResult(id, result);
-    } else {
-      builder.addBox(id, value);
+      return Optional.of(Result.of(() -> mapping.applyPerturbation(objectValue, refData)));
+    }
+    return Optional.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The result of building an item of non-observable market data.
+   */
+  private static final class NodeResult {
+
+    /** The ID of the market data. */
+    private final MarketDataId<?> id;
+    /** The result containing the market data or details of why it wasn't built. */
+    private final Result<MarketDataBox<?>> result;
+    /** The time taken to build the market data. */
+    private final Duration buildTime;
+    /** The error thrown when building the market data, null if none. */
+    private final Error error;
+
+    private NodeResult(MarketDataId<?> id, Result<MarketDataBox<?>> result, Duration buildTime, Error error) {
+      this.id = id;
+      this.result = result;
+      this.buildTime = buildTime;
+      this.error = error;
+    }
+
+    /**
+     * Builds an item of non-observable market data using a market data function.
+     * <p>
+     * Exceptions thrown by the function are captured in the result.
+     * Errors are captured so they can be rethrown on the calling thread.
+     *
+     * @param id  ID of the market data that should be built
+     * @param function  the function that builds the market data
+     * @param marketDataConfig  configuration specifying how the market data should be built
+     * @param marketData  existing set of market data that contains any data required to build the value
+     * @param refData  the reference data, used to resolve trades
+     * @return the result of building the market data
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static NodeResult build(
+        MarketDataId id,
+        MarketDataFunction function,
+        MarketDataConfig marketDataConfig,
+        BuiltScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      // The raw types in this method are an unfortunate necessity. The type parameters on MarketDataBuilder
+      // are mainly a useful guide for implementors as they constrain the method type signatures.
+      // In this class a mixture of functions with different types are stored in a map. This loses the type
+      // parameter information. When the functions are extracted from the map and used it's impossible to
+      // convince the compiler the operations are safe, although the logic guarantees it.
+      long start = System.nanoTime();
+      try {
+        Result<MarketDataBox<?>> result = Result.of(() -> function.build(id, marketDataConfig, marketData, refData));
+        return new NodeResult(id, result, Duration.ofNanos(System.nanoTime() - start), null);
+      } catch (Error ex) {
+        return new NodeResult(id, null, Duration.ofNanos(System.nanoTime() - start), ex);
+      }
     }
   }
 
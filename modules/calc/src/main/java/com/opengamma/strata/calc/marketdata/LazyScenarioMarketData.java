@@ -0,0 +1,527 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+import static com.opengamma.strata.collect.Guavate.toImmutableSet;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureException;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.NamedMarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Market data that is built lazily, when it is first requested.
+ * <p>
+ * The {@link MarketDataFactory} builds all the market data in a set of requirements up front.
+ * When only a few of the calculations need an expensive item of market data, such as a volatility
+ * cube, this can be wasteful. This implementation of {@link ScenarioMarketData} instead builds each
+ * item of market data the first time it is requested, typically by a calculation task.
+ * <p>
+ * Each item is built at most once, even when requested by multiple threads at the same time.
+ * Market data functions are passed this instance when building, thus the market data an item
+ * depends on is itself built on demand. Observable data is obtained in bulk for the requirements
+ * of each market data function. The scenario definition is applied as each item is built,
+ * in the same way as by {@link MarketDataFactory#createMultiScenario}.
+ * <p>
+ * The identifiers of the market data that was requested can be queried, as can the
+ * requirements that were never used.
+ * <p>
+ * Instances are obtained using {@link MarketDataFactory#createLazyMultiScenario}.
+ * This class is thread-safe.
+ */
+public final class LazyScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The requirements of the calculations, used to report unused data.
+   */
+  private final MarketDataRequirements requirements;
+  /**
+   * The configuration specifying how the market data should be built.
+   */
+  private final MarketDataConfig marketDataConfig;
+  /**
+   * The market data supplied by the user.
+   */
+  private final ScenarioMarketData suppliedData;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The definition of the scenarios.
+   */
+  private final ScenarioDefinition scenarioDefinition;
+  /**
+   * The provider of observable market data.
+   */
+  private final ObservableDataProvider observableDataProvider;
+  /**
+   * The provider of time-series.
+   */
+  private final TimeSeriesProvider timeSeriesProvider;
+  /**
+   * The market data functions, keyed by the type of the market data ID they can handle.
+   */
+  private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
+  /**
+   * Whether market data not in the supplied data is built, false if all the data has already been built.
+   */
+  private final boolean buildMissing;
+  /**
+   * The number of scenarios.
+   */
+  private final int scenarioCount;
+  /**
+   * The values that have been requested, keyed by ID.
+   */
+  private final ConcurrentHashMap<MarketDataId<?>, Memo<Result<MarketDataBox<?>>>> values =
+      new ConcurrentHashMap<>();
+  /**
+   * The time-series that have been requested, keyed by ID.
+   */
+  private final ConcurrentHashMap<ObservableId, Memo<Result<LocalDateDoubleTimeSeries>>> timeSeries =
+      new ConcurrentHashMap<>();
+  /**
+   * The time taken to build each item of non-observable market data, keyed by ID.
+   */
+  private final ConcurrentHashMap<MarketDataId<?>, Duration> buildTimes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an instance.
+   *
+   * @param requirements  the requirements of the calculations
+   * @param marketDataConfig  the configuration specifying how the market data should be built
+   * @param suppliedData  the market data supplied by the user
+   * @param refData  the reference data
+   * @param scenarioDefinition  the definition of the scenarios
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param functions  the market data functions, keyed by the type of the market data ID they can handle
+   */
+  LazyScenarioMarketData(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition,
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions) {
+
+    this(
+        requirements,
+        marketDataConfig,
+        suppliedData,
+        refData,
+        scenarioDefinition,
+        observableDataProvider,
+        timeSeriesProvider,
+        functions,
+        true);
+  }
+
+  // creates an instance, specifying whether market data not in the supplied data is built
+  private LazyScenarioMarketData(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition,
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions,
+      boolean buildMissing) {
+
+    this.requirements = requirements;
+    this.marketDataConfig = marketDataConfig;
+    this.suppliedData = suppliedData;
+    this.refData = refData;
+    this.scenarioDefinition = scenarioDefinition;
+    this.observableDataProvider = observableDataProvider;
+    this.timeSeriesProvider = timeSeriesProvider;
+    this.functions = functions;
+    this.buildMissing = buildMissing;
+    this.scenarioCount = Math.max(suppliedData.getScenarioCount(), scenarioDefinition.getScenarioCount());
+  }
+
+  /**
+   * Creates an instance that exposes market data that has already been built.
+   * <p>
+   * No market data is built by the instance, market data not found in the built data is a failure.
+   * It is used to report the requirements that were never requested.
+   *
+   * @param requirements  the requirements of the calculations
+   * @param builtData  the market data that has been built
+   * @return the market data
+   */
+  static LazyScenarioMarketData ofBuilt(MarketDataRequirements requirements, ScenarioMarketData builtData) {
+    return new LazyScenarioMarketData(
+        requirements,
+        MarketDataConfig.empty(),
+        builtData,
+        ReferenceData.empty(),
+        ScenarioDefinition.empty(),
+        ObservableDataProvider.none(),
+        TimeSeriesProvider.none(),
+        ImmutableMap.of(),
+        false);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return suppliedData.getValuationDate();
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return scenarioCount;
+  }
+
+  /**
+   * Checks if this market data contains a value for the specified identifier.
+   * <p>
+   * The value is built if it has not already been requested.
+   *
+   * @param id  the identifier to find
+   * @return true if the market data contains a value for the identifier
+   */
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return result(id).isSuccess();
+  }
+
+  /**
+   * Gets the market data value associated with the specified identifier.
+   * <p>
+   * The value is built if it has not already been requested.
+   *
+   * @param <T>  the type of the market data value
+   * @param id  the identifier to find
+   * @return the market data value box providing data for all scenarios
+   * @throws FailureException if the value could not be found or built
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    Result<MarketDataBox<?>> result = result(id);
+    if (result.isFailure()) {
+      throw new FailureException(result.getFailure());
+    }
+    return (MarketDataBox<T>) result.getValue();
+  }
+
+  /**
+   * Finds the market data value associated with the specified identifier.
+   * <p>
+   * The value is built if it has not already been requested.
+   *
+   * @param <T>  the type of the market data value
+   * @param id  the identifier to find
+   * @return the market data value box providing data for all scenarios, empty if not found or not built
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    Result<MarketDataBox<?>> result = result(id);
+    return result.isSuccess() ? Optional.of((MarketDataBox<T>) result.getValue()) : Optional.empty();
+  }
+
+  /**
+   * Gets the market data identifiers.
+   * <p>
+   * This returns the identifiers of the supplied data and of the data that has been built so far.
+   *
+   * @return the set of market data identifiers
+   */
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return ImmutableSet.<MarketDataId<?>>builder()
+        .addAll(suppliedData.getIds())
+        .addAll(builtIds())
+        .build();
+  }
+
+  /**
+   * Finds the market data identifiers associated with the specified name.
+   * <p>
+   * This searches the identifiers of the supplied data and of the data that has been built so far.
+   *
+   * @param <T>  the type of the market data value
+   * @param name  the name to find
+   * @return the set of market data identifiers, empty if name not found
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    ImmutableSet.Builder<MarketDataId<T>> builder = ImmutableSet.builder();
+    builder.addAll(suppliedData.findIds(name));
+    builtIds().stream()
+        .filter(id -> id instanceof NamedMarketDataId && ((NamedMarketDataId<?>) id).getMarketDataName().equals(name))
+        .forEach(id -> builder.add((MarketDataId<T>) id));
+    return builder.build();
+  }
+
+  /**
+   * Gets the time-series identifiers.
+   * <p>
+   * This returns the identifiers of the supplied time-series and of those that have been obtained so far.
+   *
+   * @return the set of observable identifiers
+   */
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return ImmutableSet.<ObservableId>builder()
+        .addAll(suppliedData.getTimeSeriesIds())
+        .addAll(timeSeries.entrySet().stream()
+            .filter(e -> e.getValue().isSuccess())
+            .map(e -> e.getKey())
+            .collect(toImmutableSet()))
+        .build();
+  }
+
+  /**
+   * Gets the time-series associated with the specified identifier, empty if not found.
+   * <p>
+   * The time-series is obtained from the provider if it is not supplied and has not already been requested.
+   *
+   * @param id  the identifier to find
+   * @return the time-series, empty if no time-series found
+   */
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    Result<LocalDateDoubleTimeSeries> result = timeSeries.computeIfAbsent(id, k -> new Memo<>())
+        .get(() -> {
+          LocalDateDoubleTimeSeries supplied = suppliedData.getTimeSeries(id);
+          return supplied.isEmpty() ? timeSeriesProvider.provideTimeSeries(id) : Result.success(supplied);
+        });
+    return result.isSuccess() ? result.getValue() : LocalDateDoubleTimeSeries.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the identifiers of the market data values that have been requested so far.
+   * <p>
+   * This includes the values requested by market data functions when building other values.
+   *
+   * @return the identifiers of the requested values
+   */
+  public ImmutableSet<MarketDataId<?>> getRequestedIds() {
+    return ImmutableSet.copyOf(values.keySet());
+  }
+
+  /**
+   * Gets the requirements that have not been requested so far.
+   * <p>
+   * After the calculations have run, this is the market data in the requirements that was never used,
+   * and thus never built.
+   *
+   * @return the requirements that have not been requested
+   */
+  public MarketDataRequirements getUnusedRequirements() {
+    MarketDataRequirementsBuilder builder = MarketDataRequirements.builder();
+    requirements.getObservables().stream()
+        .filter(id -> !values.containsKey(id))
+        .forEach(builder::addValues);
+    requirements.getNonObservables().stream()
+        .filter(id -> !values.containsKey(id))
+        .forEach(builder::addValues);
+    requirements.getTimeSeries().stream()
+        .filter(id -> !timeSeries.containsKey(id))
+        .forEach(builder::addTimeSeries);
+    return builder.build();
+  }
+
+  /**
+   * Gets the failures when building single market data values so far.
+   *
+   * @return the single value failures
+   */
+  public ImmutableMap<MarketDataId<?>, Failure> getValueFailures() {
+    return values.entrySet().stream()
+        .filter(e -> e.getValue().isFailure())
+        .collect(toImmutableMap(e -> e.getKey(), e -> e.getValue().getIfPresent().getFailure()));
+  }
+
+  /**
+   * Gets the time taken to build each item of non-observable market data so far.
+   *
+   * @return the build times
+   */
+  public ImmutableMap<MarketDataId<?>, Duration> getBuildTimes() {
+    return ImmutableMap.copyOf(buildTimes);
+  }
+
+  //-------------------------------------------------------------------------
+  // the identifiers of the values that have been built successfully
+  private Set<MarketDataId<?>> builtIds() {
+    return values.entrySet().stream()
+        .filter(e -> e.getValue().isSuccess())
+        .map(e -> e.getKey())
+        .collect(toImmutableSet());
+  }
+
+  // obtains the result for the identifier, building it if it has not already been requested
+  private Result<MarketDataBox<?>> result(MarketDataId<?> id) {
+    // a special case for FX rates containing the same currency twice
+    if (id instanceof FxRateId && ((FxRateId) id).getPair().isIdentity()) {
+      FxRate identityRate = FxRate.of(((FxRateId) id).getPair(), 1);
+      return Result.success(MarketDataBox.ofSingleValue(identityRate));
+    }
+    return values.computeIfAbsent(id, k -> new Memo<>()).get(() -> perturb(id, provide(id)));
+  }
+
+  // provides the value before applying the scenario definition
+  private Result<MarketDataBox<?>> provide(MarketDataId<?> id) {
+    Optional<? extends MarketDataBox<?>> supplied = suppliedData.findValue(id);
+    if (supplied.isPresent()) {
+      return Result.success(supplied.get());
+    }
+    if (!buildMissing) {
+      return missingResult(id);
+    }
+    if (id instanceof ObservableId) {
+      Result<Double> result = observableDataProvider.provideObservableData(ImmutableSet.of((ObservableId) id)).get(id);
+      return observableResult(id, result);
+    }
+    return build(id);
+  }
+
+  // applies the first matching mapping from the scenario definition
+  private Result<MarketDataBox<?>> perturb(MarketDataId<?> id, Result<MarketDataBox<?>> result) {
+    if (result.isFailure()) {
+      return result;
+    }
+    return DefaultMarketDataFactory.perturbValue(id, result.getValue(), refData, scenarioDefinition).orElse(result);
+  }
+
+  // builds non-observable data using the market data function
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Result<MarketDataBox<?>> build(MarketDataId id) {
+    MarketDataFunction function = functions.get(id.getClass());
+    if (function == null) {
+      throw new IllegalStateException(
+          "No market data function available for market data ID of type " + id.getClass().getName());
+    }
+    Result<MarketDataRequirements> functionRequirements = Result.of(() -> function.requirements(id, marketDataConfig));
+    if (functionRequirements.isSuccess()) {
+      prefetchObservables(functionRequirements.getValue().getObservables());
+    }
+    long start = System.nanoTime();
+    Result<MarketDataBox<?>> result = Result.of(() -> function.build(id, marketDataConfig, this, refData));
+    buildTimes.put(id, Duration.ofNanos(System.nanoTime() - start));
+    return result;
+  }
+
+  // obtains the observable data required by a market data function in one operation
+  private void prefetchObservables(Set<? extends ObservableId> ids) {
+    Set<ObservableId> missingIds = ids.stream()
+        .filter(id -> !values.containsKey(id))
+        .filter(id -> !suppliedData.containsValue(id))
+        .collect(toImmutableSet());
+    if (missingIds.isEmpty()) {
+      return;
+    }
+    Map<ObservableId, Result<Double>> results = observableDataProvider.provideObservableData(missingIds);
+    for (ObservableId id : missingIds) {
+      Result<MarketDataBox<?>> result = observableResult(id, results.get(id));
+      values.computeIfAbsent(id, k -> new Memo<>()).get(() -> perturb(id, result));
+    }
+  }
+
+  // converts the result from the observable data provider
+  private static Result<MarketDataBox<?>> observableResult(MarketDataId<?> id, Result<Double> result) {
+    if (result == null) {
+      return missingResult(id);
+    }
+    if (result.isFailure()) {
+      return Result.failure(result);
+    }
+    return Result.success(MarketDataBox.ofSingleValue(result.getValue()));
+  }
+
+  // the failure when market data is not found
+  private static Result<MarketDataBox<?>> missingResult(MarketDataId<?> id) {
+    return Result.failure(
+        FailureReason.MISSING_DATA,
+        "Market data not found for identifier '{}' of type '{}'",
+        id,
+        id.getClass().getSimpleName());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A value that is computed once, when first requested.
+   *
+   * @param <T>  the type of the value
+   */
+  private static final class Memo<T extends Result<?>> {
+
+    /** The value, null until computed. */
+    private volatile T value;
+
+    /**
+     * Gets the value, computing it if necessary.
+     * <p>
+     * Only one thread computes the value, other threads requesting it wait for the result.
+     *
+     * @param supplier  the supplier of the value
+     * @return the value
+     */
+    T get(Supplier<T> supplier) {
+      T result = value;
+      if (result == null) {
+        synchronized (this) {
+          result = value;
+          if (result == null) {
+            result = supplier.get();
+            value = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    // gets the value, null if not yet computed
+    T getIfPresent() {
+      return value;
+    }
+
+    // checks if the value has been computed successfully
+    boolean isSuccess() {
+      T result = value;
+      return result != null && result.isSuccess();
+    }
+
+    // checks if the value has been computed as a failure
+    boolean isFailure() {
+      T result = value;
+      return result != null && result.isFailure();
+    }
+  }
+
+}
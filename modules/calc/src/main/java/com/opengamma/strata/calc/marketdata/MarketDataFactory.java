@@ -6,6 +6,7 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
@@ -74,6 +75,31 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * building non-observable market data using an executor.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Non-observable market data, such as curves and surfaces, is built on the executor
+   * as soon as the market data it depends on is available. Items of market data that do not
+   * depend on one another, such as independent curve groups, are therefore built concurrently
+   * if the executor is multi-threaded. The executor is not shut down by the factory.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build non-observable market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, executor, functions);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
@@ -154,4 +180,39 @@ public interface MarketDataFactory {
       ReferenceData refData,
       ScenarioDefinition scenarioDefinition);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Creates market data for a set of scenarios that is built lazily, when first requested.
+   * <p>
+   * No market data is built by this method. Instead, each item of market data is built the first time
+   * it is requested from the result, typically by a calculation task. This is useful when only a few
+   * of the calculations require an expensive item of market data. Each item is built at most once.
+   * <p>
+   * The scenario definition is applied to each item as it is built, in the same way as by
+   * {@link #createMultiScenario(MarketDataRequirements, MarketDataConfig, ScenarioMarketData,
+   * ReferenceData, ScenarioDefinition) createMultiScenario}.
+   * The requirements are only used to report the market data that was never requested.
+   * <p>
+   * The default implementation builds all the market data up front using {@code createMultiScenario},
+   * thus it is not lazy. Implementations should override it to build each item on demand.
+   *
+   * @param requirements  the market data required for the calculations
+   * @param marketDataConfig  configuration needed to build non-observable market data, for example curves or surfaces
+   * @param suppliedData  the base market data used to derive the data for each scenario
+   * @param refData  the reference data
+   * @param scenarioDefinition  defines how the market data for each scenario is derived from the base data
+   * @return the market data, built on demand
+   */
+  public default LazyScenarioMarketData createLazyMultiScenario(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    BuiltScenarioMarketData builtData =
+        createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+    return LazyScenarioMarketData.ofBuilt(requirements, builtData);
+  }
+
 }
@@ -5,10 +5,13 @@
  */
 package com.opengamma.strata.calc.marketdata;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.ArgChecker;
@@ -164,6 +167,43 @@ final class MarketDataNode {
     return Pair.of(node, requirements);
   }
 
+  /**
+   * Returns the dependency graph of the non-observable market data in the tree below this node.
+   * <p>
+   * The map is keyed by the ID of each item of non-observable market data in the tree.
+   * The value is the set of IDs of the non-observable market data it directly depends on.
+   * An ID appearing more than once in the tree has the union of the dependencies of each occurrence.
+   * <p>
+   * Observable market data and time-series are not included as they have no dependencies.
+   *
+   * @return the dependencies of each item of non-observable market data, keyed by ID
+   */
+  Map<MarketDataId<?>, Set<MarketDataId<?>>> nonObservableDependencies() {
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> graph = new LinkedHashMap<>();
+    addNonObservableDependencies(graph);
+    return graph;
+  }
+
+  // adds the dependencies of the non-observable children of this node, recursing into the tree
+  private void addNonObservableDependencies(Map<MarketDataId<?>, Set<MarketDataId<?>>> graph) {
+    for (MarketDataNode child : dependencies) {
+      if (child.isNonObservable()) {
+        Set<MarketDataId<?>> childDependencies = graph.computeIfAbsent(child.id, id -> new HashSet<>());
+        for (MarketDataNode grandchild : child.dependencies) {
+          if (grandchild.isNonObservable()) {
+            childDependencies.add(grandchild.id);
+          }
+        }
+        child.addNonObservableDependencies(graph);
+      }
+    }
+  }
+
+  // checks if the node represents a single item of non-observable market data
+  private boolean isNonObservable() {
+    return dataType == DataType.SINGLE_VALUE && !(id instanceof ObservableId);
+  }
+
   /**
    * Returns true if this node has no children.
    *
@@ -208,10 +208,10 @@ public final class CalculationTask implements ImmutableBean {
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
 
-    // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
+    // get a suitable FX provider, cached as the cells typically convert using the same rates
+    ScenarioFxRateProvider fxProvider = ScenarioFxRateProvider.cached(parameters.findParameter(FxRateLookup.class)
         .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
-        .orElse(ScenarioFxRateProvider.of(marketData));
+        .orElse(ScenarioFxRateProvider.of(marketData)));
 
     // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
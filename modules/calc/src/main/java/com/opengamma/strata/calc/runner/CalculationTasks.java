@@ -115,10 +115,13 @@ public final class CalculationTasks implements ImmutableBean {
             .map(column -> column.combineWithDefaults(rules.getReportingCurrency(), rules.getParameters()))
             .collect(toImmutableList());
 
+    // resolve the targets in bulk
+    List<CalculationTarget> resolvedTargets = resolveTargets(targets, refData);
+
     // loop around the targets, then the columns, to build the tasks
     ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
-    for (int rowIndex = 0; rowIndex < targets.size(); rowIndex++) {
-      CalculationTarget target = resolveTarget(targets.get(rowIndex), refData);
+    for (int rowIndex = 0; rowIndex < resolvedTargets.size(); rowIndex++) {
+      CalculationTarget target = resolvedTargets.get(rowIndex);
 
       // find the applicable function, resolving the target if necessary
       CalculationFunction<?> fn = target instanceof UnresolvableTarget ?
@@ -134,6 +137,29 @@ public final class CalculationTasks implements ImmutableBean {
     return new CalculationTasks(taskBuilder.build(), columns);
   }
 
+  /**
+   * Resolves a list of targets using reference data.
+   * <p>
+   * Each target that implements {@link ResolvableCalculationTarget} is resolved.
+   * A target that cannot be resolved is replaced by a target that results in a failed task.
+   * Other targets are returned unchanged.
+   * <p>
+   * The targets are resolved in parallel, retaining the order of the list.
+   * Schedules created when resolving are shared between targets if the reference data is immutable.
+   * 
+   * @param targets  the targets to resolve
+   * @param refData  the reference data to use to resolve the targets
+   * @return the resolved targets, in the same order as the input
+   */
+  public static List<CalculationTarget> resolveTargets(
+      List<? extends CalculationTarget> targets,
+      ReferenceData refData) {
+
+    return targets.parallelStream()
+        .map(target -> resolveTarget(target, refData))
+        .collect(toImmutableList());
+  }
+
   // resolves the target
   private static CalculationTarget resolveTarget(CalculationTarget target, ReferenceData refData) {
     if (target instanceof ResolvableCalculationTarget) {
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ExposureCalculator}.
+ */
+public class ExposureCalculatorTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.empty();
+  private static final StandardId CPTY_A = StandardId.of("OG-Cpty", "A");
+  private static final StandardId CPTY_B = StandardId.of("OG-Cpty", "B");
+  private static final ImmutableList<LocalDate> DATES = ImmutableList.of(date(2026, 6, 30), date(2026, 12, 31));
+  private static final CalculationRules RULES = CalculationRules.of(CalculationFunctions.of(new TestFunction()));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_calculate() {
+    ImmutableList<TestTarget> targets = ImmutableList.of(
+        new TestTarget(CPTY_A, USD, DoubleArray.of(100, -50, 20)),
+        new TestTarget(CPTY_A, USD, DoubleArray.of(-20, 10, 30)),
+        new TestTarget(CPTY_B, USD, DoubleArray.of(5, 5, 5)));
+    ExposureDefinition definition = ExposureDefinition.of(DATES, TestingMeasures.PRESENT_VALUE, USD, 0.5);
+    TestSimulation simulation = new TestSimulation(3);
+
+    ExposureCalculator test = ExposureCalculator.of(CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()));
+    ExposureResults results =
+        test.calculate(RULES, targets, t -> ((TestTarget) t).counterparty, definition, simulation, REF_DATA);
+
+    assertThat(results.hasFailures()).isFalse();
+    assertThat(results.getProfiles()).hasSize(2);
+    assertThat(simulation.simulatedDates.build()).isEqualTo(DATES);
+    // netted values of A are (80, -40, 50)
+    ExposureProfile profileA = results.findProfile(CPTY_A).get();
+    assertThat(profileA.getCounterparty()).isEqualTo(CPTY_A);
+    assertThat(profileA.getCurrency()).isEqualTo(USD);
+    assertThat(profileA.getDates()).isEqualTo(DATES);
+    for (int i = 0; i < DATES.size(); i++) {
+      assertThat(profileA.getExpectedExposure().get(i)).isCloseTo(130d / 3d, offset(1e-12));
+      assertThat(profileA.getExpectedNegativeExposure().get(i)).isCloseTo(-40d / 3d, offset(1e-12));
+      assertThat(profileA.getPotentialFutureExposure().get(i)).isEqualTo(50d);
+    }
+    ExposureProfile profileB = results.findProfile(CPTY_B).get();
+    assertThat(profileB.getExpectedExposure()).isEqualTo(DoubleArray.of(5, 5));
+    assertThat(profileB.getExpectedNegativeExposure()).isEqualTo(DoubleArray.of(0, 0));
+    assertThat(profileB.getPotentialFutureExposure()).isEqualTo(DoubleArray.of(5, 5));
+    assertThat(results.findProfile(StandardId.of("OG-Cpty", "C"))).isEmpty();
+  }
+
+  @Test
+  public void test_calculate_currencyMismatch() {
+    ImmutableList<TestTarget> targets = ImmutableList.of(
+        new TestTarget(CPTY_A, USD, DoubleArray.of(100, -50, 20)),
+        new TestTarget(CPTY_A, GBP, DoubleArray.of(-20, 10, 30)));
+    ExposureDefinition definition = ExposureDefinition.of(DATES, TestingMeasures.PAR_RATE, USD, 0.95);
+
+    ExposureCalculator test = ExposureCalculator.of(CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()));
+    ExposureResults results =
+        test.calculate(RULES, targets, t -> ((TestTarget) t).counterparty, definition, new TestSimulation(3), REF_DATA);
+
+    // the GBP target is ignored on both dates
+    assertThat(results.getFailures()).hasSize(2);
+    ExposureProfile profileA = results.findProfile(CPTY_A).get();
+    assertThat(profileA.getPotentialFutureExposure()).isEqualTo(DoubleArray.of(100, 100));
+  }
+
+  @Test
+  public void test_calculate_currencyMismatchOnLaterPath() {
+    ImmutableList<TestTarget> targets = ImmutableList.of(
+        new TestTarget(CPTY_A, USD, DoubleArray.of(100, -50, 20)),
+        new TestTarget(CPTY_A, USD, GBP, DoubleArray.of(-20, 10, 30)));
+    ExposureDefinition definition = ExposureDefinition.of(DATES, TestingMeasures.PRESENT_VALUE_MULTI_CCY, USD, 0.95);
+
+    ExposureCalculator test = ExposureCalculator.of(CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService()));
+    ExposureResults results =
+        test.calculate(RULES, targets, t -> ((TestTarget) t).counterparty, definition, new TestSimulation(3), REF_DATA);
+
+    // the target with a GBP amount on the last path is ignored on all paths, on both dates
+    assertThat(results.getFailures()).hasSize(2);
+    ExposureProfile profileA = results.findProfile(CPTY_A).get();
+    assertThat(profileA.getExpectedExposure()).isEqualTo(DoubleArray.of(40, 40));
+    assertThat(profileA.getExpectedNegativeExposure()).isEqualTo(DoubleArray.of(-50d / 3d, -50d / 3d));
+    assertThat(profileA.getPotentialFutureExposure()).isEqualTo(DoubleArray.of(100, 100));
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements CalculationTarget {
+
+    private final StandardId counterparty;
+    private final Currency currency;
+    private final Currency lastPathCurrency;
+    private final DoubleArray values;
+
+    private TestTarget(StandardId counterparty, Currency currency, DoubleArray values) {
+      this(counterparty, currency, currency, values);
+    }
+
+    private TestTarget(StandardId counterparty, Currency currency, Currency lastPathCurrency, DoubleArray values) {
+      this.counterparty = counterparty;
+      this.currency = currency;
+      this.lastPathCurrency = lastPathCurrency;
+      this.values = values;
+    }
+  }
+
+  private static final class TestSimulation implements ExposureSimulation {
+
+    private final int pathCount;
+    private final ImmutableList.Builder<LocalDate> simulatedDates = ImmutableList.builder();
+
+    private TestSimulation(int pathCount) {
+      this.pathCount = pathCount;
+    }
+
+    @Override
+    public int getPathCount() {
+      return pathCount;
+    }
+
+    @Override
+    public ScenarioMarketData simulate(
+        LocalDate exposureDate,
+        MarketDataRequirements requirements,
+        ReferenceData refData) {
+
+
+      simulatedDates.add(exposureDate);
+      return ScenarioMarketData.of(pathCount, MarketData.empty(exposureDate));
+    }
+  }
+
+  private static final class TestFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(
+          TestingMeasures.PRESENT_VALUE, TestingMeasures.PAR_RATE, TestingMeasures.PRESENT_VALUE_MULTI_CCY);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget target, ReferenceData refData) {
+      return target.currency;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      CurrencyScenarioArray value = CurrencyScenarioArray.of(target.currency, target.values);
+      // the amounts are in the currency of the target, except on the last path
+      int last = target.values.size() - 1;
+      ScenarioArray<CurrencyAmount> amounts = ScenarioArray.of(target.values.size(), i -> CurrencyAmount.of(
+          i == last ? target.lastPathCurrency : target.currency, target.values.get(i)));
+      return ImmutableMap.of(
+          TestingMeasures.PRESENT_VALUE, Result.success(value),
+          TestingMeasures.PAR_RATE, Result.success(value),
+          TestingMeasures.PRESENT_VALUE_MULTI_CCY, Result.success(amounts));
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.exposure;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link ExposureProfile}.
+ */
+public class ExposureProfileTest {
+
+  private static final StandardId CPTY = StandardId.of("OG-Cpty", "A");
+  private static final ImmutableList<LocalDate> DATES = ImmutableList.of(date(2026, 6, 30), date(2026, 12, 31));
+  private static final DoubleArray EE = DoubleArray.of(10, 20);
+  private static final DoubleArray ENE = DoubleArray.of(-5, -6);
+  private static final DoubleArray PFE = DoubleArray.of(30, 25);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ExposureProfile test = ExposureProfile.of(CPTY, USD, DATES, EE, ENE, PFE);
+    assertThat(test.getCounterparty()).isEqualTo(CPTY);
+    assertThat(test.getCurrency()).isEqualTo(USD);
+    assertThat(test.getDates()).isEqualTo(DATES);
+    assertThat(test.getDateCount()).isEqualTo(2);
+    assertThat(test.getExpectedExposure()).isEqualTo(EE);
+    assertThat(test.getExpectedNegativeExposure()).isEqualTo(ENE);
+    assertThat(test.getPotentialFutureExposure()).isEqualTo(PFE);
+    assertThat(test.peakPotentialFutureExposure()).isEqualTo(30d);
+  }
+
+  @Test
+  public void test_of_sizeMismatch() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ExposureProfile.of(CPTY, USD, DATES, DoubleArray.of(1), ENE, PFE));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ExposureProfile.of(CPTY, USD, DATES, EE, DoubleArray.of(1), PFE));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ExposureProfile.of(CPTY, USD, DATES, EE, ENE, DoubleArray.of(1)));
+  }
+
+  @Test
+  public void test_creditValueAdjustment() {
+    ExposureProfile test = ExposureProfile.of(CPTY, USD, DATES, EE, ENE, PFE);
+    DoubleArray dfs = DoubleArray.of(0.99, 0.98);
+    DoubleArray pds = DoubleArray.of(0.01, 0.02);
+    double expected = 0.6 * (10 * 0.99 * 0.01 + 20 * 0.98 * 0.02);
+    assertThat(test.creditValueAdjustment(dfs, pds, 0.4)).isCloseTo(expected, offset(1e-12));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.creditValueAdjustment(DoubleArray.of(1), pds, 0.4));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.creditValueAdjustment(dfs, pds, 1.5));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    ExposureProfile test = ExposureProfile.of(CPTY, USD, DATES, EE, ENE, PFE);
+    coverImmutableBean(test);
+    ExposureProfile test2 = ExposureProfile.of(
+        StandardId.of("OG-Cpty", "B"),
+        GBP,
+        ImmutableList.of(date(2027, 6, 30)),
+        DoubleArray.of(1),
+        DoubleArray.of(-1),
+        DoubleArray.of(2));
+    coverBeanEquals(test, test2);
+  }
+
+}
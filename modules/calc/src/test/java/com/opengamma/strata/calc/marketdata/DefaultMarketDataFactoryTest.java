@@ -10,15 +10,21 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.result.FailureReason;
@@ -364,6 +370,90 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketData.getValue(new TestIdC("2"))).isEqualTo(expectedC2);
   }
 
+  /**
+   * Tests building a result and keeping the intermediate values using a multi-threaded executor.
+   */
+  @Test
+  public void buildWithIntermediateValuesOnExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 1)
+        .put(date(2011, 3, 9), 2)
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.builder()
+        .put(date(2011, 3, 8), 10)
+        .put(date(2011, 3, 9), 20)
+        .build();
+
+    TimeSeriesProvider timeSeriesProvider = new TestTimeSeriesProvider(ImmutableMap.of(
+        new TestIdA("1"), timeSeries1,
+        new TestIdA("2"), timeSeries2));
+    List<MarketDataFunction<?, ?>> functions =
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC());
+    MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(), timeSeriesProvider, executor, functions);
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      MarketDataFactory sequentialFactory = MarketDataFactory.of(
+          new TestObservableDataProvider(), timeSeriesProvider, functions);
+      BuiltMarketData expected = sequentialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      assertThat(marketData.getValueFailures()).isEmpty();
+      assertThat(marketData.getTimeSeriesFailures()).isEmpty();
+      assertThat(marketData).isEqualTo(expected);
+
+      TestMarketDataC expectedC1 = new TestMarketDataC(timeSeries1);
+      TestMarketDataC expectedC2 = new TestMarketDataC(timeSeries2);
+      assertThat(marketData.getValue(new TestIdB("1"))).isEqualTo(new TestMarketDataB(1, expectedC1));
+      assertThat(marketData.getValue(new TestIdB("2"))).isEqualTo(new TestMarketDataB(2, expectedC2));
+      assertThat(marketData.getValue(new TestIdC("1"))).isEqualTo(expectedC1);
+      assertThat(marketData.getValue(new TestIdC("2"))).isEqualTo(expectedC2);
+
+      // The time taken to build each item of non-observable data is available
+      assertThat(marketData.getBuildTimes().keySet())
+          .containsOnly(new TestIdB("1"), new TestIdB("2"), new TestIdC("1"), new TestIdC("2"));
+      assertThat(expected.getBuildTimes().keySet()).isEqualTo(marketData.getBuildTimes().keySet());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Tests that items of market data that do not depend on one another are built concurrently.
+   */
+  @Test
+  public void buildIndependentValuesConcurrently() {
+    NonObservableId id1 = new NonObservableId("a");
+    NonObservableId id2 = new NonObservableId("b");
+    MarketDataRequirements requirements = MarketDataRequirements.builder().addValues(id1, id2).build();
+
+    // Each item can only be built successfully if the other item is being built at the same time
+    CountDownLatch latch = new CountDownLatch(2);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          ImmutableList.of(new LatchMarketDataFunction(latch)));
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      assertThat(marketData.getValue(id1)).isEqualTo("concurrent");
+      assertThat(marketData.getValue(id2)).isEqualTo("concurrent");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /**
    * Tests building multiple observable values for scenarios where the values aren't perturbed.
    */
@@ -1305,6 +1395,40 @@ public class DefaultMarketDataFactoryTest {
     }
   }
 
+  /**
+   * Function that builds a string once the expected number of items are being built at the same time.
+   */
+  private static final class LatchMarketDataFunction implements MarketDataFunction<String, NonObservableId> {
+
+    private final CountDownLatch latch;
+
+    private LatchMarketDataFunction(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(NonObservableId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.empty();
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        NonObservableId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      latch.countDown();
+      boolean concurrent = Uninterruptibles.awaitUninterruptibly(latch, 10, TimeUnit.SECONDS);
+      return MarketDataBox.ofSingleValue(concurrent ? "concurrent" : "sequential");
+    }
+
+    @Override
+    public Class<NonObservableId> getMarketDataIdType() {
+      return NonObservableId.class;
+    }
+  }
+
   /**
    * A perturbation which perturbs a string by appending another string to it.
    */
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.result.FailureException;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioPerturbation;
+
+/**
+ * Test {@link LazyScenarioMarketData}.
+ */
+public class LazyScenarioMarketDataTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final MarketDataConfig MARKET_DATA_CONFIG = MarketDataConfig.empty();
+  private static final ScenarioMarketData SUPPLIED_DATA =
+      ScenarioMarketData.of(1, MarketData.of(date(2011, 3, 8), ImmutableMap.of(TestId.of("supplied"), "value")));
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+  private static final TestId ID_MISSING = TestId.of("missing");
+  private static final MarketDataRequirements REQUIREMENTS = MarketDataRequirements.builder()
+      .addValues(ID1, ID2)
+      .addTimeSeries(TestObservableId.of("3"))
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_buildOnDemand() {
+    CountingFunction function = new CountingFunction();
+    CountingObservableDataProvider provider = new CountingObservableDataProvider();
+    MarketDataFactory factory = MarketDataFactory.of(provider, TimeSeriesProvider.empty(), function);
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    // nothing is built until requested
+    assertThat(function.buildCount.get()).isEqualTo(0);
+    assertThat(provider.requestCount.get()).isEqualTo(0);
+    assertThat(test.getRequestedIds()).isEmpty();
+    assertThat(test.getUnusedRequirements()).isEqualTo(REQUIREMENTS);
+    assertThat(test.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(date(2011, 3, 8)));
+    assertThat(test.getScenarioCount()).isEqualTo(1);
+
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofSingleValue("1:1.0"));
+    assertThat(function.buildCount.get()).isEqualTo(1);
+    assertThat(provider.requestCount.get()).isEqualTo(1);
+
+    // the value is memoised
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofSingleValue("1:1.0"));
+    assertThat(test.findValue(ID1)).hasValue(MarketDataBox.ofSingleValue("1:1.0"));
+    assertThat(test.containsValue(ID1)).isTrue();
+    assertThat(function.buildCount.get()).isEqualTo(1);
+    assertThat(provider.requestCount.get()).isEqualTo(1);
+
+    assertThat(test.getRequestedIds()).containsOnly(ID1, TestObservableId.of("1"));
+    assertThat(test.getIds()).containsOnly(TestId.of("supplied"), ID1, TestObservableId.of("1"));
+    assertThat(test.getBuildTimes()).containsOnlyKeys(ID1);
+    assertThat(test.getValueFailures()).isEmpty();
+    assertThat(test.getUnusedRequirements()).isEqualTo(MarketDataRequirements.builder()
+        .addValues(ID2)
+        .addTimeSeries(TestObservableId.of("3"))
+        .build());
+  }
+
+  @Test
+  public void test_suppliedData() {
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty(), function);
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    assertThat(test.getValue(TestId.of("supplied"))).isEqualTo(MarketDataBox.ofSingleValue("value"));
+    assertThat(function.buildCount.get()).isEqualTo(0);
+    assertThat(test.getTimeSeries(TestObservableId.of("3")).isEmpty()).isTrue();
+    assertThat(test.getUnusedRequirements()).isEqualTo(MarketDataRequirements.builder().addValues(ID1, ID2).build());
+  }
+
+  @Test
+  public void test_failure() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty(), new CountingFunction());
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    assertThat(test.findValue(ID_MISSING)).isEmpty();
+    assertThat(test.containsValue(ID_MISSING)).isFalse();
+    assertThatExceptionOfType(FailureException.class).isThrownBy(() -> test.getValue(ID_MISSING));
+    assertThat(test.getValueFailures()).containsOnlyKeys(TestObservableId.of("missing"), ID_MISSING);
+    assertThat(test.getIds()).containsOnly(TestId.of("supplied"));
+  }
+
+  @Test
+  public void test_noFunction() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty());
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(() -> test.getValue(ID1))
+        .withMessageStartingWith("No market data function available for market data ID of type");
+  }
+
+  @Test
+  public void test_identityFxRate() {
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty());
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    FxRateId id = FxRateId.of(GBP, GBP);
+    MarketDataBox<FxRate> expected = MarketDataBox.ofSingleValue(FxRate.of(GBP, GBP, 1));
+    assertThat(test.getValue(id)).isEqualTo(expected);
+    assertThat(test.findValue(id)).hasValue(expected);
+    assertThat(test.containsValue(id)).isTrue();
+    assertThat(test.getRequestedIds()).isEmpty();
+  }
+
+  @Test
+  public void test_defaultCreateLazyMultiScenario() {
+    // a factory that only implements the eager methods builds all the data up front
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory delegate = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty(), function);
+    MarketDataFactory factory = new MarketDataFactory() {
+      @Override
+      public BuiltMarketData create(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData) {
+
+        return delegate.create(requirements, marketDataConfig, suppliedData, refData);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          ScenarioMarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+
+        return delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+    };
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    assertThat(function.buildCount.get()).isEqualTo(2);
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofSingleValue("1:1.0"));
+    assertThat(test.findValue(ID_MISSING)).isEmpty();
+    assertThat(test.containsValue(ID_MISSING)).isFalse();
+    assertThat(function.buildCount.get()).isEqualTo(2);
+    assertThat(test.getUnusedRequirements()).isEqualTo(MarketDataRequirements.builder()
+        .addValues(ID2)
+        .addTimeSeries(TestObservableId.of("3"))
+        .build());
+  }
+
+  @Test
+  public void test_scenarios() {
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty(), function);
+    PerturbationMapping<String> mapping =
+        PerturbationMapping.of(MarketDataFilter.ofId(ID1), new StringAppender("a", "b", "c"));
+    ScenarioDefinition scenarioDefinition = ScenarioDefinition.ofMappings(ImmutableList.of(mapping));
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, scenarioDefinition);
+
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.getValue(ID1)).isEqualTo(MarketDataBox.ofScenarioValues("1:1.0a", "1:1.0b", "1:1.0c"));
+    assertThat(test.getValue(ID2)).isEqualTo(MarketDataBox.ofSingleValue("2:2.0"));
+    assertThat(function.buildCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_builtOnceWhenRequestedConcurrently() throws Exception {
+    CountingFunction function = new CountingFunction();
+    MarketDataFactory factory = MarketDataFactory.of(
+        new CountingObservableDataProvider(), TimeSeriesProvider.empty(), function);
+    LazyScenarioMarketData test = factory.createLazyMultiScenario(
+        REQUIREMENTS, MARKET_DATA_CONFIG, SUPPLIED_DATA, REF_DATA, ScenarioDefinition.empty());
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<MarketDataBox<String>>> tasks = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        tasks.add(() -> test.getValue(ID1));
+      }
+      for (Future<MarketDataBox<String>> future : executor.invokeAll(tasks)) {
+        assertThat(future.get()).isEqualTo(MarketDataBox.ofSingleValue("1:1.0"));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(function.buildCount.get()).isEqualTo(1);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Function building a string from a quote with the same name, counting the number of builds.
+   */
+  private static final class CountingFunction implements MarketDataFunction<String, TestId> {
+
+    private final AtomicInteger buildCount = new AtomicInteger();
+
+    @Override
+    public MarketDataRequirements requirements(TestId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.of(quoteId(id));
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        TestId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      buildCount.incrementAndGet();
+      MarketDataBox<Double> quote = marketData.getValue(quoteId(id));
+      return quote.map(value -> name(id) + ":" + value);
+    }
+
+    @Override
+    public Class<TestId> getMarketDataIdType() {
+      return TestId.class;
+    }
+
+    private static TestObservableId quoteId(TestId id) {
+      return TestObservableId.of(name(id));
+    }
+
+    // extracts the name from the string form of the identifier
+    private static String name(TestId id) {
+      return id.toString().replaceAll(".*id='([^']*)'.*", "$1");
+    }
+  }
+
+  /**
+   * Provider of quotes equal to their numeric identifier, counting the number of requests.
+   */
+  private static final class CountingObservableDataProvider implements ObservableDataProvider {
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @Override
+    public Map<ObservableId, Result<Double>> provideObservableData(Set<? extends ObservableId> identifiers) {
+      requestCount.incrementAndGet();
+      return identifiers.stream().collect(toImmutableMap(id -> id, id -> quote(id)));
+    }
+
+    private static Result<Double> quote(ObservableId id) {
+      String value = id.getStandardId().getValue();
+      if (value.equals("missing")) {
+        return Result.failure(FailureReason.MISSING_DATA, "No quote for {}", id);
+      }
+      return Result.success(Double.parseDouble(value));
+    }
+  }
+
+  /**
+   * A perturbation which perturbs a string by appending another string to it.
+   */
+  private static final class StringAppender implements ScenarioPerturbation<String> {
+
+    private final String[] str;
+
+    private StringAppender(String... str) {
+      this.str = str;
+    }
+
+    @Override
+    public MarketDataBox<String> applyTo(MarketDataBox<String> marketData, ReferenceData refData) {
+      return marketData.mapWithIndex(getScenarioCount(), (value, scenarioIndex) -> value + str[scenarioIndex]);
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return str.length;
+    }
+
+    @Override
+    public Class<String> getMarketDataType() {
+      return String.class;
+    }
+  }
+
+}
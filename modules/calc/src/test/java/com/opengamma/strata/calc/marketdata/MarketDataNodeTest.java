@@ -11,10 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -100,6 +102,36 @@ public class MarketDataNodeTest {
     assertThat(expectedReqs3).isEqualTo(reqs3);
   }
 
+  /**
+   * Tests the graph of dependencies between the non-observable market data in the tree.
+   */
+  @Test
+  public void nonObservableDependencies() {
+    MarketDataNode root =
+        rootNode(
+            observableNode(new TestIdA("1")),
+            valueNode(
+                new TestIdB("2"),
+                valueNode(new TestIdB("3")),
+                observableNode(new TestIdA("4")),
+                valueNode(
+                    new TestIdB("5"),
+                    timeSeriesNode(new TestIdA("6")))),
+            valueNode(
+                new TestIdB("7"),
+                valueNode(
+                    new TestIdB("5"),
+                    valueNode(new TestIdB("3")))));
+
+    Map<MarketDataId<?>, Set<MarketDataId<?>>> expected = ImmutableMap.of(
+        new TestIdB("2"), ImmutableSet.of(new TestIdB("3"), new TestIdB("5")),
+        new TestIdB("3"), ImmutableSet.of(),
+        new TestIdB("5"), ImmutableSet.of(new TestIdB("3")),
+        new TestIdB("7"), ImmutableSet.of(new TestIdB("5")));
+
+    assertThat(root.nonObservableDependencies()).isEqualTo(expected);
+  }
+
   /**
    * Tests building a tree of requirements using market data functions.
    */
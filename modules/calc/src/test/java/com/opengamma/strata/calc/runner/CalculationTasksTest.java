@@ -17,7 +17,9 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.ResolvableCalculationTarget;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.TestingMeasures;
@@ -75,6 +77,37 @@ public class CalculationTasksTest {
     assertThat(CalculationTasks.meta()).isNotNull();
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_resolveTargets() {
+    List<CalculationTarget> targets = ImmutableList.of(
+        new ResolvableTarget(TARGET1), TARGET2, new ResolvableTarget(null), new ResolvableTarget(TARGET2));
+
+    List<CalculationTarget> test = CalculationTasks.resolveTargets(targets, REF_DATA);
+    assertThat(test).hasSize(4);
+    assertThat(test.get(0)).isSameAs(TARGET1);
+    assertThat(test.get(1)).isSameAs(TARGET2);
+    assertThat(test.get(2)).isInstanceOf(UnresolvableTarget.class);
+    assertThat(((UnresolvableTarget) test.get(2)).getTarget()).isSameAs(targets.get(2));
+    assertThat(((UnresolvableTarget) test.get(2)).getMessage()).isEqualTo("Unable to resolve");
+    assertThat(test.get(3)).isSameAs(TARGET2);
+  }
+
+  @Test
+  public void test_of_resolvable() {
+    CalculationFunctions functions = CalculationFunctions.of(ImmutableMap.of(TestTarget.class, new TestFunction()));
+    List<ResolvableTarget> targets = ImmutableList.of(new ResolvableTarget(TARGET1), new ResolvableTarget(null));
+    List<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationRules calculationRules = CalculationRules.of(functions, USD);
+
+    CalculationTasks test = CalculationTasks.of(calculationRules, targets, columns, REF_DATA);
+    assertThat(test.getTasks()).hasSize(2);
+    assertThat(test.getTasks().get(0).getTarget()).isSameAs(TARGET1);
+    assertThat(test.getTasks().get(0).getFunction()).isInstanceOf(TestFunction.class);
+    assertThat(test.getTasks().get(1).getTarget()).isInstanceOf(UnresolvableTarget.class);
+    assertThat(test.getTasks().get(1).getFunction()).isSameAs(UnresolvableTargetCalculationFunction.INSTANCE);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_requirements() {
@@ -115,4 +148,23 @@ public class CalculationTasksTest {
     assertThat(task.toString()).isEqualTo("CalculationTasks[grid=2x3]");
   }
 
+  //-------------------------------------------------------------------------
+  // a target that resolves to the specified target, failing if null
+  private static final class ResolvableTarget implements ResolvableCalculationTarget {
+
+    private final CalculationTarget resolved;
+
+    private ResolvableTarget(CalculationTarget resolved) {
+      this.resolved = resolved;
+    }
+
+    @Override
+    public CalculationTarget resolveTarget(ReferenceData refData) {
+      if (resolved == null) {
+        throw new IllegalArgumentException("Unable to resolve");
+      }
+      return resolved;
+    }
+  }
+
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.array;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A mutable buffer of {@code double} values that can be frozen into a {@link DoubleArray}.
+ * <p>
+ * The operations on {@code DoubleArray} each return a new array, which creates garbage
+ * in numerical loops that repeatedly update the same values. This buffer is instead updated
+ * in place, with fused operations such as {@link #plusScaled(DoubleArray, double)}.
+ * When the values are complete, {@link #freeze()} returns a {@code DoubleArray} wrapping
+ * the values of the buffer without copying them, after which the buffer can no longer be changed.
+ * <p>
+ * A buffer may also be a view of a row of a {@link DoubleMatrixBuffer}, in which case changes
+ * to the buffer are changes to the matrix. A view cannot be frozen independently of the matrix.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class DoubleArrayBuffer {
+
+  /**
+   * The values.
+   */
+  private final double[] array;
+  /**
+   * The matrix that this buffer is a view of, null if not a view.
+   */
+  private final DoubleMatrixBuffer owner;
+  /**
+   * Whether the buffer has been frozen.
+   */
+  private boolean frozen;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a buffer of the specified size, with all values zero.
+   *
+   * @param size  the number of values
+   * @return the buffer
+   */
+  public static DoubleArrayBuffer of(int size) {
+    ArgChecker.notNegative(size, "size");
+    return new DoubleArrayBuffer(new double[size], null);
+  }
+
+  /**
+   * Obtains a buffer containing a copy of the values of an array.
+   *
+   * @param array  the array to copy
+   * @return the buffer
+   */
+  public static DoubleArrayBuffer copyOf(DoubleArray array) {
+    return new DoubleArrayBuffer(array.toArray(), null);
+  }
+
+  // restricted constructor
+  DoubleArrayBuffer(double[] array, DoubleMatrixBuffer owner) {
+    this.array = array;
+    this.owner = owner;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of values in the buffer.
+   *
+   * @return the size of the buffer
+   */
+  public int size() {
+    return array.length;
+  }
+
+  /**
+   * Gets the value at the specified index.
+   *
+   * @param index  the zero-based index to retrieve
+   * @return the value at the index
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public double get(int index) {
+    return array[index];
+  }
+
+  /**
+   * Checks if the buffer has been frozen.
+   * <p>
+   * A view of a matrix is frozen when the matrix is frozen.
+   *
+   * @return true if the buffer can no longer be changed
+   */
+  public boolean isFrozen() {
+    return frozen || (owner != null && owner.isFrozen());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Sets the value at the specified index.
+   *
+   * @param index  the zero-based index to set
+   * @param value  the value to set
+   * @return this, for chaining
+   * @throws IndexOutOfBoundsException if the index is invalid
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer set(int index, double value) {
+    checkNotFrozen();
+    array[index] = value;
+    return this;
+  }
+
+  /**
+   * Sets all the values to the specified value.
+   *
+   * @param value  the value to set
+   * @return this, for chaining
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer fill(double value) {
+    checkNotFrozen();
+    Arrays.fill(array, value);
+    return this;
+  }
+
+  /**
+   * Adds a value to each value in the buffer.
+   *
+   * @param amount  the amount to add
+   * @return this, for chaining
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer plus(double amount) {
+    checkNotFrozen();
+    for (int i = 0; i < array.length; i++) {
+      array[i] += amount;
+    }
+    return this;
+  }
+
+  /**
+   * Adds the matching values of an array to the values in the buffer.
+   *
+   * @param other  the array to add, of the same size as the buffer
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer plus(DoubleArray other) {
+    double[] otherArray = checkSize(other);
+    for (int i = 0; i < array.length; i++) {
+      array[i] += otherArray[i];
+    }
+    return this;
+  }
+
+  /**
+   * Subtracts the matching values of an array from the values in the buffer.
+   *
+   * @param other  the array to subtract, of the same size as the buffer
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer minus(DoubleArray other) {
+    double[] otherArray = checkSize(other);
+    for (int i = 0; i < array.length; i++) {
+      array[i] -= otherArray[i];
+    }
+    return this;
+  }
+
+  /**
+   * Adds the matching values of an array, multiplied by a factor, to the values in the buffer.
+   * <p>
+   * Element {@code n} of the buffer becomes {@code buffer[n] + factor * other[n]}.
+   * This avoids creating the intermediate scaled array.
+   *
+   * @param other  the array to add, of the same size as the buffer
+   * @param factor  the factor to multiply the array by
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer plusScaled(DoubleArray other, double factor) {
+    double[] otherArray = checkSize(other);
+    for (int i = 0; i < array.length; i++) {
+      array[i] += factor * otherArray[i];
+    }
+    return this;
+  }
+
+  /**
+   * Multiplies each value in the buffer by a factor.
+   *
+   * @param factor  the multiplicative factor
+   * @return this, for chaining
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer multipliedBy(double factor) {
+    checkNotFrozen();
+    for (int i = 0; i < array.length; i++) {
+      array[i] *= factor;
+    }
+    return this;
+  }
+
+  /**
+   * Multiplies each value in the buffer by the matching value of an array.
+   *
+   * @param other  the array to multiply by, of the same size as the buffer
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer multipliedBy(DoubleArray other) {
+    double[] otherArray = checkSize(other);
+    for (int i = 0; i < array.length; i++) {
+      array[i] *= otherArray[i];
+    }
+    return this;
+  }
+
+  /**
+   * Applies an operator to each value in the buffer.
+   *
+   * @param operator  the operator to be applied
+   * @return this, for chaining
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleArrayBuffer map(DoubleUnaryOperator operator) {
+    checkNotFrozen();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = operator.applyAsDouble(array[i]);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of the current values of the buffer.
+   * <p>
+   * The buffer is unaffected and can continue to be changed.
+   *
+   * @return a copy of the values
+   */
+  public DoubleArray toDoubleArray() {
+    return DoubleArray.copyOf(array);
+  }
+
+  /**
+   * Freezes the buffer, returning an array wrapping its values without copying.
+   * <p>
+   * The buffer can no longer be changed once frozen.
+   *
+   * @return the array of values
+   * @throws IllegalStateException if the buffer has been frozen or is a view of a matrix
+   */
+  public DoubleArray freeze() {
+    if (owner != null) {
+      throw new IllegalStateException("A view of a matrix cannot be frozen");
+    }
+    checkNotFrozen();
+    frozen = true;
+    return DoubleArray.ofUnsafe(array);
+  }
+
+  //-------------------------------------------------------------------------
+  // checks that the buffer can be changed
+  private void checkNotFrozen() {
+    if (isFrozen()) {
+      throw new IllegalStateException("Buffer has been frozen");
+    }
+  }
+
+  // checks that the buffer can be changed and that the array is the same size, returning its values
+  private double[] checkSize(DoubleArray other) {
+    checkNotFrozen();
+    if (array.length != other.size()) {
+      throw new IllegalArgumentException("Arrays have different sizes");
+    }
+    return other.toArrayUnsafe();
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(array);
+  }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.array;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A mutable buffer of {@code double} values in two dimensions that can be frozen into a {@link DoubleMatrix}.
+ * <p>
+ * The operations on {@code DoubleMatrix} each return a new matrix, which creates garbage
+ * in numerical loops that repeatedly update the same values. This buffer is instead updated
+ * in place, with fused operations such as {@link #plusOuterProduct(DoubleArray, DoubleArray, double)}.
+ * When the values are complete, {@link #freeze()} returns a {@code DoubleMatrix} wrapping
+ * the values of the buffer without copying them, after which the buffer can no longer be changed.
+ * <p>
+ * Each row can be accessed as a {@link DoubleArrayBuffer} without copying using {@link #row(int)}.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class DoubleMatrixBuffer {
+
+  /**
+   * The values, indexed by row then column.
+   */
+  private final double[][] array;
+  /**
+   * The number of columns.
+   */
+  private final int columns;
+  /**
+   * Whether the buffer has been frozen.
+   */
+  private boolean frozen;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a buffer of the specified size, with all values zero.
+   *
+   * @param rows  the number of rows
+   * @param columns  the number of columns
+   * @return the buffer
+   */
+  public static DoubleMatrixBuffer of(int rows, int columns) {
+    ArgChecker.notNegative(rows, "rows");
+    ArgChecker.notNegative(columns, "columns");
+    return new DoubleMatrixBuffer(new double[rows][columns], columns);
+  }
+
+  /**
+   * Obtains a buffer containing a copy of the values of a matrix.
+   *
+   * @param matrix  the matrix to copy
+   * @return the buffer
+   */
+  public static DoubleMatrixBuffer copyOf(DoubleMatrix matrix) {
+    return new DoubleMatrixBuffer(matrix.toArray(), matrix.columnCount());
+  }
+
+  // restricted constructor
+  private DoubleMatrixBuffer(double[][] array, int columns) {
+    this.array = array;
+    this.columns = columns;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int rowCount() {
+    return array.length;
+  }
+
+  /**
+   * Gets the number of columns.
+   *
+   * @return the number of columns
+   */
+  public int columnCount() {
+    return columns;
+  }
+
+  /**
+   * Gets the value at the specified row and column.
+   *
+   * @param row  the zero-based row index to retrieve
+   * @param column  the zero-based column index to retrieve
+   * @return the value at the row and column
+   * @throws IndexOutOfBoundsException if either index is invalid
+   */
+  public double get(int row, int column) {
+    return array[row][column];
+  }
+
+  /**
+   * Gets a row of the buffer as a view.
+   * <p>
+   * The view shares the values of the row, thus changes to the view change this buffer
+   * and changes to this buffer are seen by the view.
+   *
+   * @param row  the zero-based row index
+   * @return the row
+   * @throws IndexOutOfBoundsException if the index is invalid
+   */
+  public DoubleArrayBuffer row(int row) {
+    return new DoubleArrayBuffer(array[row], this);
+  }
+
+  /**
+   * Checks if the buffer has been frozen.
+   *
+   * @return true if the buffer can no longer be changed
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Sets the value at the specified row and column.
+   *
+   * @param row  the zero-based row index to set
+   * @param column  the zero-based column index to set
+   * @param value  the value to set
+   * @return this, for chaining
+   * @throws IndexOutOfBoundsException if either index is invalid
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleMatrixBuffer set(int row, int column, double value) {
+    checkNotFrozen();
+    array[row][column] = value;
+    return this;
+  }
+
+  /**
+   * Adds the matching values of a matrix to the values in the buffer.
+   *
+   * @param other  the matrix to add, of the same size as the buffer
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleMatrixBuffer plus(DoubleMatrix other) {
+    checkNotFrozen();
+    if (array.length != other.rowCount() || columns != other.columnCount()) {
+      throw new IllegalArgumentException("Arrays have different sizes");
+    }
+    double[][] otherArray = other.toArrayUnsafe();
+    for (int i = 0; i < array.length; i++) {
+      double[] row = array[i];
+      double[] otherRow = otherArray[i];
+      for (int j = 0; j < columns; j++) {
+        row[j] += otherRow[j];
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds the outer product of two arrays, multiplied by a factor, to the values in the buffer.
+   * <p>
+   * Element {@code (i,j)} of the buffer becomes {@code buffer[i][j] + (factor * a[i]) * b[j]}.
+   * This is the rank-one update used by quasi-Newton methods, and avoids creating
+   * the intermediate outer product matrix.
+   *
+   * @param a  the array whose size matches the number of rows
+   * @param b  the array whose size matches the number of columns
+   * @param factor  the factor to multiply the outer product by
+   * @return this, for chaining
+   * @throws IllegalArgumentException if the sizes differ
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleMatrixBuffer plusOuterProduct(DoubleArray a, DoubleArray b, double factor) {
+    checkNotFrozen();
+    if (array.length != a.size() || columns != b.size()) {
+      throw new IllegalArgumentException("Arrays have different sizes");
+    }
+    double[] bArray = b.toArrayUnsafe();
+    for (int i = 0; i < array.length; i++) {
+      double[] row = array[i];
+      double scaled = factor * a.get(i);
+      for (int j = 0; j < columns; j++) {
+        row[j] += scaled * bArray[j];
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Multiplies each value in the buffer by a factor.
+   *
+   * @param factor  the multiplicative factor
+   * @return this, for chaining
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleMatrixBuffer multipliedBy(double factor) {
+    checkNotFrozen();
+    for (double[] row : array) {
+      for (int j = 0; j < columns; j++) {
+        row[j] *= factor;
+      }
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of the current values of the buffer.
+   * <p>
+   * The buffer is unaffected and can continue to be changed.
+   *
+   * @return a copy of the values
+   */
+  public DoubleMatrix toDoubleMatrix() {
+    return DoubleMatrix.copyOf(array);
+  }
+
+  /**
+   * Freezes the buffer, returning a matrix wrapping its values without copying.
+   * <p>
+   * The buffer, and any views of its rows, can no longer be changed once frozen.
+   *
+   * @return the matrix of values
+   * @throws IllegalStateException if the buffer has been frozen
+   */
+  public DoubleMatrix freeze() {
+    checkNotFrozen();
+    frozen = true;
+    return DoubleMatrix.ofUnsafe(array);
+  }
+
+  //-------------------------------------------------------------------------
+  // checks that the buffer can be changed
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException("Buffer has been frozen");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.deepToString(array);
+  }
+
+}
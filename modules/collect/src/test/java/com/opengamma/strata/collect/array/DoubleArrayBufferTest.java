@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link DoubleArrayBuffer}.
+ */
+public class DoubleArrayBufferTest {
+
+  @Test
+  public void test_of() {
+    DoubleArrayBuffer test = DoubleArrayBuffer.of(3);
+    assertThat(test.size()).isEqualTo(3);
+    assertThat(test.isFrozen()).isFalse();
+    assertThat(test.freeze()).isEqualTo(DoubleArray.filled(3));
+    assertThat(DoubleArrayBuffer.of(0).freeze()).isEqualTo(DoubleArray.EMPTY);
+    assertThatIllegalArgumentException().isThrownBy(() -> DoubleArrayBuffer.of(-1));
+  }
+
+  @Test
+  public void test_copyOf() {
+    DoubleArray base = DoubleArray.of(1d, 2d, 3d);
+    DoubleArrayBuffer test = DoubleArrayBuffer.copyOf(base);
+    test.set(0, 5d);
+    assertThat(test.get(0)).isEqualTo(5d);
+    assertThat(test.get(1)).isEqualTo(2d);
+    assertThat(base).isEqualTo(DoubleArray.of(1d, 2d, 3d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_operations() {
+    DoubleArrayBuffer test = DoubleArrayBuffer.copyOf(DoubleArray.of(1d, 2d, 3d))
+        .plus(1d)
+        .plus(DoubleArray.of(1d, 1d, 1d))
+        .minus(DoubleArray.of(0d, 1d, 2d))
+        .multipliedBy(2d)
+        .multipliedBy(DoubleArray.of(1d, 2d, 3d))
+        .plusScaled(DoubleArray.of(1d, 2d, 3d), 0.5d)
+        .map(v -> v + 1d);
+    assertThat(test.toDoubleArray()).isEqualTo(DoubleArray.of(7.5d, 14d, 20.5d));
+    assertThat(test.fill(2d).toDoubleArray()).isEqualTo(DoubleArray.of(2d, 2d, 2d));
+  }
+
+  @Test
+  public void test_plusScaled_sameAsImmutable() {
+    DoubleArray base = DoubleArray.of(0.1d, 0.2d, 0.3d);
+    DoubleArray other = DoubleArray.of(1.7d, -2.3d, 3.1d);
+    DoubleArray test = DoubleArrayBuffer.copyOf(base).plusScaled(other, 1.1d).freeze();
+    assertThat(test).isEqualTo(base.plus(other.multipliedBy(1.1d)));
+  }
+
+  @Test
+  public void test_sizeMismatch() {
+    DoubleArrayBuffer test = DoubleArrayBuffer.of(3);
+    DoubleArray other = DoubleArray.of(1d, 2d);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.plus(other));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.minus(other));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.multipliedBy(other));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.plusScaled(other, 2d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_freeze() {
+    DoubleArrayBuffer test = DoubleArrayBuffer.copyOf(DoubleArray.of(1d, 2d, 3d)).plus(1d);
+    DoubleArray frozen = test.freeze();
+    assertThat(frozen).isEqualTo(DoubleArray.of(2d, 3d, 4d));
+    assertThat(test.isFrozen()).isTrue();
+    assertThat(test.get(0)).isEqualTo(2d);
+    assertThatIllegalStateException().isThrownBy(() -> test.set(0, 1d));
+    assertThatIllegalStateException().isThrownBy(() -> test.plus(1d));
+    assertThatIllegalStateException().isThrownBy(() -> test.plus(frozen));
+    assertThatIllegalStateException().isThrownBy(() -> test.multipliedBy(2d));
+    assertThatIllegalStateException().isThrownBy(() -> test.map(v -> v));
+    assertThatIllegalStateException().isThrownBy(() -> test.fill(0d));
+    assertThatIllegalStateException().isThrownBy(() -> test.freeze());
+    assertThat(frozen).isEqualTo(DoubleArray.of(2d, 3d, 4d));
+  }
+
+  @Test
+  public void test_toDoubleArray() {
+    DoubleArrayBuffer test = DoubleArrayBuffer.copyOf(DoubleArray.of(1d, 2d));
+    DoubleArray copy = test.toDoubleArray();
+    test.set(0, 3d);
+    assertThat(copy).isEqualTo(DoubleArray.of(1d, 2d));
+    assertThat(test.toString()).isEqualTo("[3.0, 2.0]");
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.array;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link DoubleMatrixBuffer}.
+ */
+public class DoubleMatrixBufferTest {
+
+  private static final DoubleMatrix BASE = DoubleMatrix.of(2, 3, 1d, 2d, 3d, 4d, 5d, 6d);
+
+  @Test
+  public void test_of() {
+    DoubleMatrixBuffer test = DoubleMatrixBuffer.of(2, 3);
+    assertThat(test.rowCount()).isEqualTo(2);
+    assertThat(test.columnCount()).isEqualTo(3);
+    assertThat(test.freeze()).isEqualTo(DoubleMatrix.filled(2, 3));
+    assertThat(DoubleMatrixBuffer.of(0, 0).freeze()).isEqualTo(DoubleMatrix.EMPTY);
+    assertThatIllegalArgumentException().isThrownBy(() -> DoubleMatrixBuffer.of(-1, 2));
+  }
+
+  @Test
+  public void test_copyOf() {
+    DoubleMatrixBuffer test = DoubleMatrixBuffer.copyOf(BASE);
+    test.set(0, 1, 7d);
+    assertThat(test.get(0, 1)).isEqualTo(7d);
+    assertThat(test.get(1, 2)).isEqualTo(6d);
+    assertThat(BASE.get(0, 1)).isEqualTo(2d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_operations() {
+    DoubleMatrix test = DoubleMatrixBuffer.copyOf(BASE)
+        .plus(BASE)
+        .multipliedBy(0.5d)
+        .plusOuterProduct(DoubleArray.of(1d, 2d), DoubleArray.of(1d, 0d, -1d), 2d)
+        .freeze();
+    assertThat(test).isEqualTo(DoubleMatrix.of(2, 3, 3d, 2d, 1d, 8d, 5d, 2d));
+  }
+
+  @Test
+  public void test_plusOuterProduct_sameAsImmutable() {
+    DoubleArray a = DoubleArray.of(0.3d, -1.7d);
+    DoubleArray b = DoubleArray.of(1.1d, 2.3d, -0.7d);
+    DoubleMatrix outer = DoubleMatrix.of(2, 3, (i, j) -> a.get(i) * 0.9d * b.get(j));
+    DoubleMatrix test = DoubleMatrixBuffer.copyOf(BASE).plusOuterProduct(a, b, 0.9d).freeze();
+    assertThat(test).isEqualTo(BASE.plus(outer));
+  }
+
+  @Test
+  public void test_sizeMismatch() {
+    DoubleMatrixBuffer test = DoubleMatrixBuffer.copyOf(BASE);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.plus(DoubleMatrix.filled(3, 2)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.plusOuterProduct(DoubleArray.of(1d, 2d, 3d), DoubleArray.of(1d, 2d), 1d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_row() {
+    DoubleMatrixBuffer test = DoubleMatrixBuffer.copyOf(BASE);
+    DoubleArrayBuffer row = test.row(1);
+    row.plus(1d);
+    assertThat(test.get(1, 0)).isEqualTo(5d);
+    test.set(1, 2, 9d);
+    assertThat(row.get(2)).isEqualTo(9d);
+    assertThatIllegalStateException().isThrownBy(() -> row.freeze());
+    DoubleMatrix frozen = test.freeze();
+    assertThat(frozen.row(1)).isEqualTo(DoubleArray.of(5d, 6d, 9d));
+    assertThat(row.isFrozen()).isTrue();
+    assertThatIllegalStateException().isThrownBy(() -> row.set(0, 1d));
+  }
+
+  @Test
+  public void test_freeze() {
+    DoubleMatrixBuffer test = DoubleMatrixBuffer.copyOf(BASE);
+    DoubleMatrix frozen = test.freeze();
+    assertThat(frozen).isEqualTo(BASE);
+    assertThat(test.isFrozen()).isTrue();
+    assertThatIllegalStateException().isThrownBy(() -> test.set(0, 0, 1d));
+    assertThatIllegalStateException().isThrownBy(() -> test.plus(BASE));
+    assertThatIllegalStateException().isThrownBy(() -> test.multipliedBy(2d));
+    assertThatIllegalStateException().isThrownBy(() -> test.freeze());
+    assertThat(test.toDoubleMatrix()).isEqualTo(BASE);
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A scenario FX rate provider that caches the rates obtained from its underlying provider.
+ * <p>
+ * The rates of a currency pair in all scenarios are cached together, allowing arrays
+ * of amounts to be converted in a single pass. The FX rate provider of each scenario
+ * is also cached, and caches its own rates.
+ * <p>
+ * Failures are not cached, thus a rate that cannot be found is requested again on the next call.
+ */
+class CachedScenarioFxRateProvider
+    implements ScenarioFxRateProvider {
+
+  /**
+   * The underlying provider.
+   */
+  private final ScenarioFxRateProvider underlying;
+  /**
+   * The cached rates in all scenarios, keyed by currency pair.
+   */
+  private final ConcurrentHashMap<CurrencyPair, DoubleArray> rates = new ConcurrentHashMap<>();
+  /**
+   * The cached providers of each scenario, populated on demand.
+   */
+  private final AtomicReferenceArray<FxRateProvider> providers;
+
+  /**
+   * Package-scoped constructor.
+   *
+   * @param underlying  the underlying provider
+   */
+  CachedScenarioFxRateProvider(ScenarioFxRateProvider underlying) {
+    this.underlying = ArgChecker.notNull(underlying, "underlying");
+    this.providers = new AtomicReferenceArray<>(underlying.getScenarioCount());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return providers.length();
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return 1;
+    }
+    DoubleArray cached = rates.get(CurrencyPair.of(baseCurrency, counterCurrency));
+    if (cached != null) {
+      return cached.get(scenarioIndex);
+    }
+    return fxRateProvider(scenarioIndex).fxRate(baseCurrency, counterCurrency);
+  }
+
+  @Override
+  public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    CurrencyPair pair = CurrencyPair.of(baseCurrency, counterCurrency);
+    DoubleArray cached = rates.get(pair);
+    if (cached == null) {
+      cached = underlying.fxRates(baseCurrency, counterCurrency);
+      rates.putIfAbsent(pair, cached);
+    }
+    return cached;
+  }
+
+  @Override
+  public FxRateProvider fxRateProvider(int scenarioIndex) {
+    FxRateProvider provider = providers.get(scenarioIndex);
+    if (provider == null) {
+      provider = FxRateProvider.cached(underlying.fxRateProvider(scenarioIndex));
+      if (!providers.compareAndSet(scenarioIndex, null, provider)) {
+        provider = providers.get(scenarioIndex);
+      }
+    }
+    return provider;
+  }
+
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.data.scenario;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.ObservableSource;
 
 /**
@@ -42,6 +43,25 @@ public interface ScenarioFxRateProvider {
     return new DefaultScenarioFxRateProvider(marketData, source);
   }
 
+  /**
+   * Returns a scenario FX rate provider that caches the rates of its underlying provider.
+   * <p>
+   * This is typically useful where the same rates are requested many times, for example
+   * when converting the results of many calculations to a reporting currency.
+   * The rates for each currency pair are obtained from the underlying provider once, for all scenarios,
+   * after which they are cached. The underlying provider must therefore not change the rates it provides.
+   *
+   * @param underlying  the underlying provider
+   * @return a scenario FX rate provider that caches the rates of the underlying provider
+   */
+  public static ScenarioFxRateProvider cached(ScenarioFxRateProvider underlying) {
+    if (underlying instanceof CachedScenarioFxRateProvider) {
+      return underlying;
+    }
+    return new CachedScenarioFxRateProvider(underlying);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * Gets the number of scenarios.
    * 
@@ -86,6 +106,27 @@ public interface ScenarioFxRateProvider {
     return fxRateProvider(scenarioIndex).fxRate(baseCurrency, counterCurrency);
   }
 
+  /**
+   * Gets the FX rates for the specified currency pair in all scenarios.
+   * <p>
+   * The rates returned are the rates from the base currency to the counter currency
+   * as defined by this formula: {@code (1 * baseCurrency = fxRate * counterCurrency)}.
+   * The array has one element for each scenario, and contains 1 if the two input currencies are the same.
+   * <p>
+   * This allows an array of amounts to be converted in a single pass.
+   *
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates for the currency pair, one for each scenario
+   * @throws RuntimeException if no FX rate could be found
+   */
+  public default DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    return DoubleArray.of(getScenarioCount(), i -> fxRate(baseCurrency, counterCurrency, i));
+  }
+
   /**
    * Gets the FX rate provider for the specified scenario index.
    * 
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link CachedScenarioFxRateProvider}.
+ */
+public class CachedScenarioFxRateProviderTest {
+
+  private static final FxRateScenarioArray RATES = FxRateScenarioArray.of(GBP, USD, DoubleArray.of(1.61, 1.62, 1.63));
+
+  @Test
+  public void fxRates() {
+    CountingScenarioFxRateProvider underlying =
+        new CountingScenarioFxRateProvider(new TestScenarioFxRateProvider(RATES));
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.cached(underlying);
+
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.61, 1.62, 1.63));
+    assertThat(test.fxRates(GBP, GBP)).isEqualTo(DoubleArray.of(1, 1, 1));
+    assertThat(underlying.count.get()).isEqualTo(3);
+
+    // cached rates are used for subsequent requests
+    assertThat(test.fxRates(GBP, USD)).isEqualTo(DoubleArray.of(1.61, 1.62, 1.63));
+    assertThat(test.fxRate(GBP, USD, 1)).isEqualTo(1.62);
+    assertThat(test.convert(10, GBP, USD, 2)).isEqualTo(10 * 1.63);
+    assertThat(underlying.count.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void fxRateProvider() {
+    CountingScenarioFxRateProvider underlying =
+        new CountingScenarioFxRateProvider(new TestScenarioFxRateProvider(RATES));
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.cached(underlying);
+
+    FxRateProvider provider = test.fxRateProvider(1);
+    assertThat(provider.fxRate(GBP, USD)).isEqualTo(1.62);
+    assertThat(test.fxRateProvider(1)).isSameAs(provider);
+    assertThat(test.fxRate(USD, GBP, 1)).isEqualTo(1 / 1.62);
+    assertThat(underlying.count.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void missingRate() {
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.cached(new TestScenarioFxRateProvider(RATES));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.fxRates(EUR, USD));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.fxRate(EUR, USD, 0));
+  }
+
+  @Test
+  public void convertedTo() {
+    ScenarioFxRateProvider underlying = new TestScenarioFxRateProvider(RATES);
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.cached(underlying);
+    CurrencyScenarioArray amounts = CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2, 3));
+    assertThat(amounts.convertedTo(USD, test)).isEqualTo(amounts.convertedTo(USD, underlying));
+    assertThat(ScenarioFxRateProvider.cached(test)).isSameAs(test);
+  }
+
+  //-------------------------------------------------------------------------
+  // counts the number of scenario providers requested
+  private static final class CountingScenarioFxRateProvider implements ScenarioFxRateProvider {
+
+    private final ScenarioFxRateProvider underlying;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private CountingScenarioFxRateProvider(ScenarioFxRateProvider underlying) {
+      this.underlying = underlying;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return underlying.getScenarioCount();
+    }
+
+    @Override
+    public FxRateProvider fxRateProvider(int scenarioIndex) {
+      count.incrementAndGet();
+      return underlying.fxRateProvider(scenarioIndex);
+    }
+  }
+
+}
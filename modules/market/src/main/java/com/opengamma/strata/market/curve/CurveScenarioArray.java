@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableConstructor;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.ShiftType;
+
+/**
+ * Container for a curve in multiple scenarios, storing the base curve once.
+ * <p>
+ * This class is a more efficient alternative to storing a perturbed copy of the curve for each scenario
+ * using {@code MarketDataBox.ofScenarioValues}.
+ * <p>
+ * The base curve is stored once, together with a matrix of shifts to its parameters.
+ * There is one row in the matrix for each scenario and one column for each parameter of the curve.
+ * The curve of a scenario is only created when it is first requested, for example when a rates provider
+ * is created for the scenario, and shares the structure of the base curve other than the parameters.
+ * The curve is then retained, so later lookups of the same scenario do not create it again.
+ * <p>
+ * For maximum performance functions can access the parameters of a scenario without creating
+ * the curve via {@link #getParameters(int)}.
+ */
+@BeanDefinition(builderScope = "private")
+public final class CurveScenarioArray
+    implements ScenarioArray<Curve>, ImmutableBean, Serializable {
+
+  /**
+   * The base curve, which is perturbed in each scenario.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Curve baseCurve;
+  /**
+   * The type of shift applied to the parameters of the base curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ShiftType shiftType;
+  /**
+   * The shifts applied to the parameters of the base curve.
+   * <p>
+   * There is one row in the matrix for each scenario and one column for each parameter of the curve.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final DoubleMatrix shifts;
+  /**
+   * The curve of each scenario, created on first use.
+   */
+  private final transient AtomicReferenceArray<Curve> curves;  // derived
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a base curve and the amounts added to its parameters in each scenario.
+   *
+   * @param baseCurve  the base curve
+   * @param parameterDeltas  the amounts added to the parameters, one row per scenario and one column per parameter
+   * @return the scenario array
+   */
+  public static CurveScenarioArray of(Curve baseCurve, DoubleMatrix parameterDeltas) {
+    return new CurveScenarioArray(baseCurve, ShiftType.ABSOLUTE, parameterDeltas);
+  }
+
+  /**
+   * Obtains an instance from a base curve and the shifts applied to its parameters in each scenario.
+   *
+   * @param baseCurve  the base curve
+   * @param shiftType  the type of shift applied to the parameters
+   * @param shifts  the shifts applied to the parameters, one row per scenario and one column per parameter
+   * @return the scenario array
+   */
+  public static CurveScenarioArray of(Curve baseCurve, ShiftType shiftType, DoubleMatrix shifts) {
+    return new CurveScenarioArray(baseCurve, shiftType, shifts);
+  }
+
+  @ImmutableConstructor
+  private CurveScenarioArray(Curve baseCurve, ShiftType shiftType, DoubleMatrix shifts) {
+    JodaBeanUtils.notNull(baseCurve, "baseCurve");
+    JodaBeanUtils.notNull(shiftType, "shiftType");
+    JodaBeanUtils.notNull(shifts, "shifts");
+    ArgChecker.isTrue(
+        shifts.columnCount() == baseCurve.getParameterCount(),
+        "Shifts must have one column per curve parameter, but found {} columns and {} parameters",
+        shifts.columnCount(),
+        baseCurve.getParameterCount());
+    this.baseCurve = baseCurve;
+    this.shiftType = shiftType;
+    this.shifts = shifts;
+    this.curves = new AtomicReferenceArray<>(shifts.rowCount());
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new CurveScenarioArray(baseCurve, shiftType, shifts);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return shifts.rowCount();
+  }
+
+  /**
+   * Gets the curve of the specified scenario.
+   * <p>
+   * The curve is created from the base curve the first time it is requested,
+   * and the same instance is returned thereafter.
+   *
+   * @param scenarioIndex  the scenario index
+   * @return the curve of the scenario
+   */
+  @Override
+  public Curve get(int scenarioIndex) {
+    ArgChecker.inRange(scenarioIndex, 0, getScenarioCount(), "scenarioIndex");
+    Curve current = curves.get(scenarioIndex);
+    if (current != null) {
+      return current;
+    }
+    return curves.updateAndGet(
+        scenarioIndex,
+        v -> v != null ? v : baseCurve.withPerturbation(
+            (index, value, meta) -> shiftType.applyShift(value, shifts.get(scenarioIndex, index))));
+  }
+
+  /**
+   * Gets the parameters of the curve of the specified scenario.
+   *
+   * @param scenarioIndex  the scenario index
+   * @return the parameters of the curve of the scenario
+   */
+  public DoubleArray getParameters(int scenarioIndex) {
+    ArgChecker.inRange(scenarioIndex, 0, getScenarioCount(), "scenarioIndex");
+    return DoubleArray.of(
+        baseCurve.getParameterCount(),
+        i -> shiftType.applyShift(baseCurve.getParameter(i), shifts.get(scenarioIndex, i)));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CurveScenarioArray}.
+   * @return the meta-bean, not null
+   */
+  public static CurveScenarioArray.Meta meta() {
+    return CurveScenarioArray.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(CurveScenarioArray.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public CurveScenarioArray.Meta metaBean() {
+    return CurveScenarioArray.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the base curve, which is perturbed in each scenario.
+   * @return the value of the property, not null
+   */
+  public Curve getBaseCurve() {
+    return baseCurve;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the type of shift applied to the parameters of the base curve.
+   * @return the value of the property, not null
+   */
+  public ShiftType getShiftType() {
+    return shiftType;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the shifts applied to the parameters of the base curve.
+   * <p>
+   * There is one row in the matrix for each scenario and one column for each parameter of the curve.
+   * @return the value of the property, not null
+   */
+  public DoubleMatrix getShifts() {
+    return shifts;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CurveScenarioArray other = (CurveScenarioArray) obj;
+      return JodaBeanUtils.equal(baseCurve, other.baseCurve) &&
+          JodaBeanUtils.equal(shiftType, other.shiftType) &&
+          JodaBeanUtils.equal(shifts, other.shifts);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(baseCurve);
+    hash = hash * 31 + JodaBeanUtils.hashCode(shiftType);
+    hash = hash * 31 + JodaBeanUtils.hashCode(shifts);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("CurveScenarioArray{");
+    buf.append("baseCurve").append('=').append(JodaBeanUtils.toString(baseCurve)).append(',').append(' ');
+    buf.append("shiftType").append('=').append(JodaBeanUtils.toString(shiftType)).append(',').append(' ');
+    buf.append("shifts").append('=').append(JodaBeanUtils.toString(shifts));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code CurveScenarioArray}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code baseCurve} property.
+     */
+    private final MetaProperty<Curve> baseCurve = DirectMetaProperty.ofImmutable(
+        this, "baseCurve", CurveScenarioArray.class, Curve.class);
+    /**
+     * The meta-property for the {@code shiftType} property.
+     */
+    private final MetaProperty<ShiftType> shiftType = DirectMetaProperty.ofImmutable(
+        this, "shiftType", CurveScenarioArray.class, ShiftType.class);
+    /**
+     * The meta-property for the {@code shifts} property.
+     */
+    private final MetaProperty<DoubleMatrix> shifts = DirectMetaProperty.ofImmutable(
+        this, "shifts", CurveScenarioArray.class, DoubleMatrix.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "baseCurve",
+        "shiftType",
+        "shifts");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1842240354:  // baseCurve
+          return baseCurve;
+        case 893345500:  // shiftType
+          return shiftType;
+        case -903338959:  // shifts
+          return shifts;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends CurveScenarioArray> builder() {
+      return new CurveScenarioArray.Builder();
+    }
+
+    @Override
+    public Class<? extends CurveScenarioArray> beanType() {
+      return CurveScenarioArray.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code baseCurve} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Curve> baseCurve() {
+      return baseCurve;
+    }
+
+    /**
+     * The meta-property for the {@code shiftType} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ShiftType> shiftType() {
+      return shiftType;
+    }
+
+    /**
+     * The meta-property for the {@code shifts} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<DoubleMatrix> shifts() {
+      return shifts;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case -1842240354:  // baseCurve
+          return ((CurveScenarioArray) bean).getBaseCurve();
+        case 893345500:  // shiftType
+          return ((CurveScenarioArray) bean).getShiftType();
+        case -903338959:  // shifts
+          return ((CurveScenarioArray) bean).getShifts();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code CurveScenarioArray}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<CurveScenarioArray> {
+
+    private Curve baseCurve;
+    private ShiftType shiftType;
+    private DoubleMatrix shifts;
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case -1842240354:  // baseCurve
+          return baseCurve;
+        case 893345500:  // shiftType
+          return shiftType;
+        case -903338959:  // shifts
+          return shifts;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case -1842240354:  // baseCurve
+          this.baseCurve = (Curve) newValue;
+          break;
+        case 893345500:  // shiftType
+          this.shiftType = (ShiftType) newValue;
+          break;
+        case -903338959:  // shifts
+          this.shifts = (DoubleMatrix) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public CurveScenarioArray build() {
+      return new CurveScenarioArray(
+          baseCurve,
+          shiftType,
+          shifts);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("CurveScenarioArray.Builder{");
+      buf.append("baseCurve").append('=').append(JodaBeanUtils.toString(baseCurve)).append(',').append(' ');
+      buf.append("shiftType").append('=').append(JodaBeanUtils.toString(shiftType)).append(',').append(' ');
+      buf.append("shifts").append('=').append(JodaBeanUtils.toString(shifts));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.io.CsvOutput;
+
+/**
+ * A sink for explanatory values that streams the values to CSV.
+ * <p>
+ * Each value is written as a single row as soon as it is received, thus nothing is retained
+ * other than the path to the current entry. This allows the calculation of many trades
+ * to be explained with bounded memory, where building an {@link ExplainMap} for each would be too heavy.
+ * <p>
+ * The CSV file has four columns:
+ * <ul>
+ * <li>'Entry' - the identifier of the top-level entry, as set using {@link #startEntry(String)}
+ * <li>'Path' - the path to the list entry within the top-level entry, such as 'Legs[0].PaymentPeriods[2]'
+ * <li>'Key' - the name of the key
+ * <li>'Value' - the value
+ * </ul>
+ * <p>
+ * This is a mutable sink that must be used from a single thread.
+ */
+public final class CsvExplainSink implements ExplainSink {
+
+  /**
+   * The CSV output.
+   */
+  private final CsvOutput output;
+  /**
+   * The identifier of the current top-level entry.
+   */
+  private String entry = "";
+  /**
+   * The path to each open list entry, the first element being the top-level entry.
+   */
+  private final List<String> paths = new ArrayList<>();
+  /**
+   * The number of list entries opened for each key, for each open list entry.
+   */
+  private final List<Map<ExplainKey<?>, Integer>> counts = new ArrayList<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that writes to the specified CSV output.
+   * <p>
+   * The header row is written immediately.
+   *
+   * @param output  the CSV output
+   * @return the sink
+   */
+  public static CsvExplainSink of(CsvOutput output) {
+    ArgChecker.notNull(output, "output");
+    output.writeCell("Entry").writeCell("Path").writeCell("Key").writeCell("Value").writeNewLine();
+    return new CsvExplainSink(output);
+  }
+
+  /**
+   * Restricted constructor.
+   *
+   * @param output  the CSV output
+   */
+  private CsvExplainSink(CsvOutput output) {
+    this.output = output;
+    this.paths.add("");
+    this.counts.add(new HashMap<>());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Starts a new top-level entry.
+   * <p>
+   * All subsequent rows are written with the specified identifier, typically the trade identifier.
+   * The list entry counts are reset.
+   *
+   * @param identifier  the identifier of the entry
+   * @return this sink
+   * @throws IllegalStateException if a list entry is open
+   */
+  public CsvExplainSink startEntry(String identifier) {
+    ArgChecker.notNull(identifier, "identifier");
+    if (paths.size() > 1) {
+      throw new IllegalStateException("CsvExplainSink.startEntry() called while a list entry is open");
+    }
+    entry = identifier;
+    counts.get(0).clear();
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public <R extends List<?>> CsvExplainSink openListEntry(ExplainKey<R> key) {
+    ArgChecker.notNull(key, "key");
+    int depth = paths.size();
+    int index = counts.get(depth - 1).merge(key, 1, Integer::sum) - 1;
+    String parentPath = paths.get(depth - 1);
+    String path = (parentPath.isEmpty() ? "" : parentPath + ".") + key.getName() + "[" + index + "]";
+    paths.add(path);
+    // the count maps are retained for reuse
+    if (counts.size() == depth) {
+      counts.add(new HashMap<>());
+    } else {
+      counts.get(depth).clear();
+    }
+    return this;
+  }
+
+  @Override
+  public <R extends List<?>> CsvExplainSink closeListEntry(ExplainKey<R> key) {
+    if (paths.size() <= 1) {
+      throw new IllegalStateException("CsvExplainSink.closeListEntry() called but no list entry is open");
+    }
+    paths.remove(paths.size() - 1);
+    return this;
+  }
+
+  @Override
+  public <R> CsvExplainSink put(ExplainKey<R> key, R value) {
+    ArgChecker.notNull(key, "key");
+    ArgChecker.notNull(value, "value");
+    writeRow(key, value.toString());
+    return this;
+  }
+
+  @Override
+  public CsvExplainSink put(ExplainKey<Double> key, double value) {
+    ArgChecker.notNull(key, "key");
+    writeRow(key, Double.toString(value));
+    return this;
+  }
+
+  // writes a single row
+  private void writeRow(ExplainKey<?> key, String value) {
+    output.writeCell(entry)
+        .writeCell(paths.get(paths.size() - 1))
+        .writeCell(key.getName())
+        .writeCell(value)
+        .writeNewLine();
+  }
+
+}
@@ -18,7 +18,7 @@ import com.opengamma.strata.collect.ArgChecker;
  * <p>
  * This is a mutable builder for {@link ExplainMap} that must be used from a single thread.
  */
-public final class ExplainMapBuilder {
+public final class ExplainMapBuilder implements ExplainSink {
 
   /**
    * The parent builder.
@@ -61,6 +61,7 @@ public final class ExplainMapBuilder {
    * @param key  the list key to open
    * @return the child builder
    */
+  @Override
   @SuppressWarnings("unchecked")
   public <R extends List<?>> ExplainMapBuilder openListEntry(ExplainKey<R> key) {
     // list entry is a ExplainMapBuilder, making use of erasure in generics
@@ -87,6 +88,7 @@ public final class ExplainMapBuilder {
    * @param key  the list key to close
    * @return the parent builder
    */
+  @Override
   public <R extends List<?>> ExplainMapBuilder closeListEntry(ExplainKey<R> key) {
     Object value = parent.map.get(key);
     if (value instanceof ArrayList == false) {
@@ -153,6 +155,7 @@ public final class ExplainMapBuilder {
    * @param value  the value to add
    * @return this builder
    */
+  @Override
   public <R> ExplainMapBuilder put(ExplainKey<R> key, R value) {
     ArgChecker.notNull(key, "key");
     ArgChecker.notNull(value, "value");
@@ -160,6 +163,20 @@ public final class ExplainMapBuilder {
     return this;
   }
 
+  /**
+   * Puts a single primitive value into the map.
+   * <p>
+   * If the key already exists, the value will be replaced.
+   * 
+   * @param key  the key to add
+   * @param value  the value to add
+   * @return this builder
+   */
+  @Override
+  public ExplainMapBuilder put(ExplainKey<Double> key, double value) {
+    return put(key, Double.valueOf(value));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds the map.
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+
+/**
+ * A destination for explanatory values.
+ * <p>
+ * Pricers explain a calculation by writing values into a sink.
+ * The values form a tree, where each list entry is opened, populated and then closed.
+ * <p>
+ * The standard implementation is {@link ExplainMapBuilder}, which builds an {@link ExplainMap}.
+ * Other implementations, such as {@link CsvExplainSink}, stream the values elsewhere
+ * without retaining them, allowing the calculation of many trades to be explained with bounded memory.
+ * <p>
+ * Implementations are mutable and must be used from a single thread.
+ */
+public interface ExplainSink {
+
+  /**
+   * Opens a list entry to be populated.
+   * <p>
+   * This returns the sink for the new list entry, which may be this sink.
+   * If the list does not exist, it is created and the first entry added.
+   * If the list has already been created, the entry is appended.
+   * <p>
+   * Once opened, the child sink resulting from this method must be used.
+   * The method {@link #closeListEntry(ExplainKey)} must be used to close the
+   * child and receive an instance of the parent back again.
+   *
+   * @param <R>  the type of the value
+   * @param key  the list key to open
+   * @return the child sink
+   */
+  public abstract <R extends List<?>> ExplainSink openListEntry(ExplainKey<R> key);
+
+  /**
+   * Closes the currently open list.
+   * <p>
+   * This returns the parent sink, which may be this sink.
+   *
+   * @param <R>  the type of the value
+   * @param key  the list key to close
+   * @return the parent sink
+   */
+  public abstract <R extends List<?>> ExplainSink closeListEntry(ExplainKey<R> key);
+
+  /**
+   * Writes a list entry using a consumer callback function.
+   * <p>
+   * This is an alternative to using {@link #openListEntry(ExplainKey)} and
+   * {@link #closeListEntry(ExplainKey)} directly.
+   * The consumer function receives the child sink and must add data to it.
+   *
+   * @param <R>  the type of the value
+   * @param key  the list key to open
+   * @param consumer  the consumer that receives the list entry sink and adds to it
+   * @return this sink
+   */
+  public default <R extends List<?>> ExplainSink writeListEntry(ExplainKey<R> key, Consumer<ExplainSink> consumer) {
+    ExplainSink child = openListEntry(key);
+    consumer.accept(child);
+    return child.closeListEntry(key);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Puts a single value into the sink.
+   * <p>
+   * If the key already exists in the current entry, the value may be replaced or added again.
+   *
+   * @param <R>  the type of the value
+   * @param key  the key to add
+   * @param value  the value to add
+   * @return this sink
+   */
+  public abstract <R> ExplainSink put(ExplainKey<R> key, R value);
+
+  /**
+   * Puts a single primitive value into the sink.
+   * <p>
+   * This allows implementations to avoid boxing the value.
+   *
+   * @param key  the key to add
+   * @param value  the value to add
+   * @return this sink
+   */
+  public default ExplainSink put(ExplainKey<Double> key, double value) {
+    return put(key, Double.valueOf(value));
+  }
+
+  /**
+   * Puts all the values of an explain map into the sink.
+   * <p>
+   * Each list of explain maps in the map is written as a list of entries.
+   * This allows an explanation built as a map to be written to any sink.
+   *
+   * @param map  the map to add
+   * @return this sink
+   */
+  @SuppressWarnings("unchecked")
+  public default ExplainSink putAll(ExplainMap map) {
+    for (Entry<ExplainKey<?>, Object> entry : map.getMap().entrySet()) {
+      Object value = entry.getValue();
+      if (value instanceof List && ((List<?>) value).stream().allMatch(ExplainMap.class::isInstance)) {
+        ExplainKey<List<?>> key = (ExplainKey<List<?>>) entry.getKey();
+        for (Object listEntry : (List<?>) value) {
+          openListEntry(key).putAll((ExplainMap) listEntry).closeListEntry(key);
+        }
+      } else {
+        put((ExplainKey<Object>) entry.getKey(), value);
+      }
+    }
+    return this;
+  }
+
+}
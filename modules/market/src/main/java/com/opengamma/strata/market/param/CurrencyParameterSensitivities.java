@@ -43,7 +43,7 @@ import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleArrayBuffer;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.surface.Surface;
@@ -139,11 +139,7 @@ public final class CurrencyParameterSensitivities
    * @return the sensitivities instance
    */
   public static CurrencyParameterSensitivities of(List<? extends CurrencyParameterSensitivity> sensitivities) {
-    List<CurrencyParameterSensitivity> mutable = new ArrayList<>();
-    for (CurrencyParameterSensitivity otherSens : sensitivities) {
-      insert(mutable, otherSens);
-    }
-    return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
+    return new CurrencyParameterSensitivities(merge(ImmutableList.of(), sensitivities));
   }
 
   // used when not pre-sorted
@@ -218,9 +214,7 @@ public final class CurrencyParameterSensitivities
    * @return an instance based on this one, with the other instance added
    */
   public CurrencyParameterSensitivities combinedWith(CurrencyParameterSensitivity other) {
-    List<CurrencyParameterSensitivity> mutable = new ArrayList<>(sensitivities);
-    insert(mutable, other);
-    return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
+    return new CurrencyParameterSensitivities(merge(sensitivities, ImmutableList.of(other)));
   }
 
   /**
@@ -238,26 +232,40 @@ public final class CurrencyParameterSensitivities
    * @return an instance based on this one, with the other instance added
    */
   public CurrencyParameterSensitivities combinedWith(CurrencyParameterSensitivities other) {
-    List<CurrencyParameterSensitivity> mutable = new ArrayList<>(sensitivities);
-    for (CurrencyParameterSensitivity otherSens : other.sensitivities) {
-      insert(mutable, otherSens);
-    }
-    return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
+    return new CurrencyParameterSensitivities(merge(sensitivities, other.sensitivities));
   }
 
-  // inserts a sensitivity into the mutable list in the right location
+  // inserts each sensitivity into a copy of the sorted list in the right location
   // merges the entry with an existing entry if the key matches
-  private static void insert(List<CurrencyParameterSensitivity> mutable, CurrencyParameterSensitivity addition) {
-    int index = Collections.binarySearch(
-        mutable, addition, CurrencyParameterSensitivity::compareKey);
-    if (index >= 0) {
-      CurrencyParameterSensitivity base = mutable.get(index);
-      DoubleArray combined = base.getSensitivity().plus(addition.getSensitivity());
-      mutable.set(index, base.withSensitivity(combined));
-    } else {
-      int insertionPoint = -(index + 1);
-      mutable.add(insertionPoint, addition);
+  // merged values are summed in place in a buffer, which is only frozen once all entries are inserted
+  private static ImmutableList<CurrencyParameterSensitivity> merge(
+      List<CurrencyParameterSensitivity> base,
+      List<? extends CurrencyParameterSensitivity> additions) {
+
+    List<CurrencyParameterSensitivity> mutable = new ArrayList<>(base);
+    List<DoubleArrayBuffer> buffers = new ArrayList<>(Collections.nCopies(base.size(), null));
+    for (CurrencyParameterSensitivity addition : additions) {
+      int index = Collections.binarySearch(
+          mutable, addition, CurrencyParameterSensitivity::compareKey);
+      if (index >= 0) {
+        DoubleArrayBuffer buffer = buffers.get(index);
+        if (buffer == null) {
+          buffer = DoubleArrayBuffer.copyOf(mutable.get(index).getSensitivity());
+          buffers.set(index, buffer);
+        }
+        buffer.plus(addition.getSensitivity());
+      } else {
+        int insertionPoint = -(index + 1);
+        mutable.add(insertionPoint, addition);
+        buffers.add(insertionPoint, null);
+      }
+    }
+    ImmutableList.Builder<CurrencyParameterSensitivity> builder = ImmutableList.builder();
+    for (int i = 0; i < mutable.size(); i++) {
+      DoubleArrayBuffer buffer = buffers.get(i);
+      builder.add(buffer == null ? mutable.get(i) : mutable.get(i).withSensitivity(buffer.freeze()));
     }
+    return builder.build();
   }
 
   /**
@@ -329,11 +337,10 @@ public final class CurrencyParameterSensitivities
    */
   @Override
   public CurrencyParameterSensitivities convertedTo(Currency resultCurrency, FxRateProvider rateProvider) {
-    List<CurrencyParameterSensitivity> mutable = new ArrayList<>();
-    for (CurrencyParameterSensitivity sens : sensitivities) {
-      insert(mutable, sens.convertedTo(resultCurrency, rateProvider));
-    }
-    return new CurrencyParameterSensitivities(ImmutableList.copyOf(mutable));
+    List<CurrencyParameterSensitivity> converted = sensitivities.stream()
+        .map(sens -> sens.convertedTo(resultCurrency, rateProvider))
+        .collect(toImmutableList());
+    return new CurrencyParameterSensitivities(merge(ImmutableList.of(), converted));
   }
 
   //-------------------------------------------------------------------------
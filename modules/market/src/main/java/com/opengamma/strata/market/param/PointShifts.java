@@ -35,6 +35,8 @@ import com.opengamma.strata.collect.tuple.ObjIntPair;
 import com.opengamma.strata.data.scenario.MarketDataBox;
 import com.opengamma.strata.data.scenario.ScenarioPerturbation;
 import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveScenarioArray;
 
 /**
  * A perturbation that applies different shifts to specific points in a parameterized data.
@@ -123,11 +125,30 @@ public final class PointShifts
 
     log.debug("Applying {} point shift to ParameterizedData '{}'", shiftType,
         marketData.getValue(0).toString());
+    if (marketData.isSingleValue() && marketData.getSingleValue() instanceof Curve &&
+        marketData.getSingleValue().getParameterCount() > 0 && shifts.rowCount() > 0) {
+      return applyShifts((Curve) marketData.getSingleValue());
+    }
     return marketData.mapWithIndex(
         shifts.rowCount(),
         (prams, scenarioIndex) -> applyShifts(scenarioIndex, prams));
   }
 
+  // a curve is stored once with the shifts of each scenario, rather than copied for each scenario
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private MarketDataBox<ParameterizedData> applyShifts(Curve curve) {
+    int parameterCount = curve.getParameterCount();
+    int[] columns = new int[parameterCount];
+    for (int i = 0; i < parameterCount; i++) {
+      columns[i] = nodeIndex(curve.getParameterMetadata(i));
+    }
+    DoubleMatrix curveShifts = DoubleMatrix.of(
+        shifts.rowCount(),
+        parameterCount,
+        (scenarioIndex, i) -> columns[i] < 0 ? 0 : shifts.get(scenarioIndex, columns[i]));
+    return (MarketDataBox) MarketDataBox.ofScenarioValue(CurveScenarioArray.of(curve, shiftType, curveShifts));
+  }
+
   private ParameterizedData applyShifts(int scenarioIndex, ParameterizedData prams) {
     return prams.withPerturbation((index, value, meta) -> {
       double shiftAmount = shiftForNode(scenarioIndex, meta);
@@ -141,17 +162,23 @@ public final class PointShifts
   }
 
   private double shiftForNode(int scenarioIndex, ParameterMetadata meta) {
+    int nodeIndex = nodeIndex(meta);
+    return nodeIndex < 0 ? 0 : shifts.get(scenarioIndex, nodeIndex);
+  }
+
+  // the column of the shifts matching the parameter, -1 if there is no shift for the parameter
+  private int nodeIndex(ParameterMetadata meta) {
     Integer nodeIndex = nodeIndices.get(meta.getIdentifier());
 
     if (nodeIndex != null) {
-      return shifts.get(scenarioIndex, nodeIndex);
+      return nodeIndex;
     }
     nodeIndex = nodeIndices.get(meta.getLabel());
 
     if (nodeIndex != null) {
-      return shifts.get(scenarioIndex, nodeIndex);
+      return nodeIndex;
     }
-    return 0;
+    return -1;
   }
 
   @Override
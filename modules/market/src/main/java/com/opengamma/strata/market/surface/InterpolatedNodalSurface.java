@@ -289,6 +289,22 @@ public final class InterpolatedNodalSurface
     return createParameterSensitivity(sensitivityValues);
   }
 
+  @Override
+  public DoubleArray zValues(DoubleArray x, DoubleArray y) {
+    return boundInterpolator.interpolate(x, y);
+  }
+
+  @Override
+  public UnitParameterSensitivity zValueParameterSensitivity(DoubleArray x, DoubleArray y, DoubleArray weights) {
+    ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+    ArgChecker.isTrue(x.size() == weights.size(), "Arrays of x-values and weights must have the same size");
+    if (x.isEmpty()) {
+      return createParameterSensitivity(DoubleArray.filled(getParameterCount()));
+    }
+    DoubleArray sensitivityValues = boundInterpolator.parameterSensitivity(x, y, weights);
+    return createParameterSensitivity(sensitivityValues);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public InterpolatedNodalSurface withMetadata(SurfaceMetadata metadata) {
@@ -12,6 +12,7 @@ import java.util.OptionalInt;
 import java.util.stream.IntStream;
 
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -131,6 +132,52 @@ public interface Surface extends ParameterizedData {
     return zValueParameterSensitivity(xyPair.getFirst(), xyPair.getSecond());
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the z-values for the specified x-values and y-values.
+   * <p>
+   * The x-values and y-values are matched by index, and one z-value is returned for each pair.
+   * Implementations may override this to share work between points.
+   * 
+   * @param x  the x-values to find the z-values for
+   * @param y  the y-values to find the z-values for, of the same size as the x-values
+   * @return the values at the x/y points
+   * @throws IllegalArgumentException if the arrays differ in size
+   */
+  public default DoubleArray zValues(DoubleArray x, DoubleArray y) {
+    ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+    return DoubleArray.of(x.size(), i -> zValue(x.get(i), y.get(i)));
+  }
+
+  /**
+   * Computes the weighted sum of the sensitivities of the z-values with respect to the surface parameters.
+   * <p>
+   * This is equivalent to calling {@link #zValueParameterSensitivity(double, double)} for each point,
+   * multiplying by the weight and summing the results, but implementations may share work between points.
+   * This is typically used to aggregate the sensitivity of a book of trades that share the surface.
+   * If the arrays are empty, the sensitivity to each parameter is zero.
+   * 
+   * @param x  the x-values at which the parameter sensitivity is computed
+   * @param y  the y-values at which the parameter sensitivity is computed, of the same size as the x-values
+   * @param weights  the weight of each point, of the same size as the x-values
+   * @return the weighted sum of the sensitivities
+   * @throws IllegalArgumentException if the arrays differ in size
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default UnitParameterSensitivity zValueParameterSensitivity(
+      DoubleArray x,
+      DoubleArray y,
+      DoubleArray weights) {
+
+    ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+    ArgChecker.isTrue(x.size() == weights.size(), "Arrays of x-values and weights must have the same size");
+    UnitParameterSensitivity total = createParameterSensitivity(DoubleArray.filled(getParameterCount()));
+    for (int i = 0; i < x.size(); i++) {
+      total = total.plus(zValueParameterSensitivity(x.get(i), y.get(i)).multipliedBy(weights.get(i)));
+    }
+    return total;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates a parameter sensitivity instance for this surface when the sensitivity values are known.
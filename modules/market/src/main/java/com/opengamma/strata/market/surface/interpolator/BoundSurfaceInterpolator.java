@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.surface.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -39,4 +40,52 @@ public interface BoundSurfaceInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x, double y);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the z-values for the specified x-y-values by interpolation.
+   * <p>
+   * The x-values and y-values are matched by index, and one z-value is returned for each pair.
+   * Implementations may override this to share work between points, such as points with the same y-value.
+   * 
+   * @param x  the x-values to find the z-values for
+   * @param y  the y-values to find the z-values for, of the same size as the x-values
+   * @return the values at the x-y-values
+   * @throws IllegalArgumentException if the arrays differ in size
+   * @throws RuntimeException if the z-values cannot be calculated
+   */
+  public default DoubleArray interpolate(DoubleArray x, DoubleArray y) {
+    ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+    return DoubleArray.of(x.size(), i -> interpolate(x.get(i), y.get(i)));
+  }
+
+  /**
+   * Computes the weighted sum of the sensitivities of the x-y-values with respect to the surface parameters.
+   * <p>
+   * This returns an array with one element for each parameter of the surface.
+   * The array contains the sum over all points of the weight multiplied by the sensitivity of the z-value
+   * at the x-y-value to the parameter.
+   * This is typically used to aggregate the sensitivity of a book of trades that share the surface.
+   * 
+   * @param x  the x-values at which the parameter sensitivity is computed
+   * @param y  the y-values at which the parameter sensitivity is computed, of the same size as the x-values
+   * @param weights  the weight of each point, of the same size as the x-values
+   * @return the weighted sum of the sensitivities
+   * @throws IllegalArgumentException if the arrays are empty or differ in size
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default DoubleArray parameterSensitivity(DoubleArray x, DoubleArray y, DoubleArray weights) {
+    ArgChecker.isTrue(x.size() > 0, "Arrays of x-values and y-values must not be empty");
+    ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+    ArgChecker.isTrue(x.size() == weights.size(), "Arrays of x-values and weights must have the same size");
+    double[] total = parameterSensitivity(x.get(0), y.get(0)).multipliedBy(weights.get(0)).toArray();
+    for (int i = 1; i < x.size(); i++) {
+      DoubleArray sensitivity = parameterSensitivity(x.get(i), y.get(i));
+      double weight = weights.get(i);
+      for (int j = 0; j < total.length; j++) {
+        total[j] += weight * sensitivity.get(j);
+      }
+    }
+    return DoubleArray.ofUnsafe(total);
+  }
+
 }
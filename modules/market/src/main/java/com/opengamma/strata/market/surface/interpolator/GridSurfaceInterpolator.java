@@ -9,6 +9,7 @@ import static com.opengamma.strata.market.curve.interpolator.CurveExtrapolators.
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -26,6 +27,7 @@ import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
@@ -190,6 +192,12 @@ public final class GridSurfaceInterpolator
   //-------------------------------------------------------------------------
   /**
    * Bound interpolator.
+   * <p>
+   * The y-value interpolator of each x-value is bound once, when the surface is bound.
+   * The x-value interpolator must be bound to the z-values derived at each y-value.
+   * The most recently bound x-value interpolator is cached, as consecutive queries frequently
+   * share the y-value, such as the value and sensitivity of the same option.
+   * The batch methods bind the x-value interpolator once for each distinct y-value.
    */
   static class Bound implements BoundSurfaceInterpolator {
     private final CurveInterpolator xInterpolator;
@@ -198,6 +206,8 @@ public final class GridSurfaceInterpolator
     private final DoubleArray xValuesUnique;
     private final int paramSize;
     private final BoundCurveInterpolator[] yInterpolators;
+    // the x-value interpolator for the most recently queried y-value, replaced atomically
+    private volatile Slice lastSlice;
 
     Bound(
         CurveInterpolator xInterpolator,
@@ -215,31 +225,92 @@ public final class GridSurfaceInterpolator
       this.yInterpolators = yInterpolators;
     }
 
-    //-------------------------------------------------------------------------
     @Override
     public double interpolate(double x, double y) {
-      // use each y-interpolator to find the z-value for each unique x
-      DoubleArray zValuesEffective = DoubleArray.of(yInterpolators.length, i -> yInterpolators[i].interpolate(y));
-      // interpolate unique x-values against derived z-values
-      return xInterpolator.bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight).interpolate(x);
+      return slice(y).interpolate(x);
     }
 
     @Override
     public DoubleArray parameterSensitivity(double x, double y) {
+      // find the sensitivity of the unique x-values against derived z-values
+      DoubleArray xSens = slice(y).parameterSensitivity(x);
+      return project(xSens, ySensitivities(y));
+    }
+
+    @Override
+    public DoubleArray interpolate(DoubleArray x, DoubleArray y) {
+      ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+      int size = x.size();
+      double[] result = new double[size];
+      Map<Double, BoundCurveInterpolator> slices = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        result[i] = slices.computeIfAbsent(y.get(i), this::bindSlice).interpolate(x.get(i));
+      }
+      return DoubleArray.ofUnsafe(result);
+    }
+
+    @Override
+    public DoubleArray parameterSensitivity(DoubleArray x, DoubleArray y, DoubleArray weights) {
+      ArgChecker.isTrue(x.size() > 0, "Arrays of x-values and y-values must not be empty");
+      ArgChecker.isTrue(x.size() == y.size(), "Arrays of x-values and y-values must have the same size");
+      ArgChecker.isTrue(x.size() == weights.size(), "Arrays of x-values and weights must have the same size");
+      // sum the weighted sensitivities to the derived z-values of all points with the same y-value
       int uniqueX = yInterpolators.length;
-      final DoubleArray[] ySens = new DoubleArray[uniqueX];
-      // use each y-interpolator to find the z-value sensitivity for each unique x
-      for (int i = 0; i < uniqueX; i++) {
-        ySens[i] = yInterpolators[i].parameterSensitivity(y);
+      Map<Double, BoundCurveInterpolator> slices = new HashMap<>();
+      Map<Double, double[]> xSensByY = new HashMap<>();
+      for (int i = 0; i < x.size(); i++) {
+        double yValue = y.get(i);
+        DoubleArray xSens = slices.computeIfAbsent(yValue, this::bindSlice).parameterSensitivity(x.get(i));
+        double[] xSensTotal = xSensByY.computeIfAbsent(yValue, k -> new double[uniqueX]);
+        double weight = weights.get(i);
+        for (int j = 0; j < uniqueX; j++) {
+          xSensTotal[j] += weight * xSens.get(j);
+        }
       }
-      // use each y-interpolator to find the z-value for each unique x
-      DoubleArray zValuesEffective = DoubleArray.of(uniqueX, i -> yInterpolators[i].interpolate(y));
-      // find the sensitivity of the unique x-values against derived z-values
-      DoubleArray xSens = xInterpolator
-          .bind(xValuesUnique, zValuesEffective, xExtrapolatorLeft, xExtrapolatorRight)
-          .parameterSensitivity(x);
+      // project each y-value back to the parameters only once
+      double[] paramSens = new double[paramSize];
+      for (Map.Entry<Double, double[]> entry : xSensByY.entrySet()) {
+        double[] xSensTotal = entry.getValue();
+        DoubleArray[] ySens = ySensitivities(entry.getKey());
+        int countParam = 0;
+        for (int i = 0; i < uniqueX; i++) {
+          double xs = xSensTotal[i];
+          DoubleArray ys = ySens[i];
+          for (int j = 0; j < ys.size(); j++) {
+            paramSens[countParam++] += xs * ys.get(j);
+          }
+        }
+      }
+      return DoubleArray.ofUnsafe(paramSens);
+    }
 
-      return project(xSens, ySens);
+    // finds the x-value interpolator for the y-value, using the cached slice if the y-value matches
+    private BoundCurveInterpolator slice(double y) {
+      Slice slice = lastSlice;
+      if (slice == null || Double.doubleToLongBits(slice.y) != Double.doubleToLongBits(y)) {
+        slice = new Slice(y, bindSlice(y));
+        lastSlice = slice;
+      }
+      return slice.xInterpolator;
+    }
+
+    // binds the x-value interpolator to the z-values derived by each y-interpolator
+    private BoundCurveInterpolator bindSlice(double y) {
+      double[] zValuesEffective = new double[yInterpolators.length];
+      for (int i = 0; i < yInterpolators.length; i++) {
+        zValuesEffective[i] = yInterpolators[i].interpolate(y);
+      }
+      return xInterpolator.bind(
+          xValuesUnique, DoubleArray.ofUnsafe(zValuesEffective), xExtrapolatorLeft, xExtrapolatorRight);
+    }
+
+    // use each y-interpolator to find the z-value sensitivity for each unique x
+    private DoubleArray[] ySensitivities(double y) {
+      DoubleArray[] ySens = new DoubleArray[yInterpolators.length];
+      for (int i = 0; i < yInterpolators.length; i++) {
+        ySens[i] = yInterpolators[i].parameterSensitivity(y);
+      }
+      return ySens;
     }
 
     // project sensitivities back to parameters
@@ -257,7 +328,19 @@ public final class GridSurfaceInterpolator
     }
   }
 
-  //-------------------------------------------------------------------------
+  /**
+   * The x-value interpolator bound at a single y-value.
+   */
+  static final class Slice {
+    private final double y;
+    private final BoundCurveInterpolator xInterpolator;
+
+    Slice(double y, BoundCurveInterpolator xInterpolator) {
+      this.y = y;
+      this.xInterpolator = xInterpolator;
+    }
+  }
+
   /**
    * An interpolator that returns the single known value.
    */
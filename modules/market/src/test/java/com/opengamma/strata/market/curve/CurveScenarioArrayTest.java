@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.date.DayCounts;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+
+/**
+ * Test {@link CurveScenarioArray}.
+ */
+public class CurveScenarioArrayTest {
+
+  private static final CurveMetadata METADATA = Curves.zeroRates(CurveName.of("Test"), DayCounts.ACT_365F);
+  private static final InterpolatedNodalCurve CURVE = InterpolatedNodalCurve.of(
+      METADATA, DoubleArray.of(1, 2, 3), DoubleArray.of(5, 6, 7), CurveInterpolators.LINEAR);
+  private static final DoubleMatrix DELTAS = DoubleMatrix.of(2, 3,
+      0.1, 0.2, 0.3,
+      -1d, 0d, 1d);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, DELTAS);
+    assertThat(test.getBaseCurve()).isEqualTo(CURVE);
+    assertThat(test.getShiftType()).isEqualTo(ShiftType.ABSOLUTE);
+    assertThat(test.getShifts()).isEqualTo(DELTAS);
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_of_wrongParameterCount() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CurveScenarioArray.of(CURVE, DoubleMatrix.of(1, 2, 0.1, 0.2)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_get() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, DELTAS);
+    assertThat(test.get(0)).isEqualTo(CURVE.withYValues(DoubleArray.of(5 + 0.1, 6 + 0.2, 7 + 0.3)));
+    assertThat(test.get(1)).isEqualTo(CURVE.withYValues(DoubleArray.of(4, 6, 8)));
+    assertThat(test.stream()).containsExactly(test.get(0), test.get(1));
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> test.get(2));
+  }
+
+  @Test
+  public void test_get_relative() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, ShiftType.RELATIVE, DELTAS);
+    DoubleArray expected = DoubleArray.of(5 + 5 * 0.1, 6 + 6 * 0.2, 7 + 7 * 0.3);
+    assertThat(test.get(0)).isEqualTo(CURVE.withYValues(expected));
+    assertThat(test.get(1)).isEqualTo(CURVE.withYValues(DoubleArray.of(0, 6, 14)));
+  }
+
+  @Test
+  public void test_get_sameInstance() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, DELTAS);
+    Curve curve = test.get(1);
+    assertThat(test.get(1)).isSameAs(curve);
+    assertThat(test.get(0)).isNotSameAs(curve);
+    MarketDataBox<Curve> box = MarketDataBox.ofScenarioValue(test);
+    assertThat(box.getValue(1)).isSameAs(curve);
+  }
+
+  @Test
+  public void test_getParameters() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, DELTAS);
+    assertThat(test.getParameters(0)).isEqualTo(DoubleArray.of(5 + 0.1, 6 + 0.2, 7 + 0.3));
+    assertThat(test.getParameters(1)).isEqualTo(DoubleArray.of(4, 6, 8));
+    assertThat(test.getParameters(1)).isEqualTo(((NodalCurve) test.get(1)).getYValues());
+  }
+
+  @Test
+  public void test_marketDataBox() {
+    MarketDataBox<Curve> box = MarketDataBox.ofScenarioValue(CurveScenarioArray.of(CURVE, DELTAS));
+    assertThat(box.getScenarioCount()).isEqualTo(2);
+    assertThat(box.getValue(1)).isEqualTo(CURVE.withYValues(DoubleArray.of(4, 6, 8)));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    CurveScenarioArray test = CurveScenarioArray.of(CURVE, DELTAS);
+    coverImmutableBean(test);
+    CurveScenarioArray test2 = CurveScenarioArray.of(
+        ConstantCurve.of(METADATA, 1d), ShiftType.RELATIVE, DoubleMatrix.of(1, 1, 0.1));
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(CurveScenarioArray.of(CURVE, DELTAS));
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.explain;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.io.CsvOutput;
+
+/**
+ * Test {@link CsvExplainSink}.
+ */
+public class CsvExplainSinkTest {
+
+  @Test
+  public void test_write() {
+    StringBuilder buf = new StringBuilder();
+    CsvExplainSink test = CsvExplainSink.of(CsvOutput.standard(buf, "\n"));
+    test.startEntry("T1");
+    test.put(ExplainKey.ENTRY_TYPE, "Swap");
+    test.writeListEntry(ExplainKey.LEGS, leg -> {
+      leg.put(ExplainKey.START_DATE, date(2015, 6, 30));
+      leg.writeListEntry(ExplainKey.PAYMENT_PERIODS, period -> period.put(ExplainKey.DISCOUNT_FACTOR, 0.95d));
+      leg.writeListEntry(ExplainKey.PAYMENT_PERIODS, period -> period.put(ExplainKey.ACCRUAL_DAYS, 91));
+    });
+    test.writeListEntry(ExplainKey.LEGS, leg -> leg.put(ExplainKey.PRESENT_VALUE, CurrencyAmount.of(GBP, 1000)));
+    test.startEntry("T2");
+    test.writeListEntry(ExplainKey.LEGS, leg -> leg.put(ExplainKey.INDEX_VALUE, 0.0125d));
+    assertThat(buf.toString()).isEqualTo("" +
+        "Entry,Path,Key,Value\n" +
+        "T1,,EntryType,Swap\n" +
+        "T1,Legs[0],StartDate,2015-06-30\n" +
+        "T1,Legs[0].PaymentPeriods[0],DiscountFactor,0.95\n" +
+        "T1,Legs[0].PaymentPeriods[1],AccrualDays,91\n" +
+        "T1,Legs[1],PresentValue,GBP 1000\n" +
+        "T2,Legs[0],IndexValue,0.0125\n");
+  }
+
+  @Test
+  public void test_putAll() {
+    ExplainMap map = ExplainMap.builder()
+        .put(ExplainKey.ENTRY_TYPE, "Swap")
+        .addListEntry(ExplainKey.LEGS, leg -> leg
+            .put(ExplainKey.START_DATE, date(2015, 6, 30))
+            .addListEntry(ExplainKey.PAYMENT_PERIODS, period -> period.put(ExplainKey.DISCOUNT_FACTOR, 0.95d)))
+        .put(ExplainKey.PRESENT_VALUE, CurrencyAmount.of(GBP, 1000))
+        .build();
+    StringBuilder buf = new StringBuilder();
+    CsvExplainSink test = CsvExplainSink.of(CsvOutput.standard(buf, "\n"));
+    test.startEntry("T1");
+    test.putAll(map);
+    assertThat(buf.toString()).isEqualTo("" +
+        "Entry,Path,Key,Value\n" +
+        "T1,,EntryType,Swap\n" +
+        "T1,Legs[0],StartDate,2015-06-30\n" +
+        "T1,Legs[0].PaymentPeriods[0],DiscountFactor,0.95\n" +
+        "T1,,PresentValue,GBP 1000\n");
+  }
+
+  @Test
+  public void test_openClose() {
+    StringBuilder buf = new StringBuilder();
+    CsvExplainSink test = CsvExplainSink.of(CsvOutput.standard(buf, "\n"));
+    ExplainSink child = test.openListEntry(ExplainKey.LEGS);
+    assertThat(child).isSameAs(test);
+    assertThatIllegalStateException().isThrownBy(() -> test.startEntry("T1"));
+    ExplainSink parent = child.closeListEntry(ExplainKey.LEGS);
+    assertThat(parent).isSameAs(test);
+    assertThatIllegalStateException().isThrownBy(() -> test.closeListEntry(ExplainKey.LEGS));
+  }
+
+}
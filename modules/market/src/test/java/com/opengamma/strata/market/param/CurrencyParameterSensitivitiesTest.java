@@ -127,6 +127,15 @@ public class CurrencyParameterSensitivitiesTest {
     assertThat(test.getSensitivities()).containsExactly(ENTRY_USD_TOTAL);
   }
 
+  @Test
+  public void test_of_list_normalizedMany() {
+    ImmutableList<CurrencyParameterSensitivity> list = ImmutableList.of(ENTRY_USD, ENTRY_EUR, ENTRY_USD2, ENTRY_USD);
+    CurrencyParameterSensitivities test = CurrencyParameterSensitivities.of(list);
+    assertThat(test.getSensitivities()).containsExactly(
+        ENTRY_USD.withSensitivity(TOTAL_USD.plus(VECTOR_USD1)), ENTRY_EUR);
+    assertThat(ENTRY_USD.getSensitivity()).isEqualTo(VECTOR_USD1);
+  }
+
   @Test
   public void test_of_list_normalizeNotPossible() {
     ImmutableList<CurrencyParameterSensitivity> list = ImmutableList.of(ENTRY_USD, ENTRY_USD_SMALL);
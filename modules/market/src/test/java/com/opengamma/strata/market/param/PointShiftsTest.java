@@ -19,10 +19,13 @@ import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.date.DayCounts;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.ShiftType;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveScenarioArray;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
@@ -179,6 +182,35 @@ public class PointShiftsTest {
     }
   }
 
+  @Test
+  public void curveStoredOnce() {
+    List<LabelDateParameterMetadata> nodeMetadata = ImmutableList.of(
+        LabelDateParameterMetadata.of(date(2011, 3, 8), TNR_1M),
+        LabelDateParameterMetadata.of(date(2011, 5, 8), TNR_3M),
+        LabelDateParameterMetadata.of(date(2011, 8, 8), TNR_6M));
+
+    PointShifts shift = PointShifts.builder(ShiftType.ABSOLUTE)
+        .addShift(0, TNR_1W, 0.1) // Tenor not in the data, should be ignored
+        .addShift(0, TNR_1M, 0.2)
+        .addShift(1, TNR_6M, 0.3)
+        .build();
+
+    Curve curve = InterpolatedNodalCurve.of(
+        Curves.zeroRates(CurveName.of("curve"), DayCounts.ACT_365F, nodeMetadata),
+        DoubleArray.of(1, 2, 3),
+        DoubleArray.of(5, 6, 7),
+        INTERPOLATOR);
+
+    MarketDataBox<ParameterizedData> shiftedCurveBox = shift.applyTo(
+        MarketDataBox.ofSingleValue(curve), REF_DATA);
+
+    ScenarioArray<?> scenarioValue = shiftedCurveBox.getScenarioValue();
+    assertThat(scenarioValue).isInstanceOf(CurveScenarioArray.class);
+    CurveScenarioArray array = (CurveScenarioArray) scenarioValue;
+    assertThat(array.getBaseCurve()).isSameAs(curve);
+    assertThat(array.getShifts()).isEqualTo(DoubleMatrix.of(2, 3, 0.2, 0d, 0d, 0d, 0d, 0.3));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
 import com.opengamma.strata.market.surface.interpolator.BoundSurfaceInterpolator;
 import com.opengamma.strata.market.surface.interpolator.GridSurfaceInterpolator;
 
@@ -115,6 +116,25 @@ public class InterpolatedNodalSurfaceTest {
     assertThat(sensiValues.equalWithTolerance(sensiValuesInterp, 1e-8)).isTrue();
   }
 
+  @Test
+  public void test_lookup_batch() {
+    InterpolatedNodalSurface test = InterpolatedNodalSurface.of(METADATA, XVALUES, YVALUES, ZVALUES, INTERPOLATOR);
+    DoubleArray x = DoubleArray.of(0d, 1.5d, 1d, 3.2d);
+    DoubleArray y = DoubleArray.of(1.5d, 3.7d, 1.5d, 3.7d);
+    DoubleArray weights = DoubleArray.of(2d, -1d, 0.5d, 1d);
+    assertThat(test.zValues(x, y)).isEqualTo(DoubleArray.of(4, i -> test.zValue(x.get(i), y.get(i))));
+    UnitParameterSensitivity expected = test.createParameterSensitivity(DoubleArray.filled(SIZE));
+    for (int i = 0; i < x.size(); i++) {
+      expected = expected.plus(test.zValueParameterSensitivity(x.get(i), y.get(i)).multipliedBy(weights.get(i)));
+    }
+    UnitParameterSensitivity computed = test.zValueParameterSensitivity(x, y, weights);
+    assertThat(computed.getMarketDataName()).isEqualTo(SURFACE_NAME);
+    assertThat(computed.getSensitivity().equalWithTolerance(expected.getSensitivity(), 1e-12)).isTrue();
+    assertThat(test.zValueParameterSensitivity(DoubleArray.EMPTY, DoubleArray.EMPTY, DoubleArray.EMPTY))
+        .isEqualTo(test.createParameterSensitivity(DoubleArray.filled(SIZE)));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.zValueParameterSensitivity(x, y, DoubleArray.of(1d)));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
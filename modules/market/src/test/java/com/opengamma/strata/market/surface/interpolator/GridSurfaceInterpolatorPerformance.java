@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.surface.interpolator;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.DOUBLE_QUADRATIC;
+import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.surface.InterpolatedNodalSurface;
+import com.opengamma.strata.market.surface.Surfaces;
+
+/**
+ * Test performance of the grid surface interpolator, comparing point-by-point lookup
+ * with the batch lookup, for a swaption-style expiry-tenor grid.
+ */
+public class GridSurfaceInterpolatorPerformance {
+
+  private static final double[] EXPIRIES = {0.25, 0.5, 1, 2, 3, 4, 5, 7, 10, 15, 20, 25, 30};
+  private static final double[] TENORS = {1, 2, 3, 4, 5, 7, 10, 15, 20, 25, 30};
+  private static final int POINTS = 100_000;
+
+  public static void main(String[] args) {
+    InterpolatedNodalSurface surface = surface();
+    Random random = new Random(1);
+    // points spread over the grid, each tenor being a grid tenor as for a book of swaptions
+    DoubleArray x = DoubleArray.of(POINTS, i -> 30 * random.nextDouble());
+    DoubleArray y = DoubleArray.of(POINTS, i -> TENORS[random.nextInt(TENORS.length)]);
+    DoubleArray weights = DoubleArray.of(POINTS, i -> random.nextDouble());
+    System.out.println("Points = " + POINTS);
+    run("zValue", () -> zValues(surface, x, y));
+    run("zValues (batch)", () -> surface.zValues(x, y).sum());
+    run("zValueParameterSensitivity", () -> sensitivities(surface, x, y, weights));
+    run("zValueParameterSensitivity (batch)",
+        () -> surface.zValueParameterSensitivity(x, y, weights).getSensitivity().sum());
+  }
+
+  private static void run(String name, Task task) {
+    System.out.println(name);
+    for (int j = 0; j < 5; j++) {
+      System.out.println(time(task) + "ms");
+    }
+    double hot = IntStream.range(0, 20)
+        .mapToDouble(i -> time(task))
+        .average()
+        .getAsDouble();
+    System.out.println(hot + "ms (hot)");
+    System.out.println();
+  }
+
+  private static double time(Task task) {
+    long start = System.nanoTime();
+    double total = task.run();
+    long end = System.nanoTime();
+    if (total == 0) {
+      return -1;
+    }
+    return (end - start) / 1_000_000d;
+  }
+
+  // point-by-point, where the y-value changes on almost every call
+  private static double zValues(InterpolatedNodalSurface surface, DoubleArray x, DoubleArray y) {
+    double total = 0;
+    for (int i = 0; i < x.size(); i++) {
+      total += surface.zValue(x.get(i), y.get(i));
+    }
+    return total;
+  }
+
+  // point-by-point, summing the weighted sensitivities
+  private static double sensitivities(
+      InterpolatedNodalSurface surface,
+      DoubleArray x,
+      DoubleArray y,
+      DoubleArray weights) {
+
+    double[] total = new double[surface.getParameterCount()];
+    for (int i = 0; i < x.size(); i++) {
+      DoubleArray sensitivity = surface.zValueParameterSensitivity(x.get(i), y.get(i)).getSensitivity();
+      for (int j = 0; j < total.length; j++) {
+        total[j] += weights.get(i) * sensitivity.get(j);
+      }
+    }
+    return DoubleArray.ofUnsafe(total).sum();
+  }
+
+  private static InterpolatedNodalSurface surface() {
+    int size = EXPIRIES.length * TENORS.length;
+    DoubleArray xValues = DoubleArray.of(size, i -> EXPIRIES[i / TENORS.length]);
+    DoubleArray yValues = DoubleArray.of(size, i -> TENORS[i % TENORS.length]);
+    DoubleArray zValues = DoubleArray.of(size, i -> 0.01 + 0.002 * Math.sqrt(xValues.get(i) + yValues.get(i)));
+    return InterpolatedNodalSurface.of(
+        Surfaces.normalVolatilityByExpiryTenor("Swaption", ACT_365F),
+        xValues,
+        yValues,
+        zValues,
+        GridSurfaceInterpolator.of(DOUBLE_QUADRATIC, LINEAR));
+  }
+
+  // a timed task, returning a total to prevent dead code elimination
+  private interface Task {
+    double run();
+  }
+
+}
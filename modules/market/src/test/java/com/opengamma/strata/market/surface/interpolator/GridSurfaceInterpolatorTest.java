@@ -113,6 +113,55 @@ public class GridSurfaceInterpolatorTest {
     }
   }
 
+  @Test
+  public void test_interpolation_repeatedY() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        DOUBLE_QUADRATIC, FLAT, FLAT, DOUBLE_QUADRATIC, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    // alternate between y-values, checking the cached slice against a fresh binding
+    for (int i = 0; i < 4; i++) {
+      double y = (i % 2 == 0) ? 3.4 : 4.1;
+      BoundSurfaceInterpolator fresh = test.bind(X_DATA, Y_DATA, Z_DATA);
+      assertThat(bci.interpolate(1.3, y)).isEqualTo(fresh.interpolate(1.3, y));
+      assertThat(bci.interpolate(2.2, y)).isEqualTo(fresh.interpolate(2.2, y));
+      assertThat(bci.parameterSensitivity(2.2, y)).isEqualTo(fresh.parameterSensitivity(2.2, y));
+    }
+  }
+
+  @Test
+  public void test_interpolation_batch() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        LINEAR, FLAT, FLAT, LINEAR, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    DoubleArray computed = bci.interpolate(X_TEST, Y_TEST);
+    assertThat(computed.equalWithTolerance(Z_TEST, TOL)).isTrue();
+    DoubleArray x = DoubleArray.of(0.2, 1.3, 2.5, 0.7, 3.5);
+    DoubleArray y = DoubleArray.of(3.4, 4.1, 3.4, 3.4, 4.1);
+    DoubleArray expected = DoubleArray.of(x.size(), i -> bci.interpolate(x.get(i), y.get(i)));
+    assertThat(bci.interpolate(x, y)).isEqualTo(expected);
+    assertThat(bci.interpolate(DoubleArray.EMPTY, DoubleArray.EMPTY)).isEqualTo(DoubleArray.EMPTY);
+    assertThatIllegalArgumentException().isThrownBy(() -> bci.interpolate(x, Y_TEST));
+  }
+
+  @Test
+  public void test_parameterSensitivity_batch() {
+    GridSurfaceInterpolator test = GridSurfaceInterpolator.of(
+        DOUBLE_QUADRATIC, FLAT, FLAT, DOUBLE_QUADRATIC, FLAT, FLAT);
+    BoundSurfaceInterpolator bci = test.bind(X_DATA, Y_DATA, Z_DATA);
+    DoubleArray x = DoubleArray.of(0.2, 1.3, 2.5, 0.7, 3.5);
+    DoubleArray y = DoubleArray.of(3.4, 4.1, 3.4, 3.4, 4.1);
+    DoubleArray weights = DoubleArray.of(1.5, -2.0, 0.5, 3.0, 1.0);
+    DoubleArray expected = DoubleArray.filled(X_DATA.size());
+    for (int i = 0; i < x.size(); i++) {
+      expected = expected.plus(bci.parameterSensitivity(x.get(i), y.get(i)).multipliedBy(weights.get(i)));
+    }
+    DoubleArray computed = bci.parameterSensitivity(x, y, weights);
+    assertThat(computed.equalWithTolerance(expected, TOL)).isTrue();
+    assertThatIllegalArgumentException().isThrownBy(() -> bci.parameterSensitivity(x, y, Z_TEST));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bci.parameterSensitivity(DoubleArray.EMPTY, DoubleArray.EMPTY, DoubleArray.EMPTY));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
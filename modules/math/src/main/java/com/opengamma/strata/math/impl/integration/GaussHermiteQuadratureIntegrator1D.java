@@ -71,4 +71,19 @@ public class GaussHermiteQuadratureIntegrator1D extends GaussianQuadratureIntegr
     throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
   }
 
+  @Override
+  protected GaussianQuadratureData getIntegrationPoints(double lower, double upper) {
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      double[] abscissas = getQuadrature().getAbscissas();
+      double[] weights = getQuadrature().getWeights();
+      int n = abscissas.length;
+      double[] pointWeights = new double[n];
+      for (int i = 0; i < n; i++) {
+        pointWeights[i] = Math.exp(abscissas[i] * abscissas[i]) * weights[i];
+      }
+      return new GaussianQuadratureData(abscissas.clone(), pointWeights);
+    }
+    throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
+  }
+
 }
@@ -68,4 +68,9 @@ public class GaussJacobiQuadratureIntegrator1D extends GaussianQuadratureIntegra
     };
   }
 
+  @Override
+  protected GaussianQuadratureData getIntegrationPoints(double lower, double upper) {
+    return linearIntegrationPoints(getQuadrature(), lower, upper);
+  }
+
 }
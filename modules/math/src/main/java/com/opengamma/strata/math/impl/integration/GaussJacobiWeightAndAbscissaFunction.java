@@ -121,4 +121,22 @@ public class GaussJacobiWeightAndAbscissaFunction implements QuadratureWeightAnd
     return 3. * x[i - 1] - 3. * x[i - 2] + x[i - 3];
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int hashCode() {
+    return 31 * Double.hashCode(_alpha) + Double.hashCode(_beta);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GaussJacobiWeightAndAbscissaFunction other = (GaussJacobiWeightAndAbscissaFunction) obj;
+    return Double.compare(_alpha, other._alpha) == 0 && Double.compare(_beta, other._beta) == 0;
+  }
+
 }
@@ -88,4 +88,22 @@ public class GaussLaguerreWeightAndAbscissaFunction implements QuadratureWeightA
         (1 + 0.3 * _alpha);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public int hashCode() {
+    return Double.hashCode(_alpha);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GaussLaguerreWeightAndAbscissaFunction other = (GaussLaguerreWeightAndAbscissaFunction) obj;
+    return Double.compare(_alpha, other._alpha) == 0;
+  }
+
 }
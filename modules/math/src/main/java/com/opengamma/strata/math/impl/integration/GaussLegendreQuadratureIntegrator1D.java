@@ -63,4 +63,9 @@ public class GaussLegendreQuadratureIntegrator1D extends GaussianQuadratureInteg
     };
   }
 
+  @Override
+  protected GaussianQuadratureData getIntegrationPoints(double lower, double upper) {
+    return linearIntegrationPoints(getQuadrature(), lower, upper);
+  }
+
 }
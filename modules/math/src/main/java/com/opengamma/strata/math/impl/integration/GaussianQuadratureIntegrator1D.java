@@ -6,9 +6,17 @@
 package com.opengamma.strata.math.impl.integration;
 
 import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunctionGenerator;
 
 /**
@@ -27,10 +35,29 @@ import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunct
  * The evaluation points, weights and valid limits of integration depend on the type of orthogonal
  * polynomials that are used 
  * (see {@link OrthogonalPolynomialFunctionGenerator} and {@link GaussLaguerreWeightAndAbscissaFunction}).
- * 
+ * <p>
+ * The weights and abscissas are cached by generator and number of points, and are shared
+ * between the instances using the same generator and number of points.
+ * Generators are therefore expected to implement {@code equals} and {@code hashCode}.
+ * The cache is bounded, so generators with many distinct parameters do not accumulate.
+ * <p>
+ * An array-valued integrand, such as the integrands of a whole vector of strikes, can be integrated
+ * in one pass over the abscissas using {@link #integrateVector(Function, double, double)}.
  */
 public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double, Double> {
 
+  /**
+   * The maximum number of entries in the cache.
+   */
+  private static final int CACHE_SIZE = 100;
+  /**
+   * The cache of weights and abscissas, keyed by generator and number of points.
+   */
+  private static final LoadingCache<Pair<QuadratureWeightAndAbscissaFunction, Integer>, GaussianQuadratureData>
+      CACHE = CacheBuilder.newBuilder()
+          .maximumSize(CACHE_SIZE)
+          .build(CacheLoader.from(key -> key.getFirst().generate(key.getSecond())));
+
   private final int size;
   private final QuadratureWeightAndAbscissaFunction generator;
   private final GaussianQuadratureData quadrature;
@@ -46,7 +73,12 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
     ArgChecker.notNull(generator, "generating function");
     this.size = n;
     this.generator = generator;
-    this.quadrature = generator.generate(size);
+    try {
+      this.quadrature = CACHE.getUnchecked(Pair.of(generator, n));
+    } catch (UncheckedExecutionException ex) {
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
   }
 
   /**
@@ -84,6 +116,127 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
     return sum;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Integrates an array-valued function.
+   * <p>
+   * The function is evaluated once at each abscissa, and the integral of each element of the
+   * array is returned. This allows the integrals of a family of functions, for example the
+   * integrands for a vector of strikes, to be computed in a single pass.
+   * The length of the array must be the same at every abscissa.
+   * 
+   * @param function  the array-valued function to be integrated
+   * @param lower  the lower integration limit
+   * @param upper  the upper integration limit
+   * @return the integral of each element of the array
+   */
+  public DoubleArray integrateVector(Function<Double, DoubleArray> function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    return integrateVector(getIntegrationPoints(lower, upper), function);
+  }
+
+  /**
+   * Integrates a function for each value of a parameter.
+   * <p>
+   * The integral of $f(x, p)$ is computed for each value $p$ of the parameters, using
+   * a single pass over the abscissas. This is typically used for a vector of strikes.
+   * 
+   * @param function  the function to be integrated, of the integration variable then the parameter
+   * @param parameters  the parameters
+   * @param lower  the lower integration limit
+   * @param upper  the upper integration limit
+   * @return the integral for each parameter
+   */
+  public DoubleArray integrateVector(
+      DoubleBinaryOperator function,
+      DoubleArray parameters,
+      double lower,
+      double upper) {
+
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(parameters, "parameters");
+    return integrateVector(getIntegrationPoints(lower, upper), x -> parameters.map(p -> function.applyAsDouble(x, p)));
+  }
+
+  /**
+   * Integrates an array-valued function $f(x)$ rather than the full function $g(x) = W(x)f(x)$.
+   * <p>
+   * This is the array-valued equivalent of {@link #integrateFromPolyFunc(Function)}.
+   * The length of the array must be the same at every abscissa.
+   * 
+   * @param polyFunction  the array-valued function $f(x)$,
+   *   each element should be well approximated by a polynomial
+   * @return the integral of each element of the array
+   */
+  public DoubleArray integrateVectorFromPolyFunc(Function<Double, DoubleArray> polyFunction) {
+    ArgChecker.notNull(polyFunction, "polyFunction");
+    return integrateVector(quadrature, polyFunction);
+  }
+
+  /**
+   * Gets the weights and abscissas of the quadrature.
+   * 
+   * @return the weights and abscissas
+   */
+  protected GaussianQuadratureData getQuadrature() {
+    return quadrature;
+  }
+
+  /**
+   * Gets the integration points and weights that apply directly to the function to be integrated.
+   * <p>
+   * The integral of $f(x)$ between the limits is approximated by $\sum_{i=0}^{N-1} w_i f(x_i)$,
+   * where the points and weights are those returned. They include the change of variable and the
+   * inverse of the weight function performed by {@link #getIntegralFunction(Function, Double, Double)}.
+   * <p>
+   * Subclasses that support {@link #integrateVector(Function, double, double)} override this method
+   * to derive the points and weights from {@link #getQuadrature()}.
+   * The default implementation throws an exception.
+   * 
+   * @param lower  the lower integration limit
+   * @param upper  the upper integration limit
+   * @return the points and weights
+   * @throws UnsupportedOperationException if not supported
+   */
+  protected GaussianQuadratureData getIntegrationPoints(double lower, double upper) {
+    throw new UnsupportedOperationException("Integration points are not available for " + getClass().getSimpleName());
+  }
+
+  // the points and weights for the linear change of variable mapping [-1, 1] to [lower, upper]
+  static GaussianQuadratureData linearIntegrationPoints(GaussianQuadratureData data, double lower, double upper) {
+    double[] abscissas = data.getAbscissas();
+    double[] weights = data.getWeights();
+    double m = (upper - lower) / 2;
+    double c = (upper + lower) / 2;
+    int n = abscissas.length;
+    double[] points = new double[n];
+    double[] pointWeights = new double[n];
+    for (int i = 0; i < n; i++) {
+      points[i] = m * abscissas[i] + c;
+      pointWeights[i] = m * weights[i];
+    }
+    return new GaussianQuadratureData(points, pointWeights);
+  }
+
+  // integrates the array-valued function using the points and weights
+  private static DoubleArray integrateVector(GaussianQuadratureData data, Function<Double, DoubleArray> function) {
+    double[] abscissas = data.getAbscissas();
+    double[] weights = data.getWeights();
+    double[] sum = null;
+    for (int i = 0; i < abscissas.length; i++) {
+      DoubleArray values = function.apply(abscissas[i]);
+      if (sum == null) {
+        sum = new double[values.size()];
+      }
+      ArgChecker.isTrue(values.size() == sum.length, "Function must return arrays of the same length");
+      for (int j = 0; j < sum.length; j++) {
+        sum[j] += values.get(j) * weights[i];
+      }
+    }
+    return DoubleArray.ofUnsafe(sum);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * Gets the limits.
    * 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Optional;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of LU decomposition with partial pivoting.
+ * <p>
+ * The decomposition operates directly on a copy of the rows of the matrix, without conversion
+ * to a third-party matrix type. The elimination is performed row by row so that the inner loops
+ * access contiguous memory.
+ * <p>
+ * As with {@link LUDecompositionCommons}, the matrix is considered singular if the absolute value
+ * of a pivot is less than {@link #DEFAULT_SINGULARITY_THRESHOLD}.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGamma implements Decomposition<LUDecompositionResult> {
+
+  /**
+   * The default threshold below which the absolute value of a pivot is considered to be zero.
+   */
+  public static final double DEFAULT_SINGULARITY_THRESHOLD = 1.0E-11;
+
+  @Override
+  public LUDecompositionResult apply(DoubleMatrix x) {
+    return tryApply(x).orElseThrow(
+        () -> new IllegalArgumentException("Matrix is singular; could not perform LU decomposition"));
+  }
+
+  /**
+   * Performs the decomposition, returning empty if the matrix is singular.
+   * <p>
+   * This allows callers to fall back to a different method for singular matrices
+   * without the cost of an exception.
+   *
+   * @param x  the matrix to decompose, which must be square
+   * @return the decomposition, empty if the matrix is singular
+   */
+  public Optional<LUDecompositionResult> tryApply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    ArgChecker.isTrue(x.isSquare(), "Matrix not square");
+    int size = x.rowCount();
+    double[][] lu = x.toArray();
+    int[] pivot = new int[size];
+    for (int i = 0; i < size; i++) {
+      pivot[i] = i;
+    }
+    boolean even = true;
+    for (int col = 0; col < size; col++) {
+      // find the pivot
+      int max = col;
+      double largest = Math.abs(lu[col][col]);
+      for (int row = col + 1; row < size; row++) {
+        double value = Math.abs(lu[row][col]);
+        if (value > largest) {
+          largest = value;
+          max = row;
+        }
+      }
+      if (!(largest >= DEFAULT_SINGULARITY_THRESHOLD)) {
+        return Optional.empty();
+      }
+      if (max != col) {
+        double[] tmpRow = lu[max];
+        lu[max] = lu[col];
+        lu[col] = tmpRow;
+        int tmpPivot = pivot[max];
+        pivot[max] = pivot[col];
+        pivot[col] = tmpPivot;
+        even = !even;
+      }
+      // eliminate below the pivot
+      double[] pivotRow = lu[col];
+      double pivotInverse = 1d / pivotRow[col];
+      for (int row = col + 1; row < size; row++) {
+        double[] luRow = lu[row];
+        double factor = luRow[col] * pivotInverse;
+        luRow[col] = factor;
+        if (factor != 0d) {
+          for (int j = col + 1; j < size; j++) {
+            luRow[j] -= factor * pivotRow[j];
+          }
+        }
+      }
+    }
+    return Optional.of(new LUDecompositionOpenGammaResult(lu, pivot, even));
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of LU decomposition ({@link LUDecompositionOpenGamma}).
+ * <p>
+ * The lower and upper triangular matrices are held in a single array, with the unit diagonal
+ * of the lower triangular matrix implied.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGammaResult implements LUDecompositionResult {
+
+  /**
+   * The combined lower and upper triangular matrices, by row.
+   */
+  private final double[][] lu;
+  /**
+   * The row permutation, where row i of the decomposed matrix is row pivot[i] of the input.
+   */
+  private final int[] pivot;
+  /**
+   * The determinant.
+   */
+  private final double determinant;
+
+  /**
+   * Creates an instance.
+   *
+   * @param lu  the combined lower and upper triangular matrices, by row, not copied
+   * @param pivot  the row permutation, not copied
+   * @param even  true if the permutation is even
+   */
+  public LUDecompositionOpenGammaResult(double[][] lu, int[] pivot, boolean even) {
+    this.lu = ArgChecker.notNull(lu, "lu");
+    this.pivot = ArgChecker.notNull(pivot, "pivot");
+    double det = even ? 1d : -1d;
+    for (int i = 0; i < lu.length; i++) {
+      det *= lu[i][i];
+    }
+    this.determinant = det;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double getDeterminant() {
+    return determinant;
+  }
+
+  @Override
+  public DoubleMatrix getL() {
+    int size = lu.length;
+    return DoubleMatrix.of(size, size, (i, j) -> i > j ? lu[i][j] : (i == j ? 1d : 0d));
+  }
+
+  @Override
+  public DoubleMatrix getU() {
+    int size = lu.length;
+    return DoubleMatrix.of(size, size, (i, j) -> i <= j ? lu[i][j] : 0d);
+  }
+
+  @Override
+  public DoubleMatrix getP() {
+    int size = lu.length;
+    return DoubleMatrix.of(size, size, (i, j) -> pivot[i] == j ? 1d : 0d);
+  }
+
+  @Override
+  public int[] getPivot() {
+    return pivot.clone();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    int size = lu.length;
+    ArgChecker.isTrue(b.length == size, "b array of incorrect size");
+    double[] x = new double[size];
+    for (int i = 0; i < size; i++) {
+      x[i] = b[pivot[i]];
+    }
+    // L y = P b
+    for (int i = 1; i < size; i++) {
+      double[] luRow = lu[i];
+      double sum = x[i];
+      for (int j = 0; j < i; j++) {
+        sum -= luRow[j] * x[j];
+      }
+      x[i] = sum;
+    }
+    // U x = y
+    for (int i = size - 1; i >= 0; i--) {
+      double[] luRow = lu[i];
+      double sum = x[i];
+      for (int j = i + 1; j < size; j++) {
+        sum -= luRow[j] * x[j];
+      }
+      x[i] = sum / luRow[i];
+    }
+    return x;
+  }
+
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    int size = lu.length;
+    ArgChecker.isTrue(b.rowCount() == size, "b matrix of incorrect size");
+    int colCount = b.columnCount();
+    double[][] source = b.toArrayUnsafe();
+    double[][] x = new double[size][];
+    for (int i = 0; i < size; i++) {
+      x[i] = source[pivot[i]].clone();
+    }
+    // L Y = P B, operating on whole rows
+    for (int i = 1; i < size; i++) {
+      double[] luRow = lu[i];
+      double[] xRow = x[i];
+      for (int k = 0; k < i; k++) {
+        double factor = luRow[k];
+        if (factor != 0d) {
+          double[] yRow = x[k];
+          for (int j = 0; j < colCount; j++) {
+            xRow[j] -= factor * yRow[j];
+          }
+        }
+      }
+    }
+    // U X = Y, operating on whole rows
+    for (int i = size - 1; i >= 0; i--) {
+      double[] luRow = lu[i];
+      double[] xRow = x[i];
+      for (int k = i + 1; k < size; k++) {
+        double factor = luRow[k];
+        if (factor != 0d) {
+          double[] solvedRow = x[k];
+          for (int j = 0; j < colCount; j++) {
+            xRow[j] -= factor * solvedRow[j];
+          }
+        }
+      }
+      double diagInverse = 1d / luRow[i];
+      for (int j = 0; j < colCount; j++) {
+        xRow[j] *= diagInverse;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of QR decomposition using Householder reflections.
+ * <p>
+ * The decomposition operates directly on a transposed copy of the matrix, without conversion
+ * to a third-party matrix type. Holding the matrix by column means that each reflection
+ * accesses contiguous memory. The algorithm is the same as that of {@link QRDecompositionCommons}.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class QRDecompositionOpenGamma implements Decomposition<QRDecompositionResult> {
+
+  @Override
+  public QRDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    int rowCount = x.rowCount();
+    int colCount = x.columnCount();
+    double[][] data = x.toArrayUnsafe();
+    // the transpose of the matrix, so each array is a column
+    double[][] qrt = new double[colCount][rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      double[] row = data[i];
+      for (int j = 0; j < colCount; j++) {
+        qrt[j][i] = row[j];
+      }
+    }
+    int minSize = Math.min(rowCount, colCount);
+    double[] rDiag = new double[minSize];
+    for (int minor = 0; minor < minSize; minor++) {
+      double[] qrtMinor = qrt[minor];
+      double xNormSqr = 0d;
+      for (int row = minor; row < rowCount; row++) {
+        double c = qrtMinor[row];
+        xNormSqr += c * c;
+      }
+      double a = qrtMinor[minor] > 0 ? -Math.sqrt(xNormSqr) : Math.sqrt(xNormSqr);
+      rDiag[minor] = a;
+      if (a != 0d) {
+        // apply the Householder reflection to the remaining columns
+        qrtMinor[minor] -= a;
+        for (int col = minor + 1; col < colCount; col++) {
+          double[] qrtCol = qrt[col];
+          double alpha = 0d;
+          for (int row = minor; row < rowCount; row++) {
+            alpha -= qrtCol[row] * qrtMinor[row];
+          }
+          alpha /= a * qrtMinor[minor];
+          for (int row = minor; row < rowCount; row++) {
+            qrtCol[row] -= alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return new QRDecompositionOpenGammaResult(qrt, rDiag);
+  }
+
+}
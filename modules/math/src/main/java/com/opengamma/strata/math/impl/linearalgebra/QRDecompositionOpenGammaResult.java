@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of QR decomposition ({@link QRDecompositionOpenGamma}).
+ * <p>
+ * The Householder vectors and the upper part of R are held by column. The matrices Q and R
+ * are only created when requested, and solving does not require them.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class QRDecompositionOpenGammaResult implements QRDecompositionResult {
+
+  /**
+   * The Householder vectors and the upper part of R, by column.
+   */
+  private final double[][] qrt;
+  /**
+   * The diagonal of R.
+   */
+  private final double[] rDiag;
+  /**
+   * The number of rows of the decomposed matrix.
+   */
+  private final int rowCount;
+
+  /**
+   * Creates an instance.
+   *
+   * @param qrt  the Householder vectors and the upper part of R, by column, not copied
+   * @param rDiag  the diagonal of R, not copied
+   */
+  public QRDecompositionOpenGammaResult(double[][] qrt, double[] rDiag) {
+    this.qrt = ArgChecker.notNull(qrt, "qrt");
+    this.rDiag = ArgChecker.notNull(rDiag, "rDiag");
+    this.rowCount = qrt.length == 0 ? rDiag.length : qrt[0].length;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleMatrix getR() {
+    int colCount = qrt.length;
+    double[][] r = new double[rowCount][colCount];
+    for (int row = 0; row < rDiag.length; row++) {
+      r[row][row] = rDiag[row];
+      for (int col = row + 1; col < colCount; col++) {
+        r[row][col] = qrt[col][row];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(r);
+  }
+
+  @Override
+  public DoubleMatrix getQ() {
+    return getQT().transpose();
+  }
+
+  @Override
+  public DoubleMatrix getQT() {
+    double[][] qta = new double[rowCount][rowCount];
+    for (int minor = rowCount - 1; minor >= rDiag.length; minor--) {
+      qta[minor][minor] = 1d;
+    }
+    for (int minor = rDiag.length - 1; minor >= 0; minor--) {
+      double[] qrtMinor = qrt[minor];
+      qta[minor][minor] = 1d;
+      if (qrtMinor[minor] != 0d) {
+        for (int col = minor; col < rowCount; col++) {
+          double[] qtaCol = qta[col];
+          double alpha = 0d;
+          for (int row = minor; row < rowCount; row++) {
+            alpha -= qtaCol[row] * qrtMinor[row];
+          }
+          alpha /= rDiag[minor] * qrtMinor[minor];
+          for (int row = minor; row < rowCount; row++) {
+            qtaCol[row] += -alpha * qrtMinor[row];
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(qta);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == rowCount, "b array of incorrect size");
+    checkNotSingular();
+    double[] y = b.clone();
+    applyReflections(y);
+    double[] x = new double[qrt.length];
+    // solve the triangular system R x = y
+    for (int row = rDiag.length - 1; row >= 0; row--) {
+      y[row] /= rDiag[row];
+      double yRow = y[row];
+      double[] qrtRow = qrt[row];
+      x[row] = yRow;
+      for (int i = 0; i < row; i++) {
+        y[i] -= yRow * qrtRow[i];
+      }
+    }
+    return x;
+  }
+
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == rowCount, "b matrix of incorrect size");
+    // each column of b is solved independently, using a contiguous copy of the column
+    double[][] bt = b.transpose().toArrayUnsafe();
+    double[][] x = new double[qrt.length][bt.length];
+    for (int j = 0; j < bt.length; j++) {
+      double[] xCol = solve(bt[j]);
+      for (int i = 0; i < xCol.length; i++) {
+        x[i][j] = xCol[i];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+  //-------------------------------------------------------------------------
+  // applies the Householder reflections to the vector, solving Q y = b
+  private void applyReflections(double[] y) {
+    for (int minor = 0; minor < rDiag.length; minor++) {
+      double[] qrtMinor = qrt[minor];
+      double dotProduct = 0;
+      for (int row = minor; row < rowCount; row++) {
+        dotProduct += y[row] * qrtMinor[row];
+      }
+      dotProduct /= rDiag[minor] * qrtMinor[minor];
+      for (int row = minor; row < rowCount; row++) {
+        y[row] += dotProduct * qrtMinor[row];
+      }
+    }
+  }
+
+  // checks that R is not singular
+  private void checkNotSingular() {
+    for (double diag : rDiag) {
+      if (diag == 0d) {
+        throw new IllegalArgumentException("Matrix is singular");
+      }
+    }
+  }
+
+}
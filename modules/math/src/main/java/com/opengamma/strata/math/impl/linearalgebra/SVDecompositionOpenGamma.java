@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of singular value decomposition using one-sided Jacobi rotations.
+ * <p>
+ * The decomposition operates directly on a copy of the columns of the matrix, without conversion
+ * to a third-party matrix type. Pairs of columns are rotated until they are mutually orthogonal,
+ * at which point the column norms are the singular values. Holding the matrix by column means that
+ * each rotation accesses contiguous memory. One-sided Jacobi is also accurate for small singular values.
+ * <p>
+ * The decomposition is compact, as with {@link SVDecompositionCommons}. For an m by n matrix
+ * with p = min(m, n), U is m by p, S is p by p and V is n by p. The singular values are in
+ * descending order, and those that are not greater than the tolerance used by Commons Math
+ * are treated as zero when computing the rank and solving.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class SVDecompositionOpenGamma implements Decomposition<SVDecompositionResult> {
+
+  /** The relative precision used to detect orthogonal columns and negligible singular values. */
+  private static final double EPS = 0x1.0p-52;
+  /** The maximum number of sweeps over all the pairs of columns. */
+  private static final int MAX_SWEEPS = 100;
+
+  @Override
+  public SVDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    MatrixValidate.notNaNOrInfinite(x);
+    int m = x.rowCount();
+    int n = x.columnCount();
+    double[][] data = x.toArrayUnsafe();
+    // decompose the transpose of a wide matrix, so the working matrix has at least as many rows as columns
+    boolean transposed = m < n;
+    int rows = transposed ? n : m;
+    int cols = transposed ? m : n;
+    double[][] a = new double[cols][];
+    if (transposed) {
+      for (int j = 0; j < cols; j++) {
+        a[j] = data[j].clone();
+      }
+    } else {
+      for (int j = 0; j < cols; j++) {
+        a[j] = new double[rows];
+      }
+      for (int i = 0; i < rows; i++) {
+        double[] row = data[i];
+        for (int j = 0; j < cols; j++) {
+          a[j][i] = row[j];
+        }
+      }
+    }
+    double[][] v = new double[cols][cols];
+    for (int j = 0; j < cols; j++) {
+      v[j][j] = 1d;
+    }
+    orthogonalize(a, v);
+
+    // the singular values are the norms of the orthogonalized columns
+    double[] norms = new double[cols];
+    for (int j = 0; j < cols; j++) {
+      norms[j] = Math.sqrt(dot(a[j], a[j]));
+    }
+    Integer[] order = new Integer[cols];
+    for (int j = 0; j < cols; j++) {
+      order[j] = j;
+    }
+    Arrays.sort(order, Comparator.comparingDouble((Integer j) -> norms[j]).reversed());
+    double[] singularValues = new double[cols];
+    double[][] uCols = new double[cols][];
+    double[][] vCols = new double[cols][];
+    for (int k = 0; k < cols; k++) {
+      singularValues[k] = norms[order[k]];
+      vCols[k] = v[order[k]];
+    }
+    double tolerance = cols == 0 ? 0d : Math.max(rows * singularValues[0] * EPS, Math.sqrt(Double.MIN_NORMAL));
+    for (int k = 0; k < cols; k++) {
+      if (singularValues[k] > tolerance) {
+        double[] column = a[order[k]];
+        double inverse = 1d / singularValues[k];
+        for (int i = 0; i < rows; i++) {
+          column[i] *= inverse;
+        }
+        uCols[k] = column;
+      }
+    }
+    completeBasis(uCols, rows);
+    return transposed ?
+        new SVDecompositionOpenGammaResult(vCols, singularValues, uCols, tolerance) :
+        new SVDecompositionOpenGammaResult(uCols, singularValues, vCols, tolerance);
+  }
+
+  //-------------------------------------------------------------------------
+  // rotates pairs of columns of a until they are orthogonal, accumulating the rotations in v
+  private static void orthogonalize(double[][] a, double[][] v) {
+    int cols = a.length;
+    double[] normsSqr = new double[cols];
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      // the squared column norms are recomputed each sweep and updated after each rotation
+      for (int j = 0; j < cols; j++) {
+        normsSqr[j] = dot(a[j], a[j]);
+      }
+      boolean rotated = false;
+      for (int p = 0; p < cols - 1; p++) {
+        for (int q = p + 1; q < cols; q++) {
+          double alpha = normsSqr[p];
+          double beta = normsSqr[q];
+          double gamma = dot(a[p], a[q]);
+          if (gamma == 0d || Math.abs(gamma) <= EPS * Math.sqrt(alpha * beta)) {
+            continue;
+          }
+          double zeta = (beta - alpha) / (2d * gamma);
+          double absZeta = Math.abs(zeta);
+          double absT = absZeta > 1e100 ? 0.5 / absZeta : 1d / (absZeta + Math.sqrt(1d + zeta * zeta));
+          double t = zeta >= 0d ? absT : -absT;
+          double c = 1d / Math.sqrt(1d + t * t);
+          double s = c * t;
+          rotate(a[p], a[q], c, s);
+          rotate(v[p], v[q], c, s);
+          normsSqr[p] = alpha - t * gamma;
+          normsSqr[q] = beta + t * gamma;
+          rotated = true;
+        }
+      }
+      if (!rotated) {
+        return;
+      }
+    }
+  }
+
+  // applies a plane rotation to a pair of columns
+  private static void rotate(double[] colP, double[] colQ, double c, double s) {
+    for (int i = 0; i < colP.length; i++) {
+      double p = colP[i];
+      double q = colQ[i];
+      colP[i] = c * p - s * q;
+      colQ[i] = s * p + c * q;
+    }
+  }
+
+  // fills the missing columns, those of negligible singular values, so the columns are orthonormal
+  private static void completeBasis(double[][] cols, int size) {
+    for (int k = 0; k < cols.length; k++) {
+      if (cols[k] != null) {
+        continue;
+      }
+      // project each unit vector away from the existing columns, keeping the largest remainder
+      double[] best = null;
+      double bestNorm = -1d;
+      for (int i = 0; i < size; i++) {
+        double[] candidate = new double[size];
+        candidate[i] = 1d;
+        for (int pass = 0; pass < 2; pass++) {
+          for (double[] col : cols) {
+            if (col != null) {
+              double projection = dot(col, candidate);
+              for (int r = 0; r < size; r++) {
+                candidate[r] -= projection * col[r];
+              }
+            }
+          }
+        }
+        double norm = Math.sqrt(dot(candidate, candidate));
+        if (norm > bestNorm) {
+          best = candidate;
+          bestNorm = norm;
+        }
+      }
+      for (int r = 0; r < size; r++) {
+        best[r] /= bestNorm;
+      }
+      cols[k] = best;
+    }
+  }
+
+  // the dot product of two arrays of the same length
+  private static double dot(double[] a, double[] b) {
+    double sum = 0d;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of singular value decomposition ({@link SVDecompositionOpenGamma}).
+ * <p>
+ * The columns of U and V are held as arrays. Solving uses the pseudo-inverse, where singular values
+ * that are not greater than the tolerance are treated as zero, without forming the pseudo-inverse matrix.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class SVDecompositionOpenGammaResult implements SVDecompositionResult {
+
+  /**
+   * The columns of U.
+   */
+  private final double[][] uCols;
+  /**
+   * The singular values, in descending order.
+   */
+  private final double[] singularValues;
+  /**
+   * The columns of V.
+   */
+  private final double[][] vCols;
+  /**
+   * The tolerance below which singular values are treated as zero.
+   */
+  private final double tolerance;
+
+  /**
+   * Creates an instance.
+   *
+   * @param uCols  the columns of U, not copied
+   * @param singularValues  the singular values in descending order, not copied
+   * @param vCols  the columns of V, not copied
+   * @param tolerance  the tolerance below which singular values are treated as zero
+   */
+  public SVDecompositionOpenGammaResult(double[][] uCols, double[] singularValues, double[][] vCols, double tolerance) {
+    this.uCols = ArgChecker.notNull(uCols, "uCols");
+    this.singularValues = ArgChecker.notNull(singularValues, "singularValues");
+    this.vCols = ArgChecker.notNull(vCols, "vCols");
+    ArgChecker.isTrue(uCols.length == singularValues.length, "U must have a column for each singular value");
+    ArgChecker.isTrue(vCols.length == singularValues.length, "V must have a column for each singular value");
+    this.tolerance = tolerance;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double getConditionNumber() {
+    return singularValues[0] / singularValues[singularValues.length - 1];
+  }
+
+  @Override
+  public double getNorm() {
+    return singularValues[0];
+  }
+
+  @Override
+  public int getRank() {
+    int rank = 0;
+    for (double singularValue : singularValues) {
+      if (singularValue > tolerance) {
+        rank++;
+      }
+    }
+    return rank;
+  }
+
+  @Override
+  public DoubleMatrix getS() {
+    return DoubleMatrix.diagonal(DoubleArray.copyOf(singularValues));
+  }
+
+  @Override
+  public double[] getSingularValues() {
+    return singularValues.clone();
+  }
+
+  @Override
+  public DoubleMatrix getU() {
+    return fromColumns(uCols);
+  }
+
+  @Override
+  public DoubleMatrix getUT() {
+    return DoubleMatrix.copyOf(uCols);
+  }
+
+  @Override
+  public DoubleMatrix getV() {
+    return fromColumns(vCols);
+  }
+
+  @Override
+  public DoubleMatrix getVT() {
+    return DoubleMatrix.copyOf(vCols);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.length == uCols[0].length, "b array of incorrect size");
+    double[] x = new double[vCols[0].length];
+    for (int k = 0; k < singularValues.length; k++) {
+      if (singularValues[k] > tolerance) {
+        double[] uCol = uCols[k];
+        double w = 0d;
+        for (int i = 0; i < b.length; i++) {
+          w += uCol[i] * b[i];
+        }
+        w /= singularValues[k];
+        double[] vCol = vCols[k];
+        for (int i = 0; i < x.length; i++) {
+          x[i] += w * vCol[i];
+        }
+      }
+    }
+    return x;
+  }
+
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    ArgChecker.isTrue(b.rowCount() == uCols[0].length, "b matrix of incorrect size");
+    double[][] bRows = b.toArrayUnsafe();
+    int colCount = b.columnCount();
+    double[][] x = new double[vCols[0].length][colCount];
+    double[] w = new double[colCount];
+    for (int k = 0; k < singularValues.length; k++) {
+      if (singularValues[k] > tolerance) {
+        // w = (u_k^T B) / s_k, operating on whole rows of B
+        double[] uCol = uCols[k];
+        Arrays.fill(w, 0d);
+        for (int i = 0; i < bRows.length; i++) {
+          double ui = uCol[i];
+          double[] bRow = bRows[i];
+          for (int j = 0; j < colCount; j++) {
+            w[j] += ui * bRow[j];
+          }
+        }
+        // X += v_k w / s_k
+        double[] vCol = vCols[k];
+        double inverse = 1d / singularValues[k];
+        for (int i = 0; i < x.length; i++) {
+          double vi = vCol[i] * inverse;
+          double[] xRow = x[i];
+          for (int j = 0; j < colCount; j++) {
+            xRow[j] += vi * w[j];
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+  //-------------------------------------------------------------------------
+  // creates a matrix from its columns
+  private static DoubleMatrix fromColumns(double[][] cols) {
+    return DoubleMatrix.of(cols[0].length, cols.length, (i, j) -> cols[j][i]);
+  }
+
+}
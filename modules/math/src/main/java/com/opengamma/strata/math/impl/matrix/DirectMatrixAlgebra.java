@@ -0,0 +1,381 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import java.util.Optional;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.Matrix;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionOpenGamma;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionResult;
+import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionOpenGamma;
+import com.opengamma.strata.math.impl.linearalgebra.SVDecompositionResult;
+
+/**
+ * Provides matrix algebra operating directly on the arrays backing {@link DoubleMatrix} and {@link DoubleArray}.
+ * <p>
+ * Unlike {@link CommonsMatrixAlgebra}, no copy is made into a third-party matrix type.
+ * Matrix products and transposes are computed in cache-sized blocks, and the inner loops access
+ * contiguous rows of the backing arrays. Each element of a product is summed in the same order
+ * as a simple triple loop, so the results match {@link OGMatrixAlgebra} exactly.
+ * <p>
+ * Determinants and inverses use {@link LUDecompositionOpenGamma}, with singular and non-square matrices
+ * inverted using the pseudo-inverse of {@link SVDecompositionOpenGamma}, as {@code CommonsMatrixAlgebra} does.
+ * The condition number and matrix 2-norm also use {@code SVDecompositionOpenGamma}.
+ */
+public class DirectMatrixAlgebra extends MatrixAlgebra {
+
+  /**
+   * The size of the square blocks used for products and transposes.
+   * A block of 64 by 64 doubles occupies 32kB.
+   */
+  private static final int BLOCK_SIZE = 64;
+  /**
+   * The LU decomposition.
+   */
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+  /**
+   * The singular value decomposition.
+   */
+  private static final SVDecompositionOpenGamma SVD = new SVDecompositionOpenGamma();
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double getCondition(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      return SVD.apply((DoubleMatrix) m).getConditionNumber();
+    }
+    throw new IllegalArgumentException("Can only find condition number of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public double getDeterminant(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      return LU.tryApply((DoubleMatrix) m).map(LUDecompositionResult::getDeterminant).orElse(0d);
+    }
+    throw new IllegalArgumentException("Can only find determinant of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public double getInnerProduct(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleArray && m2 instanceof DoubleArray) {
+      double[] array1 = ((DoubleArray) m1).toArrayUnsafe();
+      double[] array2 = ((DoubleArray) m2).toArrayUnsafe();
+      ArgChecker.isTrue(array1.length == array2.length, "Arrays must be of the same size");
+      double sum = 0d;
+      for (int i = 0; i < array1.length; i++) {
+        sum += array1[i] * array2[i];
+      }
+      return sum;
+    }
+    throw new IllegalArgumentException("Can only find inner product of DoubleArray; have " +
+        m1.getClass() + " and " + m2.getClass());
+  }
+
+  @Override
+  public DoubleMatrix getInverse(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      if (matrix.isSquare()) {
+        Optional<LUDecompositionResult> lu = LU.tryApply(matrix);
+        if (lu.isPresent()) {
+          return lu.get().solve(DoubleMatrix.identity(matrix.rowCount()));
+        }
+      }
+      SVDecompositionResult svd = SVD.apply(matrix);
+      return svd.solve(DoubleMatrix.identity(matrix.rowCount()));
+    }
+    throw new IllegalArgumentException("Can only find inverse of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public double getNorm1(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleArray) {
+      double sum = 0d;
+      for (double value : ((DoubleArray) m).toArrayUnsafe()) {
+        sum += Math.abs(value);
+      }
+      return sum;
+    } else if (m instanceof DoubleMatrix) {
+      // maximum absolute column sum, accumulated row by row
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      double[] colSums = new double[matrix.columnCount()];
+      for (double[] row : matrix.toArrayUnsafe()) {
+        for (int j = 0; j < row.length; j++) {
+          colSums[j] += Math.abs(row[j]);
+        }
+      }
+      double max = 0d;
+      for (double colSum : colSums) {
+        max = Math.max(max, colSum);
+      }
+      return max;
+    }
+    throw new IllegalArgumentException("Can only find norm1 of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public double getNorm2(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleArray) {
+      double sum = 0d;
+      for (double value : ((DoubleArray) m).toArrayUnsafe()) {
+        sum += value * value;
+      }
+      return Math.sqrt(sum);
+    } else if (m instanceof DoubleMatrix) {
+      return SVD.apply((DoubleMatrix) m).getNorm();
+    }
+    throw new IllegalArgumentException("Can only find norm2 of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public double getNormInfinity(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleArray) {
+      double max = 0d;
+      for (double value : ((DoubleArray) m).toArrayUnsafe()) {
+        max = Math.max(max, Math.abs(value));
+      }
+      return max;
+    } else if (m instanceof DoubleMatrix) {
+      // maximum absolute row sum
+      double max = 0d;
+      for (double[] row : ((DoubleMatrix) m).toArrayUnsafe()) {
+        double sum = 0d;
+        for (double value : row) {
+          sum += Math.abs(value);
+        }
+        max = Math.max(max, sum);
+      }
+      return max;
+    }
+    throw new IllegalArgumentException("Can only find normInfinity of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public DoubleMatrix getOuterProduct(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleArray && m2 instanceof DoubleArray) {
+      double[] array1 = ((DoubleArray) m1).toArrayUnsafe();
+      double[] array2 = ((DoubleArray) m2).toArrayUnsafe();
+      double[][] result = new double[array1.length][array2.length];
+      for (int i = 0; i < array1.length; i++) {
+        double value1 = array1[i];
+        double[] row = result[i];
+        for (int j = 0; j < array2.length; j++) {
+          row[j] = value1 * array2[j];
+        }
+      }
+      return DoubleMatrix.ofUnsafe(result);
+    }
+    throw new IllegalArgumentException("Can only find outer product of DoubleArray; have " +
+        m1.getClass() + " and " + m2.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * The power is calculated by repeated squaring.
+   */
+  @Override
+  public DoubleMatrix getPower(Matrix m, int p) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      ArgChecker.isTrue(matrix.isSquare(), "Matrix not square");
+      ArgChecker.notNegative(p, "p");
+      DoubleMatrix result = DoubleMatrix.identity(matrix.rowCount());
+      DoubleMatrix square = matrix;
+      int remaining = p;
+      while (remaining > 0) {
+        if ((remaining & 1) == 1) {
+          result = multiply(result, square);
+        }
+        remaining >>= 1;
+        if (remaining > 0) {
+          square = multiply(square, square);
+        }
+      }
+      return result;
+    }
+    throw new IllegalArgumentException("Can only find powers of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public DoubleMatrix getPower(Matrix m, double p) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public double getTrace(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      ArgChecker.isTrue(matrix.isSquare(), "Matrix not square");
+      double[][] data = matrix.toArrayUnsafe();
+      double sum = 0d;
+      for (int i = 0; i < data.length; i++) {
+        sum += data[i][i];
+      }
+      return sum;
+    }
+    throw new IllegalArgumentException("Can only find trace of DoubleMatrix; have " + m.getClass());
+  }
+
+  @Override
+  public DoubleMatrix getTranspose(Matrix m) {
+    ArgChecker.notNull(m, "m");
+    if (m instanceof DoubleMatrix) {
+      DoubleMatrix matrix = (DoubleMatrix) m;
+      int rows = matrix.rowCount();
+      int cols = matrix.columnCount();
+      double[][] data = matrix.toArrayUnsafe();
+      double[][] result = new double[cols][rows];
+      for (int ii = 0; ii < rows; ii += BLOCK_SIZE) {
+        int iMax = Math.min(ii + BLOCK_SIZE, rows);
+        for (int jj = 0; jj < cols; jj += BLOCK_SIZE) {
+          int jMax = Math.min(jj + BLOCK_SIZE, cols);
+          for (int i = ii; i < iMax; i++) {
+            double[] row = data[i];
+            for (int j = jj; j < jMax; j++) {
+              result[j][i] = row[j];
+            }
+          }
+        }
+      }
+      return DoubleMatrix.ofUnsafe(result);
+    }
+    throw new IllegalArgumentException("Can only find transpose of DoubleMatrix; have " + m.getClass());
+  }
+
+  /**
+   * {@inheritDoc} The following combinations of input matrices m1 and m2 are allowed:
+   * <ul>
+   * <li>m1 = 2-D matrix, m2 = 2-D matrix, returns $\mathbf{C} = \mathbf{AB}$
+   * <li>m1 = 2-D matrix, m2 = 1-D matrix, returns $\mathbf{C} = \mathbf{A}b$
+   * <li>m1 = 1-D matrix, m2 = 2-D matrix, returns $\mathbf{C} = a^T\mathbf{B}$
+   * </ul>
+   */
+  @Override
+  public Matrix multiply(Matrix m1, Matrix m2) {
+    ArgChecker.notNull(m1, "m1");
+    ArgChecker.notNull(m2, "m2");
+    if (m1 instanceof DoubleMatrix && m2 instanceof DoubleMatrix) {
+      return multiply((DoubleMatrix) m1, (DoubleMatrix) m2);
+    } else if (m1 instanceof DoubleMatrix && m2 instanceof DoubleArray) {
+      return multiply((DoubleMatrix) m1, (DoubleArray) m2);
+    } else if (m1 instanceof DoubleArray && m2 instanceof DoubleMatrix) {
+      return multiply((DoubleArray) m1, (DoubleMatrix) m2);
+    }
+    throw new IllegalArgumentException(
+        "Can only multiply two DoubleMatrix; a DoubleMatrix and a DoubleArray; " +
+            "or a DoubleArray and a DoubleMatrix. have " + m1.getClass() + " and " + m2.getClass());
+  }
+
+  /**
+   * {@inheritDoc}
+   * The product is accumulated row by row of the input, using contiguous memory access.
+   */
+  @Override
+  public DoubleMatrix matrixTransposeMultiplyMatrix(DoubleMatrix a) {
+    ArgChecker.notNull(a, "a");
+    int m = a.columnCount();
+    double[][] result = new double[m][m];
+    for (double[] row : a.toArrayUnsafe()) {
+      for (int i = 0; i < m; i++) {
+        double value = row[i];
+        double[] resultRow = result[i];
+        for (int j = i; j < m; j++) {
+          resultRow[j] += value * row[j];
+        }
+      }
+    }
+    for (int i = 0; i < m; i++) {
+      for (int j = i + 1; j < m; j++) {
+        result[j][i] = result[i][j];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  //-------------------------------------------------------------------------
+  // multiplies in blocks, so that a block of m2 remains in cache while it is applied to every row of m1
+  private DoubleMatrix multiply(DoubleMatrix m1, DoubleMatrix m2) {
+    int inner = m2.rowCount();
+    ArgChecker.isTrue(
+        m1.columnCount() == inner,
+        "Matrix size mismatch. m1 is " + m1.rowCount() + " by " + m1.columnCount() +
+            ", but m2 is " + m2.rowCount() + " by " + m2.columnCount());
+    int rows = m1.rowCount();
+    int cols = m2.columnCount();
+    double[][] a = m1.toArrayUnsafe();
+    double[][] b = m2.toArrayUnsafe();
+    double[][] result = new double[rows][cols];
+    for (int kk = 0; kk < inner; kk += BLOCK_SIZE) {
+      int kMax = Math.min(kk + BLOCK_SIZE, inner);
+      for (int jj = 0; jj < cols; jj += BLOCK_SIZE) {
+        int jMax = Math.min(jj + BLOCK_SIZE, cols);
+        for (int i = 0; i < rows; i++) {
+          double[] aRow = a[i];
+          double[] resultRow = result[i];
+          for (int k = kk; k < kMax; k++) {
+            double aik = aRow[k];
+            double[] bRow = b[k];
+            for (int j = jj; j < jMax; j++) {
+              resultRow[j] += aik * bRow[j];
+            }
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  private DoubleArray multiply(DoubleMatrix matrix, DoubleArray vector) {
+    double[] x = vector.toArrayUnsafe();
+    ArgChecker.isTrue(matrix.columnCount() == x.length, "Matrix/vector size mismatch");
+    double[][] data = matrix.toArrayUnsafe();
+    double[] result = new double[data.length];
+    for (int i = 0; i < data.length; i++) {
+      double[] row = data[i];
+      double sum = 0d;
+      for (int j = 0; j < x.length; j++) {
+        sum += row[j] * x[j];
+      }
+      result[i] = sum;
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+  private DoubleArray multiply(DoubleArray vector, DoubleMatrix matrix) {
+    double[] x = vector.toArrayUnsafe();
+    ArgChecker.isTrue(matrix.rowCount() == x.length, "Matrix/vector size mismatch");
+    double[][] data = matrix.toArrayUnsafe();
+    double[] result = new double[matrix.columnCount()];
+    for (int i = 0; i < x.length; i++) {
+      double value = x[i];
+      double[] row = data[i];
+      for (int j = 0; j < result.length; j++) {
+        result[j] += value * row[j];
+      }
+    }
+    return DoubleArray.ofUnsafe(result);
+  }
+
+}
@@ -160,10 +160,10 @@ public class BaseNewtonVectorRootFinder
         count++;
       }
     }
-    DoubleArray deltaX = data.getDeltaX();
+    // the new position was calculated by the last update, so does not need to be recalculated
     DoubleArray deltaY = data.getDeltaY();
     data.setG0(data.getG1());
-    data.setX((DoubleArray) _algebra.add(data.getX(), deltaX));
+    data.setX(data.getXNew());
     data.setY((DoubleArray) _algebra.add(data.getY(), deltaY));
     return true;
   }
@@ -174,6 +174,7 @@ public class BaseNewtonVectorRootFinder
     DoubleArray xNew = (DoubleArray) _algebra.add(data.getX(), deltaX);
     DoubleArray yNew = function.apply(xNew);
     data.setDeltaX(deltaX);
+    data.setXNew(xNew);
     data.setDeltaY((DoubleArray) _algebra.subtract(yNew, data.getY()));
     data.setG2(data.getG1());
     data.setG1(_algebra.getInnerProduct(yNew, yNew));
@@ -247,6 +248,7 @@ public class BaseNewtonVectorRootFinder
     private DoubleArray _y;
     private DoubleArray _deltaX;
     private DoubleArray _x;
+    private DoubleArray _xNew;
 
     public double getG0() {
       return _g0;
@@ -284,6 +286,10 @@ public class BaseNewtonVectorRootFinder
       return _x;
     }
 
+    public DoubleArray getXNew() {
+      return _xNew;
+    }
+
     public void setG0(double g0) {
       _g0 = g0;
     }
@@ -316,6 +322,10 @@ public class BaseNewtonVectorRootFinder
       _x = x;
     }
 
+    public void setXNew(DoubleArray xNew) {
+      _xNew = xNew;
+    }
+
     public void swapLambdaAndReplace(double lambda0) {
       _lambda1 = _lambda0;
       _lambda0 = lambda0;
@@ -12,7 +12,7 @@ import java.util.function.Function;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
-import com.opengamma.strata.collect.array.Matrix;
+import com.opengamma.strata.collect.array.DoubleMatrixBuffer;
 
 /**
  *
@@ -33,9 +33,10 @@ public class BroydenMatrixUpdateFunction implements NewtonRootFinderMatrixUpdate
     if (length2 == 0.0) {
       return matrix;
     }
-    Matrix temp = OG_ALGEBRA.subtract(deltaY, OG_ALGEBRA.multiply(matrix, deltaX));
-    temp = OG_ALGEBRA.scale(temp, 1.0 / length2);
-    return (DoubleMatrix) OG_ALGEBRA.add(matrix, OG_ALGEBRA.getOuterProduct(temp, deltaX));
+    DoubleArray temp = deltaY.minus((DoubleArray) OG_ALGEBRA.multiply(matrix, deltaX));
+    return DoubleMatrixBuffer.copyOf(matrix)
+        .plusOuterProduct(temp, deltaX, 1.0 / length2)
+        .freeze();
   }
 
 }
@@ -10,6 +10,7 @@ import java.util.function.Function;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.DoubleMatrixBuffer;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 
 /**
@@ -43,8 +44,9 @@ public class ShermanMorrisonMatrixUpdateFunction implements NewtonRootFinderMatr
     }
     v1 = (DoubleArray) _algebra.scale(v1, 1. / length);
     DoubleArray v2 = (DoubleArray) _algebra.subtract(deltaX, _algebra.multiply(matrix, deltaY));
-    DoubleMatrix m = _algebra.getOuterProduct(v2, v1);
-    return (DoubleMatrix) _algebra.add(matrix, m);
+    return DoubleMatrixBuffer.copyOf(matrix)
+        .plusOuterProduct(v2, v1, 1.)
+        .freeze();
   }
 
 }
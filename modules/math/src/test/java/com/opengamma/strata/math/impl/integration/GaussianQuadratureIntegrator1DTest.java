@@ -6,12 +6,15 @@
 package com.opengamma.strata.math.impl.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.opengamma.strata.collect.array.DoubleArray;
+
 /**
  * Test.
  */
@@ -131,4 +134,69 @@ public class GaussianQuadratureIntegrator1DTest {
     assertThat(expected).isCloseTo(res2, offset(1e-15));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void testIntegrateVectorParameters() {
+    DoubleArray strikes = DoubleArray.of(0.5, 1d, 1.5, 2d);
+    GaussLegendreQuadratureIntegrator1D integrator = new GaussLegendreQuadratureIntegrator1D(10);
+    DoubleArray computed = integrator.integrateVector((x, k) -> Math.exp(-k * x) * x, strikes, 0.2, 3d);
+    assertThat(computed.size()).isEqualTo(strikes.size());
+    for (int i = 0; i < strikes.size(); i++) {
+      double k = strikes.get(i);
+      double expected = integrator.integrate(x -> Math.exp(-k * x) * x, 0.2, 3d);
+      assertThat(computed.get(i)).isCloseTo(expected, offset(1e-14));
+    }
+  }
+
+  @Test
+  public void testIntegrateVectorFunction() {
+    GaussJacobiQuadratureIntegrator1D integrator = new GaussJacobiQuadratureIntegrator1D(7);
+    DoubleArray computed = integrator.integrateVector(x -> DoubleArray.of(DF1.apply(x), DF2.apply(x)), -1d, 12d);
+    assertThat(computed.get(0)).isCloseTo(integrator.integrate(DF1, -1d, 12d), offset(1e-8));
+    assertThat(computed.get(1)).isCloseTo(integrator.integrate(DF2, -1d, 12d), offset(1e-14));
+    assertThat(computed.get(0)).isCloseTo(F1.apply(12d) - F1.apply(-1d), offset(EPS));
+  }
+
+  @Test
+  public void testIntegrateVectorLaguerre() {
+    GaussLaguerreQuadratureIntegrator1D integrator = new GaussLaguerreQuadratureIntegrator1D(15);
+    DoubleArray computed = integrator.integrateVector(
+        (x, a) -> Math.exp(-a * x), DoubleArray.of(1.5, 2d), 0d, Double.POSITIVE_INFINITY);
+    assertThat(computed.get(0)).isCloseTo(1d / 1.5, offset(EPS));
+    assertThat(computed.get(1)).isCloseTo(0.5, offset(EPS));
+  }
+
+  @Test
+  public void testIntegrateVectorFromPolyFunc() {
+    GaussHermiteQuadratureIntegrator1D integrator = new GaussHermiteQuadratureIntegrator1D(11);
+    DoubleArray computed = integrator.integrateVectorFromPolyFunc(x -> DoubleArray.of(ONE.apply(x), COS.apply(x)));
+    assertThat(computed.get(0)).isEqualTo(integrator.integrateFromPolyFunc(ONE));
+    assertThat(computed.get(1)).isEqualTo(integrator.integrateFromPolyFunc(COS));
+    DoubleArray computedFull = integrator.integrateVector(
+        x -> DoubleArray.of(COS_EXP.apply(x)), Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    assertThat(computedFull.get(0)).isCloseTo(computed.get(1), offset(1e-14));
+  }
+
+  @Test
+  public void testIntegrateVectorLengthMismatch() {
+    GaussLegendreQuadratureIntegrator1D integrator = new GaussLegendreQuadratureIntegrator1D(6);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> integrator.integrateVector(x -> DoubleArray.filled(x < 0 ? 1 : 2), -1d, 1d));
+  }
+
+  @Test
+  public void testSharedGenerators() {
+    GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(5, 0.5);
+    assertThat(laguerre).isEqualTo(new GaussLaguerreQuadratureIntegrator1D(5, 0.5));
+    assertThat(laguerre.hashCode()).isEqualTo(new GaussLaguerreQuadratureIntegrator1D(5, 0.5).hashCode());
+    assertThat(laguerre).isNotEqualTo(new GaussLaguerreQuadratureIntegrator1D(5));
+    GaussJacobiWeightAndAbscissaFunction jacobi = new GaussJacobiWeightAndAbscissaFunction(1, 2);
+    assertThat(jacobi).isEqualTo(new GaussJacobiWeightAndAbscissaFunction(1, 2));
+    assertThat(jacobi.hashCode()).isEqualTo(new GaussJacobiWeightAndAbscissaFunction(1, 2).hashCode());
+    assertThat(jacobi).isNotEqualTo(new GaussJacobiWeightAndAbscissaFunction(2, 1));
+    GaussLegendreWeightAndAbscissaFunction legendre = new GaussLegendreWeightAndAbscissaFunction();
+    assertThat(legendre).isEqualTo(new GaussLegendreWeightAndAbscissaFunction());
+    assertThat(legendre).isNotEqualTo(new GaussHermiteWeightAndAbscissaFunction());
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.DirectMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+
+/**
+ * Test {@link LUDecompositionOpenGamma}.
+ */
+public class LUDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new DirectMatrixAlgebra();
+  private static final LUDecompositionOpenGamma LU = new LUDecompositionOpenGamma();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1, 2, -1}, {4, 3, 1}, {2, 2, 3}});
+  private static final double EPS = 1e-12;
+
+  @Test
+  public void test_null() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply((DoubleMatrix) null));
+  }
+
+  @Test
+  public void test_notSquare() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply(DoubleMatrix.of(2, 3, 1, 2, 3, 4, 5, 6)));
+  }
+
+  @Test
+  public void test_recoverOriginal() {
+    LUDecompositionResult result = LU.apply(A);
+    DoubleMatrix lu = (DoubleMatrix) ALGEBRA.multiply(result.getL(), result.getU());
+    checkEquals(lu, (DoubleMatrix) ALGEBRA.multiply(result.getP(), A));
+    // largest pivot first
+    assertThat(result.getPivot()[0]).isEqualTo(1);
+    assertThat(result.getL().get(0, 0)).isEqualTo(1d);
+    assertThat(result.getU().get(1, 0)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_determinant() {
+    // 1*(9-2) - 2*(12-2) - 1*(8-6) = -15
+    assertThat(LU.apply(A).getDeterminant()).isCloseTo(-15d, offset(EPS));
+  }
+
+  @Test
+  public void test_solve() {
+    LUDecompositionResult result = LU.apply(A);
+    DoubleArray b = DoubleArray.of(1, 2, 3);
+    DoubleArray x = result.solve(b);
+    assertThat(((DoubleArray) ALGEBRA.multiply(A, x)).equalWithTolerance(b, EPS)).isTrue();
+    DoubleMatrix bMatrix = DoubleMatrix.copyOf(new double[][] {{1, 0}, {2, 1}, {3, 0}});
+    DoubleMatrix xMatrix = result.solve(bMatrix);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(A, xMatrix), bMatrix);
+  }
+
+  @Test
+  public void test_singular() {
+    DoubleMatrix singular = DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 4}});
+    assertThat(LU.tryApply(singular)).isEmpty();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply(singular));
+  }
+
+  //-------------------------------------------------------------------------
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    assertThat(x.rowCount()).isEqualTo(y.rowCount());
+    assertThat(x.columnCount()).isEqualTo(y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertThat(x.get(i, j)).isCloseTo(y.get(i, j), offset(EPS));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.DirectMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * Test {@link QRDecompositionOpenGamma}.
+ */
+public class QRDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new DirectMatrixAlgebra();
+  private static final Decomposition<QRDecompositionResult> QR = new QRDecompositionOpenGamma();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+  private static final double EPS = 1e-12;
+
+  @Test
+  public void test_null() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> QR.apply((DoubleMatrix) null));
+  }
+
+  @Test
+  public void test_recoverOriginal() {
+    QRDecompositionResult result = QR.apply(A);
+    DoubleMatrix q = result.getQ();
+    DoubleMatrix r = result.getR();
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(q, r), A);
+    checkEquals(ALGEBRA.matrixTransposeMultiplyMatrix(q), DoubleMatrix.identity(3));
+    assertThat(result.getQT()).isEqualTo(q.transpose());
+    assertThat(r.get(1, 0)).isEqualTo(0d);
+    assertThat(r.get(2, 1)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_tallMatrix() {
+    DoubleMatrix a = DoubleMatrix.copyOf(new double[][] {{1, 0}, {1, 1}, {1, 2}});
+    QRDecompositionResult result = QR.apply(a);
+    assertThat(result.getQ().rowCount()).isEqualTo(3);
+    assertThat(result.getQ().columnCount()).isEqualTo(3);
+    assertThat(result.getR().rowCount()).isEqualTo(3);
+    assertThat(result.getR().columnCount()).isEqualTo(2);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(result.getQ(), result.getR()), a);
+
+    // least squares fit of a straight line through three points
+    DoubleArray x = result.solve(DoubleArray.of(1, 3, 4));
+    assertThat(x.get(0)).isCloseTo(7d / 6d, offset(EPS));
+    assertThat(x.get(1)).isCloseTo(1.5d, offset(EPS));
+    DoubleMatrix xMatrix = result.solve(DoubleMatrix.of(3, 1, 1, 3, 4));
+    assertThat(xMatrix.column(0).equalWithTolerance(x, EPS)).isTrue();
+  }
+
+  @Test
+  public void test_solve_singular() {
+    QRDecompositionResult result = QR.apply(DoubleMatrix.copyOf(new double[][] {{1, 0}, {0, 0}}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> result.solve(DoubleArray.of(1, 2)));
+  }
+
+  //-------------------------------------------------------------------------
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    assertThat(x.rowCount()).isEqualTo(y.rowCount());
+    assertThat(x.columnCount()).isEqualTo(y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertThat(x.get(i, j)).isCloseTo(y.get(i, j), offset(EPS));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.DirectMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * Test {@link SVDecompositionOpenGamma}.
+ */
+public class SVDecompositionOpenGammaTest extends SVDecompositionCalculationTestCase {
+
+  private static final MatrixAlgebra ALGEBRA = new DirectMatrixAlgebra();
+  private static final Decomposition<SVDecompositionResult> SVD = new SVDecompositionOpenGamma();
+  private static final double TOL = 1e-12;
+
+  @Override
+  protected MatrixAlgebra getAlgebra() {
+    return ALGEBRA;
+  }
+
+  @Override
+  protected Decomposition<SVDecompositionResult> getSVD() {
+    return SVD;
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_wideMatrix() {
+    DoubleMatrix a = DoubleMatrix.copyOf(new double[][] {{1, 2, 3, 4}, {-2, 0, 1, 5}});
+    SVDecompositionResult result = SVD.apply(a);
+    assertThat(result.getU().rowCount()).isEqualTo(2);
+    assertThat(result.getU().columnCount()).isEqualTo(2);
+    assertThat(result.getV().rowCount()).isEqualTo(4);
+    assertThat(result.getV().columnCount()).isEqualTo(2);
+    assertThat(result.getRank()).isEqualTo(2);
+    DoubleMatrix recovered =
+        (DoubleMatrix) ALGEBRA.multiply(ALGEBRA.multiply(result.getU(), result.getS()), result.getVT());
+    checkEquals(recovered, a);
+    checkEquals(ALGEBRA.matrixTransposeMultiplyMatrix(result.getV()), DoubleMatrix.identity(2));
+  }
+
+  @Test
+  public void test_rankDeficient() {
+    DoubleMatrix a = DoubleMatrix.copyOf(new double[][] {{1, 2, 3}, {2, 4, 6}, {1, 0, 1}});
+    SVDecompositionResult result = SVD.apply(a);
+    double[] singularValues = result.getSingularValues();
+    assertThat(singularValues[0]).isGreaterThanOrEqualTo(singularValues[1]);
+    assertThat(singularValues[2]).isCloseTo(0d, offset(TOL));
+    assertThat(result.getRank()).isEqualTo(2);
+    assertThat(result.getNorm()).isEqualTo(singularValues[0]);
+    // U is orthonormal even though a singular value is zero
+    checkEquals(ALGEBRA.matrixTransposeMultiplyMatrix(result.getU()), DoubleMatrix.identity(3));
+    DoubleMatrix recovered =
+        (DoubleMatrix) ALGEBRA.multiply(ALGEBRA.multiply(result.getU(), result.getS()), result.getVT());
+    checkEquals(recovered, a);
+  }
+
+  @Test
+  public void test_solve_leastSquares() {
+    // fit a straight line through three points
+    DoubleMatrix a = DoubleMatrix.copyOf(new double[][] {{1, 0}, {1, 1}, {1, 2}});
+    DoubleArray b = DoubleArray.of(1, 3, 4);
+    SVDecompositionResult result = SVD.apply(a);
+    DoubleArray x = result.solve(b);
+    assertThat(x.get(0)).isCloseTo(7d / 6d, offset(TOL));
+    assertThat(x.get(1)).isCloseTo(1.5d, offset(TOL));
+    DoubleMatrix xMatrix = result.solve(DoubleMatrix.of(3, 1, 1, 3, 4));
+    assertThat(xMatrix.column(0).equalWithTolerance(x, TOL)).isTrue();
+  }
+
+  //-------------------------------------------------------------------------
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    assertThat(x.rowCount()).isEqualTo(y.rowCount());
+    assertThat(x.columnCount()).isEqualTo(y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertThat(x.get(i, j)).isCloseTo(y.get(i, j), offset(TOL));
+      }
+    }
+  }
+
+}
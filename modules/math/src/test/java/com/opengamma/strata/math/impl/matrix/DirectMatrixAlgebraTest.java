@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.util.AssertMatrix;
+
+/**
+ * Test {@link DirectMatrixAlgebra}.
+ */
+public class DirectMatrixAlgebraTest {
+
+  private static final MatrixAlgebra ALGEBRA = MatrixAlgebraFactory.getMatrixAlgebra(MatrixAlgebraFactory.DIRECT);
+  private static final MatrixAlgebra OG = MatrixAlgebraFactory.OG_ALGEBRA;
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1., 2., 3.}, {-1., 1., 0.}, {-2., 1., -2.}});
+  private static final DoubleMatrix B = DoubleMatrix.copyOf(new double[][] {{1, 1}, {2, -2}, {3, 1}});
+  private static final DoubleMatrix C = DoubleMatrix.copyOf(new double[][] {{14, 0}, {1, -3}, {-6, -6}});
+  private static final DoubleMatrix SINGULAR = DoubleMatrix.copyOf(
+      new double[][] {{1., 2., 3.}, {2., 4., 6.}, {1., 0., 1.}});
+  private static final DoubleArray E = DoubleArray.of(-1, 2, 3);
+  private static final DoubleArray F = DoubleArray.of(2, -2, 1);
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_multiply() {
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(A, B), C, TOL);
+    AssertMatrix.assertEqualsVectors((DoubleArray) ALGEBRA.multiply(A, E), DoubleArray.of(12, 3, -2), TOL);
+    AssertMatrix.assertEqualsVectors((DoubleArray) ALGEBRA.multiply(E, A), DoubleArray.of(-9, 3, -9), TOL);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.multiply(B, A));
+  }
+
+  @Test
+  public void test_multiply_largerThanBlock() {
+    DoubleMatrix a = matrix(70, 130);
+    DoubleMatrix b = matrix(130, 90);
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(a, b), (DoubleMatrix) OG.multiply(a, b), TOL);
+    DoubleArray x = b.column(3);
+    AssertMatrix.assertEqualsVectors((DoubleArray) ALGEBRA.multiply(a, x), (DoubleArray) OG.multiply(a, x), TOL);
+    DoubleArray y = a.column(5);
+    AssertMatrix.assertEqualsVectors((DoubleArray) ALGEBRA.multiply(y, a), (DoubleArray) OG.multiply(y, a), TOL);
+  }
+
+  @Test
+  public void test_transpose() {
+    DoubleMatrix a = matrix(70, 130);
+    assertThat(ALGEBRA.getTranspose(a)).isEqualTo(a.transpose());
+    AssertMatrix.assertEqualsMatrix(
+        ALGEBRA.matrixTransposeMultiplyMatrix(a), OG.matrixTransposeMultiplyMatrix(a), TOL);
+  }
+
+  @Test
+  public void test_inverse() {
+    DoubleMatrix inverse = ALGEBRA.getInverse(A);
+    AssertMatrix.assertEqualsMatrix((DoubleMatrix) ALGEBRA.multiply(A, inverse), DoubleMatrix.identity(3), TOL);
+    // the pseudo-inverse is returned for a singular matrix
+    DoubleMatrix pseudoInverse = ALGEBRA.getInverse(SINGULAR);
+    DoubleMatrix recovered = (DoubleMatrix) ALGEBRA.multiply(ALGEBRA.multiply(SINGULAR, pseudoInverse), SINGULAR);
+    AssertMatrix.assertEqualsMatrix(recovered, SINGULAR, TOL);
+  }
+
+  @Test
+  public void test_determinant() {
+    assertThat(ALGEBRA.getDeterminant(A)).isCloseTo(-3, offset(TOL));
+    assertThat(ALGEBRA.getDeterminant(SINGULAR)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_norms() {
+    assertThat(ALGEBRA.getNorm1(A)).isEqualTo(5d);
+    assertThat(ALGEBRA.getNormInfinity(A)).isEqualTo(6d);
+    assertThat(ALGEBRA.getNorm1(E)).isEqualTo(6d);
+    assertThat(ALGEBRA.getNorm2(E)).isCloseTo(Math.sqrt(14), offset(TOL));
+    assertThat(ALGEBRA.getNormInfinity(E)).isEqualTo(3d);
+    assertThat(ALGEBRA.getNorm2(DoubleMatrix.diagonal(DoubleArray.of(1, -4, 2)))).isCloseTo(4, offset(TOL));
+    assertThat(ALGEBRA.getCondition(DoubleMatrix.diagonal(DoubleArray.of(1, -4, 2)))).isCloseTo(4, offset(TOL));
+    assertThat(ALGEBRA.getTrace(A)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_products() {
+    assertThat(ALGEBRA.getInnerProduct(E, F)).isEqualTo(-3d);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getOuterProduct(E, F), OG.getOuterProduct(E, F), TOL);
+  }
+
+  @Test
+  public void test_power() {
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getPower(A, 0), DoubleMatrix.identity(3), TOL);
+    AssertMatrix.assertEqualsMatrix(ALGEBRA.getPower(A, 3), (DoubleMatrix) OG.multiply(OG.multiply(A, A), A), TOL);
+    assertThatIllegalArgumentException().isThrownBy(() -> ALGEBRA.getPower(B, 2));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> ALGEBRA.getPower(A, 2.5));
+  }
+
+  //-------------------------------------------------------------------------
+  // a deterministic dense matrix
+  private static DoubleMatrix matrix(int rows, int columns) {
+    return DoubleMatrix.of(rows, columns, (i, j) -> Math.sin(7 * i + 3 * j + 1));
+  }
+
+}
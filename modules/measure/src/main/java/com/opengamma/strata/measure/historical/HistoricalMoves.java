@@ -0,0 +1,452 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.ImmutableValidator;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.GenericDoubleShifts;
+import com.opengamma.strata.market.ShiftType;
+
+/**
+ * The historical moves of a set of observable market data, such as quotes.
+ * <p>
+ * The moves are derived from the time-series of each item of market data, using the dates
+ * present in every time-series. Each move is the shift between the values on two consecutive dates.
+ * <p>
+ * The moves are applied to the market data of the valuation date using a {@link ScenarioDefinition}.
+ * The first scenario of the definition is the base scenario, where the market data is not perturbed,
+ * and scenario {@code i + 1} applies move {@code i}. The P&L of each move is thus the difference
+ * between the value in scenario {@code i + 1} and the value in the base scenario.
+ */
+@BeanDefinition(builderScope = "private")
+public final class HistoricalMoves
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The type of shift used to define the moves.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ShiftType shiftType;
+  /**
+   * The date of each move.
+   * <p>
+   * This is the later of the two dates used to compute the move.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<LocalDate> dates;
+  /**
+   * The moves of each item of market data.
+   * <p>
+   * Each array contains one element for each date.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<ObservableId, DoubleArray> moves;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the time-series of each item of market data.
+   * <p>
+   * Only the dates present in every time-series are used.
+   *
+   * @param timeSeries  the time-series of each item of market data
+   * @param shiftType  the type of shift used to define the moves
+   * @return the moves
+   * @throws IllegalArgumentException if there are fewer than two dates present in every time-series
+   */
+  public static HistoricalMoves of(
+      Map<? extends ObservableId, LocalDateDoubleTimeSeries> timeSeries,
+      ShiftType shiftType) {
+
+    ArgChecker.notEmpty(timeSeries, "timeSeries");
+    ArgChecker.notNull(shiftType, "shiftType");
+    SortedSet<LocalDate> commonDates = null;
+    for (LocalDateDoubleTimeSeries series : timeSeries.values()) {
+      if (commonDates == null) {
+        commonDates = series.dates().collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+      } else {
+        commonDates.removeIf(date -> !series.containsDate(date));
+      }
+    }
+    List<LocalDate> seriesDates = ImmutableList.copyOf(commonDates);
+    ArgChecker.isTrue(seriesDates.size() > 1, "Time-series must have at least two dates in common");
+    int moveCount = seriesDates.size() - 1;
+    ImmutableMap.Builder<ObservableId, DoubleArray> moves = ImmutableMap.builder();
+    for (Entry<? extends ObservableId, LocalDateDoubleTimeSeries> entry : timeSeries.entrySet()) {
+      LocalDateDoubleTimeSeries series = entry.getValue();
+      double[] values = seriesDates.stream().mapToDouble(date -> series.get(date).getAsDouble()).toArray();
+      moves.put(entry.getKey(), DoubleArray.of(moveCount, i -> shiftType.computeShift(values[i], values[i + 1])));
+    }
+    return new HistoricalMoves(shiftType, seriesDates.subList(1, seriesDates.size()), moves.build());
+  }
+
+  @ImmutableValidator
+  private void validate() {
+    for (Entry<ObservableId, DoubleArray> entry : moves.entrySet()) {
+      ArgChecker.isTrue(
+          entry.getValue().size() == dates.size(),
+          "Moves of '{}' must have one element for each of the {} dates",
+          entry.getKey(),
+          dates.size());
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of moves.
+   *
+   * @return the number of moves
+   */
+  public int getMoveCount() {
+    return dates.size();
+  }
+
+  /**
+   * Creates the scenario definition applying the moves to the market data.
+   * <p>
+   * The first scenario is the base scenario, where the market data is not perturbed.
+   * Scenario {@code i + 1} applies move {@code i}.
+   *
+   * @return the scenario definition
+   */
+  public ScenarioDefinition toScenarioDefinition() {
+    // the shift amount that leaves the value unchanged, zero for additive shifts and one for scaled shifts
+    double baseShift = shiftType.computeShift(1d, 1d);
+    List<PerturbationMapping<Double>> mappings = moves.entrySet().stream()
+        .map(entry -> PerturbationMapping.of(
+            MarketDataFilter.ofId(entry.getKey()),
+            GenericDoubleShifts.of(shiftType, DoubleArray.of(baseShift).concat(entry.getValue()))))
+        .collect(toImmutableList());
+    return ScenarioDefinition.ofMappings(mappings);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code HistoricalMoves}.
+   * @return the meta-bean, not null
+   */
+  public static HistoricalMoves.Meta meta() {
+    return HistoricalMoves.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(HistoricalMoves.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private HistoricalMoves(
+      ShiftType shiftType,
+      List<LocalDate> dates,
+      Map<ObservableId, DoubleArray> moves) {
+    JodaBeanUtils.notNull(shiftType, "shiftType");
+    JodaBeanUtils.notNull(dates, "dates");
+    JodaBeanUtils.notNull(moves, "moves");
+    this.shiftType = shiftType;
+    this.dates = ImmutableList.copyOf(dates);
+    this.moves = ImmutableMap.copyOf(moves);
+    validate();
+  }
+
+  @Override
+  public HistoricalMoves.Meta metaBean() {
+    return HistoricalMoves.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the type of shift used to define the moves.
+   * @return the value of the property, not null
+   */
+  public ShiftType getShiftType() {
+    return shiftType;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the date of each move.
+   * <p>
+   * This is the later of the two dates used to compute the move.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<LocalDate> getDates() {
+    return dates;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the moves of each item of market data.
+   * <p>
+   * Each array contains one element for each date.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<ObservableId, DoubleArray> getMoves() {
+    return moves;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      HistoricalMoves other = (HistoricalMoves) obj;
+      return JodaBeanUtils.equal(shiftType, other.shiftType) &&
+          JodaBeanUtils.equal(dates, other.dates) &&
+          JodaBeanUtils.equal(moves, other.moves);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(shiftType);
+    hash = hash * 31 + JodaBeanUtils.hashCode(dates);
+    hash = hash * 31 + JodaBeanUtils.hashCode(moves);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("HistoricalMoves{");
+    buf.append("shiftType").append('=').append(JodaBeanUtils.toString(shiftType)).append(',').append(' ');
+    buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+    buf.append("moves").append('=').append(JodaBeanUtils.toString(moves));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code HistoricalMoves}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code shiftType} property.
+     */
+    private final MetaProperty<ShiftType> shiftType = DirectMetaProperty.ofImmutable(
+        this, "shiftType", HistoricalMoves.class, ShiftType.class);
+    /**
+     * The meta-property for the {@code dates} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<LocalDate>> dates = DirectMetaProperty.ofImmutable(
+        this, "dates", HistoricalMoves.class, (Class) ImmutableList.class);
+    /**
+     * The meta-property for the {@code moves} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableMap<ObservableId, DoubleArray>> moves = DirectMetaProperty.ofImmutable(
+        this, "moves", HistoricalMoves.class, (Class) ImmutableMap.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "shiftType",
+        "dates",
+        "moves");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 893345500:  // shiftType
+          return shiftType;
+        case 95356549:  // dates
+          return dates;
+        case 104087234:  // moves
+          return moves;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends HistoricalMoves> builder() {
+      return new HistoricalMoves.Builder();
+    }
+
+    @Override
+    public Class<? extends HistoricalMoves> beanType() {
+      return HistoricalMoves.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code shiftType} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ShiftType> shiftType() {
+      return shiftType;
+    }
+
+    /**
+     * The meta-property for the {@code dates} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<LocalDate>> dates() {
+      return dates;
+    }
+
+    /**
+     * The meta-property for the {@code moves} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableMap<ObservableId, DoubleArray>> moves() {
+      return moves;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 893345500:  // shiftType
+          return ((HistoricalMoves) bean).getShiftType();
+        case 95356549:  // dates
+          return ((HistoricalMoves) bean).getDates();
+        case 104087234:  // moves
+          return ((HistoricalMoves) bean).getMoves();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code HistoricalMoves}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<HistoricalMoves> {
+
+    private ShiftType shiftType;
+    private List<LocalDate> dates = ImmutableList.of();
+    private Map<ObservableId, DoubleArray> moves = ImmutableMap.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 893345500:  // shiftType
+          return shiftType;
+        case 95356549:  // dates
+          return dates;
+        case 104087234:  // moves
+          return moves;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 893345500:  // shiftType
+          this.shiftType = (ShiftType) newValue;
+          break;
+        case 95356549:  // dates
+          this.dates = (List<LocalDate>) newValue;
+          break;
+        case 104087234:  // moves
+          this.moves = (Map<ObservableId, DoubleArray>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public HistoricalMoves build() {
+      return new HistoricalMoves(
+          shiftType,
+          dates,
+          moves);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("HistoricalMoves.Builder{");
+      buf.append("shiftType").append('=').append(JodaBeanUtils.toString(shiftType)).append(',').append(' ');
+      buf.append("dates").append('=').append(JodaBeanUtils.toString(dates)).append(',').append(' ');
+      buf.append("moves").append('=').append(JodaBeanUtils.toString(moves));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.direct.DirectMetaBean;
+import org.joda.beans.impl.direct.DirectMetaProperty;
+import org.joda.beans.impl.direct.DirectMetaPropertyMap;
+import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.math.impl.statistics.descriptive.QuantileCalculationMethod;
+
+/**
+ * The historical P&L of each node of a portfolio hierarchy.
+ * <p>
+ * A node of the hierarchy is identified by its path, the list of names from the root to the node.
+ * The root of the hierarchy is identified by the empty path.
+ * The P&L of a node includes the P&L of every node below it.
+ * <p>
+ * The P&L vector of a node contains one element for each historical move.
+ * Value at risk and expected shortfall are computed from the P&L vectors using a quantile calculation method,
+ * and are expressed as positive amounts for losses.
+ */
+@BeanDefinition(builderScope = "private")
+public final class HistoricalPnl
+    implements ImmutableBean, Serializable {
+
+  /**
+   * The currency of the P&L.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final Currency currency;
+  /**
+   * The P&L vector of each node, keyed by the path of the node.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<ImmutableList<String>, DoubleArray> pnl;
+  /**
+   * The failures of the calculations that could not be included in the P&L.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableList<Failure> failures;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param currency  the currency of the P&L
+   * @param pnl  the P&L vector of each node, keyed by the path of the node
+   * @param failures  the failures of the calculations that could not be included in the P&L
+   * @return the P&L
+   */
+  public static HistoricalPnl of(
+      Currency currency,
+      Map<ImmutableList<String>, DoubleArray> pnl,
+      List<Failure> failures) {
+
+    return new HistoricalPnl(currency, pnl, failures);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the P&L vector of the root of the hierarchy, the whole portfolio.
+   *
+   * @return the P&L vector of the portfolio
+   * @throws IllegalArgumentException if there is no P&L
+   */
+  public DoubleArray getPortfolioPnl() {
+    return getPnl(ImmutableList.of());
+  }
+
+  /**
+   * Gets the P&L vector of a node.
+   *
+   * @param path  the path of the node
+   * @return the P&L vector of the node
+   * @throws IllegalArgumentException if there is no P&L for the node
+   */
+  public DoubleArray getPnl(List<String> path) {
+    DoubleArray nodePnl = pnl.get(ImmutableList.copyOf(path));
+    if (nodePnl == null) {
+      throw new IllegalArgumentException("No P&L for node: " + path);
+    }
+    return nodePnl;
+  }
+
+  /**
+   * Calculates the value at risk of a node.
+   * <p>
+   * This is the loss that is exceeded with a probability of {@code 1 - confidenceLevel},
+   * the negative of the quantile of the P&L at level {@code 1 - confidenceLevel}.
+   * The quantile is extrapolated flat if the level is outside the range of the sample.
+   *
+   * @param path  the path of the node
+   * @param confidenceLevel  the confidence level, such as 0.99
+   * @param method  the method used to compute the quantile
+   * @return the value at risk
+   * @throws IllegalArgumentException if there is no P&L for the node
+   */
+  public double valueAtRisk(List<String> path, double confidenceLevel, QuantileCalculationMethod method) {
+    ArgChecker.inRangeExclusive(confidenceLevel, 0d, 1d, "confidenceLevel");
+    return -method.quantileWithExtrapolationFromUnsorted(1d - confidenceLevel, getPnl(path));
+  }
+
+  /**
+   * Calculates the expected shortfall of a node.
+   * <p>
+   * This is the average loss in the cases where the loss exceeds the value at risk,
+   * the negative of the expected shortfall of the P&L at level {@code 1 - confidenceLevel}.
+   *
+   * @param path  the path of the node
+   * @param confidenceLevel  the confidence level, such as 0.99
+   * @param method  the method used to compute the expected shortfall
+   * @return the expected shortfall
+   * @throws IllegalArgumentException if there is no P&L for the node
+   */
+  public double expectedShortfall(List<String> path, double confidenceLevel, QuantileCalculationMethod method) {
+    ArgChecker.inRangeExclusive(confidenceLevel, 0d, 1d, "confidenceLevel");
+    return -method.expectedShortfallFromUnsorted(1d - confidenceLevel, getPnl(path));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code HistoricalPnl}.
+   * @return the meta-bean, not null
+   */
+  public static HistoricalPnl.Meta meta() {
+    return HistoricalPnl.Meta.INSTANCE;
+  }
+
+  static {
+    MetaBean.register(HistoricalPnl.Meta.INSTANCE);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private HistoricalPnl(
+      Currency currency,
+      Map<ImmutableList<String>, DoubleArray> pnl,
+      List<Failure> failures) {
+    JodaBeanUtils.notNull(currency, "currency");
+    JodaBeanUtils.notNull(pnl, "pnl");
+    JodaBeanUtils.notNull(failures, "failures");
+    this.currency = currency;
+    this.pnl = ImmutableMap.copyOf(pnl);
+    this.failures = ImmutableList.copyOf(failures);
+  }
+
+  @Override
+  public HistoricalPnl.Meta metaBean() {
+    return HistoricalPnl.Meta.INSTANCE;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the currency of the P&L.
+   * @return the value of the property, not null
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the P&L vector of each node, keyed by the path of the node.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<ImmutableList<String>, DoubleArray> getPnl() {
+    return pnl;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the failures of the calculations that could not be included in the P&L.
+   * @return the value of the property, not null
+   */
+  public ImmutableList<Failure> getFailures() {
+    return failures;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      HistoricalPnl other = (HistoricalPnl) obj;
+      return JodaBeanUtils.equal(currency, other.currency) &&
+          JodaBeanUtils.equal(pnl, other.pnl) &&
+          JodaBeanUtils.equal(failures, other.failures);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(currency);
+    hash = hash * 31 + JodaBeanUtils.hashCode(pnl);
+    hash = hash * 31 + JodaBeanUtils.hashCode(failures);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(128);
+    buf.append("HistoricalPnl{");
+    buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+    buf.append("pnl").append('=').append(JodaBeanUtils.toString(pnl)).append(',').append(' ');
+    buf.append("failures").append('=').append(JodaBeanUtils.toString(failures));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The meta-bean for {@code HistoricalPnl}.
+   */
+  public static final class Meta extends DirectMetaBean {
+    /**
+     * The singleton instance of the meta-bean.
+     */
+    static final Meta INSTANCE = new Meta();
+
+    /**
+     * The meta-property for the {@code currency} property.
+     */
+    private final MetaProperty<Currency> currency = DirectMetaProperty.ofImmutable(
+        this, "currency", HistoricalPnl.class, Currency.class);
+    /**
+     * The meta-property for the {@code pnl} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableMap<ImmutableList<String>, DoubleArray>> pnl = DirectMetaProperty.ofImmutable(
+        this, "pnl", HistoricalPnl.class, (Class) ImmutableMap.class);
+    /**
+     * The meta-property for the {@code failures} property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes" })
+    private final MetaProperty<ImmutableList<Failure>> failures = DirectMetaProperty.ofImmutable(
+        this, "failures", HistoricalPnl.class, (Class) ImmutableList.class);
+    /**
+     * The meta-properties.
+     */
+    private final Map<String, MetaProperty<?>> metaPropertyMap$ = new DirectMetaPropertyMap(
+        this, null,
+        "currency",
+        "pnl",
+        "failures");
+
+    /**
+     * Restricted constructor.
+     */
+    private Meta() {
+    }
+
+    @Override
+    protected MetaProperty<?> metaPropertyGet(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return currency;
+        case 111150:  // pnl
+          return pnl;
+        case 675938345:  // failures
+          return failures;
+      }
+      return super.metaPropertyGet(propertyName);
+    }
+
+    @Override
+    public BeanBuilder<? extends HistoricalPnl> builder() {
+      return new HistoricalPnl.Builder();
+    }
+
+    @Override
+    public Class<? extends HistoricalPnl> beanType() {
+      return HistoricalPnl.class;
+    }
+
+    @Override
+    public Map<String, MetaProperty<?>> metaPropertyMap() {
+      return metaPropertyMap$;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-property for the {@code currency} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<Currency> currency() {
+      return currency;
+    }
+
+    /**
+     * The meta-property for the {@code pnl} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableMap<ImmutableList<String>, DoubleArray>> pnl() {
+      return pnl;
+    }
+
+    /**
+     * The meta-property for the {@code failures} property.
+     * @return the meta-property, not null
+     */
+    public MetaProperty<ImmutableList<Failure>> failures() {
+      return failures;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected Object propertyGet(Bean bean, String propertyName, boolean quiet) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return ((HistoricalPnl) bean).getCurrency();
+        case 111150:  // pnl
+          return ((HistoricalPnl) bean).getPnl();
+        case 675938345:  // failures
+          return ((HistoricalPnl) bean).getFailures();
+      }
+      return super.propertyGet(bean, propertyName, quiet);
+    }
+
+    @Override
+    protected void propertySet(Bean bean, String propertyName, Object newValue, boolean quiet) {
+      metaProperty(propertyName);
+      if (quiet) {
+        return;
+      }
+      throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
+    }
+
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * The bean-builder for {@code HistoricalPnl}.
+   */
+  private static final class Builder extends DirectPrivateBeanBuilder<HistoricalPnl> {
+
+    private Currency currency;
+    private Map<ImmutableList<String>, DoubleArray> pnl = ImmutableMap.of();
+    private List<Failure> failures = ImmutableList.of();
+
+    /**
+     * Restricted constructor.
+     */
+    private Builder() {
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Object get(String propertyName) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          return currency;
+        case 111150:  // pnl
+          return pnl;
+        case 675938345:  // failures
+          return failures;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Builder set(String propertyName, Object newValue) {
+      switch (propertyName.hashCode()) {
+        case 575402001:  // currency
+          this.currency = (Currency) newValue;
+          break;
+        case 111150:  // pnl
+          this.pnl = (Map<ImmutableList<String>, DoubleArray>) newValue;
+          break;
+        case 675938345:  // failures
+          this.failures = (List<Failure>) newValue;
+          break;
+        default:
+          throw new NoSuchElementException("Unknown property: " + propertyName);
+      }
+      return this;
+    }
+
+    @Override
+    public HistoricalPnl build() {
+      return new HistoricalPnl(
+          currency,
+          pnl,
+          failures);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+      StringBuilder buf = new StringBuilder(128);
+      buf.append("HistoricalPnl.Builder{");
+      buf.append("currency").append('=').append(JodaBeanUtils.toString(currency)).append(',').append(' ');
+      buf.append("pnl").append('=').append(JodaBeanUtils.toString(pnl)).append(',').append(' ');
+      buf.append("failures").append('=').append(JodaBeanUtils.toString(failures));
+      buf.append('}');
+      return buf.toString();
+    }
+
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.runner.AggregatingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+
+/**
+ * Calculation listener that aggregates the scenario present values of each trade into
+ * the historical P&L of each node of a portfolio hierarchy.
+ * <p>
+ * The present values of a trade are added to the running totals of every node above the trade
+ * as soon as they are received, thus the present values of the individual trades are not retained.
+ * Only one vector of values is stored for each node of the hierarchy.
+ * <p>
+ * The scenarios must be those created by {@link HistoricalMoves#toScenarioDefinition()},
+ * where the first scenario is the base scenario. The P&L of move {@code i} is the present value
+ * in scenario {@code i + 1} less the present value in the base scenario.
+ * <p>
+ * The present values must be calculated as a {@link CurrencyScenarioArray} in the currency of the P&L,
+ * typically by specifying the reporting currency of the column.
+ * Results that are failures, or that cannot be included in the P&L, are reported as failures.
+ */
+public final class HistoricalPnlListener
+    extends AggregatingCalculationListener<HistoricalPnl> {
+
+  /** The index of the column containing the present value. */
+  private final int columnIndex;
+  /** The currency of the P&L. */
+  private final Currency currency;
+  /** The function providing the path of the node containing the target. */
+  private final Function<CalculationTarget, List<String>> pathFunction;
+  /** The running total of the present value of each node, keyed by the path of the node. */
+  private final Map<ImmutableList<String>, double[]> totals = new LinkedHashMap<>();
+  /** The failures. */
+  private final List<Failure> failures = new ArrayList<>();
+  /** The number of scenarios, -1 until the first result is received. */
+  private int scenarioCount = -1;
+
+  /**
+   * Creates an instance.
+   * <p>
+   * The path function returns the path of the node directly containing the target, the list of names
+   * from the root of the hierarchy to the node. The target is also included in every node above that node.
+   *
+   * @param columnIndex  the index of the column containing the present value
+   * @param currency  the currency of the P&L
+   * @param pathFunction  the function providing the path of the node containing the target
+   */
+  public HistoricalPnlListener(
+      int columnIndex,
+      Currency currency,
+      Function<CalculationTarget, List<String>> pathFunction) {
+
+    this.columnIndex = ArgChecker.notNegative(columnIndex, "columnIndex");
+    this.currency = ArgChecker.notNull(currency, "currency");
+    this.pathFunction = ArgChecker.notNull(pathFunction, "pathFunction");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    if (result.getColumnIndex() != columnIndex) {
+      return;
+    }
+    Result<?> pvResult = result.getResult();
+    if (pvResult.isFailure()) {
+      failures.add(pvResult.getFailure());
+      return;
+    }
+    if (!(pvResult.getValue() instanceof CurrencyScenarioArray)) {
+      failures.add(Failure.of(
+          FailureReason.INVALID,
+          "Present value of target '{}' must be a CurrencyScenarioArray but was '{}'",
+          target,
+          pvResult.getValue().getClass().getSimpleName()));
+      return;
+    }
+    CurrencyScenarioArray pv = (CurrencyScenarioArray) pvResult.getValue();
+    if (!pv.getCurrency().equals(currency)) {
+      failures.add(Failure.of(
+          FailureReason.CURRENCY_CONVERSION,
+          "Present value of target '{}' must be in currency {} but was in {}",
+          target,
+          currency,
+          pv.getCurrency()));
+      return;
+    }
+    if (scenarioCount == -1) {
+      scenarioCount = pv.getScenarioCount();
+    } else if (pv.getScenarioCount() != scenarioCount) {
+      failures.add(Failure.of(
+          FailureReason.INVALID,
+          "Present value of target '{}' must have {} scenarios but had {}",
+          target,
+          scenarioCount,
+          pv.getScenarioCount()));
+      return;
+    }
+    add(ImmutableList.copyOf(pathFunction.apply(target)), pv.getAmounts().getValues());
+  }
+
+  // adds the values to the node and every node above it
+  private void add(ImmutableList<String> path, DoubleArray values) {
+    for (int depth = 0; depth <= path.size(); depth++) {
+      double[] total = totals.computeIfAbsent(path.subList(0, depth), k -> new double[scenarioCount]);
+      for (int i = 0; i < scenarioCount; i++) {
+        total[i] += values.get(i);
+      }
+    }
+  }
+
+  @Override
+  protected HistoricalPnl createAggregateResult() {
+    ImmutableMap.Builder<ImmutableList<String>, DoubleArray> pnl = ImmutableMap.builder();
+    for (Entry<ImmutableList<String>, double[]> entry : totals.entrySet()) {
+      double[] total = entry.getValue();
+      pnl.put(entry.getKey(), DoubleArray.of(total.length - 1, i -> total[i + 1] - total[0]));
+    }
+    return HistoricalPnl.of(currency, pnl.build(), failures);
+  }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveScenarioArray;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebraFactory;
+
+/**
+ * Calculator approximating the scenario P&L of a trade from its parameter sensitivities.
+ * <p>
+ * Full revaluation of every trade in every scenario is expensive, and unnecessary for trades whose
+ * value is close to linear in the market data parameters. This calculator computes the P&L of each
+ * scenario as a Taylor expansion, using the first order sensitivities and optionally the second order
+ * cross-gamma sensitivities, such as those computed by {@code CurveGammaCalculator}.
+ * The sensitivities are computed once, on the base market data, and the P&L of every scenario is
+ * obtained from a matrix product with the shifts of the parameters.
+ * <p>
+ * The parameter shifts are keyed by the name of the market data, such as the curve name.
+ * Each matrix has one row for each scenario and one column for each parameter.
+ * The shifts are typically obtained from scenario market data using {@link #parameterShifts}.
+ * <p>
+ * The P&L is returned as a {@link CurrencyScenarioArray}, with the P&L of the base scenario equal to zero.
+ * This is consistent with the present values passed to {@link HistoricalPnlListener}, allowing
+ * approximated and fully revalued trades to be aggregated together.
+ */
+public final class TaylorPnlCalculator {
+
+  /**
+   * Default implementation.
+   */
+  public static final TaylorPnlCalculator DEFAULT = new TaylorPnlCalculator(MatrixAlgebraFactory.OG_ALGEBRA);
+
+  /**
+   * The matrix algebra used to compute the matrix products.
+   */
+  private final MatrixAlgebra algebra;
+
+  /**
+   * Creates an instance.
+   *
+   * @param algebra  the matrix algebra used to compute the matrix products
+   */
+  public TaylorPnlCalculator(MatrixAlgebra algebra) {
+    this.algebra = ArgChecker.notNull(algebra, "algebra");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the shifts of the parameters of curves in each scenario, relative to the first scenario.
+   * <p>
+   * The first scenario is the base scenario, thus the shifts of the first scenario are zero.
+   * Curves that are the same in every scenario are not included.
+   * Curves stored as a {@link CurveScenarioArray} are not created for each scenario.
+   *
+   * @param marketData  the scenario market data
+   * @param curveIds  the identifiers of the curves
+   * @return the parameter shifts, keyed by curve name
+   */
+  public static ImmutableMap<MarketDataName<?>, DoubleMatrix> parameterShifts(
+      ScenarioMarketData marketData,
+      Collection<? extends MarketDataId<? extends Curve>> curveIds) {
+
+    ImmutableMap.Builder<MarketDataName<?>, DoubleMatrix> builder = ImmutableMap.builder();
+    for (MarketDataId<? extends Curve> curveId : curveIds) {
+      MarketDataBox<? extends Curve> box = marketData.getValue(curveId);
+      if (box.isSingleValue()) {
+        continue;
+      }
+      Curve base = box.getValue(0);
+      Function<Integer, DoubleArray> parameters = box.getScenarioValue() instanceof CurveScenarioArray ?
+          ((CurveScenarioArray) box.getScenarioValue())::getParameters :
+          scenarioIndex -> parameters(box.getValue(scenarioIndex));
+      DoubleArray baseParameters = parameters.apply(0);
+      DoubleMatrix shifts = DoubleMatrix.ofArrayObjects(
+          box.getScenarioCount(),
+          baseParameters.size(),
+          scenarioIndex -> parameters.apply(scenarioIndex).minus(baseParameters));
+      builder.put(base.getName(), shifts);
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the first order approximation of the P&L in each scenario.
+   * <p>
+   * The sensitivities must all be expressed in the same currency.
+   * Sensitivities to market data without shifts do not contribute to the P&L.
+   *
+   * @param sensitivities  the first order parameter sensitivities
+   * @param shifts  the parameter shifts, keyed by market data name
+   * @param scenarioCount  the number of scenarios
+   * @return the P&L in each scenario
+   * @throws IllegalArgumentException if the sensitivities are in more than one currency,
+   *   or if the shifts do not match the sensitivities
+   */
+  public CurrencyScenarioArray pnl(
+      CurrencyParameterSensitivities sensitivities,
+      Map<MarketDataName<?>, DoubleMatrix> shifts,
+      int scenarioCount) {
+
+    return pnl(sensitivities, CrossGammaParameterSensitivities.empty(), shifts, scenarioCount);
+  }
+
+  /**
+   * Calculates the second order approximation of the P&L in each scenario.
+   * <p>
+   * The P&L is {@code delta . shift + 1/2 shift . gamma . shift}.
+   * The sensitivities must all be expressed in the same currency.
+   * Sensitivities to market data without shifts do not contribute to the P&L.
+   *
+   * @param sensitivities  the first order parameter sensitivities
+   * @param crossGammas  the second order parameter sensitivities
+   * @param shifts  the parameter shifts, keyed by market data name
+   * @param scenarioCount  the number of scenarios
+   * @return the P&L in each scenario
+   * @throws IllegalArgumentException if the sensitivities are in more than one currency,
+   *   or if the shifts do not match the sensitivities
+   */
+  public CurrencyScenarioArray pnl(
+      CurrencyParameterSensitivities sensitivities,
+      CrossGammaParameterSensitivities crossGammas,
+      Map<MarketDataName<?>, DoubleMatrix> shifts,
+      int scenarioCount) {
+
+    ArgChecker.notNegativeOrZero(scenarioCount, "scenarioCount");
+    Currency currency = null;
+    DoubleArray pnl = DoubleArray.filled(scenarioCount);
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      currency = checkCurrency(currency, sensitivity.getCurrency());
+      DoubleMatrix shift = shifts.get(sensitivity.getMarketDataName());
+      if (shift != null) {
+        checkShifts(shift, scenarioCount, sensitivity.getParameterCount(), sensitivity.getMarketDataName());
+        pnl = pnl.plus((DoubleArray) algebra.multiply(shift, sensitivity.getSensitivity()));
+      }
+    }
+    for (CrossGammaParameterSensitivity crossGamma : crossGammas.getSensitivities()) {
+      currency = checkCurrency(currency, crossGamma.getCurrency());
+      DoubleMatrix shift = shifts.get(crossGamma.getMarketDataName());
+      if (shift != null) {
+        checkShifts(shift, scenarioCount, crossGamma.getParameterCount(), crossGamma.getMarketDataName());
+        DoubleMatrix orderShift = orderShifts(crossGamma.getOrder(), shifts, scenarioCount);
+        // the diagonal of (shift . gamma . orderShift^T) is the second order term of each scenario
+        DoubleMatrix product = (DoubleMatrix) algebra.multiply(shift, crossGamma.getSensitivity());
+        pnl = pnl.plus(DoubleArray.of(
+            scenarioCount,
+            i -> 0.5 * product.row(i).multipliedBy(orderShift.row(i)).sum()));
+      }
+    }
+    ArgChecker.isTrue(currency != null, "Sensitivities must not be empty");
+    return CurrencyScenarioArray.of(currency, pnl);
+  }
+
+  /**
+   * Calculates the P&L of a trade in each scenario, either approximated or by full revaluation.
+   * <p>
+   * If the trade is approximated, the P&L is the second order approximation computed from
+   * the sensitivities of the trade. Otherwise, the trade is revalued in every scenario,
+   * and the P&L is the present value of each scenario less the present value of the base scenario.
+   *
+   * @param <T>  the type of the trade
+   * @param trade  the trade
+   * @param approximated  the predicate selecting the trades whose P&L is approximated
+   * @param sensitivityFunction  the function computing the first and second order sensitivities of a trade
+   * @param revaluationFunction  the function computing the present value of a trade in each scenario
+   * @param shifts  the parameter shifts, keyed by market data name
+   * @param scenarioCount  the number of scenarios
+   * @return the P&L in each scenario
+   */
+  public <T> CurrencyScenarioArray pnl(
+      T trade,
+      Predicate<? super T> approximated,
+      Function<? super T, Pair<CurrencyParameterSensitivities, CrossGammaParameterSensitivities>> sensitivityFunction,
+      Function<? super T, CurrencyScenarioArray> revaluationFunction,
+      Map<MarketDataName<?>, DoubleMatrix> shifts,
+      int scenarioCount) {
+
+    if (approximated.test(trade)) {
+      Pair<CurrencyParameterSensitivities, CrossGammaParameterSensitivities> sensitivities =
+          sensitivityFunction.apply(trade);
+      return pnl(sensitivities.getFirst(), sensitivities.getSecond(), shifts, scenarioCount);
+    }
+    CurrencyScenarioArray pv = revaluationFunction.apply(trade);
+    ArgChecker.isTrue(pv.getScenarioCount() == scenarioCount, "Present value must have {} scenarios", scenarioCount);
+    DoubleArray values = pv.getAmounts().getValues();
+    return CurrencyScenarioArray.of(pv.getCurrency(), values.minus(values.get(0)));
+  }
+
+  //-------------------------------------------------------------------------
+  // the parameters of the curve
+  private static DoubleArray parameters(Curve curve) {
+    return DoubleArray.of(curve.getParameterCount(), curve::getParameter);
+  }
+
+  // checks that all sensitivities are in the same currency
+  private static Currency checkCurrency(Currency currency, Currency sensitivityCurrency) {
+    ArgChecker.isTrue(
+        currency == null || currency.equals(sensitivityCurrency),
+        "Sensitivities must be in a single currency, but found {} and {}",
+        currency,
+        sensitivityCurrency);
+    return sensitivityCurrency;
+  }
+
+  // checks the size of the matrix of shifts
+  private static void checkShifts(DoubleMatrix shift, int scenarioCount, int parameterCount, MarketDataName<?> name) {
+    ArgChecker.isTrue(
+        shift.rowCount() == scenarioCount && shift.columnCount() == parameterCount,
+        "Shifts of '{}' must be a {} x {} matrix, but was {} x {}",
+        name,
+        scenarioCount,
+        parameterCount,
+        shift.rowCount(),
+        shift.columnCount());
+  }
+
+  // the shifts of the parameters in the order of the cross-gamma columns, zero for market data without shifts
+  private static DoubleMatrix orderShifts(
+      List<Pair<MarketDataName<?>, List<? extends ParameterMetadata>>> order,
+      Map<MarketDataName<?>, DoubleMatrix> shifts,
+      int scenarioCount) {
+
+    DoubleMatrix result = null;
+    for (Pair<MarketDataName<?>, List<? extends ParameterMetadata>> entry : order) {
+      int parameterCount = entry.getSecond().size();
+      DoubleMatrix shift = shifts.get(entry.getFirst());
+      if (shift == null) {
+        shift = DoubleMatrix.filled(scenarioCount, parameterCount);
+      } else {
+        checkShifts(shift, scenarioCount, parameterCount, entry.getFirst());
+      }
+      DoubleMatrix previous = result;
+      DoubleMatrix current = shift;
+      result = previous == null ?
+          current :
+          DoubleMatrix.ofArrayObjects(scenarioCount, previous.columnCount() + parameterCount,
+              i -> previous.row(i).concat(current.row(i)));
+    }
+    return result;
+  }
+
+}
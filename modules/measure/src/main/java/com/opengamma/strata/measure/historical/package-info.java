@@ -0,0 +1,10 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Historical simulation, creating scenarios from historical market moves and computing VaR and expected shortfall.
+ */
+package com.opengamma.strata.measure.historical;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.marketdata.MarketDataFilter;
+import com.opengamma.strata.calc.marketdata.PerturbationMapping;
+import com.opengamma.strata.calc.marketdata.ScenarioDefinition;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.market.GenericDoubleShifts;
+import com.opengamma.strata.market.ShiftType;
+import com.opengamma.strata.market.observable.QuoteId;
+
+/**
+ * Test {@link HistoricalMoves}.
+ */
+public class HistoricalMovesTest {
+
+  private static final QuoteId QUOTE_A = QuoteId.of(StandardId.of("OG", "A"));
+  private static final QuoteId QUOTE_B = QuoteId.of(StandardId.of("OG", "B"));
+  private static final LocalDateDoubleTimeSeries SERIES_A = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 1), 1d)
+      .put(date(2020, 1, 2), 1.5d)
+      .put(date(2020, 1, 3), 2d)
+      .put(date(2020, 1, 6), 1d)
+      .build();
+  private static final LocalDateDoubleTimeSeries SERIES_B = LocalDateDoubleTimeSeries.builder()
+      .put(date(2020, 1, 1), 10d)
+      .put(date(2020, 1, 3), 11d)
+      .put(date(2020, 1, 6), 12d)
+      .put(date(2020, 1, 7), 13d)
+      .build();
+  private static final ImmutableMap<QuoteId, LocalDateDoubleTimeSeries> SERIES =
+      ImmutableMap.of(QUOTE_A, SERIES_A, QUOTE_B, SERIES_B);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_absolute() {
+    HistoricalMoves test = HistoricalMoves.of(SERIES, ShiftType.ABSOLUTE);
+    assertThat(test.getShiftType()).isEqualTo(ShiftType.ABSOLUTE);
+    assertThat(test.getDates()).containsExactly(date(2020, 1, 3), date(2020, 1, 6));
+    assertThat(test.getMoveCount()).isEqualTo(2);
+    assertThat(test.getMoves()).containsOnlyKeys(QUOTE_A, QUOTE_B);
+    assertThat(test.getMoves().get(QUOTE_A)).isEqualTo(DoubleArray.of(1d, -1d));
+    assertThat(test.getMoves().get(QUOTE_B)).isEqualTo(DoubleArray.of(1d, 1d));
+  }
+
+  @Test
+  public void test_of_relative() {
+    HistoricalMoves test = HistoricalMoves.of(ImmutableMap.of(QUOTE_A, SERIES_A), ShiftType.RELATIVE);
+    assertThat(test.getDates()).containsExactly(date(2020, 1, 2), date(2020, 1, 3), date(2020, 1, 6));
+    DoubleArray moves = test.getMoves().get(QUOTE_A);
+    assertThat(moves.get(0)).isCloseTo(0.5d, offset(1e-12));
+    assertThat(moves.get(1)).isCloseTo(1d / 3d, offset(1e-12));
+    assertThat(moves.get(2)).isCloseTo(-0.5d, offset(1e-12));
+  }
+
+  @Test
+  public void test_of_noCommonDates() {
+    LocalDateDoubleTimeSeries series = LocalDateDoubleTimeSeries.of(date(2020, 1, 7), 1d);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HistoricalMoves.of(ImmutableMap.of(QUOTE_A, SERIES_A, QUOTE_B, series), ShiftType.ABSOLUTE));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_toScenarioDefinition() {
+    HistoricalMoves test = HistoricalMoves.of(SERIES, ShiftType.ABSOLUTE);
+    ScenarioDefinition expected = ScenarioDefinition.ofMappings(
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_A), GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(0d, 1d, -1d))),
+        PerturbationMapping.of(
+            MarketDataFilter.ofId(QUOTE_B), GenericDoubleShifts.of(ShiftType.ABSOLUTE, DoubleArray.of(0d, 1d, 1d))));
+    assertThat(test.toScenarioDefinition()).isEqualTo(expected);
+    assertThat(test.toScenarioDefinition().getScenarioCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_toScenarioDefinition_scaled() {
+    HistoricalMoves test = HistoricalMoves.of(ImmutableMap.of(QUOTE_B, SERIES_B), ShiftType.SCALED);
+    ScenarioDefinition definition = test.toScenarioDefinition();
+    GenericDoubleShifts shifts = (GenericDoubleShifts) definition.getMappings().get(0).getPerturbation();
+    assertThat(shifts.getShiftAmount().get(0)).isEqualTo(1d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    HistoricalMoves test = HistoricalMoves.of(ImmutableMap.of(QUOTE_A, SERIES_A), ShiftType.ABSOLUTE);
+    coverImmutableBean(test);
+    HistoricalMoves test2 = HistoricalMoves.of(ImmutableMap.of(QUOTE_B, SERIES_B), ShiftType.RELATIVE);
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(HistoricalMoves.of(ImmutableMap.of(QUOTE_A, SERIES_A), ShiftType.ABSOLUTE));
+  }
+
+}
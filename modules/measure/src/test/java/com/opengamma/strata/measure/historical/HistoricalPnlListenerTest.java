@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+
+/**
+ * Test {@link HistoricalPnlListener}.
+ */
+public class HistoricalPnlListenerTest {
+
+  private static final TestTarget TARGET1 = new TestTarget(ImmutableList.of("Desk", "Book1"));
+  private static final TestTarget TARGET2 = new TestTarget(ImmutableList.of("Desk", "Book2"));
+  private static final TestTarget TARGET3 = new TestTarget(ImmutableList.of("Desk", "Book1"));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_aggregation() {
+    HistoricalPnlListener test = new HistoricalPnlListener(1, USD, target -> ((TestTarget) target).path);
+    test.resultReceived(TARGET1, result(0, 1, CurrencyScenarioArray.of(USD, DoubleArray.of(100, 110, 90))));
+    test.resultReceived(TARGET1, result(0, 0, CurrencyScenarioArray.of(USD, DoubleArray.of(1, 2, 3))));
+    test.resultReceived(TARGET2, result(1, 1, CurrencyScenarioArray.of(USD, DoubleArray.of(50, 45, 60))));
+    test.resultReceived(TARGET3, result(2, 1, CurrencyScenarioArray.of(USD, DoubleArray.of(10, 10, 11))));
+    test.calculationsComplete();
+
+    HistoricalPnl pnl = test.result();
+    assertThat(pnl.getCurrency()).isEqualTo(USD);
+    assertThat(pnl.getFailures()).isEmpty();
+    assertThat(pnl.getPnl()).containsOnlyKeys(
+        ImmutableList.of(),
+        ImmutableList.of("Desk"),
+        ImmutableList.of("Desk", "Book1"),
+        ImmutableList.of("Desk", "Book2"));
+    assertThat(pnl.getPortfolioPnl()).isEqualTo(DoubleArray.of(5, 1));
+    assertThat(pnl.getPnl(ImmutableList.of("Desk"))).isEqualTo(DoubleArray.of(5, 1));
+    assertThat(pnl.getPnl(ImmutableList.of("Desk", "Book1"))).isEqualTo(DoubleArray.of(10, -9));
+    assertThat(pnl.getPnl(ImmutableList.of("Desk", "Book2"))).isEqualTo(DoubleArray.of(-5, 10));
+  }
+
+  @Test
+  public void test_failures() {
+    HistoricalPnlListener test = new HistoricalPnlListener(0, USD, target -> ((TestTarget) target).path);
+    test.resultReceived(TARGET1, result(0, 0, CurrencyScenarioArray.of(USD, DoubleArray.of(100, 110, 90))));
+    test.resultReceived(TARGET2, CalculationResult.of(1, 0, Result.failure(FailureReason.MISSING_DATA, "Missing")));
+    test.resultReceived(TARGET2, result(1, 0, CurrencyScenarioArray.of(EUR, DoubleArray.of(50, 45, 60))));
+    test.resultReceived(TARGET2, result(1, 0, CurrencyScenarioArray.of(USD, DoubleArray.of(50, 45))));
+    test.resultReceived(TARGET3, result(2, 0, CurrencyAmount.of(USD, 10)));
+    test.calculationsComplete();
+
+    HistoricalPnl pnl = test.result();
+    assertThat(pnl.getPortfolioPnl()).isEqualTo(DoubleArray.of(10, -10));
+    assertThat(pnl.getFailures()).extracting(failure -> failure.getReason()).containsExactly(
+        FailureReason.MISSING_DATA,
+        FailureReason.CURRENCY_CONVERSION,
+        FailureReason.INVALID,
+        FailureReason.INVALID);
+  }
+
+  @Test
+  public void test_noResults() {
+    HistoricalPnlListener test = new HistoricalPnlListener(0, USD, target -> ImmutableList.of());
+    test.calculationsComplete();
+    assertThat(test.result().getPnl()).isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  private static CalculationResult result(int rowIndex, int columnIndex, Object value) {
+    return CalculationResult.of(rowIndex, columnIndex, Result.success(value));
+  }
+
+  private static final class TestTarget implements CalculationTarget {
+
+    private final List<String> path;
+
+    private TestTarget(List<String> path) {
+      this.path = path;
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.math.impl.statistics.descriptive.IndexAboveQuantileMethod;
+import com.opengamma.strata.math.impl.statistics.descriptive.QuantileCalculationMethod;
+
+/**
+ * Test {@link HistoricalPnl}.
+ */
+public class HistoricalPnlTest {
+
+  private static final ImmutableList<String> ROOT = ImmutableList.of();
+  private static final ImmutableList<String> BOOK = ImmutableList.of("Book");
+  private static final DoubleArray PNL = DoubleArray.of(5, -3, 2, -10, 1, 0, -1, 4, -6, 3);
+  private static final QuantileCalculationMethod METHOD = IndexAboveQuantileMethod.DEFAULT;
+  private static final HistoricalPnl TEST = HistoricalPnl.of(
+      USD, ImmutableMap.of(ROOT, PNL, BOOK, PNL.multipliedBy(0.5)), ImmutableList.of());
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_getPnl() {
+    assertThat(TEST.getCurrency()).isEqualTo(USD);
+    assertThat(TEST.getPortfolioPnl()).isEqualTo(PNL);
+    assertThat(TEST.getPnl(BOOK)).isEqualTo(PNL.multipliedBy(0.5));
+    assertThat(TEST.getFailures()).isEmpty();
+    assertThatIllegalArgumentException().isThrownBy(() -> TEST.getPnl(ImmutableList.of("Other")));
+  }
+
+  @Test
+  public void test_valueAtRisk() {
+    double expected = -METHOD.quantileWithExtrapolationFromUnsorted(0.2, PNL);
+    assertThat(TEST.valueAtRisk(ROOT, 0.8, METHOD)).isEqualTo(expected);
+    assertThat(TEST.valueAtRisk(ROOT, 0.8, METHOD)).isGreaterThan(0d);
+    assertThat(TEST.valueAtRisk(BOOK, 0.8, METHOD)).isEqualTo(expected * 0.5);
+    assertThatIllegalArgumentException().isThrownBy(() -> TEST.valueAtRisk(ROOT, 1d, METHOD));
+  }
+
+  @Test
+  public void test_expectedShortfall() {
+    double expected = -METHOD.expectedShortfallFromUnsorted(0.2, PNL);
+    assertThat(TEST.expectedShortfall(ROOT, 0.8, METHOD)).isEqualTo(expected);
+    assertThat(TEST.expectedShortfall(ROOT, 0.8, METHOD)).isGreaterThanOrEqualTo(TEST.valueAtRisk(ROOT, 0.8, METHOD));
+    assertThatIllegalArgumentException().isThrownBy(() -> TEST.expectedShortfall(ROOT, 0d, METHOD));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverImmutableBean(TEST);
+    List<Failure> failures = ImmutableList.of(Failure.of(FailureReason.ERROR, "Error"));
+    HistoricalPnl test2 = HistoricalPnl.of(EUR, ImmutableMap.of(BOOK, PNL), failures);
+    coverBeanEquals(TEST, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(TEST);
+  }
+
+}
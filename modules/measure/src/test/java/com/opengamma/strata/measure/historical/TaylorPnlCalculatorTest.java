@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.historical;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.date.DayCounts;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveId;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveScenarioArray;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ParameterMetadata;
+
+/**
+ * Test {@link TaylorPnlCalculator}.
+ */
+public class TaylorPnlCalculatorTest {
+
+  private static final TaylorPnlCalculator CALCULATOR = TaylorPnlCalculator.DEFAULT;
+  private static final CurveName NAME_A = CurveName.of("A");
+  private static final CurveName NAME_B = CurveName.of("B");
+  private static final CurveName NAME_C = CurveName.of("C");
+  private static final CurveId ID_A = CurveId.of("Group", "A");
+  private static final CurveId ID_B = CurveId.of("Group", "B");
+  private static final CurveId ID_C = CurveId.of("Group", "C");
+  private static final Curve CURVE_A = curve(NAME_A, DoubleArray.of(1, 2, 3), DoubleArray.of(5, 6, 7));
+  private static final Curve CURVE_B = curve(NAME_B, DoubleArray.of(1, 2), DoubleArray.of(1, 2));
+  private static final Curve CURVE_C = curve(NAME_C, DoubleArray.of(1, 2), DoubleArray.of(3, 3));
+  private static final DoubleMatrix SHIFTS_A = DoubleMatrix.of(3, 3,
+      0d, 0d, 0d,
+      0.5d, 0.25d, 0.5d,
+      -1d, 0d, 1d);
+  private static final DoubleMatrix SHIFTS_B = DoubleMatrix.of(3, 2,
+      0d, 0d,
+      0.5d, 0.5d,
+      0d, 0d);
+  private static final Map<MarketDataName<?>, DoubleMatrix> SHIFTS =
+      ImmutableMap.of(NAME_A, SHIFTS_A, NAME_B, SHIFTS_B);
+  private static final CurrencyParameterSensitivities DELTA = CurrencyParameterSensitivities.of(
+      CurrencyParameterSensitivity.of(NAME_A, USD, DoubleArray.of(1, 2, 3)),
+      CurrencyParameterSensitivity.of(NAME_B, USD, DoubleArray.of(10, 20)),
+      CurrencyParameterSensitivity.of(NAME_C, USD, DoubleArray.of(100, 100)));
+  private static final CrossGammaParameterSensitivities GAMMA = CrossGammaParameterSensitivities.of(
+      CrossGammaParameterSensitivity.of(
+          NAME_A, ParameterMetadata.listOfEmpty(3), USD, DoubleMatrix.diagonal(DoubleArray.filled(3, 2d))));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parameterShifts() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2020, 1, 6))
+        .addScenarioValue(ID_A, CurveScenarioArray.of(CURVE_A, SHIFTS_A))
+        .addScenarioValue(ID_B, ImmutableList.of(
+            CURVE_B,
+            CURVE_B.withPerturbation((i, value, meta) -> value + 0.5d),
+            CURVE_B))
+        .addValue(ID_C, CURVE_C)
+        .build();
+    Map<MarketDataName<?>, DoubleMatrix> test =
+        TaylorPnlCalculator.parameterShifts(marketData, ImmutableList.of(ID_A, ID_B, ID_C));
+    assertThat(test).isEqualTo(SHIFTS);
+  }
+
+  @Test
+  public void test_parameterShifts_relativeToFirstScenario() {
+    DoubleMatrix shifts = DoubleMatrix.of(2, 3,
+        1d, 1d, 1d,
+        2d, 1d, 0d);
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(date(2020, 1, 6))
+        .addScenarioValue(ID_A, CurveScenarioArray.of(CURVE_A, shifts))
+        .build();
+    Map<MarketDataName<?>, DoubleMatrix> test = TaylorPnlCalculator.parameterShifts(marketData, ImmutableList.of(ID_A));
+    assertThat(test).containsEntry(NAME_A, DoubleMatrix.of(2, 3, 0d, 0d, 0d, 1d, 0d, -1d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_pnl_delta() {
+    CurrencyScenarioArray test = CALCULATOR.pnl(DELTA, SHIFTS, 3);
+    assertThat(test).isEqualTo(CurrencyScenarioArray.of(USD, DoubleArray.of(0d, 2.5d + 15d, 2d)));
+  }
+
+  @Test
+  public void test_pnl_gamma() {
+    CurrencyScenarioArray test = CALCULATOR.pnl(DELTA, GAMMA, SHIFTS, 3);
+    assertThat(test).isEqualTo(CurrencyScenarioArray.of(USD, DoubleArray.of(0d, 17.5d + 0.5625d, 2d + 2d)));
+  }
+
+  @Test
+  public void test_pnl_gamma_unshiftedOrder() {
+    List<Pair<MarketDataName<?>, List<? extends ParameterMetadata>>> order = ImmutableList.of(
+        Pair.of(NAME_A, ParameterMetadata.listOfEmpty(3)),
+        Pair.of(NAME_C, ParameterMetadata.listOfEmpty(2)));
+    DoubleMatrix matrix = DoubleMatrix.of(3, 5,
+        2d, 0d, 0d, 5d, 5d,
+        0d, 2d, 0d, 5d, 5d,
+        0d, 0d, 2d, 5d, 5d);
+    CrossGammaParameterSensitivities gamma = CrossGammaParameterSensitivities.of(
+        CrossGammaParameterSensitivity.of(NAME_A, ParameterMetadata.listOfEmpty(3), order, USD, matrix));
+    assertThat(CALCULATOR.pnl(DELTA, gamma, SHIFTS, 3)).isEqualTo(CALCULATOR.pnl(DELTA, GAMMA, SHIFTS, 3));
+  }
+
+  @Test
+  public void test_pnl_invalid() {
+    CurrencyParameterSensitivities mixed =
+        DELTA.combinedWith(CurrencyParameterSensitivity.of(NAME_A, EUR, DoubleArray.of(1, 2, 3)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CALCULATOR.pnl(mixed, SHIFTS, 3));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CALCULATOR.pnl(DELTA, SHIFTS, 2));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CALCULATOR.pnl(CurrencyParameterSensitivities.empty(), SHIFTS, 3));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_pnl_fallback() {
+    CurrencyScenarioArray pv = CurrencyScenarioArray.of(USD, DoubleArray.of(100, 110, 95));
+    CurrencyScenarioArray approximated = CALCULATOR.pnl(
+        "Linear",
+        trade -> trade.equals("Linear"),
+        trade -> Pair.of(DELTA, GAMMA),
+        trade -> pv,
+        SHIFTS,
+        3);
+    assertThat(approximated).isEqualTo(CALCULATOR.pnl(DELTA, GAMMA, SHIFTS, 3));
+    CurrencyScenarioArray revalued = CALCULATOR.pnl(
+        "Option",
+        trade -> trade.equals("Linear"),
+        trade -> Pair.of(DELTA, GAMMA),
+        trade -> pv,
+        SHIFTS,
+        3);
+    assertThat(revalued).isEqualTo(CurrencyScenarioArray.of(USD, DoubleArray.of(0, 10, -5)));
+  }
+
+  //-------------------------------------------------------------------------
+  private static Curve curve(CurveName name, DoubleArray xValues, DoubleArray yValues) {
+    return InterpolatedNodalCurve.of(
+        Curves.zeroRates(name, DayCounts.ACT_365F), xValues, yValues, CurveInterpolators.LINEAR);
+  }
+
+}
@@ -5,9 +5,15 @@
  */
 package com.opengamma.strata.pricer.credit;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -16,20 +22,28 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.NodalCurve;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ResolvedTradeParameterMetadata;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionCommons;
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionResult;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.product.credit.ResolvedCds;
+import com.opengamma.strata.product.credit.ResolvedCdsIndex;
+import com.opengamma.strata.product.credit.ResolvedCdsIndexTrade;
 import com.opengamma.strata.product.credit.ResolvedCdsTrade;
 
 /**
  * Analytic spread sensitivity calculator.
  * <p>
  * This analytically computes the present value sensitivity to par spreads of bucketed CDSs. 
+ * <p>
+ * For a book of CDS index trades, the re-calibrated credit curve and the Jacobian are shared
+ * between all the trades on the same index, see {@link #bucketedCs01(List, CreditRatesProvider, ReferenceData)}.
  */
 public class AnalyticSpreadSensitivityCalculator
     extends SpreadSensitivityCalculator {
@@ -49,6 +63,11 @@ public class AnalyticSpreadSensitivityCalculator
    */
   private static final LUDecompositionCommons DECOMPOSITION = new LUDecompositionCommons();
 
+  /**
+   * The CDS index trade pricer.
+   */
+  private final IsdaHomogenousCdsIndexTradePricer indexPricer;
+
   /**
    * Constructor with the accrual-on-default formula specified.
    * 
@@ -56,6 +75,7 @@ public class AnalyticSpreadSensitivityCalculator
    */
   public AnalyticSpreadSensitivityCalculator(AccrualOnDefaultFormula formula) {
     super(formula);
+    this.indexPricer = new IsdaHomogenousCdsIndexTradePricer(formula);
   }
 
   //-------------------------------------------------------------------------
@@ -70,6 +90,67 @@ public class AnalyticSpreadSensitivityCalculator
     return CurrencyAmount.of(trade.getProduct().getCurrency(), temp.sum());
   }
 
+  /**
+   * Computes bucketed CS01 for a book of CDS index trades using a single credit curve per index.
+   * <p>
+   * This is coherent to the pricer {@link IsdaHomogenousCdsIndexTradePricer}.
+   * The relevant credit curves must be stored in {@code RatesProvider}.
+   * <p>
+   * The CDS index trades used in the curve calibration are reused as bucket CDS index by this method.
+   * Thus the credit curves must store {@link ResolvedTradeParameterMetadata}.
+   * <p>
+   * The result is the same as calling {@link #bucketedCs01(ResolvedCdsIndexTrade, CreditRatesProvider, ReferenceData)}
+   * for each trade in turn. However, the credit curve of each index is re-calibrated to the bucket CDS index,
+   * and the Jacobian of the bucket par spreads to the curve parameters is computed and decomposed, only once.
+   * Thus the cost for each trade is only that of a present value sensitivity.
+   * 
+   * @param trades  the trades
+   * @param ratesProvider  the rates provider
+   * @param refData  the reference data
+   * @return the bucketed CS01, in the same order as the trades
+   */
+  public List<CurrencyParameterSensitivity> bucketedCs01(
+      List<ResolvedCdsIndexTrade> trades,
+      CreditRatesProvider ratesProvider,
+      ReferenceData refData) {
+
+    Map<Pair<StandardId, Currency>, BucketJacobian> jacobians = new HashMap<>();
+    ImmutableList.Builder<CurrencyParameterSensitivity> builder = ImmutableList.builder();
+    for (ResolvedCdsIndexTrade trade : trades) {
+      ResolvedCdsIndex product = trade.getProduct();
+      StandardId indexId = product.getCdsIndexId();
+      Currency currency = product.getCurrency();
+      BucketJacobian jacobian = jacobians.computeIfAbsent(
+          Pair.of(indexId, currency), key -> indexJacobian(product, ratesProvider, refData));
+      PointSensitivities pointPv = indexPricer.presentValueOnSettleSensitivity(trade, jacobian.ratesProvider, refData);
+      DoubleArray vLambda =
+          jacobian.ratesProvider.singleCreditCurveParameterSensitivity(pointPv, indexId, currency).getSensitivity();
+      builder.add(CurrencyParameterSensitivity.of(
+          CurveName.of("impliedSpreads"), jacobian.metadata, currency, jacobian.decomposition.solve(vLambda)));
+    }
+    return builder.build();
+  }
+
+  // re-calibrates the index curve to the bucket CDS index and computes the Jacobian
+  private BucketJacobian indexJacobian(
+      ResolvedCdsIndex product,
+      CreditRatesProvider ratesProvider,
+      ReferenceData refData) {
+
+    List<ResolvedCdsIndexTrade> bucketCdsIndex = getBucketCdsIndex(product, ratesProvider);
+    List<ResolvedCdsTrade> bucketCds = bucketCdsIndex.stream()
+        .map(ResolvedCdsIndexTrade::toSingleNameCds)
+        .collect(toImmutableList());
+    List<ResolvedTradeParameterMetadata> metadata = bucketCdsIndex.stream()
+        .map(t -> ResolvedTradeParameterMetadata.of(t, t.getProduct().getProtectionEndDate().toString()))
+        .collect(toImmutableList());
+    double indexFactor = getIndexFactor(product.toSingleNameCds(), ratesProvider);
+    return bucketJacobian(
+        bucketCds, metadata, product.getCdsIndexId(), product.getCurrency(), OptionalDouble.of(indexFactor), ratesProvider,
+        refData);
+  }
+
+  //-------------------------------------------------------------------------
   @Override
   DoubleArray computedBucketedCs01(
       ResolvedCdsTrade trade,
@@ -81,8 +162,26 @@ public class AnalyticSpreadSensitivityCalculator
     ResolvedCds product = trade.getProduct();
     Currency currency = product.getCurrency();
     StandardId legalEntityId = product.getLegalEntityId();
-    LocalDate valuationDate = ratesProvider.getValuationDate();
+    BucketJacobian jacobian = bucketJacobian(
+        bucketCds, ImmutableList.of(), legalEntityId, currency, OptionalDouble.empty(), ratesProvider, refData);
+    PointSensitivities pointPv = getPricer().presentValueOnSettleSensitivity(trade, jacobian.ratesProvider, refData);
+    DoubleArray vLambda =
+        jacobian.ratesProvider.singleCreditCurveParameterSensitivity(pointPv, legalEntityId, currency).getSensitivity();
+    return jacobian.decomposition.solve(vLambda);
+  }
+
+  // re-calibrates the credit curve to the implied spreads of the bucket CDS
+  // the index factor is stored in the curve if present
+  private BucketJacobian bucketJacobian(
+      List<ResolvedCdsTrade> bucketCds,
+      List<ResolvedTradeParameterMetadata> metadata,
+      StandardId legalEntityId,
+      Currency currency,
+      OptionalDouble indexFactor,
+      CreditRatesProvider ratesProvider,
+      ReferenceData refData) {
 
+    LocalDate valuationDate = ratesProvider.getValuationDate();
     int nBucket = bucketCds.size();
     DoubleArray impSp = impliedSpread(bucketCds, ratesProvider, refData);
     NodalCurve creditCurveBase = getCalibrator().calibrate(
@@ -94,15 +193,16 @@ public class AnalyticSpreadSensitivityCalculator
         ratesProvider.discountFactors(currency),
         ratesProvider.recoveryRates(legalEntityId),
         refData);
+    if (indexFactor.isPresent()) {
+      creditCurveBase = creditCurveBase.withMetadata(
+          creditCurveBase.getMetadata().withInfo(CurveInfoType.CDS_INDEX_FACTOR, indexFactor.getAsDouble()));
+    }
     IsdaCreditDiscountFactors df = IsdaCreditDiscountFactors.of(currency, valuationDate, creditCurveBase);
     CreditRatesProvider ratesProviderBase = ratesProvider.toImmutableCreditRatesProvider().toBuilder()
         .creditCurves(ImmutableMap.of(Pair.of(legalEntityId, currency), LegalEntitySurvivalProbabilities.of(legalEntityId, df)))
         .build();
 
     double[][] res = new double[nBucket][];
-    PointSensitivities pointPv = getPricer().presentValueOnSettleSensitivity(trade, ratesProviderBase, refData);
-    DoubleArray vLambda =
-        ratesProviderBase.singleCreditCurveParameterSensitivity(pointPv, legalEntityId, currency).getSensitivity();
     for (int i = 0; i < nBucket; i++) {
       PointSensitivities pointSp = getPricer().parSpreadSensitivity(bucketCds.get(i), ratesProviderBase, refData);
       res[i] = ratesProviderBase.singleCreditCurveParameterSensitivity(pointSp, legalEntityId, currency)
@@ -110,8 +210,25 @@ public class AnalyticSpreadSensitivityCalculator
     }
     DoubleMatrix jacT = MATRIX_ALGEBRA.getTranspose(DoubleMatrix.ofUnsafe(res));
     LUDecompositionResult luRes = DECOMPOSITION.apply(jacT);
-    DoubleArray vS = luRes.solve(vLambda);
-    return vS;
+    return new BucketJacobian(ratesProviderBase, luRes, metadata);
+  }
+
+  //-------------------------------------------------------------------------
+  // the re-calibrated rates provider and the decomposed Jacobian of the bucket par spreads
+  private static final class BucketJacobian {
+    private final CreditRatesProvider ratesProvider;
+    private final LUDecompositionResult decomposition;
+    private final List<ResolvedTradeParameterMetadata> metadata;
+
+    private BucketJacobian(
+        CreditRatesProvider ratesProvider,
+        LUDecompositionResult decomposition,
+        List<ResolvedTradeParameterMetadata> metadata) {
+
+      this.ratesProvider = ratesProvider;
+      this.decomposition = decomposition;
+      this.metadata = metadata;
+    }
   }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.credit;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.product.credit.Cds;
+import com.opengamma.strata.product.credit.CdsTrade;
+import com.opengamma.strata.product.credit.CreditCouponPaymentPeriod;
+import com.opengamma.strata.product.credit.ResolvedCds;
+import com.opengamma.strata.product.credit.ResolvedCdsTrade;
+
+/**
+ * Cache shared between the calibrations of the credit curves of many legal entities.
+ * <p>
+ * The calibration CDS of different legal entities typically share the same tenors, and thus
+ * the same payment schedules, integration points and discount factors.
+ * This cache allows these to be computed once and reused by every credit curve calibration.
+ * <p>
+ * The payment schedules are cached independently of the legal entity and the coupon rate.
+ * The pricing data of the calibration nodes is cached by the calibrator, using a key that
+ * contains every input of the data, thus the calibrated curves are identical to those
+ * obtained by calibrating each curve independently.
+ * <p>
+ * This class is thread-safe, allowing curves to be calibrated in parallel.
+ */
+final class CreditCurveCalibrationCache {
+
+  /**
+   * The legal entity used in the key of the resolved products.
+   */
+  private static final StandardId KEY_LEGAL_ENTITY = StandardId.of("OG-Internal", "CalibrationCache");
+
+  /**
+   * The resolved products, keyed by the product with the legal entity and coupon rate normalized.
+   */
+  private final ConcurrentHashMap<Cds, ResolvedCds> resolvedProducts = new ConcurrentHashMap<>();
+  /**
+   * The node pricing data, keyed by all the inputs of the data.
+   */
+  private final ConcurrentHashMap<List<Object>, Object> pricingData = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Resolves the calibration trade, sharing the payment schedule with any equivalent product.
+   *
+   * @param trade  the trade
+   * @param refData  the reference data
+   * @return the resolved trade
+   */
+  ResolvedCdsTrade resolve(CdsTrade trade, ReferenceData refData) {
+    Cds product = trade.getProduct();
+    Cds key = product.toBuilder()
+        .legalEntityId(KEY_LEGAL_ENTITY)
+        .fixedRate(0d)
+        .build();
+    ResolvedCds resolvedKey = resolvedProducts.computeIfAbsent(key, cds -> cds.resolve(refData));
+    ResolvedCds resolved = resolvedKey.toBuilder()
+        .legalEntityId(product.getLegalEntityId())
+        .paymentPeriods(resolvedKey.getPaymentPeriods().stream()
+            .map(period -> period.toBuilder().fixedRate(product.getFixedRate()).build())
+            .collect(toImmutableList()))
+        .build();
+    return ResolvedCdsTrade.builder()
+        .info(trade.getInfo())
+        .product(resolved)
+        .upfrontFee(trade.getUpfrontFee().map(fee -> fee.resolve(refData)).orElse(null))
+        .build();
+  }
+
+  /**
+   * Obtains the pricing data of a calibration node, computing it on a cache miss.
+   * <p>
+   * The key must contain every input of the data.
+   *
+   * @param <T>  the type of the data
+   * @param key  the key
+   * @param dataSupplier  the supplier of the data, used on a cache miss
+   * @return the data
+   */
+  @SuppressWarnings("unchecked")
+  <T> T pricingData(List<Object> key, Supplier<T> dataSupplier) {
+    return (T) pricingData.computeIfAbsent(key, k -> dataSupplier.get());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the key containing the dates of the CDS that determine the pricing data.
+   * <p>
+   * The legal entity, notional and coupon rate are excluded.
+   *
+   * @param cds  the product
+   * @param stepinDate  the step-in date
+   * @param effectiveStartDate  the effective start date
+   * @param settlementDate  the settlement date
+   * @param creditCurveKnots  the knots of the credit curve
+   * @return the key
+   */
+  static List<Object> nodeKey(
+      ResolvedCds cds,
+      LocalDate stepinDate,
+      LocalDate effectiveStartDate,
+      LocalDate settlementDate,
+      DoubleArray creditCurveKnots) {
+
+    List<CreditCouponPaymentPeriod> periods = cds.getPaymentPeriods();
+    List<Object> key = new ArrayList<>(periods.size() * 6 + 9);
+    key.add(cds.getCurrency());
+    key.add(cds.getDayCount());
+    key.add(stepinDate);
+    key.add(effectiveStartDate);
+    key.add(settlementDate);
+    key.add(cds.getAccrualStartDate());
+    key.add(cds.getProtectionEndDate());
+    key.add(cds.getPaymentOnDefault());
+    key.add(creditCurveKnots);
+    for (CreditCouponPaymentPeriod period : periods) {
+      key.add(period.getStartDate());
+      key.add(period.getEndDate());
+      key.add(period.getEffectiveStartDate());
+      key.add(period.getEffectiveEndDate());
+      key.add(period.getPaymentDate());
+      key.add(period.getYearFraction());
+    }
+    return key;
+  }
+
+}
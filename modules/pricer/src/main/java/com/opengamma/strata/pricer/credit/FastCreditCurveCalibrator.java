@@ -111,6 +111,30 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
       RecoveryRates recoveryRates,
       ReferenceData refData) {
 
+    return calibrate(
+        calibrationCDSs,
+        flactionalSpreads,
+        pointsUpfront,
+        name,
+        valuationDate,
+        discountFactors,
+        recoveryRates,
+        refData,
+        new CreditCurveCalibrationCache());
+  }
+
+  @Override
+  NodalCurve calibrate(
+      List<ResolvedCdsTrade> calibrationCDSs,
+      DoubleArray flactionalSpreads,
+      DoubleArray pointsUpfront,
+      CurveName name,
+      LocalDate valuationDate,
+      CreditDiscountFactors discountFactors,
+      RecoveryRates recoveryRates,
+      ReferenceData refData,
+      CreditCurveCalibrationCache cache) {
+
     int n = calibrationCDSs.size();
     double[] guess = new double[n];
     double[] t = new double[n];
@@ -146,8 +170,14 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
           .orElse(cds.getSettlementDateOffset().adjust(valuationDate, refData));
       double accrued = cds.accruedYearFraction(stepinDate);
 
-      Pricer pricer = new Pricer(cds, discountFactors, times, flactionalSpreads.get(i), pointsUpfront.get(i), lgd[i], stepinDate,
-          effectiveStartDate, settlementDate, accrued);
+      // the integration points and discount factors are shared with the nodes of other curves with the same dates
+      List<Object> key = CreditCurveCalibrationCache.nodeKey(cds, stepinDate, effectiveStartDate, settlementDate, times);
+      double fractionalSpread = flactionalSpreads.get(i);
+      double puf = pointsUpfront.get(i);
+      double lgdNode = lgd[i];
+      Pricer basePricer = cache.pricingData(key, () -> new Pricer(cds, discountFactors, times, fractionalSpread,
+          puf, lgdNode, stepinDate, effectiveStartDate, settlementDate, accrued));
+      Pricer pricer = new Pricer(basePricer, fractionalSpread, puf, lgdNode);
       Function<Double, Double> func = pricer.getPointFunction(i, creditCurve);
 
       switch (getArbitrageHandling()) {
@@ -331,6 +361,31 @@ public final class FastCreditCurveCalibrator extends IsdaCompliantCreditCurveCal
       }
     }
 
+    // creates an instance sharing the schedule and discount factors of another pricer
+    Pricer(Pricer base, double fractionalSpread, double pointsUpfront, double lgd) {
+      accYearFraction = base.accYearFraction;
+      cds = base.cds;
+      fracSpread = fractionalSpread;
+      puf = pointsUpfront;
+      productEffectiveStart = base.productEffectiveStart;
+      proLegIntPoints = base.proLegIntPoints;
+      nProPoints = base.nProPoints;
+      valuationDF = base.valuationDF;
+      lgdDF = lgd / valuationDF;
+      proYieldCurveRT = base.proYieldCurveRT;
+      proDF = base.proDF;
+      nPayments = base.nPayments;
+      paymentDF = base.paymentDF;
+      startPeriodIndex = base.startPeriodIndex;
+      accRate = base.accRate;
+      offsetAccStart = base.offsetAccStart;
+      offsetAccEnd = base.offsetAccEnd;
+      premLegIntPoints = base.premLegIntPoints;
+      premDF = base.premDF;
+      rt = base.rt;
+      premDt = base.premDt;
+    }
+
     public Function<Double, Double> getPointFunction(int index, NodalCurve creditCurve) {
       return new Function<Double, Double>() {
         @Override
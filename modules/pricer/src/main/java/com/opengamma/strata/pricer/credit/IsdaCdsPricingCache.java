@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.credit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.product.credit.CreditCouponPaymentPeriod;
+import com.opengamma.strata.product.credit.ResolvedCds;
+
+/**
+ * Cache used when pricing a book of CDS products against a single rates provider.
+ * <p>
+ * Many CDS in a book share the standard IMM dates, the same step-in date and the same pair
+ * of discount and credit curves. The integration schedules generated by {@link DoublesScheduleGenerator}
+ * and the per unit notional values of the protection and premium legs then only need to be computed once.
+ * <p>
+ * The values are cached per pair of curves, which is identified by the currency and legal entity.
+ * The leg values are keyed by the dates that determine them, thus the results are identical
+ * to those obtained by pricing each CDS independently.
+ * <p>
+ * An instance is intended to be used for a single batch and is not thread-safe.
+ */
+final class IsdaCdsPricingCache {
+
+  /**
+   * The rates provider.
+   */
+  private final CreditRatesProvider ratesProvider;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The step-in dates, keyed by step-in date offset.
+   */
+  private final Map<DaysAdjustment, LocalDate> stepinDates = new HashMap<>();
+  /**
+   * The curves, keyed by currency and legal entity.
+   */
+  private final Map<Pair<Currency, StandardId>, Curves> curves = new HashMap<>();
+
+  /**
+   * Creates an instance.
+   *
+   * @param ratesProvider  the rates provider
+   * @param refData  the reference data
+   */
+  IsdaCdsPricingCache(CreditRatesProvider ratesProvider, ReferenceData refData) {
+    this.ratesProvider = ratesProvider;
+    this.refData = refData;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the rates provider.
+   *
+   * @return the rates provider
+   */
+  CreditRatesProvider getRatesProvider() {
+    return ratesProvider;
+  }
+
+  /**
+   * Obtains the step-in date of the CDS.
+   *
+   * @param cds  the product
+   * @return the step-in date
+   */
+  LocalDate stepinDate(ResolvedCds cds) {
+    return stepinDates.computeIfAbsent(
+        cds.getStepinDateOffset(), offset -> offset.adjust(ratesProvider.getValuationDate(), refData));
+  }
+
+  /**
+   * Obtains the cached curves of the CDS.
+   *
+   * @param cds  the product
+   * @param curvesSupplier  the supplier of the discount factors and survival probabilities, used on a cache miss
+   * @return the curves
+   */
+  Curves curves(
+      ResolvedCds cds,
+      Supplier<Pair<CreditDiscountFactors, LegalEntitySurvivalProbabilities>> curvesSupplier) {
+
+    return curves.computeIfAbsent(
+        Pair.of(cds.getCurrency(), cds.getLegalEntityId()),
+        key -> new Curves(curvesSupplier.get()));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The cached values for a single pair of discount and credit curves.
+   */
+  static final class Curves {
+
+    /**
+     * The discount factors.
+     */
+    private final CreditDiscountFactors discountFactors;
+    /**
+     * The survival probabilities.
+     */
+    private final LegalEntitySurvivalProbabilities survivalProbabilities;
+    /**
+     * The integration schedules, keyed by start and end date.
+     */
+    private final Map<Pair<LocalDate, LocalDate>, DoubleArray> schedules = new HashMap<>();
+    /**
+     * The protection leg values before rolling to the reference date, keyed by start and end date.
+     */
+    private final Map<Pair<LocalDate, LocalDate>, Double> protectionLegs = new HashMap<>();
+    /**
+     * The premium leg values before rolling to the reference date, keyed by the dates defining the leg.
+     */
+    private final Map<List<Object>, Double> premiumLegs = new HashMap<>();
+
+    // creates an instance
+    private Curves(Pair<CreditDiscountFactors, LegalEntitySurvivalProbabilities> rates) {
+      this.discountFactors = rates.getFirst();
+      this.survivalProbabilities = rates.getSecond();
+    }
+
+    /**
+     * Gets the discount factors.
+     *
+     * @return the discount factors
+     */
+    CreditDiscountFactors getDiscountFactors() {
+      return discountFactors;
+    }
+
+    /**
+     * Gets the survival probabilities.
+     *
+     * @return the survival probabilities
+     */
+    LegalEntitySurvivalProbabilities getSurvivalProbabilities() {
+      return survivalProbabilities;
+    }
+
+    /**
+     * Obtains the integration schedule between two dates.
+     *
+     * @param start  the start date
+     * @param end  the end date
+     * @return the integration schedule
+     */
+    DoubleArray integrationSchedule(LocalDate start, LocalDate end) {
+      return schedules.computeIfAbsent(Pair.of(start, end), key -> DoublesScheduleGenerator.getIntegrationsPoints(
+          discountFactors.relativeYearFraction(start),
+          discountFactors.relativeYearFraction(end),
+          discountFactors.getParameterKeys(),
+          survivalProbabilities.getParameterKeys()));
+    }
+
+    /**
+     * Obtains the protection leg value, computing it on a cache miss.
+     *
+     * @param start  the effective start date
+     * @param end  the protection end date
+     * @param valueFn  the function computing the value from the integration schedule
+     * @return the protection leg value, before rolling to the reference date
+     */
+    double protectionLeg(LocalDate start, LocalDate end, ToDoubleFunction<DoubleArray> valueFn) {
+      Pair<LocalDate, LocalDate> key = Pair.of(start, end);
+      Double cached = protectionLegs.get(key);
+      if (cached != null) {
+        return cached;
+      }
+      double value = valueFn.applyAsDouble(integrationSchedule(start, end));
+      protectionLegs.put(key, value);
+      return value;
+    }
+
+    /**
+     * Obtains the premium leg value, computing it on a cache miss.
+     *
+     * @param cds  the product
+     * @param stepinDate  the step-in date
+     * @param effectiveStartDate  the effective start date
+     * @param valueFn  the function computing the value
+     * @return the premium leg value, before rolling to the reference date
+     */
+    double premiumLeg(
+        ResolvedCds cds,
+        LocalDate stepinDate,
+        LocalDate effectiveStartDate,
+        ToDoubleFunction<ResolvedCds> valueFn) {
+
+      List<Object> key = premiumLegKey(cds, stepinDate, effectiveStartDate);
+      Double cached = premiumLegs.get(key);
+      if (cached != null) {
+        return cached;
+      }
+      double value = valueFn.applyAsDouble(cds);
+      premiumLegs.put(key, value);
+      return value;
+    }
+
+    // the key contains every input of the premium leg calculation, excluding notional and coupon rate
+    private static List<Object> premiumLegKey(ResolvedCds cds, LocalDate stepinDate, LocalDate effectiveStartDate) {
+      List<CreditCouponPaymentPeriod> periods = cds.getPaymentPeriods();
+      List<Object> key = new ArrayList<>(periods.size() * 6 + 6);
+      key.add(stepinDate);
+      key.add(effectiveStartDate);
+      key.add(cds.getAccrualStartDate());
+      key.add(cds.getProtectionEndDate());
+      key.add(cds.getPaymentOnDefault());
+      key.add(periods.size());
+      for (CreditCouponPaymentPeriod period : periods) {
+        key.add(period.getStartDate());
+        key.add(period.getEndDate());
+        key.add(period.getEffectiveStartDate());
+        key.add(period.getEffectiveEndDate());
+        key.add(period.getPaymentDate());
+        key.add(period.getYearFraction());
+      }
+      return key;
+    }
+  }
+
+}
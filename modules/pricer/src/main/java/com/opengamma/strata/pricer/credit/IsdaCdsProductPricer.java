@@ -5,11 +5,14 @@
  */
 package com.opengamma.strata.pricer.credit;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.math.impl.util.Epsilon.epsilon;
 import static com.opengamma.strata.math.impl.util.Epsilon.epsilonP;
 import static com.opengamma.strata.math.impl.util.Epsilon.epsilonPP;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiFunction;
 
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
@@ -189,6 +192,87 @@ public class IsdaCdsProductPricer {
     return CurrencyAmount.of(cds.getCurrency(), cds.getBuySell().normalize(cds.getNotional()) * price);
   }
 
+  /**
+   * Calculates the present value of each CDS product in a book.
+   * <p>
+   * The result is the same as calling
+   * {@link #presentValue(ResolvedCds, CreditRatesProvider, LocalDate, PriceType, ReferenceData)}
+   * for each product in turn. The products are priced in a single pass, with the step-in dates,
+   * the integration schedules and the per unit notional leg values cached and shared between
+   * products that have the same curves and dates, such as CDS on the standard IMM dates.
+   * 
+   * @param cdsList  the products
+   * @param ratesProvider  the rates provider
+   * @param referenceDate  the reference date
+   * @param priceType  the price type
+   * @param refData  the reference data
+   * @return the present values, in the same order as the products
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedCds> cdsList,
+      CreditRatesProvider ratesProvider,
+      LocalDate referenceDate,
+      PriceType priceType,
+      ReferenceData refData) {
+
+    IsdaCdsPricingCache cache = new IsdaCdsPricingCache(ratesProvider, refData);
+    return cdsList.stream()
+        .map(cds -> {
+          double price = price(cds, cache, cds.getFixedRate(), referenceDate, priceType);
+          return CurrencyAmount.of(cds.getCurrency(), cds.getBuySell().normalize(cds.getNotional()) * price);
+        })
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Calculates the price of each CDS product in a book, which is the present value per unit notional.
+   * <p>
+   * The result is the same as calling
+   * {@link #price(ResolvedCds, CreditRatesProvider, LocalDate, PriceType, ReferenceData)}
+   * for each product in turn, sharing cached values between products as described in
+   * {@link #presentValue(List, CreditRatesProvider, LocalDate, PriceType, ReferenceData)}.
+   * 
+   * @param cdsList  the products
+   * @param ratesProvider  the rates provider
+   * @param referenceDate  the reference date
+   * @param priceType  the price type
+   * @param refData  the reference data
+   * @return the prices, in the same order as the products
+   */
+  public DoubleArray price(
+      List<ResolvedCds> cdsList,
+      CreditRatesProvider ratesProvider,
+      LocalDate referenceDate,
+      PriceType priceType,
+      ReferenceData refData) {
+
+    IsdaCdsPricingCache cache = new IsdaCdsPricingCache(ratesProvider, refData);
+    return DoubleArray.of(
+        cdsList.size(),
+        i -> price(cdsList.get(i), cache, cdsList.get(i).getFixedRate(), referenceDate, priceType));
+  }
+
+  // internal price computation with specified coupon rate, using the cache
+  double price(
+      ResolvedCds cds,
+      IsdaCdsPricingCache cache,
+      double fractionalSpread,
+      LocalDate referenceDate,
+      PriceType priceType) {
+
+    CreditRatesProvider ratesProvider = cache.getRatesProvider();
+    if (isExpired(cds, ratesProvider)) {
+      return 0d;
+    }
+    LocalDate stepinDate = cache.stepinDate(cds);
+    LocalDate effectiveStartDate = cds.calculateEffectiveStartDate(stepinDate);
+    double recoveryRate = recoveryRate(cds, ratesProvider);
+    IsdaCdsPricingCache.Curves curves = cache.curves(cds, () -> reduceDiscountFactors(cds, ratesProvider));
+    double protectionLeg = (1d - recoveryRate) * protectionFull(cds, curves, referenceDate, effectiveStartDate);
+    double rpv01 = riskyAnnuity(cds, curves, referenceDate, stepinDate, effectiveStartDate, priceType);
+    return protectionLeg - rpv01 * fractionalSpread;
+  }
+
   /**
    * Calculates the present value sensitivity of the product. 
    * <p>
@@ -521,6 +605,34 @@ public class IsdaCdsProductPricer {
         discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
         discountFactors.getParameterKeys(),
         survivalProbabilities.getParameterKeys());
+    double pv = protectionFull(integrationSchedule, discountFactors, survivalProbabilities);
+    // roll to the cash settle date
+    double df = discountFactors.discountFactor(referenceDate);
+    return pv / df;
+  }
+
+  // computes protection leg pv per unit notional, without loss-given-default rate multiplied, using the cache
+  double protectionFull(
+      ResolvedCds cds,
+      IsdaCdsPricingCache.Curves curves,
+      LocalDate referenceDate,
+      LocalDate effectiveStartDate) {
+
+    CreditDiscountFactors discountFactors = curves.getDiscountFactors();
+    double pv = curves.protectionLeg(
+        effectiveStartDate,
+        cds.getProtectionEndDate(),
+        schedule -> protectionFull(schedule, discountFactors, curves.getSurvivalProbabilities()));
+    // roll to the cash settle date
+    double df = discountFactors.discountFactor(referenceDate);
+    return pv / df;
+  }
+
+  // computes protection leg pv per unit notional over the integration schedule, before rolling to the reference date
+  private double protectionFull(
+      DoubleArray integrationSchedule,
+      CreditDiscountFactors discountFactors,
+      LegalEntitySurvivalProbabilities survivalProbabilities) {
 
     double pv = 0d;
     double ht0 = survivalProbabilities.zeroRate(integrationSchedule.get(0)) * integrationSchedule.get(0);
@@ -547,10 +659,7 @@ public class IsdaCdsProductPricer {
       rt0 = rt1;
       b0 = b1;
     }
-    // roll to the cash settle date
-    double df = discountFactors.discountFactor(referenceDate);
-
-    return pv / df;
+    return pv;
   }
 
   // computes risky annuity
@@ -563,6 +672,65 @@ public class IsdaCdsProductPricer {
       LocalDate effectiveStartDate,
       PriceType priceType) {
 
+    double pv = premiumLeg(
+        cds,
+        discountFactors,
+        survivalProbabilities,
+        stepinDate,
+        effectiveStartDate,
+        (start, end) -> DoublesScheduleGenerator.getIntegrationsPoints(
+            discountFactors.relativeYearFraction(start),
+            discountFactors.relativeYearFraction(end),
+            discountFactors.getParameterKeys(),
+            survivalProbabilities.getParameterKeys()));
+    // roll to the cash settle date
+    double df = discountFactors.discountFactor(referenceDate);
+    pv /= df;
+
+    if (priceType.isCleanPrice()) {
+      pv -= cds.accruedYearFraction(stepinDate);
+    }
+
+    return pv;
+  }
+
+  // computes the risky annuity using the cache
+  double riskyAnnuity(
+      ResolvedCds cds,
+      IsdaCdsPricingCache.Curves curves,
+      LocalDate referenceDate,
+      LocalDate stepinDate,
+      LocalDate effectiveStartDate,
+      PriceType priceType) {
+
+    CreditDiscountFactors discountFactors = curves.getDiscountFactors();
+    double pv = curves.premiumLeg(cds, stepinDate, effectiveStartDate, product -> premiumLeg(
+        product,
+        discountFactors,
+        curves.getSurvivalProbabilities(),
+        stepinDate,
+        effectiveStartDate,
+        curves::integrationSchedule));
+    // roll to the cash settle date
+    double df = discountFactors.discountFactor(referenceDate);
+    pv /= df;
+
+    if (priceType.isCleanPrice()) {
+      pv -= cds.accruedYearFraction(stepinDate);
+    }
+
+    return pv;
+  }
+
+  // computes the premium leg pv per unit coupon rate, before rolling to the reference date
+  private double premiumLeg(
+      ResolvedCds cds,
+      CreditDiscountFactors discountFactors,
+      LegalEntitySurvivalProbabilities survivalProbabilities,
+      LocalDate stepinDate,
+      LocalDate effectiveStartDate,
+      BiFunction<LocalDate, LocalDate, DoubleArray> integrationScheduleFn) {
+
     double pv = 0d;
     for (CreditCouponPaymentPeriod coupon : cds.getPaymentPeriods()) {
       if (stepinDate.isBefore(coupon.getEndDate())) {
@@ -575,24 +743,12 @@ public class IsdaCdsProductPricer {
     if (cds.getPaymentOnDefault().isAccruedInterest()) {
       // This is needed so that the code is consistent with ISDA C when the Markit `fix' is used. 
       LocalDate start = cds.getPaymentPeriods().size() == 1 ? effectiveStartDate : cds.getAccrualStartDate();
-      DoubleArray integrationSchedule = DoublesScheduleGenerator.getIntegrationsPoints(
-          discountFactors.relativeYearFraction(start),
-          discountFactors.relativeYearFraction(cds.getProtectionEndDate()),
-          discountFactors.getParameterKeys(),
-          survivalProbabilities.getParameterKeys());
+      DoubleArray integrationSchedule = integrationScheduleFn.apply(start, cds.getProtectionEndDate());
       for (CreditCouponPaymentPeriod coupon : cds.getPaymentPeriods()) {
         pv += singlePeriodAccrualOnDefault(
             coupon, effectiveStartDate, integrationSchedule, discountFactors, survivalProbabilities);
       }
     }
-    // roll to the cash settle date
-    double df = discountFactors.discountFactor(referenceDate);
-    pv /= df;
-
-    if (priceType.isCleanPrice()) {
-      pv -= cds.accruedYearFraction(stepinDate);
-    }
-
     return pv;
   }
 
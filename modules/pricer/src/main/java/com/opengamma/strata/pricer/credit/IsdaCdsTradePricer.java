@@ -5,7 +5,10 @@
  */
 package com.opengamma.strata.pricer.credit;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.List;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
@@ -14,6 +17,7 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.common.PriceType;
+import com.opengamma.strata.product.credit.ResolvedCds;
 import com.opengamma.strata.product.credit.ResolvedCdsTrade;
 
 /**
@@ -197,6 +201,45 @@ public class IsdaCdsTradePricer {
     return pvProduct.plus(pvUpfront);
   }
 
+  /**
+   * Calculates the present value of each trade in a book.
+   * <p>
+   * The result is the same as calling
+   * {@link #presentValue(ResolvedCdsTrade, CreditRatesProvider, PriceType, ReferenceData)}
+   * for each trade in turn. The underlying products are priced in a single pass, sharing the
+   * integration schedules and leg values between products with the same curves and dates.
+   * 
+   * @param trades  the trades
+   * @param ratesProvider  the rates provider
+   * @param priceType  the price type
+   * @param refData  the reference data
+   * @return the present values, in the same order as the trades
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedCdsTrade> trades,
+      CreditRatesProvider ratesProvider,
+      PriceType priceType,
+      ReferenceData refData) {
+
+    IsdaCdsPricingCache cache = new IsdaCdsPricingCache(ratesProvider, refData);
+    return trades.stream()
+        .map(trade -> {
+          ResolvedCds product = trade.getProduct();
+          double price = productPricer.price(
+              product, cache, product.getFixedRate(), ratesProvider.getValuationDate(), priceType);
+          CurrencyAmount pvProduct =
+              CurrencyAmount.of(product.getCurrency(), product.getBuySell().normalize(product.getNotional()) * price);
+          if (!trade.getUpfrontFee().isPresent()) {
+            return pvProduct;
+          }
+          Payment upfront = trade.getUpfrontFee().get();
+          CurrencyAmount pvUpfront =
+              upfrontPricer.presentValue(upfront, ratesProvider.discountFactors(upfront.getCurrency()).toDiscountFactors());
+          return pvProduct.plus(pvUpfront);
+        })
+        .collect(toImmutableList());
+  }
+
   /**
    * Calculates the present value sensitivity of the trade. 
    * <p>
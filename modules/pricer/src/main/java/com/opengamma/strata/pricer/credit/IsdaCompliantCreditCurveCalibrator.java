@@ -6,8 +6,12 @@
 package com.opengamma.strata.pricer.credit;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -154,6 +158,64 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
       ImmutableCreditRatesProvider ratesProvider,
       ReferenceData refData) {
 
+    return calibrate(curveDefinition, marketData, ratesProvider, refData, new CreditCurveCalibrationCache());
+  }
+
+  /**
+   * Calibrates the ISDA compliant credit curves of many legal entities to the market data.
+   * <p>
+   * This creates a credit curve for each curve definition, and returns a rates provider
+   * containing the calibrated curves in addition to the curves of {@code ratesProvider}.
+   * Each curve definition must refer to a different pair of legal entity and currency.
+   * <p>
+   * The curves are calibrated in parallel, using the common fork-join pool.
+   * The payment schedules, integration points and discount factors of the calibration nodes
+   * are shared between curves whose nodes have the same dates, such as the standard tenors.
+   * The resulting curves are the same as those obtained by calibrating each curve
+   * using {@link #calibrate(IsdaCreditCurveDefinition, MarketData, ImmutableCreditRatesProvider, ReferenceData)}.
+   * <p>
+   * The relevant discount curves and recovery rate curves must be stored in {@code ratesProvider}.
+   * 
+   * @param curveDefinitions  the curve definitions
+   * @param marketData  the market data
+   * @param ratesProvider  the rates provider
+   * @param refData  the reference data
+   * @return the rates provider containing the calibrated credit curves
+   */
+  public ImmutableCreditRatesProvider calibrate(
+      List<IsdaCreditCurveDefinition> curveDefinitions,
+      MarketData marketData,
+      ImmutableCreditRatesProvider ratesProvider,
+      ReferenceData refData) {
+
+    ArgChecker.noNulls(curveDefinitions, "curveDefinitions");
+    CreditCurveCalibrationCache cache = new CreditCurveCalibrationCache();
+    List<LegalEntitySurvivalProbabilities> calibrated = curveDefinitions.parallelStream()
+        .map(curveDefinition -> calibrate(curveDefinition, marketData, ratesProvider, refData, cache))
+        .collect(Guavate.toImmutableList());
+
+    Map<Pair<StandardId, Currency>, LegalEntitySurvivalProbabilities> creditCurves =
+        new HashMap<>(ImmutableCreditRatesProvider.meta().creditCurves().get(ratesProvider));
+    Set<Pair<StandardId, Currency>> keys = new HashSet<>();
+    for (LegalEntitySurvivalProbabilities creditCurve : calibrated) {
+      Pair<StandardId, Currency> key = Pair.of(creditCurve.getLegalEntityId(), creditCurve.getCurrency());
+      ArgChecker.isTrue(keys.add(key), "Multiple curve definitions found for legal entity {} and currency {}",
+          key.getFirst(), key.getSecond());
+      creditCurves.put(key, creditCurve);
+    }
+    return ratesProvider.toBuilder()
+        .creditCurves(creditCurves)
+        .build();
+  }
+
+  // calibrates a single curve, sharing the cache
+  private LegalEntitySurvivalProbabilities calibrate(
+      IsdaCreditCurveDefinition curveDefinition,
+      MarketData marketData,
+      ImmutableCreditRatesProvider ratesProvider,
+      ReferenceData refData,
+      CreditCurveCalibrationCache cache) {
+
     ArgChecker.isTrue(curveDefinition.getCurveValuationDate().equals(ratesProvider.getValuationDate()),
         "ratesProvider and curveDefinition must be based on the same valuation date");
     ImmutableList<CdsIsdaCreditCurveNode> curveNodes = curveDefinition.getCurveNodes().stream()
@@ -169,7 +231,8 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
         curveDefinition.getCurrency(),
         curveDefinition.isComputeJacobian(),
         curveDefinition.isStoreNodeTrade(),
-        refData);
+        refData,
+        cache);
   }
 
   LegalEntitySurvivalProbabilities calibrate(
@@ -183,6 +246,32 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
       boolean storeTrade,
       ReferenceData refData) {
 
+    return calibrate(
+        curveNodes,
+        name,
+        marketData,
+        ratesProvider,
+        definitionDayCount,
+        definitionCurrency,
+        computeJacobian,
+        storeTrade,
+        refData,
+        new CreditCurveCalibrationCache());
+  }
+
+  // calibrates a single curve, sharing the cache
+  private LegalEntitySurvivalProbabilities calibrate(
+      List<CdsIsdaCreditCurveNode> curveNodes,
+      CurveName name,
+      MarketData marketData,
+      ImmutableCreditRatesProvider ratesProvider,
+      DayCount definitionDayCount,
+      Currency definitionCurrency,
+      boolean computeJacobian,
+      boolean storeTrade,
+      ReferenceData refData,
+      CreditCurveCalibrationCache cache) {
+
     Iterator<StandardId> legalEntities =
         curveNodes.stream().map(CdsIsdaCreditCurveNode::getLegalEntityId).collect(Collectors.toSet()).iterator();
     StandardId legalEntityId = legalEntities.next();
@@ -212,7 +301,7 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
     Builder<ResolvedCdsTrade> tradesBuilder = ImmutableList.builder();
     for (int i = 0; i < nNodes; i++) {
       CdsCalibrationTrade tradeCalibration = curveNodes.get(i).trade(1d, marketData, refData);
-      ResolvedCdsTrade trade = tradeCalibration.getUnderlyingTrade().resolve(refData);
+      ResolvedCdsTrade trade = cache.resolve(tradeCalibration.getUnderlyingTrade(), refData);
       tradesBuilder.add(trade);
       double[] temp = getStandardQuoteForm(
           trade,
@@ -235,7 +324,8 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
         valuationDate,
         discountFactors,
         recoveryRates,
-        refData);
+        refData,
+        cache);
 
     if (computeJacobian) {
       LegalEntitySurvivalProbabilities creditCurve = LegalEntitySurvivalProbabilities.of(
@@ -324,6 +414,37 @@ public abstract class IsdaCompliantCreditCurveCalibrator {
       RecoveryRates recoveryRates,
       ReferenceData refData);
 
+  /**
+   * Calibrate the ISDA compliant credit curve to points upfront and fractional spread, sharing the cache.
+   * <p>
+   * The default implementation ignores the cache.
+   * 
+   * @param calibrationCDSs  the calibration CDS
+   * @param flactionalSpreads  the fractional spreads
+   * @param pointsUpfront  the points upfront values
+   * @param name  the curve name
+   * @param valuationDate  the valuation date
+   * @param discountFactors  the discount factors
+   * @param recoveryRates  the recovery rates
+   * @param refData  the reference data
+   * @param cache  the cache shared between calibrations
+   * @return the ISDA compliant credit curve
+   */
+  NodalCurve calibrate(
+      List<ResolvedCdsTrade> calibrationCDSs,
+      DoubleArray flactionalSpreads,
+      DoubleArray pointsUpfront,
+      CurveName name,
+      LocalDate valuationDate,
+      CreditDiscountFactors discountFactors,
+      RecoveryRates recoveryRates,
+      ReferenceData refData,
+      CreditCurveCalibrationCache cache) {
+
+    return calibrate(
+        calibrationCDSs, flactionalSpreads, pointsUpfront, name, valuationDate, discountFactors, recoveryRates, refData);
+  }
+
   private double[] getStandardQuoteForm(ResolvedCdsTrade calibrationCds, CdsQuote marketQuote, LocalDate valuationDate,
       CreditDiscountFactors discountFactors, RecoveryRates recoveryRates, boolean computeJacobian, ReferenceData refData) {
 
@@ -6,13 +6,18 @@
 package com.opengamma.strata.pricer.credit;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.collect.tuple.Triple;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -150,6 +155,55 @@ public class IsdaHomogenousCdsIndexProductPricer {
     return CurrencyAmount.of(cds.getCurrency(), amount);
   }
 
+  /**
+   * Calculates the present value of each CDS index product in a book.
+   * <p>
+   * The result is the same as calling
+   * {@link #presentValue(ResolvedCdsIndex, CreditRatesProvider, LocalDate, PriceType, ReferenceData)}
+   * for each product in turn. The products are priced in a single pass, sharing the integration schedules
+   * and leg values between products with the same index curves and dates, such as different series
+   * notionals or coupons on the same index.
+   * 
+   * @param cdsIndexList  the products
+   * @param ratesProvider  the rates provider
+   * @param referenceDate  the reference date
+   * @param priceType  the price type
+   * @param refData  the reference data
+   * @return the present values, in the same order as the products
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedCdsIndex> cdsIndexList,
+      CreditRatesProvider ratesProvider,
+      LocalDate referenceDate,
+      PriceType priceType,
+      ReferenceData refData) {
+
+    IsdaCdsPricingCache cache = new IsdaCdsPricingCache(ratesProvider, refData);
+    Map<Pair<Currency, StandardId>, Triple<CreditDiscountFactors, LegalEntitySurvivalProbabilities, Double>> ratesCache =
+        new HashMap<>();
+    ImmutableList.Builder<CurrencyAmount> builder = ImmutableList.builder();
+    for (ResolvedCdsIndex cdsIndex : cdsIndexList) {
+      if (isExpired(cdsIndex, ratesProvider)) {
+        builder.add(CurrencyAmount.of(cdsIndex.getCurrency(), 0d));
+        continue;
+      }
+      ResolvedCds cds = cdsIndex.toSingleNameCds();
+      LocalDate stepinDate = cache.stepinDate(cds);
+      LocalDate effectiveStartDate = cds.calculateEffectiveStartDate(stepinDate);
+      double recoveryRate = underlyingPricer.recoveryRate(cds, ratesProvider);
+      Triple<CreditDiscountFactors, LegalEntitySurvivalProbabilities, Double> rates = ratesCache.computeIfAbsent(
+          Pair.of(cds.getCurrency(), cds.getLegalEntityId()), key -> reduceDiscountFactors(cds, ratesProvider));
+      IsdaCdsPricingCache.Curves curves = cache.curves(cds, () -> Pair.of(rates.getFirst(), rates.getSecond()));
+      double protectionLeg =
+          (1d - recoveryRate) * underlyingPricer.protectionFull(cds, curves, referenceDate, effectiveStartDate);
+      double rpv01 = underlyingPricer.riskyAnnuity(cds, curves, referenceDate, stepinDate, effectiveStartDate, priceType);
+      double amount =
+          cds.getBuySell().normalize(cds.getNotional()) * rates.getThird() * (protectionLeg - rpv01 * cds.getFixedRate());
+      builder.add(CurrencyAmount.of(cds.getCurrency(), amount));
+    }
+    return builder.build();
+  }
+
   /**
    * Calculates the present value sensitivity of the product. 
    * <p>
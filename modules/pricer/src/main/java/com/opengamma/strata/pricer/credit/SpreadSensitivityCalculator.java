@@ -300,7 +300,7 @@ public abstract class SpreadSensitivityCalculator {
   }
 
   // extract CDS index trades from credit curve
-  private ImmutableList<ResolvedCdsIndexTrade> getBucketCdsIndex(ResolvedCdsIndex product, CreditRatesProvider ratesProvider) {
+  ImmutableList<ResolvedCdsIndexTrade> getBucketCdsIndex(ResolvedCdsIndex product, CreditRatesProvider ratesProvider) {
     CreditDiscountFactors creditCurve =
         ratesProvider.survivalProbabilities(product.getCdsIndexId(), product.getCurrency()).getSurvivalProbabilities();
     int nNodes = creditCurve.getParameterCount();
@@ -346,7 +346,7 @@ public abstract class SpreadSensitivityCalculator {
     return DoubleArray.of(size, n -> pricer.parSpread(bucketCds.get(n), ratesProvider, refData));
   }
 
-  private double getIndexFactor(ResolvedCds cds, CreditRatesProvider ratesProvider) {
+  double getIndexFactor(ResolvedCds cds, CreditRatesProvider ratesProvider) {
     LegalEntitySurvivalProbabilities survivalProbabilities =
         ratesProvider.survivalProbabilities(cds.getLegalEntityId(), cds.getCurrency());
     // instance is checked in pricer
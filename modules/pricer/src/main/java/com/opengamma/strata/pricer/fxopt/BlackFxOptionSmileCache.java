@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.fxopt;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.DoublesPair;
+import com.opengamma.strata.market.curve.interpolator.BoundCurveInterpolator;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+
+/**
+ * Cache of the smiles of {@link BlackFxOptionSmileVolatilities}, used when pricing a book of options.
+ * <p>
+ * Finding the volatility of a single option interpolates the smile in time at the expiry,
+ * solves for the strikes of the smile from the deltas and the forward, and binds the strike interpolator.
+ * This cache performs the time interpolation once for each expiry and the remaining steps once for
+ * each expiry and forward, sharing the result between all options with the same expiry and underlying.
+ * The volatilities are the same as those of {@link BlackFxOptionSmileVolatilities}.
+ * <p>
+ * This is a mutable cache that must be used from a single thread.
+ */
+final class BlackFxOptionSmileCache {
+
+  /**
+   * The volatilities.
+   */
+  private final BlackFxOptionSmileVolatilities volatilities;
+  /**
+   * The smile term structure of the volatilities.
+   */
+  private final InterpolatedStrikeSmileDeltaTermStructure smileTerm;
+  /**
+   * The smile at each expiry time.
+   */
+  private final Map<Double, SmileDeltaParameters> smiles = new HashMap<>();
+  /**
+   * The bound strike interpolator for each expiry time and forward.
+   */
+  private final Map<DoublesPair, BoundCurveInterpolator> strikeInterpolators = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a cache for the specified volatilities, if they are based on an interpolated smile.
+   *
+   * @param volatilities  the volatilities
+   * @return the cache, empty if the volatilities are not supported
+   */
+  static Optional<BlackFxOptionSmileCache> of(BlackFxOptionVolatilities volatilities) {
+    if (volatilities instanceof BlackFxOptionSmileVolatilities) {
+      BlackFxOptionSmileVolatilities smileVolatilities = (BlackFxOptionSmileVolatilities) volatilities;
+      if (smileVolatilities.getSmile() instanceof InterpolatedStrikeSmileDeltaTermStructure) {
+        return Optional.of(new BlackFxOptionSmileCache(
+            smileVolatilities, (InterpolatedStrikeSmileDeltaTermStructure) smileVolatilities.getSmile()));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Restricted constructor.
+   *
+   * @param volatilities  the volatilities
+   * @param smileTerm  the smile term structure of the volatilities
+   */
+  private BlackFxOptionSmileCache(
+      BlackFxOptionSmileVolatilities volatilities,
+      InterpolatedStrikeSmileDeltaTermStructure smileTerm) {
+
+    this.volatilities = volatilities;
+    this.smileTerm = smileTerm;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the volatilities.
+   *
+   * @return the volatilities
+   */
+  BlackFxOptionSmileVolatilities getVolatilities() {
+    return volatilities;
+  }
+
+  /**
+   * Calculates the volatility at the specified expiry, strike and forward.
+   * <p>
+   * This matches {@link BlackFxOptionSmileVolatilities#volatility(CurrencyPair, double, double, double)}.
+   *
+   * @param currencyPair  the currency pair
+   * @param expiryTime  the time to expiry as a year fraction
+   * @param strike  the strike
+   * @param forward  the forward
+   * @return the volatility
+   */
+  double volatility(CurrencyPair currencyPair, double expiryTime, double strike, double forward) {
+    if (currencyPair.isInverse(volatilities.getCurrencyPair())) {
+      return strikeInterpolator(expiryTime, 1d / forward).interpolate(1d / strike);
+    }
+    return strikeInterpolator(expiryTime, forward).interpolate(strike);
+  }
+
+  /**
+   * Calculates the sensitivity of the volatility to the volatilities of the smile at the expiry.
+   *
+   * @param currencyPair  the currency pair
+   * @param expiryTime  the time to expiry as a year fraction
+   * @param strike  the strike
+   * @param forward  the forward
+   * @return the sensitivity to each volatility of the smile at the expiry
+   */
+  DoubleArray volatilitySmileSensitivity(CurrencyPair currencyPair, double expiryTime, double strike, double forward) {
+    if (currencyPair.isInverse(volatilities.getCurrencyPair())) {
+      return strikeInterpolator(expiryTime, 1d / forward).parameterSensitivity(1d / strike);
+    }
+    return strikeInterpolator(expiryTime, forward).parameterSensitivity(strike);
+  }
+
+  /**
+   * Converts a sensitivity to the volatilities of the smile at the expiry to the parameters of the volatilities.
+   * <p>
+   * The conversion is linear, thus the sensitivities of many options with the same expiry
+   * can be summed before being converted once.
+   *
+   * @param currency  the currency of the sensitivity
+   * @param expiryTime  the time to expiry as a year fraction
+   * @param smileSensitivity  the sensitivity to each volatility of the smile at the expiry
+   * @return the parameter sensitivity
+   */
+  CurrencyParameterSensitivity parameterSensitivity(
+      Currency currency,
+      double expiryTime,
+      DoubleArray smileSensitivity) {
+
+    DoubleMatrix bucketedSensi =
+        smileTerm.smileAndSensitivitiesForExpiry(expiryTime, smileSensitivity).getSensitivities();
+    return volatilities.parameterSensitivity(bucketedSensi, currency, 1d);
+  }
+
+  // finds the strike interpolator, bound to the smile at the expiry with strikes derived from the forward
+  private BoundCurveInterpolator strikeInterpolator(double expiryTime, double forward) {
+    return strikeInterpolators.computeIfAbsent(DoublesPair.of(expiryTime, forward), key -> {
+      ArgChecker.isTrue(expiryTime >= 0, "Positive time");
+      SmileDeltaParameters smile = smiles.computeIfAbsent(expiryTime, smileTerm::smileForExpiry);
+      DoubleArray strikes = smile.strike(forward);
+      return smileTerm.getStrikeInterpolator().bind(
+          strikes,
+          smile.getVolatility(),
+          smileTerm.getStrikeExtrapolatorLeft(),
+          smileTerm.getStrikeExtrapolatorRight());
+    });
+  }
+
+}
@@ -26,6 +26,7 @@ import org.joda.beans.impl.direct.DirectMetaBean;
 import org.joda.beans.impl.direct.DirectMetaProperty;
 import org.joda.beans.impl.direct.DirectMetaPropertyMap;
 
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.collect.ArgChecker;
@@ -162,6 +163,11 @@ public final class BlackFxOptionSmileVolatilities
     double forward = currencyPair.isInverse(point.getCurrencyPair()) ? 1d / point.getForward() : point.getForward();
     double pointValue = point.getSensitivity();
     DoubleMatrix bucketedSensi = smile.volatilityAndSensitivities(expiryTime, strike, forward).getSensitivities();
+    return parameterSensitivity(bucketedSensi, point.getCurrency(), pointValue);
+  }
+
+  // converts the bucketed sensitivity to the smile parameters, multiplied by the point value
+  CurrencyParameterSensitivity parameterSensitivity(DoubleMatrix bucketedSensi, Currency currency, double pointValue) {
     DoubleArray smileExpiries = smile.getExpiries();
     List<Optional<Tenor>> smileExpiryTenors = smile.getExpiryTenors();
     int nTimes = smileExpiries.size();
@@ -191,7 +197,7 @@ public final class BlackFxOptionSmileVolatilities
         paramList.add(parameterMetadata);
       }
     }
-    return CurrencyParameterSensitivity.of(name, paramList, point.getCurrency(), DoubleArray.copyOf(sensiList));
+    return CurrencyParameterSensitivity.of(name, paramList, currency, DoubleArray.copyOf(sensiList));
   }
 
   //-------------------------------------------------------------------------
@@ -5,11 +5,22 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.fx.DiscountingFxSingleProductPricer;
@@ -103,6 +114,62 @@ public class BlackFxVanillaOptionProductPricer {
     return CurrencyAmount.of(option.getCounterCurrency(), signedNotional(option) * price);
   }
 
+  /**
+   * Calculates the present value of each foreign exchange vanilla option product in a book.
+   * <p>
+   * The result is the same as calling {@link #presentValue(ResolvedFxVanillaOption, RatesProvider,
+   * BlackFxOptionVolatilities)} for each product in turn.
+   * When the volatilities are {@link BlackFxOptionSmileVolatilities} based on
+   * {@link InterpolatedStrikeSmileDeltaTermStructure}, the smile is derived once for each expiry
+   * and the strikes of the smile are found once for each expiry and forward.
+   * All options on the same currency pair and expiry are then priced against the same smile.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the present values, in the same order as the products
+   */
+  public List<CurrencyAmount> presentValue(
+      List<ResolvedFxVanillaOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Optional<BlackFxOptionSmileCache> cache = BlackFxOptionSmileCache.of(volatilities);
+    if (!cache.isPresent()) {
+      return options.stream()
+          .map(option -> presentValue(option, ratesProvider, volatilities))
+          .collect(toImmutableList());
+    }
+    return options.stream()
+        .map(option -> {
+          double price = price(option, ratesProvider, cache.get());
+          return CurrencyAmount.of(option.getCounterCurrency(), signedNotional(option) * price);
+        })
+        .collect(toImmutableList());
+  }
+
+  // the price using the smile cache
+  private double price(
+      ResolvedFxVanillaOption option,
+      RatesProvider ratesProvider,
+      BlackFxOptionSmileCache cache) {
+
+    double timeToExpiry = cache.getVolatilities().relativeTime(option.getExpiry());
+    if (timeToExpiry <= 0d) {
+      return price(option, ratesProvider, cache.getVolatilities());
+    }
+    ResolvedFxSingle underlying = option.getUnderlying();
+    FxRate forward = fxPricer.forwardFxRate(underlying, ratesProvider);
+    CurrencyPair strikePair = underlying.getCurrencyPair();
+    double forwardRate = forward.fxRate(strikePair);
+    double strikeRate = option.getStrike();
+    boolean isCall = option.getPutCall().isCall();
+    double volatility = cache.volatility(strikePair, timeToExpiry, strikeRate, forwardRate);
+    double forwardPrice = BlackFormulaRepository.price(forwardRate, strikeRate, timeToExpiry, volatility, isCall);
+    double discountFactor = ratesProvider.discountFactor(option.getCounterCurrency(), underlying.getPaymentDate());
+    return discountFactor * forwardPrice;
+  }
+
   // the price without discounting
   private double undiscountedPrice(
       ResolvedFxVanillaOption option,
@@ -361,6 +428,71 @@ public class BlackFxVanillaOptionProductPricer {
         valueVega.getAmount());
   }
 
+  /**
+   * Computes the present value sensitivity of a book of options to the parameters of the volatilities.
+   * <p>
+   * The result is the bucketed vega of the book, the same as summing the parameter sensitivity of
+   * {@link #presentValueSensitivityModelParamsVolatility(ResolvedFxVanillaOption, RatesProvider,
+   * BlackFxOptionVolatilities)} for each product in turn.
+   * When the volatilities are {@link BlackFxOptionSmileVolatilities} based on
+   * {@link InterpolatedStrikeSmileDeltaTermStructure}, the vega of the options is summed by currency
+   * and expiry against the volatilities of the smile at the expiry.
+   * The sum is then converted to the smile parameters once for each currency and expiry,
+   * using {@link SmileDeltaTermStructure#smileAndSensitivitiesForExpiry(double, DoubleArray)}.
+   * 
+   * @param options  the option products
+   * @param ratesProvider  the rates provider
+   * @param volatilities  the Black volatility provider
+   * @return the parameter sensitivity of the book
+   */
+  public CurrencyParameterSensitivities presentValueSensitivityModelParamsVolatility(
+      List<ResolvedFxVanillaOption> options,
+      RatesProvider ratesProvider,
+      BlackFxOptionVolatilities volatilities) {
+
+    Optional<BlackFxOptionSmileCache> cacheOpt = BlackFxOptionSmileCache.of(volatilities);
+    if (!cacheOpt.isPresent()) {
+      PointSensitivityBuilder point = PointSensitivityBuilder.none();
+      for (ResolvedFxVanillaOption option : options) {
+        point = point.combinedWith(presentValueSensitivityModelParamsVolatility(option, ratesProvider, volatilities));
+      }
+      return volatilities.parameterSensitivity(point.build());
+    }
+    // sum the vega against the volatilities of the smile at each expiry
+    BlackFxOptionSmileCache cache = cacheOpt.get();
+    Map<Pair<Currency, Double>, double[]> smileSensitivities = new HashMap<>();
+    for (ResolvedFxVanillaOption option : options) {
+      double timeToExpiry = volatilities.relativeTime(option.getExpiry());
+      if (timeToExpiry <= 0d) {
+        continue;
+      }
+      ResolvedFxSingle underlying = option.getUnderlying();
+      FxRate forward = fxPricer.forwardFxRate(underlying, ratesProvider);
+      CurrencyPair strikePair = underlying.getCurrencyPair();
+      double forwardRate = forward.fxRate(strikePair);
+      double strikeRate = option.getStrike();
+      double volatility = cache.volatility(strikePair, timeToExpiry, strikeRate, forwardRate);
+      double fwdVega = BlackFormulaRepository.vega(forwardRate, strikeRate, timeToExpiry, volatility);
+      double discountFactor = ratesProvider.discountFactor(option.getCounterCurrency(), underlying.getPaymentDate());
+      double valueVega = signedNotional(option) * (discountFactor * fwdVega);
+      DoubleArray volatilitySensitivity =
+          cache.volatilitySmileSensitivity(strikePair, timeToExpiry, strikeRate, forwardRate);
+      double[] total = smileSensitivities.computeIfAbsent(
+          Pair.of(option.getCounterCurrency(), timeToExpiry), key -> new double[volatilitySensitivity.size()]);
+      for (int i = 0; i < total.length; i++) {
+        total[i] += valueVega * volatilitySensitivity.get(i);
+      }
+    }
+    // convert to the smile parameters once for each currency and expiry
+    CurrencyParameterSensitivities sensitivities = CurrencyParameterSensitivities.empty();
+    for (Map.Entry<Pair<Currency, Double>, double[]> entry : smileSensitivities.entrySet()) {
+      Pair<Currency, Double> key = entry.getKey();
+      sensitivities = sensitivities.combinedWith(
+          cache.parameterSensitivity(key.getFirst(), key.getSecond(), DoubleArray.ofUnsafe(entry.getValue())));
+    }
+    return sensitivities;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the Black theta of the foreign exchange vanilla option product.
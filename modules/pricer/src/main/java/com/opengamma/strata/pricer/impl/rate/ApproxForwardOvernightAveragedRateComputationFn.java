@@ -18,6 +18,7 @@ import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
@@ -96,6 +97,17 @@ public class ApproxForwardOvernightAveragedRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      OvernightAveragedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     double rate = rate(computation, startDate, endDate, provider);
     builder.put(ExplainKey.COMBINED_RATE, rate);
     return rate;
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.product.rate.OvernightRateComputation;
+
+/**
+ * The fixings of an overnight index pre-compounded into a cumulative index.
+ * <p>
+ * The value of the index on a fixing date is the product of {@code 1 + accrualFactor * rate}
+ * for every fixing before that date, where the fixing dates are the business days of the fixing calendar
+ * from the first fixing of the time series. The compounded factor of the fixings between two dates
+ * is thus the ratio of the values of the index on the two dates.
+ * <p>
+ * Fixings that are missing from the time series are counted, such that the compounded factor is only
+ * available between two dates if every fixing between them is present.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class CumulativeOvernightIndex {
+
+  /**
+   * The fixing calendar.
+   */
+  private final HolidayCalendar fixingCalendar;
+  /**
+   * The epoch day of the first fixing.
+   */
+  private final long firstEpochDay;
+  /**
+   * The date after the last fixing.
+   */
+  private final LocalDate lastFixingP1;
+  /**
+   * The business day index of each date from the first to the last fixing, -1 if not a business day.
+   */
+  private final int[] businessDayIndex;
+  /**
+   * The cumulative index, indexed by business day, with one more value than the number of business days.
+   */
+  private final double[] cumulative;
+  /**
+   * The cumulative count of missing fixings, indexed by business day.
+   */
+  private final int[] missingCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the cumulative index of the fixings of an overnight index.
+   * <p>
+   * The computation defines the index and the fixing calendar, and thus the accrual factor of each fixing.
+   * The index is the same for any computation with the same index and fixing calendar.
+   *
+   * @param computation  the computation defining the index and fixing calendar
+   * @param fixings  the fixings of the index, not empty
+   * @return the cumulative index
+   */
+  static CumulativeOvernightIndex of(OvernightRateComputation computation, LocalDateDoubleTimeSeries fixings) {
+    HolidayCalendar fixingCalendar = computation.getFixingCalendar();
+    DayCount dayCount = computation.getIndex().getDayCount();
+    LocalDate first = fixingCalendar.nextOrSame(fixings.getEarliestDate());
+    LocalDate last = fixings.getLatestDate();
+    int dayCountInRange = Math.max((int) (last.toEpochDay() - first.toEpochDay()) + 1, 0);
+    int[] businessDayIndex = new int[dayCountInRange];
+    Arrays.fill(businessDayIndex, -1);
+    double[] cumulative = new double[dayCountInRange + 1];
+    int[] missingCount = new int[dayCountInRange + 1];
+    cumulative[0] = 1d;
+    int count = 0;
+    for (LocalDate fixing = first; !fixing.isAfter(last); fixing = fixingCalendar.next(fixing)) {
+      businessDayIndex[(int) (fixing.toEpochDay() - first.toEpochDay())] = count;
+      OptionalDouble rate = fixings.get(fixing);
+      if (rate.isPresent()) {
+        LocalDate effectiveDate = computation.calculateEffectiveFromFixing(fixing);
+        LocalDate maturityDate = computation.calculateMaturityFromEffective(effectiveDate);
+        double accrualFactor = dayCount.yearFraction(effectiveDate, maturityDate);
+        cumulative[count + 1] = cumulative[count] * (1d + accrualFactor * rate.getAsDouble());
+        missingCount[count + 1] = missingCount[count];
+      } else {
+        cumulative[count + 1] = cumulative[count];
+        missingCount[count + 1] = missingCount[count] + 1;
+      }
+      count++;
+    }
+    return new CumulativeOvernightIndex(
+        fixingCalendar,
+        first.toEpochDay(),
+        fixingCalendar.next(last),
+        businessDayIndex,
+        Arrays.copyOf(cumulative, count + 1),
+        Arrays.copyOf(missingCount, count + 1));
+  }
+
+  // restricted constructor
+  private CumulativeOvernightIndex(
+      HolidayCalendar fixingCalendar,
+      long firstEpochDay,
+      LocalDate lastFixingP1,
+      int[] businessDayIndex,
+      double[] cumulative,
+      int[] missingCount) {
+
+    this.fixingCalendar = fixingCalendar;
+    this.firstEpochDay = firstEpochDay;
+    this.lastFixingP1 = lastFixingP1;
+    this.businessDayIndex = businessDayIndex;
+    this.cumulative = cumulative;
+    this.missingCount = missingCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the fixing calendar used to create the index.
+   *
+   * @return the fixing calendar
+   */
+  HolidayCalendar getFixingCalendar() {
+    return fixingCalendar;
+  }
+
+  /**
+   * Calculates the compounded factor of the fixings between two fixing dates.
+   * <p>
+   * The factor is the product of {@code 1 + accrualFactor * rate} for each fixing from the start date
+   * inclusive to the end date exclusive. Empty is returned if either date is not a business day
+   * within the range of the index, or if any of the fixings is missing.
+   *
+   * @param startFixing  the first fixing date, inclusive
+   * @param endFixing  the last fixing date, exclusive
+   * @return the compounded factor, empty if not available
+   */
+  OptionalDouble compositionFactor(LocalDate startFixing, LocalDate endFixing) {
+    int start = businessDayIndex(startFixing);
+    int end = businessDayIndex(endFixing);
+    if (start < 0 || end < start || missingCount[end] != missingCount[start]) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(cumulative[end] / cumulative[start]);
+  }
+
+  // finds the business day index of the date, -1 if not a business day within the range
+  private int businessDayIndex(LocalDate date) {
+    if (date.equals(lastFixingP1)) {
+      return cumulative.length - 1;
+    }
+    long offset = date.toEpochDay() - firstEpochDay;
+    if (offset < 0 || offset >= businessDayIndex.length) {
+      return -1;
+    }
+    return businessDayIndex[(int) offset];
+  }
+
+}
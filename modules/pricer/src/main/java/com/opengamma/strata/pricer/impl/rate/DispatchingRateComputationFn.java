@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.math.MathException;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -277,6 +278,17 @@ public class DispatchingRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      RateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     // dispatch by runtime type
     if (computation instanceof FixedRateComputation) {
       // inline code (performance) avoiding need for FixedRateComputationFn implementation
@@ -9,6 +9,7 @@ import java.time.LocalDate;
 
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -95,9 +96,21 @@ public class ForwardIborAveragedRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      IborAveragedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     IborIndexRates rates = provider.iborIndexRates(computation.getIndex());
     for (IborAveragedFixing fixing : computation.getFixings()) {
-      rates.explainRate(fixing.getObservation(), builder, child -> child.put(ExplainKey.WEIGHT, fixing.getWeight()));
+      rates.explainRateToSink(
+          fixing.getObservation(), builder, child -> child.put(ExplainKey.WEIGHT, fixing.getWeight()));
     }
     double rate = rate(computation, startDate, endDate, provider);
     builder.put(ExplainKey.COMBINED_RATE, rate);
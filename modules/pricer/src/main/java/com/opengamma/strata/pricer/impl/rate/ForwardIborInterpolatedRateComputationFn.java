@@ -11,6 +11,7 @@ import com.opengamma.strata.basics.index.IborIndexObservation;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -87,13 +88,24 @@ public class ForwardIborInterpolatedRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      IborInterpolatedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     IborIndexObservation obs1 = computation.getShortObservation();
     IborIndexObservation obs2 = computation.getLongObservation();
     DoublesPair weights = weights(obs1, obs2, endDate);
     IborIndexRates rates1 = provider.iborIndexRates(obs1.getIndex());
     IborIndexRates rates2 = provider.iborIndexRates(obs2.getIndex());
-    rates1.explainRate(obs1, builder, child -> child.put(ExplainKey.WEIGHT, weights.getFirst()));
-    rates2.explainRate(obs2, builder, child -> child.put(ExplainKey.WEIGHT, weights.getSecond()));
+    rates1.explainRateToSink(obs1, builder, child -> child.put(ExplainKey.WEIGHT, weights.getFirst()));
+    rates2.explainRateToSink(obs2, builder, child -> child.put(ExplainKey.WEIGHT, weights.getSecond()));
     double rate = rate(computation, startDate, endDate, provider);
     builder.put(ExplainKey.COMBINED_RATE, rate);
     return rate;
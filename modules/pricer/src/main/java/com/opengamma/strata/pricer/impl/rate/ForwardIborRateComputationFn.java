@@ -9,6 +9,7 @@ import java.time.LocalDate;
 
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -65,8 +66,19 @@ public class ForwardIborRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      IborRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     IborIndexRates rates = provider.iborIndexRates(computation.getIndex());
-    double rate = rates.explainRate(computation.getObservation(), builder, child -> {});
+    double rate = rates.explainRateToSink(computation.getObservation(), builder, child -> {});
     builder.put(ExplainKey.COMBINED_RATE, rate);
     return rate;
   }
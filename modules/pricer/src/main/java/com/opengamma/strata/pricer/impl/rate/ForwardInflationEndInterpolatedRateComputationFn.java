@@ -9,6 +9,7 @@ import java.time.LocalDate;
 
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.PriceIndexValues;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -92,16 +93,27 @@ public class ForwardInflationEndInterpolatedRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      InflationEndInterpolatedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     PriceIndexValues values = provider.priceIndexValues(computation.getIndex());
     double w1 = computation.getWeight();
     double w2 = 1d - w1;
-    builder.addListEntry(ExplainKey.OBSERVATIONS, child -> child
+    builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> child
         .put(ExplainKey.ENTRY_TYPE, "InflationObservation")
         .put(ExplainKey.FIXING_DATE, computation.getEndObservation().getFixingMonth().atEndOfMonth())
         .put(ExplainKey.INDEX, computation.getIndex())
         .put(ExplainKey.INDEX_VALUE, values.value(computation.getEndObservation()))
         .put(ExplainKey.WEIGHT, w1));
-    builder.addListEntry(ExplainKey.OBSERVATIONS, child -> child
+    builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> child
         .put(ExplainKey.ENTRY_TYPE, "InflationObservation")
         .put(ExplainKey.FIXING_DATE, computation.getEndSecondObservation().getFixingMonth().atEndOfMonth())
         .put(ExplainKey.INDEX, computation.getIndex())
@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.PriceIndexValues;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
@@ -79,17 +80,28 @@ public class ForwardInflationMonthlyRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      InflationMonthlyRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     PriceIndex index = computation.getIndex();
     PriceIndexValues values = provider.priceIndexValues(index);
     double indexStart = values.value(computation.getStartObservation());
     double indexEnd = values.value(computation.getEndObservation());
 
-    builder.addListEntry(ExplainKey.OBSERVATIONS, child -> child
+    builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> child
         .put(ExplainKey.ENTRY_TYPE, "InflationObservation")
         .put(ExplainKey.FIXING_DATE, computation.getStartObservation().getFixingMonth().atEndOfMonth())
         .put(ExplainKey.INDEX, index)
         .put(ExplainKey.INDEX_VALUE, indexStart));
-    builder.addListEntry(ExplainKey.OBSERVATIONS, child -> child
+    builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> child
         .put(ExplainKey.ENTRY_TYPE, "InflationObservation")
         .put(ExplainKey.FIXING_DATE, computation.getEndObservation().getFixingMonth().atEndOfMonth())
         .put(ExplainKey.INDEX, index)
@@ -7,14 +7,20 @@ package com.opengamma.strata.pricer.impl.rate;
 
 import java.time.LocalDate;
 import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.collect.MapMaker;
 import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
 import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.collect.tuple.ObjDoublePair;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.PricingException;
 import com.opengamma.strata.pricer.rate.OvernightIndexRates;
@@ -28,6 +34,12 @@ import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
 * Rates that are already fixed are retrieved from the time series of the {@link RatesProvider}.
 * Rates that are in the future and not in the cut-off period are computed as unique forward rate in the full future period.
 * Rates that are in the cut-off period (already fixed or forward) are compounded.
+* <p>
+* By default, the rates that are already fixed are compounded day by day.
+* The {@link #CUMULATIVE_INDEX} implementation instead pre-compounds the time series of each index
+* into a cumulative index, such that the composition factor of the fixed rates is the ratio of two values.
+* The cumulative index is created once for each time series, index and fixing calendar.
+* The results match the day by day composition within floating point tolerance.
 */
 public class ForwardOvernightCompoundedRateComputationFn
     implements RateComputationFn<OvernightCompoundedRateComputation> {
@@ -37,11 +49,28 @@ public class ForwardOvernightCompoundedRateComputationFn
    */
   public static final ForwardOvernightCompoundedRateComputationFn DEFAULT =
       new ForwardOvernightCompoundedRateComputationFn();
+  /**
+   * Implementation using a cumulative index of the fixings to compound the rates that are already fixed.
+   */
+  public static final ForwardOvernightCompoundedRateComputationFn CUMULATIVE_INDEX =
+      new ForwardOvernightCompoundedRateComputationFn(true);
+
+  /**
+   * The cumulative indices, keyed by the identity of the time series, null if not using cumulative indices.
+   */
+  private final ConcurrentMap<LocalDateDoubleTimeSeries, ConcurrentMap<Pair<OvernightIndex, HolidayCalendar>,
+      CumulativeOvernightIndex>> cumulativeIndices;
 
   /**
    * Creates an instance.
    */
   public ForwardOvernightCompoundedRateComputationFn() {
+    this(false);
+  }
+
+  // creates an instance
+  private ForwardOvernightCompoundedRateComputationFn(boolean cumulative) {
+    this.cumulativeIndices = cumulative ? new MapMaker().weakKeys().makeMap() : null;
   }
 
   //-------------------------------------------------------------------------
@@ -53,7 +82,7 @@ public class ForwardOvernightCompoundedRateComputationFn
       RatesProvider provider) {
 
     OvernightIndexRates rates = provider.overnightIndexRates(computation.getIndex());
-    ObservationDetails details = new ObservationDetails(computation, rates);
+    ObservationDetails details = new ObservationDetails(computation, rates, cumulativeIndex(computation, rates));
     return details.calculateRate();
   }
 
@@ -65,7 +94,7 @@ public class ForwardOvernightCompoundedRateComputationFn
       RatesProvider provider) {
 
     OvernightIndexRates rates = provider.overnightIndexRates(computation.getIndex());
-    ObservationDetails details = new ObservationDetails(computation, rates);
+    ObservationDetails details = new ObservationDetails(computation, rates, cumulativeIndex(computation, rates));
     return details.calculateRateSensitivity();
   }
 
@@ -77,11 +106,37 @@ public class ForwardOvernightCompoundedRateComputationFn
       RatesProvider provider,
       ExplainMapBuilder builder) {
 
+    return explainRate(computation, startDate, endDate, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public double explainRate(
+      OvernightCompoundedRateComputation computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink builder) {
+
     double rate = rate(computation, startDate, endDate, provider);
     builder.put(ExplainKey.COMBINED_RATE, rate);
     return rate;
   }
 
+  // finds the cumulative index of the fixings, null if not using cumulative indices or there are no fixings
+  private CumulativeOvernightIndex cumulativeIndex(
+      OvernightCompoundedRateComputation computation,
+      OvernightIndexRates rates) {
+
+    LocalDateDoubleTimeSeries fixings = rates.getFixings();
+    if (cumulativeIndices == null || fixings == null || fixings.isEmpty()) {
+      return null;
+    }
+    return cumulativeIndices.computeIfAbsent(fixings, ts -> new ConcurrentHashMap<>())
+        .computeIfAbsent(
+            Pair.of(computation.getIndex(), computation.getFixingCalendar()),
+            key -> CumulativeOvernightIndex.of(computation, fixings));
+  }
+
   //-------------------------------------------------------------------------
   // Internal class. Observation details stored in a separate class to clarify the construction.
   private static final class ObservationDetails {
@@ -89,6 +144,7 @@ public class ForwardOvernightCompoundedRateComputationFn
     private final OvernightCompoundedRateComputation computation;
     private final OvernightIndexRates rates;
     private final LocalDateDoubleTimeSeries indexFixingDateSeries;
+    private final CumulativeOvernightIndex cumulativeIndex; // The cumulative index of the fixings, may be null
     private final DayCount dayCount;
     private final int cutoffOffset;
     private final LocalDate firstFixing; // The date of the first fixing
@@ -99,10 +155,15 @@ public class ForwardOvernightCompoundedRateComputationFn
     private final double[] accrualFactorCutoff; // Accrual factors for the sub-periods using the cutoff rate.
     private LocalDate nextFixing; // Running variable through the different methods: next fixing date to be analyzed
 
-    private ObservationDetails(OvernightCompoundedRateComputation computation, OvernightIndexRates rates) {
+    private ObservationDetails(
+        OvernightCompoundedRateComputation computation,
+        OvernightIndexRates rates,
+        CumulativeOvernightIndex cumulativeIndex) {
+
       this.computation = computation;
       this.rates = rates;
       this.indexFixingDateSeries = rates.getFixings();
+      this.cumulativeIndex = cumulativeIndex;
       this.dayCount = computation.getIndex().getDayCount();
       // Details of the cutoff period
       this.firstFixing = computation.getStartDate();
@@ -127,6 +188,15 @@ public class ForwardOvernightCompoundedRateComputationFn
     private double pastCompositionFactor() {
       double compositionFactor = 1.0d;
       LocalDate currentFixing = firstFixing;
+      if (cumulativeIndex != null) {
+        // the fixings published before valuation are compounded using the cumulative index if available
+        LocalDate pastFixingP1 = pastFixingP1();
+        OptionalDouble pastFactor = cumulativeIndex.compositionFactor(firstFixing, pastFixingP1);
+        if (pastFactor.isPresent()) {
+          compositionFactor = pastFactor.getAsDouble();
+          currentFixing = pastFixingP1;
+        }
+      }
       LocalDate currentPublication = computation.calculatePublicationFromFixing(currentFixing);
       while ((currentFixing.isBefore(lastFixingNonCutoff)) && // fixing in the non-cutoff period
           rates.getValuationDate().isAfter(currentPublication)) { // publication before valuation
@@ -153,6 +223,19 @@ public class ForwardOvernightCompoundedRateComputationFn
       return compositionFactor;
     }
 
+    // The date after the last fixing in the non-cutoff period published before the valuation date
+    // This is the first fixing that is on the last non-cutoff date or is published on or after the valuation date
+    private LocalDate pastFixingP1() {
+      HolidayCalendar calendar = computation.getFixingCalendar();
+      LocalDate lastPublication = calendar.previous(rates.getValuationDate());
+      LocalDate lastPublished = calendar.shift(lastPublication, -computation.getIndex().getPublicationDateOffset());
+      LocalDate pastFixingP1 = calendar.next(lastPublished);
+      if (pastFixingP1.isAfter(lastFixingNonCutoff)) {
+        return lastFixingNonCutoff;
+      }
+      return pastFixingP1.isBefore(firstFixing) ? firstFixing : pastFixingP1;
+    }
+
     // Composition - publication on valuation date: Check if a fixing is available on current date
     private double valuationCompositionFactor() {
       LocalDate currentFixing = nextFixing;
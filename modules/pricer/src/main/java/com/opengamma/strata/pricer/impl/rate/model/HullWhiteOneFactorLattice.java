@@ -0,0 +1,380 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Lattice for the backward induction of options with several exercise dates in the
+ * Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * The model is written in the numeraire {@code P(*,U)}, where {@code U} is the last exercise time.
+ * In that numeraire, the ratio {@code P(t,u)/P(t,U)} is a function of a single Gaussian martingale {@code X(t)}
+ * whose variance is the square of {@link HullWhiteOneFactorPiecewiseConstantInterestRateModel#beta}.
+ * The lattice holds, for each exercise time, a grid on {@code X} covering a fixed number of standard deviations,
+ * and the transition weights between the grids of consecutive exercise times.
+ * The weights integrate the Gaussian transition density exactly against the values interpolated
+ * linearly between the grid points.
+ * <p>
+ * The grids depend only on the model parameters and the exercise times. A lattice can thus be created once and
+ * used for all the options sharing the exercise times, such as a book of Bermudan swaptions on the same schedule.
+ * The lattice is immutable and can be shared between threads.
+ * <p>
+ * Reference: Henrard, "M. Bermudan Swaptions in Gaussian HJM One-Factor Model: Analytical and Numerical Approaches".
+ * SSRN, October 2008. Available at SSRN: http://ssrn.com/abstract=1287982
+ */
+public final class HullWhiteOneFactorLattice {
+
+  /**
+   * Normal distribution function.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  /**
+   * The model.
+   */
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  /**
+   * The default number of points of each grid.
+   */
+  private static final int DEFAULT_NB_POINTS = 501;
+  /**
+   * The default number of standard deviations covered on each side of each grid.
+   */
+  private static final double DEFAULT_STD_DEV_RANGE = 6d;
+  /**
+   * The number of standard deviations of the transition density beyond which the weights are ignored.
+   */
+  private static final double TRANSITION_RANGE = 8d;
+
+  /**
+   * The model parameters.
+   */
+  private final HullWhiteOneFactorPiecewiseConstantParameters parameters;
+  /**
+   * The exercise times, in increasing order.
+   */
+  private final DoubleArray exerciseTimes;
+  /**
+   * The variance of {@code X} at each exercise time.
+   */
+  private final double[] variances;
+  /**
+   * The grid on {@code X} at each exercise time.
+   */
+  private final double[][] grids;
+  /**
+   * The index of the first weight of each band, for each step.
+   * The step 0 is from the valuation time to the first exercise time, the step {@code k} from
+   * the exercise time {@code k-1} to the exercise time {@code k}.
+   */
+  private final int[][] bandStarts;
+  /**
+   * The transition weights of each band, for each step.
+   */
+  private final double[][][] bandWeights;
+  /**
+   * The standard deviation of the move of {@code X} over each step.
+   */
+  private final double[] stdDevs;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a lattice for the specified model parameters and exercise times.
+   * <p>
+   * Each grid has 501 points covering 6 standard deviations on each side.
+   *
+   * @param parameters  the model parameters
+   * @param exerciseTimes  the exercise times, positive and in increasing order
+   * @return the lattice
+   */
+  public static HullWhiteOneFactorLattice of(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes) {
+
+    return of(parameters, exerciseTimes, DEFAULT_NB_POINTS, DEFAULT_STD_DEV_RANGE);
+  }
+
+  /**
+   * Obtains a lattice for the specified model parameters, exercise times and grid size.
+   *
+   * @param parameters  the model parameters
+   * @param exerciseTimes  the exercise times, positive and in increasing order
+   * @param nbPoints  the number of points of each grid
+   * @param stdDevRange  the number of standard deviations covered on each side of each grid
+   * @return the lattice
+   */
+  public static HullWhiteOneFactorLattice of(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes,
+      int nbPoints,
+      double stdDevRange) {
+
+    ArgChecker.notNull(parameters, "parameters");
+    ArgChecker.isFalse(exerciseTimes.isEmpty(), "exerciseTimes must not be empty");
+    ArgChecker.isTrue(nbPoints > 2, "nbPoints must be greater than 2");
+    ArgChecker.notNegativeOrZero(stdDevRange, "stdDevRange");
+    ArgChecker.notNegativeOrZero(exerciseTimes.get(0), "exerciseTimes");
+    for (int i = 1; i < exerciseTimes.size(); i++) {
+      ArgChecker.isTrue(exerciseTimes.get(i - 1) < exerciseTimes.get(i), "exercise times should be increasing");
+    }
+    return new HullWhiteOneFactorLattice(parameters, exerciseTimes, nbPoints, stdDevRange);
+  }
+
+  /**
+   * Restricted constructor.
+   *
+   * @param parameters  the model parameters
+   * @param exerciseTimes  the exercise times
+   * @param nbPoints  the number of points of each grid
+   * @param stdDevRange  the number of standard deviations covered on each side of each grid
+   */
+  private HullWhiteOneFactorLattice(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes,
+      int nbPoints,
+      double stdDevRange) {
+
+    this.parameters = parameters;
+    this.exerciseTimes = exerciseTimes;
+    int nbExercises = exerciseTimes.size();
+    this.variances = new double[nbExercises];
+    this.grids = new double[nbExercises][];
+    this.bandStarts = new int[nbExercises][];
+    this.bandWeights = new double[nbExercises][][];
+    this.stdDevs = new double[nbExercises];
+    double[] start = {0d};
+    double startVariance = 0d;
+    for (int k = 0; k < nbExercises; k++) {
+      double beta = MODEL.beta(parameters, 0d, exerciseTimes.get(k));
+      variances[k] = beta * beta;
+      ArgChecker.isTrue(variances[k] > startVariance, "model variance should be increasing between exercise times");
+      grids[k] = new double[nbPoints];
+      for (int j = 0; j < nbPoints; j++) {
+        grids[k][j] = beta * stdDevRange * (2d * j / (nbPoints - 1) - 1d);
+      }
+      stdDevs[k] = Math.sqrt(variances[k] - startVariance);
+      bandStarts[k] = new int[start.length];
+      bandWeights[k] = new double[start.length][];
+      for (int i = 0; i < start.length; i++) {
+        transition(start[i], stdDevs[k], grids[k], bandStarts[k], bandWeights[k], i);
+      }
+      start = grids[k];
+      startVariance = variances[k];
+    }
+  }
+
+  // the weights of the grid points in the expectation of values interpolated linearly on the grid,
+  // given a start point and the standard deviation of the Gaussian transition
+  private static void transition(
+      double start,
+      double stdDev,
+      double[] grid,
+      int[] bandStarts,
+      double[][] bandWeights,
+      int index) {
+
+    int nbPoints = grid.length;
+    double step = grid[1] - grid[0];
+    int first = (int) Math.floor((start - TRANSITION_RANGE * stdDev - grid[0]) / step);
+    int last = (int) Math.ceil((start + TRANSITION_RANGE * stdDev - grid[0]) / step);
+    first = Math.min(Math.max(first, 0), nbPoints - 1);
+    last = Math.min(Math.max(last, 0), nbPoints - 1);
+    double[] weights = new double[last - first + 1];
+    // mass beyond the band is attached to its end points
+    double zLeft = (grid[first] - start) / stdDev;
+    double cdfLeft = NORMAL.getCDF(zLeft);
+    double pdfLeft = NORMAL.getPDF(zLeft);
+    weights[0] += cdfLeft;
+    for (int j = first; j < last; j++) {
+      double zRight = (grid[j + 1] - start) / stdDev;
+      double cdfRight = NORMAL.getCDF(zRight);
+      double pdfRight = NORMAL.getPDF(zRight);
+      double mass = cdfRight - cdfLeft;
+      double firstMoment = stdDev * (pdfLeft - pdfRight);
+      weights[j - first] += ((grid[j + 1] - start) * mass - firstMoment) / step;
+      weights[j + 1 - first] += (firstMoment + (start - grid[j]) * mass) / step;
+      cdfLeft = cdfRight;
+      pdfLeft = pdfRight;
+    }
+    weights[last - first] += 1d - cdfLeft;
+    bandStarts[index] = first;
+    bandWeights[index] = weights;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the model parameters.
+   *
+   * @return the parameters
+   */
+  public HullWhiteOneFactorPiecewiseConstantParameters getParameters() {
+    return parameters;
+  }
+
+  /**
+   * Gets the exercise times.
+   *
+   * @return the exercise times
+   */
+  public DoubleArray getExerciseTimes() {
+    return exerciseTimes;
+  }
+
+  /**
+   * Gets the number of points of each grid.
+   *
+   * @return the number of points
+   */
+  public int getNbPoints() {
+    return grids[0].length;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the value of a set of cash flows on the grid of an exercise time.
+   * <p>
+   * The cash flows are described by their payment times and their values discounted to the valuation date.
+   * The result is the value at the exercise time in the numeraire of the lattice, multiplied by the value
+   * of the numeraire at the valuation date, for each point of the grid.
+   *
+   * @param exerciseIndex  the index of the exercise time
+   * @param paymentTimes  the payment times of the cash flows
+   * @param discountedCashFlows  the cash flows discounted to the valuation date
+   * @return the value at each grid point
+   */
+  public double[] cashFlowValues(int exerciseIndex, DoubleArray paymentTimes, DoubleArray discountedCashFlows) {
+    ArgChecker.isTrue(paymentTimes.size() == discountedCashFlows.size(), "Length should be equal");
+    double a = parameters.getMeanReversion();
+    double variance = variances[exerciseIndex];
+    double expNumeraire = Math.exp(-a * exerciseTimes.get(exerciseTimes.size() - 1));
+    int nbCashFlows = paymentTimes.size();
+    double[] hwH = new double[nbCashFlows];
+    double[] factors = new double[nbCashFlows];
+    for (int loopcf = 0; loopcf < nbCashFlows; loopcf++) {
+      hwH[loopcf] = (expNumeraire - Math.exp(-a * paymentTimes.get(loopcf))) / a;
+      factors[loopcf] = discountedCashFlows.get(loopcf) * Math.exp(-0.5 * hwH[loopcf] * hwH[loopcf] * variance);
+    }
+    double[] grid = grids[exerciseIndex];
+    double[] values = new double[grid.length];
+    for (int j = 0; j < grid.length; j++) {
+      double value = 0d;
+      for (int loopcf = 0; loopcf < nbCashFlows; loopcf++) {
+        value += factors[loopcf] * Math.exp(-hwH[loopcf] * grid[j]);
+      }
+      values[j] = value;
+    }
+    return values;
+  }
+
+  /**
+   * Calculates the value of the right to exercise into the specified values at any of the exercise times.
+   * <p>
+   * The exercise values are typically obtained from {@link #cashFlowValues(int, DoubleArray, DoubleArray)}.
+   * At each exercise time, from the last to the first, the value is the maximum of the exercise value
+   * and of the expected value of the later exercises; the right expires worthless after the last exercise time.
+   * <p>
+   * Where the exercise value crosses the value of the later exercises between two grid points, the kink of the
+   * maximum is located by linear interpolation and integrated exactly, rather than interpolated across.
+   *
+   * @param exerciseValues  the exercise values on the grid, for each exercise time
+   * @return the value at the valuation date
+   */
+  public double optionValue(double[][] exerciseValues) {
+    int nbExercises = exerciseTimes.size();
+    int nbPoints = getNbPoints();
+    ArgChecker.isTrue(exerciseValues.length == nbExercises, "exercise values should match the exercise times");
+    double[] values = new double[nbPoints];
+    List<Kink> kinks = new ArrayList<>();
+    for (int k = nbExercises - 1; k >= 0; k--) {
+      double[] exercise = exerciseValues[k];
+      ArgChecker.isTrue(exercise.length == nbPoints, "exercise values should match the grid");
+      double[] continuation = k == nbExercises - 1 ? new double[nbPoints] : expectation(k + 1, values, kinks);
+      values = new double[nbPoints];
+      for (int j = 0; j < nbPoints; j++) {
+        values[j] = Math.max(exercise[j], continuation[j]);
+      }
+      kinks = new ArrayList<>();
+      for (int j = 0; j < nbPoints - 1; j++) {
+        double diffLeft = exercise[j] - continuation[j];
+        double diffRight = exercise[j + 1] - continuation[j + 1];
+        if (diffLeft * diffRight < 0d) {
+          double fraction = diffLeft / (diffLeft - diffRight);
+          double crossingValue = exercise[j] + fraction * (exercise[j + 1] - exercise[j]);
+          double interpolatedValue = values[j] + fraction * (values[j + 1] - values[j]);
+          double location = grids[k][j] + fraction * (grids[k][j + 1] - grids[k][j]);
+          kinks.add(new Kink(j, location, crossingValue - interpolatedValue));
+        }
+      }
+    }
+    return expectation(0, values, kinks)[0];
+  }
+
+  // the expected values at the end of the step, for each start point of the step
+  private double[] expectation(int step, double[] values, List<Kink> kinks) {
+    double[] starts = step == 0 ? new double[] {0d} : grids[step - 1];
+    double[] grid = grids[step];
+    double stdDev = stdDevs[step];
+    double[] result = new double[starts.length];
+    for (int i = 0; i < starts.length; i++) {
+      int first = bandStarts[step][i];
+      double[] weights = bandWeights[step][i];
+      double value = 0d;
+      for (int j = 0; j < weights.length; j++) {
+        value += weights[j] * values[first + j];
+      }
+      for (Kink kink : kinks) {
+        if (Math.abs(kink.location - starts[i]) < TRANSITION_RANGE * stdDev) {
+          value += kink.correction *
+              tent(starts[i], stdDev, grid[kink.index], kink.location, grid[kink.index + 1]);
+        }
+      }
+      result[i] = value;
+    }
+    return result;
+  }
+
+  // the expectation of the function which is 0 at the left and right points, 1 at the peak and linear in between
+  private static double tent(double start, double stdDev, double left, double peak, double right) {
+    double zLeft = (left - start) / stdDev;
+    double zPeak = (peak - start) / stdDev;
+    double zRight = (right - start) / stdDev;
+    double cdfLeft = NORMAL.getCDF(zLeft);
+    double cdfPeak = NORMAL.getCDF(zPeak);
+    double cdfRight = NORMAL.getCDF(zRight);
+    double pdfLeft = NORMAL.getPDF(zLeft);
+    double pdfPeak = NORMAL.getPDF(zPeak);
+    double pdfRight = NORMAL.getPDF(zRight);
+    double up = (stdDev * (pdfLeft - pdfPeak) + (start - left) * (cdfPeak - cdfLeft)) / (peak - left);
+    double down = ((right - start) * (cdfRight - cdfPeak) - stdDev * (pdfPeak - pdfRight)) / (right - peak);
+    return up + down;
+  }
+
+  //-------------------------------------------------------------------------
+  // the kink of the value between two grid points, where the exercise value crosses the continuation value
+  private static final class Kink {
+    // the index of the grid point on the left of the kink
+    private final int index;
+    // the location of the kink
+    private final double location;
+    // the value at the kink less the value interpolated linearly between the grid points
+    private final double correction;
+
+    private Kink(int index, double location, double correction) {
+      this.index = index;
+      this.location = location;
+      this.correction = correction;
+    }
+  }
+
+}
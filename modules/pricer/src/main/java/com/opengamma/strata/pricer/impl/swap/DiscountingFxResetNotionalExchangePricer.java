@@ -12,6 +12,7 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.fx.FxIndexRates;
@@ -81,6 +82,11 @@ public class DiscountingFxResetNotionalExchangePricer
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(FxResetNotionalExchange event, RatesProvider provider, ExplainMapBuilder builder) {
+    explainPresentValue(event, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(FxResetNotionalExchange event, RatesProvider provider, ExplainSink builder) {
     Currency currency = event.getCurrency();
     LocalDate paymentDate = event.getPaymentDate();
 
@@ -93,7 +99,7 @@ public class DiscountingFxResetNotionalExchangePricer
       builder.put(ExplainKey.FORECAST_VALUE, CurrencyAmount.zero(currency));
       builder.put(ExplainKey.PRESENT_VALUE, CurrencyAmount.zero(currency));
     } else {
-      builder.addListEntry(ExplainKey.OBSERVATIONS, child -> {
+      builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> {
         child.put(ExplainKey.ENTRY_TYPE, "FxObservation");
         child.put(ExplainKey.INDEX, event.getObservation().getIndex());
         child.put(ExplainKey.FIXING_DATE, event.getObservation().getFixingDate());
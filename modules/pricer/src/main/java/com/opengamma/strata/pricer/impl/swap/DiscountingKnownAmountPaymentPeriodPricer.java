@@ -15,6 +15,7 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -96,7 +97,16 @@ public class DiscountingKnownAmountPaymentPeriodPricer
 
   //-------------------------------------------------------------------------
   @Override
-  public void explainPresentValue(KnownAmountSwapPaymentPeriod period, RatesProvider provider, ExplainMapBuilder builder) {
+  public void explainPresentValue(
+      KnownAmountSwapPaymentPeriod period,
+      RatesProvider provider,
+      ExplainMapBuilder builder) {
+
+    explainPresentValue(period, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(KnownAmountSwapPaymentPeriod period, RatesProvider provider, ExplainSink builder) {
     Currency currency = period.getCurrency();
     LocalDate paymentDate = period.getPaymentDate();
 
@@ -14,6 +14,7 @@ import com.opengamma.strata.basics.currency.Payment;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -73,6 +74,11 @@ public class DiscountingNotionalExchangePricer
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(NotionalExchange event, RatesProvider provider, ExplainMapBuilder builder) {
+    explainPresentValue(event, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(NotionalExchange event, RatesProvider provider, ExplainSink builder) {
     Currency currency = event.getCurrency();
     LocalDate paymentDate = event.getPaymentDate();
 
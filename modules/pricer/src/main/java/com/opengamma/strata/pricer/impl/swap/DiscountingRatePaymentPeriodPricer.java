@@ -17,6 +17,7 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.fx.FxIndexRates;
@@ -390,6 +391,11 @@ public class DiscountingRatePaymentPeriodPricer
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(RatePaymentPeriod paymentPeriod, RatesProvider provider, ExplainMapBuilder builder) {
+    explainPresentValue(paymentPeriod, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(RatePaymentPeriod paymentPeriod, RatesProvider provider, ExplainSink builder) {
     Currency currency = paymentPeriod.getCurrency();
     LocalDate paymentDate = paymentPeriod.getPaymentDate();
 
@@ -406,7 +412,7 @@ public class DiscountingRatePaymentPeriodPricer
       builder.put(ExplainKey.PRESENT_VALUE, CurrencyAmount.zero(currency));
     } else {
       paymentPeriod.getFxReset().ifPresent(fxReset -> {
-        builder.addListEntry(ExplainKey.OBSERVATIONS, child -> {
+        builder.writeListEntry(ExplainKey.OBSERVATIONS, child -> {
           child.put(ExplainKey.ENTRY_TYPE, "FxObservation");
           child.put(ExplainKey.INDEX, fxReset.getObservation().getIndex());
           child.put(ExplainKey.FIXING_DATE, fxReset.getObservation().getFixingDate());
@@ -414,7 +420,7 @@ public class DiscountingRatePaymentPeriodPricer
         });
       });
       for (RateAccrualPeriod accrualPeriod : paymentPeriod.getAccrualPeriods()) {
-        builder.addListEntry(
+        builder.writeListEntry(
             ExplainKey.ACCRUAL_PERIODS,
             child -> explainPresentValue(accrualPeriod, paymentPeriod.getDayCount(), currency, notional, provider, child));
       }
@@ -432,7 +438,7 @@ public class DiscountingRatePaymentPeriodPricer
       Currency currency,
       double notional,
       RatesProvider provider,
-      ExplainMapBuilder builder) {
+      ExplainSink builder) {
 
     double rawRate = rateComputationFn.explainRate(
         accrualPeriod.getRateComputation(), accrualPeriod.getStartDate(), accrualPeriod.getEndDate(), provider, builder);
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.impl.swap;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.SwapPaymentEventPricer;
@@ -106,6 +107,11 @@ public class DispatchingSwapPaymentEventPricer
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(SwapPaymentEvent paymentEvent, RatesProvider provider, ExplainMapBuilder builder) {
+    explainPresentValue(paymentEvent, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(SwapPaymentEvent paymentEvent, RatesProvider provider, ExplainSink builder) {
     // dispatch by runtime type
     if (paymentEvent instanceof NotionalExchange) {
       notionalExchangePricer.explainPresentValue((NotionalExchange) paymentEvent, provider, builder);
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.impl.swap;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.swap.SwapPaymentPeriodPricer;
@@ -143,6 +144,11 @@ public class DispatchingSwapPaymentPeriodPricer
   //-------------------------------------------------------------------------
   @Override
   public void explainPresentValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider, ExplainMapBuilder builder) {
+    explainPresentValue(paymentPeriod, provider, (ExplainSink) builder);
+  }
+
+  @Override
+  public void explainPresentValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider, ExplainSink builder) {
     // dispatch by runtime type
     if (paymentPeriod instanceof RatePaymentPeriod) {
       ratePaymentPeriodPricer.explainPresentValue((RatePaymentPeriod) paymentPeriod, provider, builder);
@@ -19,6 +19,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterPerturbation;
@@ -187,9 +188,29 @@ public interface IborIndexRates
       ExplainMapBuilder builder,
       Consumer<ExplainMapBuilder> consumer) {
 
+    return explainRateToSink(observation, builder, child -> consumer.accept((ExplainMapBuilder) child));
+  }
+
+  /**
+   * Explains the calculation of the historic or forward rate at the specified fixing date, writing to a sink.
+   * <p>
+   * This writes the same information as {@link #explainRate(IborIndexObservation, ExplainMapBuilder, Consumer)}
+   * to the {@link ExplainSink}. The actual rate is also returned.
+   * 
+   * @param observation  the rate observation, including the fixing date
+   * @param sink  the sink to populate
+   * @param consumer  the consumer that receives the list entry sink and adds to it
+   * @return the rate of the index, either historic or forward
+   * @throws RuntimeException if the value cannot be obtained
+   */
+  public default double explainRateToSink(
+      IborIndexObservation observation,
+      ExplainSink sink,
+      Consumer<ExplainSink> consumer) {
+
     LocalDate fixingDate = observation.getFixingDate();
     double rate = rate(observation);
-    ExplainMapBuilder child = builder.openListEntry(ExplainKey.OBSERVATIONS);
+    ExplainSink child = sink.openListEntry(ExplainKey.OBSERVATIONS);
     child.put(ExplainKey.ENTRY_TYPE, "IborIndexObservation");
     child.put(ExplainKey.FIXING_DATE, fixingDate);
     child.put(ExplainKey.INDEX, observation.getIndex());
@@ -7,7 +7,9 @@ package com.opengamma.strata.pricer.rate;
 
 import java.time.LocalDate;
 
+import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.rate.DispatchingRateComputationFn;
 import com.opengamma.strata.product.rate.RateComputation;
@@ -91,4 +93,36 @@ public interface RateComputationFn<T extends RateComputation> {
       RatesProvider provider,
       ExplainMapBuilder builder);
 
+  /**
+   * Explains the calculation of the applicable rate, writing to a sink.
+   * <p>
+   * This writes the same information as {@link #explainRate(RateComputation, LocalDate, LocalDate, RatesProvider,
+   * ExplainMapBuilder)} to the {@link ExplainSink}. The actual rate is also returned.
+   * <p>
+   * The default implementation populates a temporary {@link ExplainMapBuilder} and writes the resulting map
+   * to the sink. Implementations should override it to write to the sink directly.
+   * 
+   * @param computation  the computation definition
+   * @param startDate  the start date of the accrual period
+   * @param endDate  the end date of the accrual period
+   * @param provider  the rates provider
+   * @param sink  the sink to populate
+   * @return the applicable rate
+   */
+  public default double explainRate(
+      T computation,
+      LocalDate startDate,
+      LocalDate endDate,
+      RatesProvider provider,
+      ExplainSink sink) {
+
+    if (sink instanceof ExplainMapBuilder) {
+      return explainRate(computation, startDate, endDate, provider, (ExplainMapBuilder) sink);
+    }
+    ExplainMapBuilder builder = ExplainMap.builder();
+    double rate = explainRate(computation, startDate, endDate, provider, builder);
+    sink.putAll(builder.build());
+    return rate;
+  }
+
 }
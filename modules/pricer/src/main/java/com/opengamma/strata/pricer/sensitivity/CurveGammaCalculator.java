@@ -9,6 +9,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.index.RateIndex;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -186,6 +188,64 @@ public final class CurveGammaCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes intra-curve cross gamma for each trade of a portfolio by applying finite difference method to curve delta.
+   * <p>
+   * The result for each trade is the same as the one of {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}
+   * with the sensitivity function of the trade. However, each bumped rates provider is only built once, and the
+   * sensitivities of all the trades are computed against it in parallel.
+   * The sensitivity functions must thus be safe for use by multiple threads.
+   * <p>
+   * The sensitivities are computed for discount curves, and forward curves for {@code RateIndex}
+   * and {@code PriceIndex}. This implementation works only for single currency trades.
+   * 
+   * @param ratesProvider  the rates provider
+   * @param sensitivitiesFns  the sensitivity function of each trade
+   * @return the cross gamma of each trade, in the order of the sensitivity functions
+   */
+  public List<CrossGammaParameterSensitivities> calculatePortfolioCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns) {
+
+    ArgChecker.noNulls(sensitivitiesFns, "sensitivitiesFns");
+    ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
+    // used to check target sensitivity exits
+    List<CurrencyParameterSensitivities> baseDeltas = sensitivitiesFns.parallelStream()
+        .map(sensitivitiesFn -> sensitivitiesFn.apply(immProv))
+        .collect(toImmutableList());
+    CrossGammaParameterSensitivities[] results = new CrossGammaParameterSensitivities[sensitivitiesFns.size()];
+    Arrays.fill(results, CrossGammaParameterSensitivities.empty());
+    // discount curve
+    for (Entry<Currency, Curve> entry : immProv.getDiscountCurves().entrySet()) {
+      Currency currency = entry.getKey();
+      Curve curve = entry.getValue();
+      computeGammaForCurveOrUnderlying(
+          curve,
+          currency,
+          c -> immProv.toBuilder().discountCurve(currency, c).build(),
+          sensitivitiesFns,
+          baseDeltas,
+          results);
+    }
+    // forward curve
+    for (Entry<Index, Curve> entry : immProv.getIndexCurves().entrySet()) {
+      Index index = entry.getKey();
+      if (index instanceof RateIndex || index instanceof PriceIndex) {
+        Currency currency = getCurrency(index);
+        Curve curve = entry.getValue();
+        computeGammaForCurveOrUnderlying(
+            curve,
+            currency,
+            c -> immProv.toBuilder().indexCurve(index, c).build(),
+            sensitivitiesFns,
+            baseDeltas,
+            results);
+      }
+    }
+    return ImmutableList.copyOf(results);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes intra-curve cross gamma for bond curves by applying finite difference method to curve delta.
@@ -397,6 +457,92 @@ public final class CurveGammaCalculator {
     return CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensi);
   }
 
+  // compute the second order sensitivity of each trade to Curve, or to its underlying curves
+  // as in the single trade case, the choice is made for each trade, with the underlying curves used
+  // for the trades that have no sensitivity to Curve itself
+  private void computeGammaForCurveOrUnderlying(
+      Curve curve,
+      Currency sensitivityCurrency,
+      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      List<CurrencyParameterSensitivities> baseDeltas,
+      CrossGammaParameterSensitivities[] results) {
+
+    int[] allTrades = IntStream.range(0, baseDeltas.size()).toArray();
+    int[] curveTrades = tradesWithSensitivity(baseDeltas, allTrades, curve.getName(), sensitivityCurrency);
+    computeGammaForCurve(curve, sensitivityCurrency, ratesProviderFn, sensitivitiesFns, curveTrades, results);
+    ImmutableList<Curve> curves = curve.split();
+    if (curves.size() > 1 && curveTrades.length < allTrades.length) {
+      int[] otherTrades = IntStream.of(allTrades)
+          .filter(k -> Arrays.binarySearch(curveTrades, k) < 0)
+          .toArray();
+      for (int i = 0; i < curves.size(); ++i) {
+        int currentIndex = i;
+        Curve underlyingCurve = curves.get(currentIndex);
+        computeGammaForCurve(
+            underlyingCurve,
+            sensitivityCurrency,
+            c -> ratesProviderFn.apply(curve.withUnderlyingCurve(currentIndex, c)),
+            sensitivitiesFns,
+            tradesWithSensitivity(baseDeltas, otherTrades, underlyingCurve.getName(), sensitivityCurrency),
+            results);
+      }
+    }
+  }
+
+  // selects the trades that have a sensitivity to the curve, in ascending order
+  private static int[] tradesWithSensitivity(
+      List<CurrencyParameterSensitivities> baseDeltas,
+      int[] trades,
+      CurveName curveName,
+      Currency currency) {
+
+    return IntStream.of(trades)
+        .filter(k -> baseDeltas.get(k).findSensitivity(curveName, currency).isPresent())
+        .toArray();
+  }
+
+  // compute the second order sensitivity to Curve of the specified trades
+  // the sensitivities of the trades are stacked, so that each bumped rates provider is built once for all the trades
+  private void computeGammaForCurve(
+      Curve curve,
+      Currency sensitivityCurrency,
+      Function<Curve, ImmutableRatesProvider> ratesProviderFn,
+      List<? extends Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensitivitiesFns,
+      int[] trades,
+      CrossGammaParameterSensitivities[] results) {
+
+    if (trades.length == 0) {
+      return;
+    }
+    int nParams = curve.getParameterCount();
+    Function<DoubleArray, DoubleArray> function = new Function<DoubleArray, DoubleArray>() {
+      @Override
+      public DoubleArray apply(DoubleArray t) {
+        Curve newCurve = replaceParameters(curve, t);
+        ImmutableRatesProvider newRates = ratesProviderFn.apply(newCurve);
+        double[] sensiStacked = new double[trades.length * nParams];
+        IntStream.range(0, trades.length).parallel().forEach(k -> {
+          CurrencyParameterSensitivities sensiMulti = sensitivitiesFns.get(trades[k]).apply(newRates);
+          DoubleArray sensiSingle = sensiMulti.getSensitivity(newCurve.getName(), sensitivityCurrency).getSensitivity();
+          ArgChecker.isTrue(sensiSingle.size() == nParams, "Sensitivity size does not match the curve parameters");
+          sensiSingle.copyInto(sensiStacked, k * nParams);
+        });
+        return DoubleArray.ofUnsafe(sensiStacked);
+      }
+    };
+    DoubleMatrix sensi = fd.differentiate(function).apply(DoubleArray.of(nParams, n -> curve.getParameter(n)));
+    List<ParameterMetadata> metadata = IntStream.range(0, nParams)
+        .mapToObj(i -> curve.getParameterMetadata(i))
+        .collect(toImmutableList());
+    for (int k = 0; k < trades.length; k++) {
+      int firstRow = k * nParams;
+      DoubleMatrix sensiSingle = DoubleMatrix.of(nParams, nParams, (i, j) -> sensi.get(firstRow + i, j));
+      results[trades[k]] = results[trades[k]].combinedWith(
+          CrossGammaParameterSensitivity.of(curve.getName(), metadata, sensitivityCurrency, sensiSingle));
+    }
+  }
+
   // computes the sensitivity of baseDeltaSingle to Curve
   CrossGammaParameterSensitivity computeGammaForCurve(
       CurrencyParameterSensitivity baseDeltaSingle,
@@ -5,15 +5,26 @@
  */
 package com.opengamma.strata.pricer.sensitivity;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.Function;
 
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
@@ -29,6 +40,9 @@ import com.opengamma.strata.pricer.rate.RatesProvider;
  * This needs the {@link JacobianCalibrationMatrix} obtained during curve calibration.
  * The Market Quote sensitivities are also called Par Rate when the instruments used
  * in the curve calibration are quoted in rate, e.g. IRS, FRA or OIS.
+ * <p>
+ * When the market quote sensitivities of a portfolio are required, the {@code portfolioSensitivity} methods
+ * should be used in preference to calling {@code sensitivity} for each trade and summing the results.
  */
 public class MarketQuoteSensitivityCalculator {
 
@@ -180,4 +194,132 @@ public class MarketQuoteSensitivityCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the market quote sensitivities of a portfolio from the parameter sensitivities of its trades.
+   * <p>
+   * The result is the sum of the market quote sensitivities of the trades.
+   * The parameter sensitivities are aggregated across the trades first, and the Jacobian is then applied once
+   * for each group of curves calibrated together and each currency, rather than once for each trade.
+   * 
+   * @param tradeSensitivities  the curve parameter sensitivities of each trade
+   * @param provider  the rates provider, containing Jacobian calibration information
+   * @return the market quote sensitivities of the portfolio
+   */
+  public CurrencyParameterSensitivities portfolioSensitivity(
+      List<CurrencyParameterSensitivities> tradeSensitivities,
+      RatesProvider provider) {
+
+    ArgChecker.noNulls(tradeSensitivities, "tradeSensitivities");
+    ArgChecker.notNull(provider, "provider");
+    return portfolioSensitivity(tradeSensitivities, name -> provider.findData(name));
+  }
+
+  /**
+   * Calculates the market quote sensitivities of a portfolio from the parameter sensitivities of its trades.
+   * <p>
+   * This calculates the market quote sensitivities of a portfolio of fixed incomes.
+   * The input parameter sensitivities must be computed based on the legal entity discounting provider.
+   * The parameter sensitivities are aggregated across the trades first, and the Jacobian is then applied once
+   * for each group of curves calibrated together and each currency, rather than once for each trade.
+   * 
+   * @param tradeSensitivities  the curve parameter sensitivities of each trade
+   * @param provider  the legal entity discounting provider, containing Jacobian calibration information
+   * @return the market quote sensitivities of the portfolio
+   */
+  public CurrencyParameterSensitivities portfolioSensitivity(
+      List<CurrencyParameterSensitivities> tradeSensitivities,
+      LegalEntityDiscountingProvider provider) {
+
+    ArgChecker.noNulls(tradeSensitivities, "tradeSensitivities");
+    ArgChecker.notNull(provider, "provider");
+    return portfolioSensitivity(tradeSensitivities, name -> provider.findData(name));
+  }
+
+  /**
+   * Calculates the market quote sensitivities of a portfolio from the parameter sensitivities of its trades.
+   * <p>
+   * This calculates the market quote sensitivities of a portfolio of credit derivatives.
+   * The input parameter sensitivities must be computed based on the credit rates provider.
+   * The parameter sensitivities are aggregated across the trades first, and the Jacobian is then applied once
+   * for each group of curves calibrated together and each currency, rather than once for each trade.
+   * 
+   * @param tradeSensitivities  the curve parameter sensitivities of each trade
+   * @param provider  the credit rates provider, containing Jacobian calibration information
+   * @return the market quote sensitivities of the portfolio
+   */
+  public CurrencyParameterSensitivities portfolioSensitivity(
+      List<CurrencyParameterSensitivities> tradeSensitivities,
+      CreditRatesProvider provider) {
+
+    ArgChecker.noNulls(tradeSensitivities, "tradeSensitivities");
+    ArgChecker.notNull(provider, "provider");
+    return portfolioSensitivity(tradeSensitivities, name -> provider.findData(name));
+  }
+
+  // aggregates the parameter sensitivities across the trades
+  // the sensitivities to the curves calibrated together are then multiplied by their Jacobian into
+  // a single market quote sensitivity for each currency, which is finally split between the curves
+  private static CurrencyParameterSensitivities portfolioSensitivity(
+      List<CurrencyParameterSensitivities> tradeSensitivities,
+      Function<MarketDataName<?>, Optional<?>> dataFinder) {
+
+    CurrencyParameterSensitivities paramSensitivities = CurrencyParameterSensitivities.of(tradeSensitivities.stream()
+        .flatMap(sens -> sens.getSensitivities().stream())
+        .collect(toImmutableList()));
+    Map<Pair<List<CurveParameterSize>, Currency>, Pair<JacobianCalibrationMatrix, double[]>> groups =
+        new LinkedHashMap<>();
+    for (CurrencyParameterSensitivity paramSens : paramSensitivities.getSensitivities()) {
+      JacobianCalibrationMatrix info = jacobian(paramSens.getMarketDataName(), dataFinder);
+      Pair<JacobianCalibrationMatrix, double[]> group = groups.computeIfAbsent(
+          Pair.of(info.getOrder(), paramSens.getCurrency()),
+          key -> Pair.of(info, new double[info.getTotalParameterCount()]));
+      multiplyAdd(paramSens.getSensitivity(), info.getJacobianMatrix(), group.getSecond());
+    }
+    List<CurrencyParameterSensitivity> result = new ArrayList<>();
+    for (Entry<Pair<List<CurveParameterSize>, Currency>, Pair<JacobianCalibrationMatrix, double[]>> entry :
+        groups.entrySet()) {
+      Currency currency = entry.getKey().getSecond();
+      JacobianCalibrationMatrix info = entry.getValue().getFirst();
+      Map<CurveName, DoubleArray> split = info.splitValues(DoubleArray.ofUnsafe(entry.getValue().getSecond()));
+      for (Entry<CurveName, DoubleArray> curveEntry : split.entrySet()) {
+        CurveName curveName = curveEntry.getKey();
+        result.add(dataFinder.apply(curveName)
+            .filter(v -> v instanceof Curve)
+            .map(v -> ((Curve) v).createParameterSensitivity(currency, curveEntry.getValue()))
+            .orElse(CurrencyParameterSensitivity.of(curveName, currency, curveEntry.getValue())));
+      }
+    }
+    return CurrencyParameterSensitivities.of(result);
+  }
+
+  // finds the Jacobian calibration information of the curve
+  private static JacobianCalibrationMatrix jacobian(
+      MarketDataName<?> name,
+      Function<MarketDataName<?>, Optional<?>> dataFinder) {
+
+    Curve curve = dataFinder.apply(name)
+        .filter(v -> v instanceof Curve)
+        .map(v -> (Curve) v)
+        .orElseThrow(() -> new IllegalArgumentException("Market Quote sensitivity requires curve: " + name));
+    return curve.getMetadata().findInfo(CurveInfoType.JACOBIAN)
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Market Quote sensitivity requires Jacobian calibration information"));
+  }
+
+  // adds the product of the parameter sensitivity by the Jacobian to the market quote sensitivity
+  // the Jacobian is read row by row, and the rows of the parameters without sensitivity are skipped
+  private static void multiplyAdd(DoubleArray paramSens, DoubleMatrix jacobian, double[] marketQuoteSens) {
+    ArgChecker.isTrue(jacobian.rowCount() == paramSens.size() && jacobian.columnCount() == marketQuoteSens.length,
+        "Jacobian size does not match the parameter sensitivity");
+    for (int i = 0; i < paramSens.size(); i++) {
+      double sens = paramSens.get(i);
+      if (sens != 0d) {
+        for (int j = 0; j < marketQuoteSens.length; j++) {
+          marketQuoteSens[j] += sens * jacobian.get(i, j);
+        }
+      }
+    }
+  }
+
 }
@@ -21,6 +21,7 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
@@ -595,41 +596,44 @@ public class DiscountingSwapLegPricer {
 
   //-------------------------------------------------------------------------
   /**
-   * Explain present value builder used to build large explain map from the individual legs.
+   * Explain present value for a swap leg.
    * 
    * @param leg  the swap log 
    * @param provider  the rates provider
-   * @param builder  the explain map builder which will be populated but the leg 
+   * @return the explain PV map
+   */
+  public ExplainMap explainPresentValue(ResolvedSwapLeg leg, RatesProvider provider) {
+    ExplainMapBuilder builder = ExplainMap.builder();
+    explainPresentValue(leg, provider, builder);
+    return builder.build();
+  }
+
+  /**
+   * Explain present value for a swap leg, writing to a sink.
+   * <p>
+   * This writes the same information as {@link #explainPresentValue(ResolvedSwapLeg, RatesProvider)}
+   * to the sink, which avoids building the map when the sink streams the values elsewhere.
+   * 
+   * @param leg  the swap leg
+   * @param provider  the rates provider
+   * @param builder  the explain sink which will be populated by the leg
    */
-  void explainPresentValueInternal(ResolvedSwapLeg leg, RatesProvider provider, ExplainMapBuilder builder) {
+  public void explainPresentValue(ResolvedSwapLeg leg, RatesProvider provider, ExplainSink builder) {
     builder.put(ExplainKey.ENTRY_TYPE, "Leg");
     builder.put(ExplainKey.PAY_RECEIVE, leg.getPayReceive());
     builder.put(ExplainKey.LEG_TYPE, leg.getType().toString());
     for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      builder.addListEntry(
+      builder.writeListEntry(
           ExplainKey.PAYMENT_PERIODS, child -> paymentPeriodPricer.explainPresentValue(period, provider, child));
     }
     for (SwapPaymentEvent event : leg.getPaymentEvents()) {
-      builder.addListEntry(
+      builder.writeListEntry(
           ExplainKey.PAYMENT_EVENTS, child -> paymentEventPricer.explainPresentValue(event, provider, child));
     }
     builder.put(ExplainKey.FORECAST_VALUE, forecastValue(leg, provider));
     builder.put(ExplainKey.PRESENT_VALUE, presentValue(leg, provider));
   }
 
-  /**
-   * Explain present value for a swap leg.
-   * 
-   * @param leg  the swap log 
-   * @param provider  the rates provider
-   * @return the explain PV map
-   */
-  public ExplainMap explainPresentValue(ResolvedSwapLeg leg, RatesProvider provider) {
-    ExplainMapBuilder builder = ExplainMap.builder();
-    explainPresentValueInternal(leg, provider, builder);
-    return builder.build();
-  }
-
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure of the swap leg.
@@ -23,6 +23,7 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.rate.FixedOvernightCompoundedAnnualRateComputation;
@@ -582,12 +583,31 @@ public class DiscountingSwapProductPricer {
    */
   public ExplainMap explainPresentValue(ResolvedSwap swap, RatesProvider provider) {
     ExplainMapBuilder builder = ExplainMap.builder();
+    explainPresentValue(swap, provider, builder);
+    return builder.build();
+  }
+
+  /**
+   * Explains the present value of the swap product, writing to a sink.
+   * <p>
+   * This writes the same information as {@link #explainPresentValue(ResolvedSwap, RatesProvider)}
+   * to the sink, which avoids building the map when the sink streams the values elsewhere.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider
+   * @param builder  the explain sink to populate
+   */
+  public void explainPresentValue(ResolvedSwap swap, RatesProvider provider, ExplainSink builder) {
     builder.put(ExplainKey.ENTRY_TYPE, "Swap");
-    for (ResolvedSwapLeg leg : swap.getLegs()) {
-      builder.addListEntryWithIndex(
-          ExplainKey.LEGS, child -> legPricer.explainPresentValueInternal(leg, provider, child));
+    ImmutableList<ResolvedSwapLeg> legs = swap.getLegs();
+    for (int i = 0; i < legs.size(); i++) {
+      ResolvedSwapLeg leg = legs.get(i);
+      int legIndex = i;
+      builder.writeListEntry(ExplainKey.LEGS, child -> {
+        child.put(ExplainKey.ENTRY_INDEX, legIndex);
+        legPricer.explainPresentValue(leg, provider, child);
+      });
     }
-    return builder.build();
   }
 
   //-------------------------------------------------------------------------
@@ -6,7 +6,9 @@
 package com.opengamma.strata.pricer.swap;
 
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentEventPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -105,6 +107,33 @@ public interface SwapPaymentEventPricer<T extends SwapPaymentEvent> {
       RatesProvider provider,
       ExplainMapBuilder builder);
 
+  /**
+   * Explains the present value of a single payment event, writing to a sink.
+   * <p>
+   * This writes the same information as
+   * {@link #explainPresentValue(SwapPaymentEvent, RatesProvider, ExplainMapBuilder)} to the {@link ExplainSink}.
+   * <p>
+   * The default implementation populates a temporary {@link ExplainMapBuilder} and writes the resulting map
+   * to the sink. Implementations should override it to write to the sink directly.
+   * 
+   * @param event  the event
+   * @param provider  the rates provider
+   * @param sink  the sink to populate
+   */
+  public default void explainPresentValue(
+      T event,
+      RatesProvider provider,
+      ExplainSink sink) {
+
+    if (sink instanceof ExplainMapBuilder) {
+      explainPresentValue(event, provider, (ExplainMapBuilder) sink);
+    } else {
+      ExplainMapBuilder builder = ExplainMap.builder();
+      explainPresentValue(event, provider, builder);
+      sink.putAll(builder.build());
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure of a single payment event.
@@ -6,7 +6,9 @@
 package com.opengamma.strata.pricer.swap;
 
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -148,6 +150,33 @@ public interface SwapPaymentPeriodPricer<T extends SwapPaymentPeriod> {
       RatesProvider provider,
       ExplainMapBuilder builder);
 
+  /**
+   * Explains the present value of a single payment period, writing to a sink.
+   * <p>
+   * This writes the same information as
+   * {@link #explainPresentValue(SwapPaymentPeriod, RatesProvider, ExplainMapBuilder)} to the {@link ExplainSink}.
+   * <p>
+   * The default implementation populates a temporary {@link ExplainMapBuilder} and writes the resulting map
+   * to the sink. Implementations should override it to write to the sink directly.
+   * 
+   * @param period  the period
+   * @param provider  the rates provider
+   * @param sink  the sink to populate
+   */
+  public default void explainPresentValue(
+      T period,
+      RatesProvider provider,
+      ExplainSink sink) {
+
+    if (sink instanceof ExplainMapBuilder) {
+      explainPresentValue(period, provider, (ExplainMapBuilder) sink);
+    } else {
+      ExplainMapBuilder builder = ExplainMap.builder();
+      explainPresentValue(period, provider, builder);
+      sink.putAll(builder.build());
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the currency exposure of a single payment period.
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.Payment;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorLattice;
+import com.opengamma.strata.pricer.impl.rate.swap.CashFlowEquivalentCalculator;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.common.SettlementType;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
+import com.opengamma.strata.product.swap.SwapPaymentEvent;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+
+/**
+ * Pricer for Bermudan swaption with physical settlement in Hull-White one factor model with piecewise constant
+ * volatility.
+ * <p>
+ * A Bermudan swaption is described by the list of its exercises, one swaption with physical settlement for each
+ * exercise date, in increasing order of expiry. The underlying of each swaption is the swap entered into when
+ * exercising on that date; for a standard Bermudan swaption these are co-terminal swaps.
+ * The swaptions must all be long or all be short. Exercising on one date cancels the other exercises.
+ * Exercises that have expired are ignored.
+ * <p>
+ * The price is computed by backward induction on a {@link HullWhiteOneFactorLattice}.
+ * The lattice depends only on the model parameters and the exercise dates. When pricing a book of Bermudan
+ * swaptions sharing the exercise dates, it can be created once with
+ * {@link #lattice(List, HullWhiteOneFactorPiecewiseConstantParametersProvider)} and passed to each valuation.
+ * <p>
+ * Reference: Henrard, "M. Bermudan Swaptions in Gaussian HJM One-Factor Model: Analytical and Numerical Approaches".
+ * SSRN, October 2008. Available at SSRN: http://ssrn.com/abstract=1287982
+ */
+public class HullWhiteBermudanSwaptionProductPricer {
+
+  /**
+   * Default implementation.
+   */
+  public static final HullWhiteBermudanSwaptionProductPricer DEFAULT =
+      new HullWhiteBermudanSwaptionProductPricer(DiscountingPaymentPricer.DEFAULT);
+
+  /**
+   * Pricer for {@link Payment}.
+   */
+  private final DiscountingPaymentPricer paymentPricer;
+
+  /**
+   * Creates an instance.
+   *
+   * @param paymentPricer  the pricer for {@link Payment}
+   */
+  public HullWhiteBermudanSwaptionProductPricer(DiscountingPaymentPricer paymentPricer) {
+    this.paymentPricer = ArgChecker.notNull(paymentPricer, "paymentPricer");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates the lattice used to price Bermudan swaptions with the specified exercises.
+   * <p>
+   * The lattice covers the exercise dates after the valuation date.
+   * It can be used to price any Bermudan swaption with the same exercise dates and the same model.
+   *
+   * @param exercises  the exercises of the Bermudan swaption, in increasing order of expiry
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the lattice
+   * @throws IllegalArgumentException if no exercise date is after the valuation date
+   */
+  public HullWhiteOneFactorLattice lattice(
+      List<ResolvedSwaption> exercises,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    LocalDate valuationDate = hwProvider.getValuationDateTime().toLocalDate();
+    List<ResolvedSwaption> future = exercisesAfter(exercises, valuationDate);
+    ArgChecker.notEmpty(future, "exercises after the valuation date");
+    return HullWhiteOneFactorLattice.of(hwProvider.getParameters(), exerciseTimes(future, hwProvider));
+  }
+
+  /**
+   * Calculates the present value of the Bermudan swaption.
+   * <p>
+   * The result is expressed using the currency of the swaptions.
+   *
+   * @param exercises  the exercises of the Bermudan swaption, in increasing order of expiry
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      List<ResolvedSwaption> exercises,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    validate(exercises, ratesProvider, hwProvider);
+    List<ResolvedSwaption> future = exercisesAfter(exercises, ratesProvider.getValuationDate());
+    double pv = 0d;
+    if (!future.isEmpty()) {
+      HullWhiteOneFactorLattice lattice =
+          HullWhiteOneFactorLattice.of(hwProvider.getParameters(), exerciseTimes(future, hwProvider));
+      pv = latticeValue(future, ratesProvider, hwProvider, lattice);
+    }
+    return presentValue(exercises, ratesProvider, pv);
+  }
+
+  /**
+   * Calculates the present value of the Bermudan swaption using a lattice.
+   * <p>
+   * The lattice must have been created by {@link #lattice(List, HullWhiteOneFactorPiecewiseConstantParametersProvider)}
+   * for the same model and exercise dates.
+   * The result is expressed using the currency of the swaptions.
+   *
+   * @param exercises  the exercises of the Bermudan swaption, in increasing order of expiry
+   * @param ratesProvider  the rates provider
+   * @param hwProvider  the Hull-White model parameter provider
+   * @param lattice  the lattice
+   * @return the present value
+   */
+  public CurrencyAmount presentValue(
+      List<ResolvedSwaption> exercises,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      HullWhiteOneFactorLattice lattice) {
+
+    validate(exercises, ratesProvider, hwProvider);
+    List<ResolvedSwaption> future = exercisesAfter(exercises, ratesProvider.getValuationDate());
+    ArgChecker.isTrue(lattice.getParameters().equals(hwProvider.getParameters()),
+        "lattice should be for the Hull-White model parameters");
+    ArgChecker.isTrue(lattice.getExerciseTimes().equals(exerciseTimes(future, hwProvider)),
+        "lattice should be for the exercise dates");
+    double pv = latticeValue(future, ratesProvider, hwProvider, lattice);
+    return presentValue(exercises, ratesProvider, pv);
+  }
+
+  // the value of the exercises after the valuation date, by backward induction on the lattice
+  private double latticeValue(
+      List<ResolvedSwaption> future,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider,
+      HullWhiteOneFactorLattice lattice) {
+
+    double[][] exerciseValues = new double[future.size()][];
+    for (int k = 0; k < future.size(); k++) {
+      ResolvedSwapLeg cashFlowEquiv =
+          CashFlowEquivalentCalculator.cashFlowEquivalentSwap(future.get(k).getUnderlying(), ratesProvider);
+      int nPayments = cashFlowEquiv.getPaymentEvents().size();
+      double[] paymentTimes = new double[nPayments];
+      double[] discountedCashFlow = new double[nPayments];
+      for (int loopcf = 0; loopcf < nPayments; loopcf++) {
+        NotionalExchange payment = (NotionalExchange) cashFlowEquiv.getPaymentEvents().get(loopcf);
+        paymentTimes[loopcf] = hwProvider.relativeTime(payment.getPaymentDate());
+        discountedCashFlow[loopcf] = paymentPricer.presentValueAmount(payment.getPayment(), ratesProvider);
+      }
+      exerciseValues[k] =
+          lattice.cashFlowValues(k, DoubleArray.ofUnsafe(paymentTimes), DoubleArray.ofUnsafe(discountedCashFlow));
+    }
+    return lattice.optionValue(exerciseValues);
+  }
+
+  // adds the exercise on the valuation date, if any, to the value of the later exercises
+  private CurrencyAmount presentValue(
+      List<ResolvedSwaption> exercises,
+      RatesProvider ratesProvider,
+      double laterValue) {
+
+    double pv = laterValue;
+    for (ResolvedSwaption exercise : exercises) {
+      if (exercise.getExpiryDate().equals(ratesProvider.getValuationDate())) {
+        ResolvedSwapLeg cashFlowEquiv =
+            CashFlowEquivalentCalculator.cashFlowEquivalentSwap(exercise.getUnderlying(), ratesProvider);
+        double intrinsic = 0d;
+        for (SwapPaymentEvent event : cashFlowEquiv.getPaymentEvents()) {
+          intrinsic += paymentPricer.presentValueAmount(((NotionalExchange) event).getPayment(), ratesProvider);
+        }
+        pv = Math.max(pv, intrinsic);
+      }
+    }
+    ResolvedSwaption first = exercises.get(0);
+    return CurrencyAmount.of(first.getCurrency(), pv * (first.getLongShort().isLong() ? 1d : -1d));
+  }
+
+  //-------------------------------------------------------------------------
+  // validate that the exercises are coherent, and that the rates and volatilities providers are coherent
+  private void validate(
+      List<ResolvedSwaption> exercises,
+      RatesProvider ratesProvider,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    ArgChecker.isTrue(hwProvider.getValuationDateTime().toLocalDate().equals(ratesProvider.getValuationDate()),
+        "Hull-White model data and rate data should be for the same date");
+    ArgChecker.notEmpty(exercises, "exercises");
+    Currency currency = exercises.get(0).getCurrency();
+    LongShort longShort = exercises.get(0).getLongShort();
+    for (int k = 0; k < exercises.size(); k++) {
+      ResolvedSwaption exercise = exercises.get(k);
+      ArgChecker.isFalse(exercise.getUnderlying().isCrossCurrency(), "underlying swap should be single currency");
+      ArgChecker.isTrue(exercise.getSwaptionSettlement().getSettlementType().equals(SettlementType.PHYSICAL),
+          "swaption should be physical settlement");
+      ArgChecker.isTrue(exercise.getCurrency().equals(currency), "exercises should have the same currency");
+      ArgChecker.isTrue(exercise.getLongShort().equals(longShort), "exercises should be all long or all short");
+      if (k > 0) {
+        ArgChecker.isTrue(exercises.get(k - 1).getExpiryDate().isBefore(exercise.getExpiryDate()),
+            "exercise dates should be increasing");
+      }
+    }
+  }
+
+  // the exercises strictly after the valuation date
+  private static List<ResolvedSwaption> exercisesAfter(List<ResolvedSwaption> exercises, LocalDate valuationDate) {
+    return exercises.stream()
+        .filter(exercise -> exercise.getExpiryDate().isAfter(valuationDate))
+        .collect(toImmutableList());
+  }
+
+  // the times to expiry of the exercises
+  private static DoubleArray exerciseTimes(
+      List<ResolvedSwaption> exercises,
+      HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+
+    return DoubleArray.of(exercises.size(), k -> hwProvider.relativeTime(exercises.get(k).getExpiryDate()));
+  }
+
+}
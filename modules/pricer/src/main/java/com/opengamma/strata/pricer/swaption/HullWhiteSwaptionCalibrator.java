@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
+import com.opengamma.strata.math.impl.rootfinding.BrentSingleRootFinder;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+
+/**
+ * Calibrator of the piecewise constant volatility of the Hull-White one factor model to swaption prices.
+ * <p>
+ * The volatility is calibrated to a set of swaptions with physical settlement and increasing expiries,
+ * typically the co-terminal swaptions of a Bermudan swaption, for a given mean reversion.
+ * The volatility is constant between the expiries of the swaptions, and extended flat after the last one.
+ * <p>
+ * For a given mean reversion, the price of a swaption depends on the volatility only through the model
+ * variance up to its expiry. The variance implied by each swaption price is thus found independently of the
+ * other swaptions, and the swaptions are calibrated in parallel. The volatility between consecutive expiries
+ * is then derived from the difference of the implied variances.
+ */
+public final class HullWhiteSwaptionCalibrator {
+
+  /**
+   * The model.
+   */
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  /**
+   * The root bracketer.
+   */
+  private static final BracketRoot BRACKETER = new BracketRoot();
+  /**
+   * The root finder on the volatility.
+   */
+  private static final BrentSingleRootFinder ROOT_FINDER = new BrentSingleRootFinder(1.0E-10);
+  /**
+   * The initial bracket of the volatility.
+   */
+  private static final double[] INITIAL_BRACKET = {0.005, 0.015};
+  /**
+   * The maximum volatility.
+   */
+  private static final double MAX_VOLATILITY = 1d;
+
+  /**
+   * The default instance of the class.
+   */
+  public static final HullWhiteSwaptionCalibrator DEFAULT =
+      new HullWhiteSwaptionCalibrator(HullWhiteSwaptionPhysicalProductPricer.DEFAULT);
+
+  /**
+   * The swaption pricer.
+   */
+  private final HullWhiteSwaptionPhysicalProductPricer swaptionPricer;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a swaption pricer.
+   *
+   * @param swaptionPricer  the swaption pricer
+   * @return the calibrator
+   */
+  public static HullWhiteSwaptionCalibrator of(HullWhiteSwaptionPhysicalProductPricer swaptionPricer) {
+    return new HullWhiteSwaptionCalibrator(swaptionPricer);
+  }
+
+  private HullWhiteSwaptionCalibrator(HullWhiteSwaptionPhysicalProductPricer swaptionPricer) {
+    this.swaptionPricer = ArgChecker.notNull(swaptionPricer, "swaptionPricer");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates the piecewise constant volatility to the prices of swaptions.
+   * <p>
+   * The swaptions must have expiries after the valuation date, in increasing order.
+   * The price of each swaption is its present value, negative for a short swaption.
+   * The volatility times of the resulting parameters are the times to expiry of the swaptions, except the last one.
+   *
+   * @param meanReversion  the mean reversion
+   * @param swaptions  the swaptions, in increasing order of expiry
+   * @param prices  the price of each swaption
+   * @param ratesProvider  the rates provider
+   * @param dayCount  the day count applicable to the model
+   * @param valuationDateTime  the valuation date-time
+   * @return the calibrated Hull-White model parameter provider
+   * @throws IllegalArgumentException if the prices imply a model variance that does not increase with the expiry
+   */
+  public HullWhiteOneFactorPiecewiseConstantParametersProvider calibrateVolatility(
+      double meanReversion,
+      List<ResolvedSwaption> swaptions,
+      DoubleArray prices,
+      RatesProvider ratesProvider,
+      DayCount dayCount,
+      ZonedDateTime valuationDateTime) {
+
+    ArgChecker.notEmpty(swaptions, "swaptions");
+    ArgChecker.isTrue(swaptions.size() == prices.size(), "swaptions and prices should have the same size");
+    ArgChecker.isTrue(valuationDateTime.toLocalDate().equals(ratesProvider.getValuationDate()),
+        "valuation date-time and rate data should be for the same date");
+    for (int k = 0; k < swaptions.size(); k++) {
+      ArgChecker.isTrue(swaptions.get(k).getExpiryDate().isAfter(ratesProvider.getValuationDate()),
+          "swaption expiries should be after the valuation date");
+      if (k > 0) {
+        ArgChecker.isTrue(swaptions.get(k - 1).getExpiryDate().isBefore(swaptions.get(k).getExpiryDate()),
+            "swaption expiries should be increasing");
+      }
+    }
+    // the variance implied by each swaption, independently of the others
+    double[] variances = IntStream.range(0, swaptions.size())
+        .parallel()
+        .mapToDouble(k -> impliedVariance(
+            meanReversion, swaptions.get(k), prices.get(k), ratesProvider, dayCount, valuationDateTime))
+        .toArray();
+    // the volatility of each period between expiries, from the increase of the variance
+    HullWhiteOneFactorPiecewiseConstantParametersProvider timeProvider =
+        provider(meanReversion, 0d, dayCount, valuationDateTime);
+    double[] times = new double[swaptions.size()];
+    double[] volatilities = new double[swaptions.size()];
+    double startTime = 0d;
+    double startVariance = 0d;
+    for (int k = 0; k < swaptions.size(); k++) {
+      times[k] = timeProvider.relativeTime(swaptions.get(k).getExpiryDate());
+      ArgChecker.isTrue(variances[k] > startVariance,
+          "swaption prices imply a decreasing model variance at expiry {}", swaptions.get(k).getExpiryDate());
+      volatilities[k] = Math.sqrt((variances[k] - startVariance) * 2d * meanReversion /
+          (Math.exp(2d * meanReversion * times[k]) - Math.exp(2d * meanReversion * startTime)));
+      startTime = times[k];
+      startVariance = variances[k];
+    }
+    HullWhiteOneFactorPiecewiseConstantParameters parameters = HullWhiteOneFactorPiecewiseConstantParameters.of(
+        meanReversion, DoubleArray.ofUnsafe(volatilities), DoubleArray.copyOf(times, 0, times.length - 1));
+    return HullWhiteOneFactorPiecewiseConstantParametersProvider.of(parameters, dayCount, valuationDateTime);
+  }
+
+  // the model variance up to the expiry implied by the price of the swaption
+  private double impliedVariance(
+      double meanReversion,
+      ResolvedSwaption swaption,
+      double price,
+      RatesProvider ratesProvider,
+      DayCount dayCount,
+      ZonedDateTime valuationDateTime) {
+
+    Function<Double, Double> priceError = volatility -> swaptionPricer.presentValue(
+        swaption, ratesProvider, provider(meanReversion, volatility, dayCount, valuationDateTime)).getAmount() - price;
+    double[] range =
+        BRACKETER.getBracketedPoints(priceError, INITIAL_BRACKET[0], INITIAL_BRACKET[1], 0d, MAX_VOLATILITY);
+    double volatility = ROOT_FINDER.getRoot(priceError, range[0], range[1]);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider provider =
+        provider(meanReversion, volatility, dayCount, valuationDateTime);
+    double beta = MODEL.beta(provider.getParameters(), 0d, provider.relativeTime(swaption.getExpiryDate()));
+    return beta * beta;
+  }
+
+  // the provider with a constant volatility
+  private static HullWhiteOneFactorPiecewiseConstantParametersProvider provider(
+      double meanReversion,
+      double volatility,
+      DayCount dayCount,
+      ZonedDateTime valuationDateTime) {
+
+    HullWhiteOneFactorPiecewiseConstantParameters parameters =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(meanReversion, DoubleArray.of(volatility), DoubleArray.of());
+    return HullWhiteOneFactorPiecewiseConstantParametersProvider.of(parameters, dayCount, valuationDateTime);
+  }
+
+}
@@ -9,6 +9,7 @@ import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -16,11 +17,13 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.schedule.Frequency;
 import com.opengamma.strata.collect.DoubleArrayMath;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.ImmutableMarketData;
 import com.opengamma.strata.data.ImmutableMarketDataBuilder;
 import com.opengamma.strata.market.curve.CurveName;
@@ -294,4 +297,59 @@ public class FastCreditCurveCalibratorTest extends IsdaCompliantCreditCurveCalib
     testJacobian(BUILDER_MARKIT, ccMf, ratesProvider, nodes, quotes, ONE_PC, EPS);
   }
 
+  @Test
+  public void bulkTest() {
+    LocalDate valuationDate = LocalDate.of(2013, 2, 27);
+    DoubleArray ycTime = DoubleArray.of(0.5123287671232877, 1.010958904109589, 3.008219178082192, 5.008219178082192,
+        10.01095890410959);
+    DoubleArray ycRate = DoubleArray.of(0.004599628230463427, 0.0075703969168129295, 0.005059104202201957,
+        0.009361825469323602, 0.020289623737560873);
+    IsdaCreditDiscountFactors yc =
+        IsdaCreditDiscountFactors.of(EUR, valuationDate, CurveName.of("yc_eur"), ycTime, ycRate, ACT_365F);
+    LocalDate startDate = LocalDate.of(2012, 12, 20);
+    LocalDate[] pillarDates = new LocalDate[] {
+        LocalDate.of(2014, 3, 20), LocalDate.of(2016, 3, 20), LocalDate.of(2018, 3, 20), LocalDate.of(2023, 3, 20)};
+    double[] quotes = new double[] {0.008163, 0.015136, 0.021905, 0.027549};
+    CdsConvention conv = ImmutableCdsConvention.of("conv", EUR, ACT_360, Frequency.P3M, BUS_ADJ, CDS_SETTLE_STD);
+    int nNames = 5;
+    ImmutableMarketDataBuilder builderCredit = ImmutableMarketData.builder(valuationDate);
+    ImmutableMap.Builder<StandardId, RecoveryRates> recoveryRates = ImmutableMap.builder();
+    List<IsdaCreditCurveDefinition> curveDefinitions = new ArrayList<>();
+    for (int j = 0; j < nNames; ++j) {
+      StandardId legalEntity = StandardId.of("OG", "Name" + j);
+      recoveryRates.put(legalEntity, ConstantRecoveryRates.of(legalEntity, valuationDate, 0.25 + 0.05 * j));
+      List<CdsIsdaCreditCurveNode> nodes = new ArrayList<>();
+      for (int i = 0; i < pillarDates.length; ++i) {
+        CdsTemplate temp = DatesCdsTemplate.of(startDate, pillarDates[i], conv);
+        QuoteId id = QuoteId.of(StandardId.of("OG", legalEntity.getValue() + pillarDates[i]));
+        nodes.add(j % 2 == 0 ?
+            CdsIsdaCreditCurveNode.ofParSpread(temp, id, legalEntity) :
+            CdsIsdaCreditCurveNode.ofQuotedSpread(temp, id, legalEntity, 100d * ONE_BP));
+        builderCredit.addValue(id, quotes[i] * (1d + 0.1 * j));
+      }
+      curveDefinitions.add(IsdaCreditCurveDefinition.of(
+          CurveName.of("cc" + j), EUR, valuationDate, ACT_365F, nodes, j < 2, j == 0));
+    }
+    ImmutableMarketData marketData = builderCredit.build();
+    LegalEntitySurvivalProbabilities existing = LegalEntitySurvivalProbabilities.of(
+        LEGAL_ENTITY, IsdaCreditDiscountFactors.of(EUR, valuationDate, CurveName.of("existing"), ycTime, ycRate, ACT_365F));
+    ImmutableCreditRatesProvider ratesProvider = ImmutableCreditRatesProvider.builder()
+        .valuationDate(valuationDate)
+        .discountCurves(ImmutableMap.of(EUR, yc))
+        .recoveryRateCurves(recoveryRates.build())
+        .creditCurves(ImmutableMap.of(Pair.of(LEGAL_ENTITY, EUR), existing))
+        .build();
+    ImmutableCreditRatesProvider computed = BUILDER_ISDA.calibrate(curveDefinitions, marketData, ratesProvider, REF_DATA);
+    for (IsdaCreditCurveDefinition curveDefinition : curveDefinitions) {
+      LegalEntitySurvivalProbabilities expected =
+          BUILDER_ISDA.calibrate(curveDefinition, marketData, ratesProvider, REF_DATA);
+      assertThat(computed.survivalProbabilities(expected.getLegalEntityId(), EUR)).isEqualTo(expected);
+    }
+    assertThat(computed.survivalProbabilities(LEGAL_ENTITY, EUR)).isEqualTo(existing);
+    assertThat(computed.discountFactors(EUR)).isEqualTo(yc);
+    List<IsdaCreditCurveDefinition> duplicated = ImmutableList.of(curveDefinitions.get(0), curveDefinitions.get(0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BUILDER_ISDA.calibrate(duplicated, marketData, ratesProvider, REF_DATA));
+  }
+
 }
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -277,6 +278,37 @@ public class IsdaCdsProductPricerTest {
     assertThat(spread).isCloseTo(protPv / annuity, offset(TOL));
   }
 
+  @Test
+  public void batchTest() {
+    List<ResolvedCds> products = ImmutableList.of(
+        PRODUCT_NEXTDAY, PRODUCT_BEFORE, PRODUCT_AFTER, PRODUCT_NS_TODAY, PRODUCT_NS_STEPIN, PRODUCT_NS_BTW, PRODUCT_NEXTDAY);
+    for (PriceType priceType : PriceType.values()) {
+      List<CurrencyAmount> pvs = PRICER.presentValue(products, RATES_PROVIDER, VALUATION_DATE, priceType, REF_DATA);
+      DoubleArray prices = PRICER.price(products, RATES_PROVIDER, VALUATION_DATE, priceType, REF_DATA);
+      assertThat(pvs).hasSize(products.size());
+      assertThat(prices.size()).isEqualTo(products.size());
+      for (int i = 0; i < products.size(); i++) {
+        ResolvedCds product = products.get(i);
+        CurrencyAmount pv = PRICER.presentValue(product, RATES_PROVIDER, VALUATION_DATE, priceType, REF_DATA);
+        double price = PRICER.price(product, RATES_PROVIDER, VALUATION_DATE, priceType, REF_DATA);
+        assertThat(pvs.get(i).getCurrency()).isEqualTo(pv.getCurrency());
+        assertThat(pvs.get(i).getAmount()).isCloseTo(pv.getAmount(), offset(NOTIONAL * TOL));
+        assertThat(prices.get(i)).isCloseTo(price, offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void batchEndedTest() {
+    LocalDate valuationDate = PRODUCT_NEXTDAY.getProtectionEndDate().plusDays(1);
+    CreditRatesProvider provider = createCreditRatesProvider(valuationDate);
+    List<ResolvedCds> products = ImmutableList.of(PRODUCT_NEXTDAY, PRODUCT_BEFORE);
+    List<CurrencyAmount> pvs = PRICER.presentValue(products, provider, valuationDate, CLEAN, REF_DATA);
+    assertThat(pvs.get(0)).isEqualTo(CurrencyAmount.zero(USD));
+    assertThat(pvs.get(1)).isEqualTo(PRICER.presentValue(PRODUCT_BEFORE, provider, valuationDate, CLEAN, REF_DATA));
+    assertThat(PRICER.price(ImmutableList.of(), provider, valuationDate, CLEAN, REF_DATA)).isEqualTo(DoubleArray.EMPTY);
+  }
+
   @Test
   public void withCouponTest() {
     double coupon = 0.15;
@@ -12,9 +12,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
@@ -194,6 +196,25 @@ public class IsdaCdsTradePricerTest {
     assertThat(computedMf.getAmount()).isCloseTo(expectedMf.getAmount(), offset(TOL));
   }
 
+  @Test
+  public void test_presentValue_batch() {
+    ResolvedCds otherProduct = Cds.of(
+        BUY, LEGAL_ENTITY, USD, NOTIONAL, LocalDate.of(2013, 12, 20), LocalDate.of(2024, 9, 20), Frequency.P3M, CALENDAR, 0.05)
+        .resolve(REF_DATA);
+    ResolvedCdsTrade otherTrade = ResolvedCdsTrade.builder()
+        .product(otherProduct)
+        .info(TRADE_INFO)
+        .build();
+    List<ResolvedCdsTrade> trades = ImmutableList.of(TRADE, TRADE_NO_SETTLE_DATE, otherTrade);
+    List<CurrencyAmount> computed = PRICER.presentValue(trades, RATES_PROVIDER, PriceType.CLEAN, REF_DATA);
+    assertThat(computed).hasSize(trades.size());
+    for (int i = 0; i < trades.size(); i++) {
+      CurrencyAmount expected = PRICER.presentValue(trades.get(i), RATES_PROVIDER, PriceType.CLEAN, REF_DATA);
+      assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+      assertThat(computed.get(i).getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * TOL));
+    }
+  }
+
   @Test
   public void test_presentValueSensitivity() {
     PointSensitivities computed = PRICER.presentValueSensitivity(TRADE, RATES_PROVIDER, REF_DATA);
@@ -205,6 +205,26 @@ public class IsdaHomogenousCdsIndexProductPricerTest {
     assertThat(spread).isCloseTo(-(1d - RECOVERY_RATE) * recovery01.getAmount() / rpv01.getAmount(), offset(TOL));
   }
 
+  @Test
+  public void batchTest() {
+    ResolvedCdsIndex otherCoupon = CdsIndex.of(
+        BUY, INDEX_ID, LEGAL_ENTITIES, USD, 2d * NOTIONAL, START_DATE, MATURITY_DATE, P3M, SAT_SUN, 0.01).resolve(REF_DATA);
+    ResolvedCdsIndex otherMaturity = CdsIndex.of(
+        SELL, INDEX_ID, LEGAL_ENTITIES, USD, NOTIONAL, START_DATE, LocalDate.of(2020, 12, 20), P3M, SAT_SUN, COUPON)
+        .resolve(REF_DATA);
+    List<ResolvedCdsIndex> products = ImmutableList.of(PRODUCT, PRODUCT_SELL, otherCoupon, otherMaturity);
+    for (PriceType priceType : PriceType.values()) {
+      List<CurrencyAmount> computed = PRICER.presentValue(products, RATES_PROVIDER, SETTLEMENT_STD, priceType, REF_DATA);
+      assertThat(computed).hasSize(products.size());
+      for (int i = 0; i < products.size(); i++) {
+        CurrencyAmount expected =
+            PRICER.presentValue(products.get(i), RATES_PROVIDER, SETTLEMENT_STD, priceType, REF_DATA);
+        assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+        assertThat(computed.get(i).getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * TOL));
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void pvSensitivityTest() {
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -397,4 +398,34 @@ public class SpreadSensitivityCalculatorTest {
         NOTIONAL * TOL)).isTrue();
   }
 
+  @Test
+  public void bucketedCs01IndexBookTest() {
+    ResolvedCdsIndexTrade otherTrade = CdsIndexTrade.builder()
+        .product(CdsIndex.of(
+            BuySell.SELL, INDEX_ID, LEGAL_ENTITIES, USD, 2d * NOTIONAL, START, END1, P3M, SAT_SUN, 100d * ONE_BP))
+        .info(TradeInfo.of(VALUATION_DATE))
+        .build()
+        .resolve(REF_DATA);
+    List<ResolvedCdsIndexTrade> trades = ImmutableList.of(CDS_INDEX, otherTrade, CDS_INDEX);
+    List<CurrencyParameterSensitivity> computed = CS01_AN.bucketedCs01(trades, RATES_PROVIDER, REF_DATA);
+    assertThat(computed).hasSize(trades.size());
+    for (int i = 0; i < trades.size(); i++) {
+      CurrencyParameterSensitivity expected = CS01_AN.bucketedCs01(trades.get(i), RATES_PROVIDER, REF_DATA);
+      CurrencyParameterSensitivity fd = CS01_FD.bucketedCs01(trades.get(i), RATES_PROVIDER, REF_DATA);
+      double notional = trades.get(i).getProduct().getNotional();
+      assertThat(computed.get(i).getCurrency()).isEqualTo(USD);
+      assertThat(computed.get(i).getMarketDataName()).isEqualTo(CurveName.of("impliedSpreads"));
+      assertThat(computed.get(i).getParameterMetadata()).isEqualTo(CDS_INDEX_METADATA);
+      assertThat(DoubleArrayMath.fuzzyEquals(
+          computed.get(i).getSensitivity().toArray(),
+          expected.getSensitivity().toArray(),
+          notional * TOL)).isTrue();
+      assertThat(DoubleArrayMath.fuzzyEquals(
+          computed.get(i).getSensitivity().toArray(),
+          fd.getSensitivity().toArray(),
+          notional * ONE_BP * 10d)).isTrue();
+    }
+    assertThat(CS01_AN.bucketedCs01(ImmutableList.<ResolvedCdsIndexTrade>of(), RATES_PROVIDER, REF_DATA)).isEmpty();
+  }
+
 }
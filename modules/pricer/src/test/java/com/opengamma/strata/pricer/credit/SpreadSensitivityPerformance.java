@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.credit;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.SAT_SUN;
+import static com.opengamma.strata.basics.schedule.Frequency.P3M;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.NodalCurve;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.ResolvedTradeParameterMetadata;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.credit.CdsIndex;
+import com.opengamma.strata.product.credit.CdsIndexTrade;
+import com.opengamma.strata.product.credit.ResolvedCdsIndexTrade;
+import com.opengamma.strata.product.credit.ResolvedCdsTrade;
+
+/**
+ * Vague performance test of bucketed CS01 for a book of CDS index trades.
+ * <p>
+ * This compares the finite difference calculator, the analytic calculator applied to each trade,
+ * and the analytic calculator applied to the whole book.
+ */
+public class SpreadSensitivityPerformance {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VALUATION_DATE = LocalDate.of(2013, 4, 21);
+  private static final StandardId INDEX_ID = StandardId.of("OG", "AAXX");
+  private static final ImmutableList<StandardId> LEGAL_ENTITIES = ImmutableList.of(
+      StandardId.of("OG", "AA1"), StandardId.of("OG", "AA2"), StandardId.of("OG", "AA3"), StandardId.of("OG", "AA4"));
+  private static final double ONE_BP = 1.0e-4;
+  private static final double INDEX_FACTOR = 0.75;
+  private static final int BOOK_SIZE = 200;
+
+  private static final FiniteDifferenceSpreadSensitivityCalculator CS01_FD =
+      FiniteDifferenceSpreadSensitivityCalculator.DEFAULT;
+  private static final AnalyticSpreadSensitivityCalculator CS01_AN = AnalyticSpreadSensitivityCalculator.DEFAULT;
+
+  public static void main(String[] args) throws Exception {
+    System.out.println("Go");
+    SpreadSensitivityPerformance test = new SpreadSensitivityPerformance();
+    for (int i = 0; i < 5; i++) {
+      test.process();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private final CreditRatesProvider ratesProvider;
+  private final List<ResolvedCdsIndexTrade> book;
+
+  private SpreadSensitivityPerformance() {
+    LocalDate[] parSpreadDates = new LocalDate[] {
+        LocalDate.of(2013, 6, 20), LocalDate.of(2013, 9, 20), LocalDate.of(2014, 3, 20), LocalDate.of(2015, 3, 20),
+        LocalDate.of(2016, 3, 20), LocalDate.of(2018, 3, 20), LocalDate.of(2023, 3, 20)};
+    double[] parSpreads = new double[] {50, 70, 80, 95, 100, 95, 80};
+    IsdaCreditDiscountFactors yieldCurve = IsdaCreditDiscountFactors.of(
+        USD, VALUATION_DATE, CurveName.of("discount"), DoubleArray.of(20d), DoubleArray.of(0.05), ACT_365F);
+    RecoveryRates recoveryRates = ConstantRecoveryRates.of(INDEX_ID, VALUATION_DATE, 0.4);
+    List<ResolvedCdsTrade> bucket = new ArrayList<>();
+    List<ResolvedTradeParameterMetadata> metadata = new ArrayList<>();
+    for (int i = 0; i < parSpreadDates.length; i++) {
+      ResolvedCdsIndexTrade trade = indexTrade(
+          BuySell.BUY, 1d, VALUATION_DATE, parSpreadDates[i], parSpreads[i] * ONE_BP);
+      bucket.add(trade.toSingleNameCds());
+      metadata.add(ResolvedTradeParameterMetadata.of(trade, parSpreadDates[i].toString()));
+    }
+    NodalCurve curve = FastCreditCurveCalibrator.standard().calibrate(
+        bucket,
+        DoubleArray.of(parSpreads.length, i -> parSpreads[i] * ONE_BP),
+        DoubleArray.filled(parSpreads.length),
+        CurveName.of("credit"),
+        VALUATION_DATE,
+        yieldCurve,
+        recoveryRates,
+        REF_DATA);
+    curve = curve.withMetadata(curve.getMetadata()
+        .withInfo(CurveInfoType.CDS_INDEX_FACTOR, INDEX_FACTOR)
+        .withParameterMetadata(metadata));
+    ratesProvider = ImmutableCreditRatesProvider.builder()
+        .valuationDate(VALUATION_DATE)
+        .recoveryRateCurves(ImmutableMap.of(INDEX_ID, recoveryRates))
+        .discountCurves(ImmutableMap.of(USD, yieldCurve))
+        .creditCurves(ImmutableMap.of(
+            Pair.of(INDEX_ID, USD),
+            LegalEntitySurvivalProbabilities.of(INDEX_ID, IsdaCreditDiscountFactors.of(USD, VALUATION_DATE, curve))))
+        .build();
+    List<ResolvedCdsIndexTrade> trades = new ArrayList<>();
+    for (int i = 0; i < BOOK_SIZE; i++) {
+      trades.add(indexTrade(
+          i % 2 == 0 ? BuySell.BUY : BuySell.SELL,
+          1e6 * (1 + i % 7),
+          LocalDate.of(2013, 2, 3),
+          LocalDate.of(2015 + i % 8, 3, 20),
+          (50 + i % 5 * 25) * ONE_BP));
+    }
+    book = trades;
+  }
+
+  private static ResolvedCdsIndexTrade indexTrade(
+      BuySell buySell,
+      double notional,
+      LocalDate start,
+      LocalDate end,
+      double coupon) {
+
+    return CdsIndexTrade.builder()
+        .product(CdsIndex.of(buySell, INDEX_ID, LEGAL_ENTITIES, USD, notional, start, end, P3M, SAT_SUN, coupon))
+        .info(TradeInfo.of(VALUATION_DATE))
+        .build()
+        .resolve(REF_DATA);
+  }
+
+  //-------------------------------------------------------------------------
+  private void process() {
+    long start = System.nanoTime();
+    double totalFd = 0d;
+    for (ResolvedCdsIndexTrade trade : book) {
+      totalFd += CS01_FD.bucketedCs01(trade, ratesProvider, REF_DATA).getSensitivity().sum();
+    }
+    long endFd = System.nanoTime();
+    double totalAnalytic = 0d;
+    for (ResolvedCdsIndexTrade trade : book) {
+      totalAnalytic += CS01_AN.bucketedCs01(trade, ratesProvider, REF_DATA).getSensitivity().sum();
+    }
+    long endAnalytic = System.nanoTime();
+    double totalBook = 0d;
+    for (CurrencyParameterSensitivity sensitivity : CS01_AN.bucketedCs01(book, ratesProvider, REF_DATA)) {
+      totalBook += sensitivity.getSensitivity().sum();
+    }
+    long endBook = System.nanoTime();
+    System.out.println("Finite difference: " + totalFd + " in " + (endFd - start) / 1_000_000d + " ms");
+    System.out.println("Analytic, by trade: " + totalAnalytic + " in " + (endAnalytic - endFd) / 1_000_000d + " ms");
+    System.out.println("Analytic, by book: " + totalBook + " in " + (endBook - endAnalytic) / 1_000_000d + " ms");
+  }
+
+}
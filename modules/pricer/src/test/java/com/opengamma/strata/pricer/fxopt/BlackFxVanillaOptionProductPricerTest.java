@@ -17,9 +17,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
@@ -387,6 +389,59 @@ public class BlackFxVanillaOptionProductPricerTest {
     assertThat(point).isEqualTo(PointSensitivityBuilder.none());
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_presentValue_book() {
+    List<ResolvedFxVanillaOption> book = book();
+    List<CurrencyAmount> computed = PRICER.presentValue(book, RATES_PROVIDER, VOLS);
+    assertThat(computed).hasSize(book.size());
+    for (int i = 0; i < book.size(); i++) {
+      CurrencyAmount expected = PRICER.presentValue(book.get(i), RATES_PROVIDER, VOLS);
+      assertThat(computed.get(i).getCurrency()).isEqualTo(expected.getCurrency());
+      assertThat(computed.get(i).getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * TOL));
+    }
+    List<CurrencyAmount> computedExpiry = PRICER.presentValue(book, RATES_PROVIDER_EXPIRY, VOLS_EXPIRY);
+    for (int i = 0; i < book.size(); i++) {
+      assertThat(computedExpiry.get(i)).isEqualTo(PRICER.presentValue(book.get(i), RATES_PROVIDER_EXPIRY, VOLS_EXPIRY));
+    }
+    assertThat(PRICER.presentValue(ImmutableList.of(), RATES_PROVIDER, VOLS)).isEmpty();
+  }
+
+  @Test
+  public void test_presentValueSensitivityModelParamsVolatility_book() {
+    List<ResolvedFxVanillaOption> book = book();
+    CurrencyParameterSensitivities computed =
+        PRICER.presentValueSensitivityModelParamsVolatility(book, RATES_PROVIDER, VOLS);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (ResolvedFxVanillaOption option : book) {
+      PointSensitivities point =
+          PRICER.presentValueSensitivityModelParamsVolatility(option, RATES_PROVIDER, VOLS).build();
+      expected = expected.combinedWith(VOLS.parameterSensitivity(point));
+    }
+    assertThat(computed.size()).isEqualTo(1);
+    assertThat(computed.equalWithTolerance(expected, NOTIONAL * TOL)).isTrue();
+    List<ResolvedFxVanillaOption> expired = ImmutableList.of(CALL_OTM, PUT_ITM);
+    assertThat(PRICER.presentValueSensitivityModelParamsVolatility(expired, RATES_PROVIDER_AFTER, VOLS_AFTER))
+        .isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
+  // calls and puts with two expiries, including a repeated option
+  private static List<ResolvedFxVanillaOption> book() {
+    ZonedDateTime expiryLater = EXPIRY.plusMonths(3);
+    ResolvedFxSingle fxProductLater = ResolvedFxSingle.of(EUR_AMOUNT, USD_AMOUNT_LOW, PAYMENT_DATE.plusMonths(3));
+    ResolvedFxVanillaOption callLater = ResolvedFxVanillaOption.builder()
+        .longShort(LONG)
+        .expiry(expiryLater)
+        .underlying(fxProductLater)
+        .build();
+    ResolvedFxVanillaOption putLater = ResolvedFxVanillaOption.builder()
+        .longShort(SHORT)
+        .expiry(expiryLater)
+        .underlying(fxProductLater.inverse())
+        .build();
+    return ImmutableList.of(CALL_OTM, CALL_ITM, PUT_OTM, PUT_ITM, callLater, putLater, CALL_OTM);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_theta_presentValueTheta() {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorLattice;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorPiecewiseConstantInterestRateModel;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Test {@link HullWhiteOneFactorLattice}.
+ */
+public class HullWhiteOneFactorLatticeTest {
+
+  private static final double MEAN_REVERSION = 0.01;
+  private static final DoubleArray VOLATILITY = DoubleArray.of(0.01, 0.011, 0.012, 0.013, 0.014);
+  private static final DoubleArray VOLATILITY_TIME = DoubleArray.of(0.5, 1.0, 2.0, 5.0);
+  private static final HullWhiteOneFactorPiecewiseConstantParameters MODEL_PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, VOLATILITY, VOLATILITY_TIME);
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  private static final DoubleArray EXERCISE_TIMES = DoubleArray.of(1d, 2d, 3d);
+  // a receiver swap entered at 2 years
+  private static final DoubleArray PAYMENT_TIMES = paymentTimes(2);
+  private static final DoubleArray DISCOUNTED_CASH_FLOWS = discountedCashFlows(2);
+  private static final double TOL = 1.0e-5;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    HullWhiteOneFactorLattice test = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES);
+    assertThat(test.getParameters()).isEqualTo(MODEL_PARAMETERS);
+    assertThat(test.getExerciseTimes()).isEqualTo(EXERCISE_TIMES);
+    assertThat(test.getNbPoints()).isEqualTo(501);
+    assertThat(HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES, 201, 7d).getNbPoints()).isEqualTo(201);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, DoubleArray.of()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, DoubleArray.of(0d, 1d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, DoubleArray.of(2d, 1d)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES, 2, 6d));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES, 101, 0d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_optionValue_bond() {
+    // a positive cash flow is always exercised, at its value
+    HullWhiteOneFactorLattice test = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES);
+    DoubleArray paymentTimes = DoubleArray.of(10d);
+    DoubleArray discountedCashFlows = DoubleArray.of(0.8);
+    double[][] exerciseValues = new double[EXERCISE_TIMES.size()][];
+    for (int k = 0; k < EXERCISE_TIMES.size(); k++) {
+      exerciseValues[k] = test.cashFlowValues(k, paymentTimes, discountedCashFlows);
+    }
+    assertThat(test.optionValue(exerciseValues)).isCloseTo(0.8, offset(TOL));
+  }
+
+  @Test
+  public void test_optionValue_european() {
+    // only the exercise at 2 years, compared to the explicit formula
+    HullWhiteOneFactorLattice test = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES);
+    double[][] exerciseValues = new double[EXERCISE_TIMES.size()][test.getNbPoints()];
+    exerciseValues[1] = test.cashFlowValues(1, PAYMENT_TIMES, DISCOUNTED_CASH_FLOWS);
+    double[] alpha = new double[PAYMENT_TIMES.size()];
+    for (int i = 0; i < alpha.length; i++) {
+      alpha[i] = MODEL.alpha(MODEL_PARAMETERS, 0d, 2d, 2d, PAYMENT_TIMES.get(i));
+    }
+    double kappa = MODEL.kappa(DISCOUNTED_CASH_FLOWS, DoubleArray.ofUnsafe(alpha));
+    double expected = 0d;
+    for (int i = 0; i < alpha.length; i++) {
+      expected += DISCOUNTED_CASH_FLOWS.get(i) * NORMAL.getCDF(kappa + alpha[i]);
+    }
+    assertThat(test.optionValue(exerciseValues)).isCloseTo(expected, offset(TOL));
+    // the same option on a lattice with the single exercise time
+    HullWhiteOneFactorLattice single = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, DoubleArray.of(2d));
+    double[][] singleValues = {single.cashFlowValues(0, PAYMENT_TIMES, DISCOUNTED_CASH_FLOWS)};
+    assertThat(single.optionValue(singleValues)).isCloseTo(expected, offset(TOL));
+  }
+
+  @Test
+  public void test_optionValue_bermudan() {
+    // co-terminal swaps entered at each exercise time
+    HullWhiteOneFactorLattice test = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES);
+    double[][] exerciseValues = new double[EXERCISE_TIMES.size()][];
+    double maxEuropean = 0d;
+    for (int k = 0; k < EXERCISE_TIMES.size(); k++) {
+      int start = (int) EXERCISE_TIMES.get(k);
+      exerciseValues[k] = test.cashFlowValues(k, paymentTimes(start), discountedCashFlows(start));
+      double[][] europeanValues = new double[EXERCISE_TIMES.size()][test.getNbPoints()];
+      europeanValues[k] = exerciseValues[k];
+      maxEuropean = Math.max(maxEuropean, test.optionValue(europeanValues));
+    }
+    assertThat(test.optionValue(exerciseValues)).isGreaterThan(maxEuropean);
+  }
+
+  @Test
+  public void test_optionValue_invalid() {
+    HullWhiteOneFactorLattice test = HullWhiteOneFactorLattice.of(MODEL_PARAMETERS, EXERCISE_TIMES);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.optionValue(new double[2][test.getNbPoints()]));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.optionValue(new double[3][10]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.cashFlowValues(0, PAYMENT_TIMES, DISCOUNTED_CASH_FLOWS.subArray(1)));
+  }
+
+  //-------------------------------------------------------------------------
+  // the payment times of a receiver swap with annual 2% coupons, from the start time to 7 years
+  private static DoubleArray paymentTimes(int start) {
+    return DoubleArray.of(8 - start, i -> start + i);
+  }
+
+  // the cash flows of the receiver swap, discounted at 2%
+  private static DoubleArray discountedCashFlows(int start) {
+    return paymentTimes(start).map(t -> (t == start ? -1d : (t == 7d ? 1.02 : 0.02)) * Math.exp(-0.02 * t));
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * Test {@link CumulativeOvernightIndex}.
+ */
+public class CumulativeOvernightIndexTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final OvernightCompoundedRateComputation COMPUTATION =
+      OvernightCompoundedRateComputation.of(USD_FED_FUND, date(2015, 1, 8), date(2015, 1, 15), 0, REF_DATA);
+  private static final LocalDate[] FIXING_DATES = new LocalDate[] {
+      date(2015, 1, 7),
+      date(2015, 1, 8),
+      date(2015, 1, 9),
+      date(2015, 1, 12),
+      date(2015, 1, 13),
+      date(2015, 1, 14),
+      date(2015, 1, 15)};
+  private static final double[] FIXING_RATES = {
+      0.0012, 0.0023, 0.0034,
+      0.0045, 0.0056, 0.0067, 0.0078};
+  private static final LocalDateDoubleTimeSeries TIME_SERIES =
+      LocalDateDoubleTimeSeries.builder().putAll(Arrays.asList(FIXING_DATES), FIXING_RATES).build();
+  private static final double TOLERANCE = 1.0E-14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compositionFactor() {
+    CumulativeOvernightIndex test = CumulativeOvernightIndex.of(COMPUTATION, TIME_SERIES);
+    assertThat(test.getFixingCalendar()).isEqualTo(COMPUTATION.getFixingCalendar());
+    // Fed Fund is ACT/360, the fixing on Friday accrues over the weekend
+    double expected = (1d + FIXING_RATES[1] / 360d) * (1d + 3d * FIXING_RATES[2] / 360d) *
+        (1d + FIXING_RATES[3] / 360d);
+    assertThat(test.compositionFactor(date(2015, 1, 8), date(2015, 1, 13)).getAsDouble())
+        .isCloseTo(expected, offset(TOLERANCE));
+    assertThat(test.compositionFactor(date(2015, 1, 8), date(2015, 1, 8)).getAsDouble()).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_compositionFactor_allFixings() {
+    CumulativeOvernightIndex test = CumulativeOvernightIndex.of(COMPUTATION, TIME_SERIES);
+    double expected = 1d;
+    for (int i = 0; i < FIXING_DATES.length; i++) {
+      LocalDate effectiveDate = COMPUTATION.calculateEffectiveFromFixing(FIXING_DATES[i]);
+      LocalDate maturityDate = COMPUTATION.calculateMaturityFromEffective(effectiveDate);
+      expected *= 1d + USD_FED_FUND.getDayCount().yearFraction(effectiveDate, maturityDate) * FIXING_RATES[i];
+    }
+    assertThat(test.compositionFactor(date(2015, 1, 7), date(2015, 1, 16)).getAsDouble())
+        .isCloseTo(expected, offset(TOLERANCE));
+  }
+
+  @Test
+  public void test_compositionFactor_outOfRange() {
+    CumulativeOvernightIndex test = CumulativeOvernightIndex.of(COMPUTATION, TIME_SERIES);
+    assertThat(test.compositionFactor(date(2015, 1, 6), date(2015, 1, 13))).isEmpty();
+    assertThat(test.compositionFactor(date(2015, 1, 8), date(2015, 1, 20))).isEmpty();
+    assertThat(test.compositionFactor(date(2015, 1, 10), date(2015, 1, 13))).isEmpty();
+    assertThat(test.compositionFactor(date(2015, 1, 13), date(2015, 1, 8))).isEmpty();
+  }
+
+  @Test
+  public void test_compositionFactor_missingFixing() {
+    LocalDateDoubleTimeSeries timeSeries =
+        TIME_SERIES.filter((fixingDate, value) -> !fixingDate.equals(date(2015, 1, 9)));
+    CumulativeOvernightIndex test = CumulativeOvernightIndex.of(COMPUTATION, timeSeries);
+    assertThat(test.compositionFactor(date(2015, 1, 8), date(2015, 1, 13))).isEmpty();
+    assertThat(test.compositionFactor(date(2015, 1, 8), date(2015, 1, 9)).getAsDouble())
+        .isCloseTo(1d + FIXING_RATES[1] / 360d, offset(TOLERANCE));
+    assertThat(test.compositionFactor(date(2015, 1, 12), date(2015, 1, 14)).getAsDouble())
+        .isCloseTo((1d + FIXING_RATES[3] / 360d) * (1d + FIXING_RATES[4] / 360d), offset(TOLERANCE));
+  }
+
+}
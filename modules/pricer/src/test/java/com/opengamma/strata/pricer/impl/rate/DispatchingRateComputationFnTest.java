@@ -28,9 +28,13 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.index.IborIndexObservation;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.market.explain.CsvExplainSink;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
+import com.opengamma.strata.market.explain.ExplainSink;
+import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -398,6 +402,60 @@ public class DispatchingRateComputationFnTest {
     assertThat(built.get(ExplainKey.COMBINED_RATE)).isEqualTo(Optional.of(simpleRate));
   }
 
+  @Test
+  public void test_explainRate_sink_builderOnlyFn() {
+    // a function that only implements the builder method still writes to a sink
+    RateComputationFn<FixedRateComputation> fn = new RateComputationFn<FixedRateComputation>() {
+      @Override
+      public double rate(
+          FixedRateComputation computation,
+          LocalDate startDate,
+          LocalDate endDate,
+          RatesProvider provider) {
+
+        return computation.getRate();
+      }
+
+      @Override
+      public PointSensitivityBuilder rateSensitivity(
+          FixedRateComputation computation,
+          LocalDate startDate,
+          LocalDate endDate,
+          RatesProvider provider) {
+
+        return PointSensitivityBuilder.none();
+      }
+
+      @Override
+      public double explainRate(
+          FixedRateComputation computation,
+          LocalDate startDate,
+          LocalDate endDate,
+          RatesProvider provider,
+          ExplainMapBuilder builder) {
+
+        double rate = computation.getRate();
+        builder.addListEntry(ExplainKey.OBSERVATIONS, child -> child.put(ExplainKey.INDEX_VALUE, rate));
+        builder.put(ExplainKey.COMBINED_RATE, rate);
+        return rate;
+      }
+    };
+    FixedRateComputation ro = FixedRateComputation.of(0.0123d);
+    StringBuilder buf = new StringBuilder();
+    CsvExplainSink sink = CsvExplainSink.of(CsvOutput.standard(buf, "\n"));
+    sink.startEntry("T1");
+    assertThat(fn.explainRate(ro, ACCRUAL_START_DATE, ACCRUAL_END_DATE, MOCK_PROV, sink)).isEqualTo(0.0123d);
+    assertThat(buf.toString()).isEqualTo("" +
+        "Entry,Path,Key,Value\n" +
+        "T1,Observations[0],IndexValue,0.0123\n" +
+        "T1,,CombinedRate,0.0123\n");
+
+    ExplainMapBuilder builder = ExplainMap.builder();
+    ExplainSink builderSink = builder;
+    assertThat(fn.explainRate(ro, ACCRUAL_START_DATE, ACCRUAL_END_DATE, MOCK_PROV, builderSink)).isEqualTo(0.0123d);
+    assertThat(builder.build().get(ExplainKey.COMBINED_RATE)).hasValue(0.0123d);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.impl.rate;
 import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
 import static com.opengamma.strata.basics.index.OvernightIndices.CHF_TOIS;
 import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
 import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
 import static com.opengamma.strata.collect.TestHelper.assertThrows;
 import static com.opengamma.strata.collect.TestHelper.date;
@@ -22,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -1102,4 +1105,89 @@ public class ForwardOvernightCompoundedRateComputationFnTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final ForwardOvernightCompoundedRateComputationFn OBS_FWD_ONCMP_CUMULATIVE =
+      ForwardOvernightCompoundedRateComputationFn.CUMULATIVE_INDEX;
+
+  /** Test the cumulative index against the day-by-day composition on a long time series. */
+  @Test
+  public void rateCumulativeIndex() {
+    DoubleArray time = DoubleArray.of(0.0, 0.5, 1.0, 2.0, 5.0, 10.0);
+    DoubleArray rate = DoubleArray.of(0.0100, 0.0110, 0.0115, 0.0130, 0.0135, 0.0135);
+    LocalDate[] valuationDates = {date(2015, 6, 1), date(2015, 7, 15), date(2015, 8, 31), date(2015, 10, 2)};
+    for (OvernightIndex index : new OvernightIndex[] {USD_FED_FUND, GBP_SONIA, CHF_TOIS}) {
+      LocalDateDoubleTimeSeries timeSeries = dailyTimeSeries(index, date(2014, 1, 2), date(2015, 12, 31), null);
+      Curve curve = InterpolatedNodalCurve.of(Curves.zeroRates("ON", ACT_ACT_ISDA), time, rate, INTERPOLATOR);
+      for (LocalDate valuationDate : valuationDates) {
+        ImmutableRatesProvider prov = ImmutableRatesProvider.builder(valuationDate)
+            .overnightIndexCurve(index, curve, timeSeries)
+            .build();
+        for (int cutoff = 0; cutoff < 3; cutoff++) {
+          for (LocalDate start = date(2015, 3, 2); start.isBefore(date(2015, 9, 1)); start = start.plusDays(13)) {
+            OvernightCompoundedRateComputation ro =
+                OvernightCompoundedRateComputation.of(index, start, start.plusMonths(3), cutoff, REF_DATA);
+            double rateExpected = OBS_FWD_ONCMP.rate(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov);
+            double rateComputed =
+                OBS_FWD_ONCMP_CUMULATIVE.rate(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov);
+            assertThat(rateComputed).isCloseTo(rateExpected, offset(1.0E-13));
+            PointSensitivityBuilder sensiExpected =
+                OBS_FWD_ONCMP.rateSensitivity(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov);
+            PointSensitivityBuilder sensiComputed =
+                OBS_FWD_ONCMP_CUMULATIVE.rateSensitivity(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov);
+            assertThat(sensiComputed.build().normalized()
+                .equalWithTolerance(sensiExpected.build().normalized(), 1.0E-13)).isTrue();
+          }
+        }
+      }
+    }
+  }
+
+  /** Test the cumulative index with a missing fixing, composed day-by-day and failing as the default. */
+  @Test
+  public void rateCumulativeIndexMissingFixing() {
+    DoubleArray time = DoubleArray.of(0.0, 0.5, 1.0, 2.0, 5.0, 10.0);
+    DoubleArray rate = DoubleArray.of(0.0100, 0.0110, 0.0115, 0.0130, 0.0135, 0.0135);
+    LocalDateDoubleTimeSeries timeSeries =
+        dailyTimeSeries(USD_FED_FUND, date(2014, 1, 2), date(2015, 12, 31), date(2015, 4, 15));
+    Curve curve = InterpolatedNodalCurve.of(Curves.zeroRates("ON", ACT_ACT_ISDA), time, rate, INTERPOLATOR);
+    ImmutableRatesProvider prov = ImmutableRatesProvider.builder(date(2015, 6, 1))
+        .overnightIndexCurve(USD_FED_FUND, curve, timeSeries)
+        .build();
+    // period before the missing fixing
+    OvernightCompoundedRateComputation roBefore =
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, date(2015, 1, 5), date(2015, 4, 6), 0, REF_DATA);
+    assertThat(OBS_FWD_ONCMP_CUMULATIVE.rate(roBefore, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov))
+        .isCloseTo(OBS_FWD_ONCMP.rate(roBefore, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov),
+            offset(1.0E-13));
+    // period including the missing fixing
+    OvernightCompoundedRateComputation ro =
+        OvernightCompoundedRateComputation.of(USD_FED_FUND, date(2015, 4, 1), date(2015, 7, 1), 0, REF_DATA);
+    assertThrows(
+        () -> OBS_FWD_ONCMP_CUMULATIVE.rate(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov),
+        PricingException.class);
+    assertThrows(
+        () -> OBS_FWD_ONCMP_CUMULATIVE.rateSensitivity(ro, DUMMY_ACCRUAL_START_DATE, DUMMY_ACCRUAL_END_DATE, prov),
+        PricingException.class);
+  }
+
+  // creates a time series with a fixing on each business day, except the missing date
+  private static LocalDateDoubleTimeSeries dailyTimeSeries(
+      OvernightIndex index,
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate missingDate) {
+
+    HolidayCalendar calendar = REF_DATA.getValue(index.getFixingCalendar());
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    int i = 0;
+    for (LocalDate fixingDate = calendar.nextOrSame(startDate); !fixingDate.isAfter(endDate);
+        fixingDate = calendar.next(fixingDate)) {
+      if (!fixingDate.equals(missingDate)) {
+        builder.put(fixingDate, 0.0100 + 0.0020 * Math.sin(i / 17d));
+      }
+      i++;
+    }
+    return builder.build();
+  }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate;
+
+import static com.opengamma.strata.basics.date.DayCounts.ACT_ACT_ISDA;
+import static com.opengamma.strata.basics.index.OvernightIndices.GBP_SONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_SOFR;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.HolidayCalendar;
+import com.opengamma.strata.basics.index.OvernightIndex;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+
+/**
+ * Test performance of the compounded overnight rate, composing past fixings day-by-day
+ * or using the cumulative index.
+ */
+public class OvernightCompoundedRatePerformance {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VALUATION_DATE = LocalDate.of(2020, 6, 30);
+
+  public static void main(String[] args) {
+    for (OvernightIndex index : new OvernightIndex[] {USD_SOFR, GBP_SONIA}) {
+      ImmutableRatesProvider provider = provider(index);
+      List<OvernightCompoundedRateComputation> computations = computations(index);
+      System.out.println("Index = " + index + ", periods = " + computations.size());
+      for (ForwardOvernightCompoundedRateComputationFn fn : new ForwardOvernightCompoundedRateComputationFn[] {
+          ForwardOvernightCompoundedRateComputationFn.DEFAULT,
+          ForwardOvernightCompoundedRateComputationFn.CUMULATIVE_INDEX}) {
+        System.out.println(fn == ForwardOvernightCompoundedRateComputationFn.DEFAULT ? "Day-by-day" : "Cumulative");
+        for (int j = 0; j < 5; j++) {
+          double time = rate(fn, computations, provider);
+          System.out.println(time + "ms");
+        }
+        double hot = IntStream.range(0, 100)
+            .mapToDouble(i -> rate(fn, computations, provider))
+            .average()
+            .getAsDouble();
+        System.out.println(hot + "ms (hot)");
+        System.out.println();
+      }
+    }
+  }
+
+  private static double rate(
+      ForwardOvernightCompoundedRateComputationFn fn,
+      List<OvernightCompoundedRateComputation> computations,
+      ImmutableRatesProvider provider) {
+
+    double total = 0;
+    long start = System.nanoTime();
+    for (OvernightCompoundedRateComputation computation : computations) {
+      total += fn.rate(computation, computation.getStartDate(), computation.getEndDate(), provider);
+    }
+    long end = System.nanoTime();
+    if (total == 0) {
+      return -1;
+    }
+    return (end - start) / 1_000_000d;
+  }
+
+  // seasoned periods, up to one year of past fixings each
+  private static List<OvernightCompoundedRateComputation> computations(OvernightIndex index) {
+    List<OvernightCompoundedRateComputation> computations = new ArrayList<>();
+    for (LocalDate start = LocalDate.of(2019, 7, 1); start.isBefore(VALUATION_DATE); start = start.plusDays(1)) {
+      computations.add(OvernightCompoundedRateComputation.of(index, start, start.plusYears(1), 0, REF_DATA));
+    }
+    return computations;
+  }
+
+  // five years of daily fixings
+  private static ImmutableRatesProvider provider(OvernightIndex index) {
+    HolidayCalendar calendar = REF_DATA.getValue(index.getFixingCalendar());
+    LocalDateDoubleTimeSeriesBuilder builder = LocalDateDoubleTimeSeries.builder();
+    int i = 0;
+    for (LocalDate fixingDate = calendar.nextOrSame(VALUATION_DATE.minusYears(5)); fixingDate.isBefore(VALUATION_DATE);
+        fixingDate = calendar.next(fixingDate)) {
+      builder.put(fixingDate, 0.0100 + 0.0020 * Math.sin(i++ / 17d));
+    }
+    Curve curve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("ON", ACT_ACT_ISDA),
+        DoubleArray.of(0.0, 0.5, 1.0, 2.0, 5.0, 10.0),
+        DoubleArray.of(0.0100, 0.0110, 0.0115, 0.0130, 0.0135, 0.0135),
+        CurveInterpolators.DOUBLE_QUADRATIC);
+    return ImmutableRatesProvider.builder(VALUATION_DATE)
+        .overnightIndexCurve(index, curve, builder.build())
+        .build();
+  }
+
+}
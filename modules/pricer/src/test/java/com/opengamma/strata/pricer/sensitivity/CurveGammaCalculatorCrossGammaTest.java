@@ -11,6 +11,7 @@ import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -19,6 +20,7 @@ import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
@@ -366,6 +368,63 @@ public class CurveGammaCalculatorCrossGammaTest {
     }
   }
 
+  @Test
+  public void sensitivity_intra_portfolio() {
+    ResolvedSwap swap = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+        .toTrade(RatesProviderDataSets.VAL_DATE_2014_01_22, LocalDate.of(2014, 3, 10), LocalDate.of(2021, 3, 10),
+            BuySell.BUY, 1.0e6, 0.005)
+        .getProduct()
+        .resolve(REF_DATA);
+    DiscountingSwapProductPricer pricer = DiscountingSwapProductPricer.DEFAULT;
+    Function<ImmutableRatesProvider, CurrencyParameterSensitivities> swapSensiFn =
+        p -> p.parameterSensitivity(pricer.presentValueSensitivity(swap, p).build());
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensiFns =
+        ImmutableList.of(this::sensiFn, this::sensiModFn, swapSensiFn);
+    for (CurveGammaCalculator calculator : new CurveGammaCalculator[] {FORWARD, CENTRAL, BACKWARD}) {
+      List<CrossGammaParameterSensitivities> computed =
+          calculator.calculatePortfolioCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, sensiFns);
+      assertThat(computed).hasSize(sensiFns.size());
+      for (int i = 0; i < sensiFns.size(); i++) {
+        CrossGammaParameterSensitivities expected =
+            calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, sensiFns.get(i));
+        assertThat(computed.get(i).equalWithTolerance(expected, TOL)).isTrue();
+      }
+    }
+    assertThat(CENTRAL.calculatePortfolioCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD, ImmutableList.of()))
+        .isEmpty();
+  }
+
+  @Test
+  public void sensitivity_intra_portfolio_combined_curve() {
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensiFns =
+        ImmutableList.of(this::sensiCombinedFn, this::sensiCombinedFn);
+    List<CrossGammaParameterSensitivities> computed =
+        CENTRAL.calculatePortfolioCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, sensiFns);
+    CrossGammaParameterSensitivities expected =
+        CENTRAL.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, this::sensiCombinedFn);
+    assertThat(computed).hasSize(2);
+    assertThat(computed.get(0).equalWithTolerance(expected, TOL)).isTrue();
+    assertThat(computed.get(1).equalWithTolerance(expected, TOL)).isTrue();
+  }
+
+  @Test
+  public void sensitivity_intra_portfolio_combined_curve_mixed() {
+    // one trade is sensitive to the underlying curves, the other to the combined curves
+    List<Function<ImmutableRatesProvider, CurrencyParameterSensitivities>> sensiFns =
+        ImmutableList.of(this::sensiCombinedFn, this::sensiCombinedWholeFn);
+    for (CurveGammaCalculator calculator : new CurveGammaCalculator[] {FORWARD, CENTRAL}) {
+      List<CrossGammaParameterSensitivities> computed =
+          calculator.calculatePortfolioCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, sensiFns);
+      assertThat(computed).hasSize(2);
+      for (int i = 0; i < sensiFns.size(); i++) {
+        CrossGammaParameterSensitivities expected =
+            calculator.calculateCrossGammaIntraCurve(RatesProviderDataSets.MULTI_CPI_USD_COMBINED, sensiFns.get(i));
+        assertThat(expected.size()).isGreaterThan(0);
+        assertThat(computed.get(i).equalWithTolerance(expected, TOL)).isTrue();
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void sensitivity_intra_multi_bond_curve() {
@@ -501,6 +560,23 @@ public class CurveGammaCalculatorCrossGammaTest {
     return sensi;
   }
 
+  // modified sensitivity function - sensitivities are computed against the CombinedCurve itself
+  private CurrencyParameterSensitivities sensiCombinedWholeFn(ImmutableRatesProvider provider) {
+    CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
+    double sum = sumCombine(provider);
+    List<Curve> curves = ImmutableList.<Curve>builder()
+        .addAll(provider.getDiscountCurves().values())
+        .addAll(provider.getIndexCurves().values())
+        .build();
+    for (Curve curve : curves) {
+      if (curve instanceof CombinedCurve) {
+        sensi = sensi.combinedWith(CurrencyParameterSensitivity.of(curve.getName(), USD,
+            DoubleArray.of(curve.getParameterCount(), i -> 2d * sum * (i + 1) * curve.getParameter(i))));
+      }
+    }
+    return sensi;
+  }
+
   // modified sensitivity function - sensitivities are computed only for ibor index curves
   private CurrencyParameterSensitivities sensiModFn(ImmutableRatesProvider provider) {
     CurrencyParameterSensitivities sensi = CurrencyParameterSensitivities.empty();
@@ -12,8 +12,10 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.market.curve.CurveInfoType.JACOBIAN;
 import static com.opengamma.strata.market.curve.interpolator.CurveInterpolators.LINEAR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +39,7 @@ import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 import com.opengamma.strata.pricer.bond.ImmutableLegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.curve.CalibrationDiscountingSimpleEur3Test;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.product.LegalEntityId;
 import com.opengamma.strata.product.SecurityId;
 
@@ -106,6 +109,20 @@ public class MarketQuoteSensitivityCalculatorTest {
         .repoCurveSecurityGroups(ImmutableMap.of(ID_SECURITY, GROUP_REPO_SECURITY))
         .build();
   }
+  private static final ImmutableRatesProvider RATES_PROVIDER = ImmutableRatesProvider.builder(DATE)
+      .discountCurve(USD, CURVE_1)
+      .discountCurve(GBP, CURVE_2)
+      .build();
+  // the parameter sensitivities split between trades, adding up to PARAMETER_SENSITIVITIES
+  private static final List<CurrencyParameterSensitivities> TRADE_SENSITIVITIES = ImmutableList.of(
+      CurrencyParameterSensitivities.of(CurrencyParameterSensitivity.of(CURVE_NAME_1, USD, DoubleArray.of(1d, 0d, 0d))),
+      CurrencyParameterSensitivities.of(
+          CurrencyParameterSensitivity.of(CURVE_NAME_1, USD, DoubleArray.of(0d, 2d, 1d)),
+          CurrencyParameterSensitivity.of(CURVE_NAME_2, GBP, DoubleArray.of(-3d, -6d, 0d, 0d))),
+      CurrencyParameterSensitivities.empty(),
+      CurrencyParameterSensitivities.of(
+          CurrencyParameterSensitivity.of(CURVE_NAME_1, USD, DoubleArray.of(0d, 0d, 2d)),
+          CurrencyParameterSensitivity.of(CURVE_NAME_2, GBP, DoubleArray.of(0d, 0d, 4d, 2d))));
 
   private static final double TOL = 1.0e-14;
 
@@ -123,4 +140,37 @@ public class MarketQuoteSensitivityCalculatorTest {
     assertThat(computed.getSensitivity(CURVE_NAME_2, GBP).getSensitivity().equalWithTolerance(expected22, TOL)).isTrue();
   }
 
+  @Test
+  public void test_portfolioSensitivity_LegalEntityDiscountingProvider() {
+    CurrencyParameterSensitivities computed = CALC.portfolioSensitivity(TRADE_SENSITIVITIES, PROVIDER);
+    CurrencyParameterSensitivities expected = CALC.sensitivity(PARAMETER_SENSITIVITIES, PROVIDER);
+    assertThat(computed.getSensitivities()).hasSize(4);
+    assertThat(computed.equalWithTolerance(expected, TOL)).isTrue();
+  }
+
+  @Test
+  public void test_portfolioSensitivity_RatesProvider() {
+    CurrencyParameterSensitivities computed = CALC.portfolioSensitivity(TRADE_SENSITIVITIES, RATES_PROVIDER);
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (CurrencyParameterSensitivities tradeSensitivities : TRADE_SENSITIVITIES) {
+      expected = expected.combinedWith(CALC.sensitivity(tradeSensitivities, RATES_PROVIDER));
+    }
+    assertThat(computed.getSensitivities()).hasSize(4);
+    assertThat(computed.equalWithTolerance(expected, TOL)).isTrue();
+  }
+
+  @Test
+  public void test_portfolioSensitivity_empty() {
+    assertThat(CALC.portfolioSensitivity(ImmutableList.of(), RATES_PROVIDER))
+        .isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
+  @Test
+  public void test_portfolioSensitivity_noCurve() {
+    List<CurrencyParameterSensitivities> tradeSensitivities = ImmutableList.of(CurrencyParameterSensitivities.of(
+        CurrencyParameterSensitivity.of(CurveName.of("unknown"), USD, DoubleArray.of(1d))));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CALC.portfolioSensitivity(tradeSensitivities, RATES_PROVIDER));
+  }
+
 }
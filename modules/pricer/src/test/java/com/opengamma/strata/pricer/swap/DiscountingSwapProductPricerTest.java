@@ -56,6 +56,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +77,7 @@ import com.opengamma.strata.basics.schedule.Frequency;
 import com.opengamma.strata.basics.schedule.PeriodicSchedule;
 import com.opengamma.strata.basics.value.ValueSchedule;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.io.CsvOutput;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.amount.CashFlow;
 import com.opengamma.strata.market.amount.CashFlows;
@@ -86,8 +88,10 @@ import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
 import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
 import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.explain.CsvExplainSink;
 import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
+import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
@@ -954,6 +958,41 @@ public class DiscountingSwapProductPricerTest {
     assertThat(pricerTrade.explainPresentValue(SWAP_TRADE, MOCK_PROV)).isEqualTo(pricerSwap.explainPresentValue(SWAP, MOCK_PROV));
   }
 
+  @Test
+  public void test_explainPresentValue_sink() {
+    ResolvedSwap swap = SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA).getProduct();
+    ExplainMap explain = SWAP_PRODUCT_PRICER.explainPresentValue(swap, MULTI_USD);
+
+    ExplainMapBuilder builder = ExplainMap.builder();
+    SWAP_PRODUCT_PRICER.explainPresentValue(swap, MULTI_USD, builder);
+    assertThat(builder.build()).isEqualTo(explain);
+
+    StringBuilder buf = new StringBuilder();
+    CsvExplainSink sink = CsvExplainSink.of(CsvOutput.standard(buf, "\n"));
+    sink.startEntry("T1");
+    SWAP_PRODUCT_PRICER.explainPresentValue(swap, MULTI_USD, sink);
+    String[] lines = buf.toString().split("\n");
+    assertThat(lines).hasSize(countValues(explain) + 1);
+    assertThat(lines[1]).isEqualTo("T1,,EntryType,Swap");
+    assertThat(lines[2]).isEqualTo("T1,Legs[0],EntryIndex,0");
+    assertThat(lines[lines.length - 1]).startsWith("T1,Legs[1],PresentValue,USD ");
+  }
+
+  // counts the values in the map, including those in the list entries
+  private static int countValues(ExplainMap map) {
+    int count = 0;
+    for (Object value : map.getMap().values()) {
+      if (value instanceof List) {
+        for (Object entry : (List<?>) value) {
+          count += countValues((ExplainMap) entry);
+        }
+      } else {
+        count++;
+      }
+    }
+    return count;
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_parSpread_fixedIbor() {
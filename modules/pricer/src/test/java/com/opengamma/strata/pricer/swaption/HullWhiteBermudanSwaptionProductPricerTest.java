@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static com.opengamma.strata.product.common.BuySell.SELL;
+import static com.opengamma.strata.product.common.LongShort.LONG;
+import static com.opengamma.strata.product.common.LongShort.SHORT;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.pricer.impl.rate.model.HullWhiteOneFactorLattice;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.LongShort;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlement;
+import com.opengamma.strata.product.swaption.CashSwaptionSettlementMethod;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+import com.opengamma.strata.product.swaption.SwaptionSettlement;
+
+/**
+ * Test {@link HullWhiteBermudanSwaptionProductPricer}.
+ */
+public class HullWhiteBermudanSwaptionProductPricerTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final BusinessDayAdjustment BDA_MF = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, EUTA);
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final LocalDate FINAL_DATE = LocalDate.of(2021, 7, 12);
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double RATE = 0.02;
+  private static final int NB_EXERCISES = 5;
+
+  private static final List<ResolvedSwaption> BERMUDAN_REC_LONG = bermudan(SELL, LONG);
+  private static final List<ResolvedSwaption> BERMUDAN_REC_SHORT = bermudan(SELL, SHORT);
+  private static final List<ResolvedSwaption> BERMUDAN_PAY_LONG = bermudan(BUY, LONG);
+
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final ImmutableRatesProvider RATE_PROVIDER = HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+
+  private static final double TOL = 1.0e-12;
+  private static final HullWhiteBermudanSwaptionProductPricer PRICER = HullWhiteBermudanSwaptionProductPricer.DEFAULT;
+  private static final HullWhiteSwaptionPhysicalProductPricer PRICER_EUROPEAN =
+      HullWhiteSwaptionPhysicalProductPricer.DEFAULT;
+  private static final DiscountingSwapProductPricer SWAP_PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_presentValue_singleExercise() {
+    for (List<ResolvedSwaption> bermudan : ImmutableList.of(BERMUDAN_REC_LONG, BERMUDAN_REC_SHORT, BERMUDAN_PAY_LONG)) {
+      for (ResolvedSwaption exercise : bermudan) {
+        CurrencyAmount computed = PRICER.presentValue(ImmutableList.of(exercise), RATE_PROVIDER, HW_PROVIDER);
+        CurrencyAmount expected = PRICER_EUROPEAN.presentValue(exercise, RATE_PROVIDER, HW_PROVIDER);
+        assertThat(computed.getCurrency()).isEqualTo(EUR);
+        assertThat(computed.getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * 1.0e-6));
+      }
+    }
+  }
+
+  @Test
+  public void test_presentValue_bounds() {
+    for (List<ResolvedSwaption> bermudan : ImmutableList.of(BERMUDAN_REC_LONG, BERMUDAN_PAY_LONG)) {
+      double computed = PRICER.presentValue(bermudan, RATE_PROVIDER, HW_PROVIDER).getAmount();
+      double maxEuropean = 0d;
+      double sumEuropean = 0d;
+      for (ResolvedSwaption exercise : bermudan) {
+        double european = PRICER_EUROPEAN.presentValue(exercise, RATE_PROVIDER, HW_PROVIDER).getAmount();
+        maxEuropean = Math.max(maxEuropean, european);
+        sumEuropean += european;
+      }
+      assertThat(computed).isGreaterThan(maxEuropean);
+      assertThat(computed).isLessThan(sumEuropean);
+    }
+  }
+
+  @Test
+  public void test_presentValue_longShort() {
+    CurrencyAmount pvLong = PRICER.presentValue(BERMUDAN_REC_LONG, RATE_PROVIDER, HW_PROVIDER);
+    CurrencyAmount pvShort = PRICER.presentValue(BERMUDAN_REC_SHORT, RATE_PROVIDER, HW_PROVIDER);
+    assertThat(pvShort.getAmount()).isCloseTo(-pvLong.getAmount(), offset(NOTIONAL * TOL));
+  }
+
+  @Test
+  public void test_presentValue_lattice() {
+    HullWhiteOneFactorLattice lattice = PRICER.lattice(BERMUDAN_REC_LONG, HW_PROVIDER);
+    assertThat(lattice.getParameters()).isEqualTo(HW_PROVIDER.getParameters());
+    assertThat(lattice.getExerciseTimes().size()).isEqualTo(NB_EXERCISES);
+    // the lattice is shared between Bermudan swaptions with the same exercise dates
+    for (List<ResolvedSwaption> bermudan : ImmutableList.of(BERMUDAN_REC_LONG, BERMUDAN_REC_SHORT, BERMUDAN_PAY_LONG)) {
+      CurrencyAmount computed = PRICER.presentValue(bermudan, RATE_PROVIDER, HW_PROVIDER, lattice);
+      CurrencyAmount expected = PRICER.presentValue(bermudan, RATE_PROVIDER, HW_PROVIDER);
+      assertThat(computed.getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * TOL));
+    }
+    List<ResolvedSwaption> later = BERMUDAN_REC_LONG.subList(1, NB_EXERCISES);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(later, RATE_PROVIDER, HW_PROVIDER, lattice));
+  }
+
+  @Test
+  public void test_presentValue_afterFirstExpiry() {
+    LocalDate valuation = BERMUDAN_REC_LONG.get(0).getExpiryDate().plusDays(1);
+    ImmutableRatesProvider ratesProvider = HullWhiteIborFutureDataSet.createRatesProvider(valuation);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider =
+        HullWhiteIborFutureDataSet.createHullWhiteProvider(valuation);
+    CurrencyAmount computed = PRICER.presentValue(BERMUDAN_REC_LONG, ratesProvider, hwProvider);
+    CurrencyAmount expected =
+        PRICER.presentValue(BERMUDAN_REC_LONG.subList(1, NB_EXERCISES), ratesProvider, hwProvider);
+    assertThat(computed.getAmount()).isCloseTo(expected.getAmount(), offset(NOTIONAL * TOL));
+  }
+
+  @Test
+  public void test_presentValue_onFirstExpiry() {
+    LocalDate valuation = BERMUDAN_REC_LONG.get(0).getExpiryDate();
+    ImmutableRatesProvider ratesProvider = HullWhiteIborFutureDataSet.createRatesProvider(valuation);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider =
+        HullWhiteIborFutureDataSet.createHullWhiteProvider(valuation);
+    double computed = PRICER.presentValue(BERMUDAN_REC_LONG, ratesProvider, hwProvider).getAmount();
+    double later =
+        PRICER.presentValue(BERMUDAN_REC_LONG.subList(1, NB_EXERCISES), ratesProvider, hwProvider).getAmount();
+    double intrinsic = SWAP_PRICER.presentValue(BERMUDAN_REC_LONG.get(0).getUnderlying(), ratesProvider).getAmount(EUR)
+        .getAmount();
+    assertThat(computed).isCloseTo(Math.max(later, intrinsic), offset(NOTIONAL * TOL));
+  }
+
+  @Test
+  public void test_presentValue_expired() {
+    LocalDate valuation = FINAL_DATE.minusYears(1);
+    ImmutableRatesProvider ratesProvider = HullWhiteIborFutureDataSet.createRatesProvider(valuation);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider =
+        HullWhiteIborFutureDataSet.createHullWhiteProvider(valuation);
+    CurrencyAmount computed = PRICER.presentValue(BERMUDAN_REC_LONG, ratesProvider, hwProvider);
+    assertThat(computed).isEqualTo(CurrencyAmount.zero(EUR));
+    assertThatIllegalArgumentException().isThrownBy(() -> PRICER.lattice(BERMUDAN_REC_LONG, hwProvider));
+  }
+
+  @Test
+  public void test_validate() {
+    ResolvedSwaption cash = swaption(1, SELL, LONG, CashSwaptionSettlement.of(
+        VALUATION.plusYears(1), CashSwaptionSettlementMethod.PAR_YIELD));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(ImmutableList.of(cash), RATE_PROVIDER, HW_PROVIDER));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> PRICER.presentValue(ImmutableList.of(), RATE_PROVIDER, HW_PROVIDER));
+    assertThatIllegalArgumentException().isThrownBy(() -> PRICER.presentValue(
+        ImmutableList.of(BERMUDAN_REC_LONG.get(1), BERMUDAN_REC_LONG.get(0)), RATE_PROVIDER, HW_PROVIDER));
+    assertThatIllegalArgumentException().isThrownBy(() -> PRICER.presentValue(
+        ImmutableList.of(BERMUDAN_REC_LONG.get(0), BERMUDAN_REC_SHORT.get(1)), RATE_PROVIDER, HW_PROVIDER));
+    assertThatIllegalArgumentException().isThrownBy(() -> PRICER.presentValue(
+        BERMUDAN_REC_LONG, HullWhiteIborFutureDataSet.createRatesProvider(VALUATION.plusDays(1)), HW_PROVIDER));
+  }
+
+  //-------------------------------------------------------------------------
+  // co-terminal swaptions with annual exercise
+  private static List<ResolvedSwaption> bermudan(BuySell buySell, LongShort longShort) {
+    return IntStream.rangeClosed(1, NB_EXERCISES)
+        .mapToObj(years -> swaption(years, buySell, longShort, PhysicalSwaptionSettlement.DEFAULT))
+        .collect(Collectors.toList());
+  }
+
+  private static ResolvedSwaption swaption(
+      int years,
+      BuySell buySell,
+      LongShort longShort,
+      SwaptionSettlement settlement) {
+
+    LocalDate expiry = BDA_MF.adjust(VALUATION.plusYears(years), REF_DATA);
+    LocalDate start = EUR_FIXED_1Y_EURIBOR_6M.getSpotDateOffset().adjust(expiry, REF_DATA);
+    Swap swap = EUR_FIXED_1Y_EURIBOR_6M.toTrade(expiry, start, FINAL_DATE, buySell, NOTIONAL, RATE).getProduct();
+    return Swaption.builder()
+        .expiryDate(AdjustableDate.of(expiry, BDA_MF))
+        .expiryTime(LocalTime.of(11, 0))
+        .expiryZone(ZoneOffset.UTC)
+        .swaptionSettlement(settlement)
+        .longShort(longShort)
+        .underlying(swap)
+        .build()
+        .resolve(REF_DATA);
+  }
+
+}
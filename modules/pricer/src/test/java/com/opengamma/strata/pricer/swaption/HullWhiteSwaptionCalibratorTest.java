@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.swaption;
+
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.EUTA;
+import static com.opengamma.strata.product.common.BuySell.SELL;
+import static com.opengamma.strata.product.common.LongShort.LONG;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DayCount;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.pricer.index.HullWhiteIborFutureDataSet;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParametersProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swaption.PhysicalSwaptionSettlement;
+import com.opengamma.strata.product.swaption.ResolvedSwaption;
+import com.opengamma.strata.product.swaption.Swaption;
+
+/**
+ * Test {@link HullWhiteSwaptionCalibrator}.
+ */
+public class HullWhiteSwaptionCalibratorTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final BusinessDayAdjustment BDA_MF = BusinessDayAdjustment.of(MODIFIED_FOLLOWING, EUTA);
+  private static final LocalDate VALUATION = LocalDate.of(2011, 7, 7);
+  private static final LocalDate FINAL_DATE = LocalDate.of(2021, 7, 12);
+  private static final double NOTIONAL = 100_000_000d;
+  private static final double RATE = 0.02;
+  private static final double MEAN_REVERSION = 0.01;
+  private static final List<ResolvedSwaption> SWAPTIONS = IntStream.rangeClosed(1, 5)
+      .mapToObj(HullWhiteSwaptionCalibratorTest::swaption)
+      .collect(Collectors.toList());
+
+  private static final HullWhiteOneFactorPiecewiseConstantParametersProvider HW_PROVIDER =
+      HullWhiteIborFutureDataSet.createHullWhiteProvider(VALUATION);
+  private static final ImmutableRatesProvider RATE_PROVIDER = HullWhiteIborFutureDataSet.createRatesProvider(VALUATION);
+  private static final DayCount DAY_COUNT = HW_PROVIDER.getDayCount();
+  private static final ZonedDateTime VALUATION_DATE_TIME = HW_PROVIDER.getValuationDateTime();
+
+  private static final double TOL = 1.0e-8;
+  private static final HullWhiteSwaptionCalibrator CALIBRATOR = HullWhiteSwaptionCalibrator.DEFAULT;
+  private static final HullWhiteSwaptionPhysicalProductPricer PRICER = HullWhiteSwaptionPhysicalProductPricer.DEFAULT;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_calibrateVolatility() {
+    DoubleArray prices = prices(HW_PROVIDER);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider computed = CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, SWAPTIONS, prices, RATE_PROVIDER, DAY_COUNT, VALUATION_DATE_TIME);
+    assertThat(computed.getDayCount()).isEqualTo(DAY_COUNT);
+    assertThat(computed.getValuationDateTime()).isEqualTo(VALUATION_DATE_TIME);
+    HullWhiteOneFactorPiecewiseConstantParameters parameters = computed.getParameters();
+    assertThat(parameters.getMeanReversion()).isEqualTo(MEAN_REVERSION);
+    assertThat(parameters.getVolatility().size()).isEqualTo(SWAPTIONS.size());
+    for (int k = 0; k < SWAPTIONS.size() - 1; k++) {
+      assertThat(parameters.getVolatilityTime().get(k + 1))
+          .isEqualTo(computed.relativeTime(SWAPTIONS.get(k).getExpiryDate()));
+    }
+    for (int k = 0; k < SWAPTIONS.size(); k++) {
+      double repriced = PRICER.presentValue(SWAPTIONS.get(k), RATE_PROVIDER, computed).getAmount();
+      assertThat(repriced).isCloseTo(prices.get(k), offset(NOTIONAL * TOL));
+    }
+  }
+
+  @Test
+  public void test_calibrateVolatility_bermudan() {
+    // the Bermudan swaption priced with the calibrated volatility is worth more than each co-terminal swaption
+    DoubleArray prices = prices(HW_PROVIDER);
+    HullWhiteOneFactorPiecewiseConstantParametersProvider calibrated = CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, SWAPTIONS, prices, RATE_PROVIDER, DAY_COUNT, VALUATION_DATE_TIME);
+    double bermudan =
+        HullWhiteBermudanSwaptionProductPricer.DEFAULT.presentValue(SWAPTIONS, RATE_PROVIDER, calibrated).getAmount();
+    assertThat(bermudan).isGreaterThan(prices.max());
+  }
+
+  @Test
+  public void test_calibrateVolatility_decreasingVariance() {
+    // the second swaption priced with a much lower volatility than the first
+    HullWhiteOneFactorPiecewiseConstantParameters lowParameters =
+        HullWhiteOneFactorPiecewiseConstantParameters.of(MEAN_REVERSION, DoubleArray.of(0.001), DoubleArray.of());
+    HullWhiteOneFactorPiecewiseConstantParametersProvider lowVolatility =
+        HullWhiteOneFactorPiecewiseConstantParametersProvider.of(lowParameters, DAY_COUNT, VALUATION_DATE_TIME);
+    List<ResolvedSwaption> swaptions = SWAPTIONS.subList(0, 2);
+    DoubleArray prices = DoubleArray.of(
+        PRICER.presentValue(swaptions.get(0), RATE_PROVIDER, HW_PROVIDER).getAmount(),
+        PRICER.presentValue(swaptions.get(1), RATE_PROVIDER, lowVolatility).getAmount());
+    assertThatIllegalArgumentException().isThrownBy(() -> CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, swaptions, prices, RATE_PROVIDER, DAY_COUNT, VALUATION_DATE_TIME));
+  }
+
+  @Test
+  public void test_calibrateVolatility_invalid() {
+    DoubleArray prices = prices(HW_PROVIDER);
+    assertThatIllegalArgumentException().isThrownBy(() -> CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, SWAPTIONS, prices.subArray(1), RATE_PROVIDER, DAY_COUNT, VALUATION_DATE_TIME));
+    assertThatIllegalArgumentException().isThrownBy(() -> CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, ImmutableList.of(SWAPTIONS.get(1), SWAPTIONS.get(0)), prices.subArray(0, 2), RATE_PROVIDER,
+        DAY_COUNT, VALUATION_DATE_TIME));
+    assertThatIllegalArgumentException().isThrownBy(() -> CALIBRATOR.calibrateVolatility(
+        MEAN_REVERSION, SWAPTIONS, prices, RATE_PROVIDER, DAY_COUNT, VALUATION_DATE_TIME.plusDays(1)));
+  }
+
+  //-------------------------------------------------------------------------
+  // the prices of the swaptions
+  private static DoubleArray prices(HullWhiteOneFactorPiecewiseConstantParametersProvider hwProvider) {
+    return DoubleArray.of(
+        SWAPTIONS.size(), k -> PRICER.presentValue(SWAPTIONS.get(k), RATE_PROVIDER, hwProvider).getAmount());
+  }
+
+  // the receiver swaption expiring in the specified number of years, on the co-terminal swap
+  private static ResolvedSwaption swaption(int years) {
+    LocalDate expiry = BDA_MF.adjust(VALUATION.plusYears(years), REF_DATA);
+    LocalDate start = EUR_FIXED_1Y_EURIBOR_6M.getSpotDateOffset().adjust(expiry, REF_DATA);
+    Swap swap = EUR_FIXED_1Y_EURIBOR_6M.toTrade(expiry, start, FINAL_DATE, SELL, NOTIONAL, RATE).getProduct();
+    return Swaption.builder()
+        .expiryDate(AdjustableDate.of(expiry, BDA_MF))
+        .expiryTime(LocalTime.of(11, 0))
+        .expiryZone(ZoneOffset.UTC)
+        .swaptionSettlement(PhysicalSwaptionSettlement.DEFAULT)
+        .longShort(LONG)
+        .underlying(swap)
+        .build()
+        .resolve(REF_DATA);
+  }
+
+}
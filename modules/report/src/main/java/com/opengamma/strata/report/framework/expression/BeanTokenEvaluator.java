@@ -5,13 +5,20 @@
  */
 package com.opengamma.strata.report.framework.expression;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
@@ -38,9 +45,24 @@ import com.opengamma.strata.market.amount.LegAmounts;
  * the remaining tokens do not include the property token. If the token doesn't match the property, the property value
  * is returned but the token isn't consumed. i.e. the remaining tokens returned from {@link #evaluate} include
  * the first token.
+ * <p>
+ * The properties of immutable beans are looked up once per bean type and cached,
+ * avoiding a search of the property names each time a token is evaluated.
  */
 public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
 
+  /**
+   * The meta-properties of each type of immutable bean, keyed by lower-case property name.
+   * A class value is used so the cache does not prevent bean classes from being unloaded.
+   */
+  private static final ClassValue<ImmutableMap<String, MetaProperty<?>>> PROPERTIES =
+      new ClassValue<ImmutableMap<String, MetaProperty<?>>>() {
+        @Override
+        protected ImmutableMap<String, MetaProperty<?>> computeValue(Class<?> type) {
+          return properties(MetaBean.of(type));
+        }
+      };
+
   @Override
   public Class<Bean> getTargetType() {
     return Bean.class;
@@ -69,6 +91,9 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
       String firstToken,
       List<String> remainingTokens) {
 
+    if (bean instanceof ImmutableBean) {
+      return evaluateImmutable(bean, firstToken, remainingTokens);
+    }
     Optional<String> propertyName = bean.propertyNames().stream()
         .filter(p -> p.equalsIgnoreCase(firstToken))
         .findFirst();
@@ -95,4 +120,38 @@ public class BeanTokenEvaluator extends TokenEvaluator<Bean> {
     return invalidTokenFailure(bean, firstToken);
   }
 
+  //-------------------------------------------------------------------------
+  // evaluates a token against an immutable bean using the cached meta-properties of its type
+  private EvaluationResult evaluateImmutable(Bean bean, String firstToken, List<String> remainingTokens) {
+    Map<String, MetaProperty<?>> properties = PROPERTIES.get(bean.getClass());
+    MetaProperty<?> metaProperty = properties.get(firstToken.toLowerCase(Locale.ENGLISH));
+
+    if (metaProperty != null) {
+      Object propertyValue = metaProperty.get(bean);
+
+      return propertyValue != null ?
+          EvaluationResult.success(propertyValue, remainingTokens) :
+          EvaluationResult.failure("No value available for property '{}'", firstToken);
+    }
+    // see the equivalent handling of a single property in evaluate()
+    if (bean.metaBean().metaPropertyMap().size() == 1) {
+      Object propertyValue = Iterables.getOnlyElement(properties.values()).get(bean);
+      List<String> tokens = ImmutableList.<String>builder().add(firstToken).addAll(remainingTokens).build();
+
+      return propertyValue != null ?
+          EvaluationResult.success(propertyValue, tokens) :
+          EvaluationResult.failure("No value available for property '{}'", firstToken);
+    }
+    return invalidTokenFailure(bean, firstToken);
+  }
+
+  // the meta-properties of a bean keyed by lower-case name, where the first property takes precedence
+  private static ImmutableMap<String, MetaProperty<?>> properties(MetaBean metaBean) {
+    Map<String, MetaProperty<?>> properties = new LinkedHashMap<>();
+    for (MetaProperty<?> metaProperty : metaBean.metaPropertyIterable()) {
+      properties.putIfAbsent(metaProperty.name().toLowerCase(Locale.ENGLISH), metaProperty);
+    }
+    return ImmutableMap.copyOf(properties);
+  }
+
 }
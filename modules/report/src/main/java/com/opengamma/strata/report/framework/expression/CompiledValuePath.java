@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.expression;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * A value path that has been compiled for repeated evaluation.
+ * <p>
+ * A value path, such as '{@code Product.legs.pay.startDate}', is split into tokens once when it is compiled.
+ * The compiled path can then be evaluated against any number of rows and sets of results without
+ * parsing the path again. The evaluators and bean properties used for each type of object along
+ * the path are looked up once per type and shared between all compiled paths.
+ * <p>
+ * Instances are obtained using {@link ValuePathEvaluator#compile(String)}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class CompiledValuePath {
+
+  /**
+   * The value path.
+   */
+  private final String valuePath;
+  /**
+   * The tokens of the value path.
+   */
+  private final ImmutableList<String> tokens;
+
+  /**
+   * Package-scoped constructor.
+   *
+   * @param valuePath  the value path
+   * @param tokens  the tokens of the value path
+   */
+  CompiledValuePath(String valuePath, ImmutableList<String> tokens) {
+    this.valuePath = valuePath;
+    this.tokens = tokens;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the value path that was compiled.
+   *
+   * @return the value path
+   */
+  public String getValuePath() {
+    return valuePath;
+  }
+
+  /**
+   * Evaluates the value path against a set of results, returning the resolved result for each trade.
+   *
+   * @param results  the calculation results
+   * @return the list of resolved results for each trade
+   */
+  public List<Result<?>> evaluate(ReportCalculationResults results) {
+    if (tokens.isEmpty()) {
+      return Collections.nCopies(
+          results.getTargets().size(),
+          Result.failure(FailureReason.INVALID, "Column expressions must not be empty"));
+    }
+    CalculationFunctions functions = results.getCalculationFunctions();
+    int rowCount = results.getCalculationResults().getRowCount();
+    return IntStream.range(0, rowCount)
+        .mapToObj(rowIndex -> ValuePathEvaluator.evaluate(
+            functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
+        .collect(toImmutableList());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return valuePath;
+  }
+
+}
@@ -141,8 +141,10 @@ class ResultsRow {
    * @return the result of calculating the named measure for the trade in the row
    */
   Result<?> getResult(String measureName) {
-    List<String> validMeasureNames = measureNames(results.getTargets().get(rowIndex), results.getCalculationFunctions());
-    if (!validMeasureNames.contains(measureName)) {
+    // the sorted list of valid names is only needed for failure messages
+    CalculationTarget target = getTarget();
+    if (!isValidMeasure(target, measureName)) {
+      List<String> validMeasureNames = measureNames(target, results.getCalculationFunctions());
       return Result.failure(
           FailureReason.INVALID,
           "Invalid measure name: {}. Valid measure names: {}",
@@ -153,6 +155,7 @@ class ResultsRow {
       Column column = Column.of(Measure.of(measureName));
       int columnIndex = results.getColumns().indexOf(column);
       if (columnIndex == -1) {
+        List<String> validMeasureNames = measureNames(target, results.getCalculationFunctions());
         return Result.failure(
             FailureReason.INVALID,
             "Measure not found in results: '{}'. Valid measure names: {}",
@@ -161,6 +164,7 @@ class ResultsRow {
       }
       Result<?> result = results.getCalculationResults().get(rowIndex, columnIndex);
       if (result.isFailure() && result.getFailure().getReason() == FailureReason.ERROR) {
+        List<String> validMeasureNames = measureNames(target, results.getCalculationFunctions());
         return Result.failure(
             FailureReason.INVALID,
             "Unable to calculate measure '{}'. Reason: {}",
@@ -171,6 +175,7 @@ class ResultsRow {
       return result;
 
     } catch (IllegalArgumentException ex) {
+      List<String> validMeasureNames = measureNames(target, results.getCalculationFunctions());
       return Result.failure(
           FailureReason.INVALID,
           "Unable to calculate measure '{}'. Reason: {}. Valid measure names: {}",
@@ -180,6 +185,13 @@ class ResultsRow {
     }
   }
 
+  // checks if the measure is supported for the target, without sorting the measure names
+  private boolean isValidMeasure(CalculationTarget target, String measureName) {
+    return results.getCalculationFunctions().findFunction(target)
+        .map(fn -> fn.supportedMeasures().stream().anyMatch(measure -> measure.getName().equals(measureName)))
+        .orElse(false);
+  }
+
   // determine the available measures
   static List<String> measureNames(CalculationTarget target, CalculationFunctions calculationFunctions) {
     Set<Measure> validMeasures = calculationFunctions.findFunction(target)
@@ -5,13 +5,9 @@
  */
 package com.opengamma.strata.report.framework.expression;
 
-import static com.opengamma.strata.collect.Guavate.toImmutableList;
-
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.IntStream;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
@@ -36,6 +32,9 @@ import com.opengamma.strata.report.ReportCalculationResults;
  *   <li>{@code IborIndex.getName()} returning the index name</li>
  * </ul>
  * The result of evaluating the expression is the index name.
+ * <p>
+ * Where a path is evaluated repeatedly, for example for each report produced from a template,
+ * it can be compiled once using {@link #compile(String)} and the compiled path reused.
  */
 public final class ValuePathEvaluator {
 
@@ -53,6 +52,15 @@ public final class ValuePathEvaluator {
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
 
+  /** The evaluator for each type of target, found on first use without preventing the class being unloaded. */
+  private static final ClassValue<Optional<TokenEvaluator<Object>>> EVALUATOR_CACHE =
+      new ClassValue<Optional<TokenEvaluator<Object>>>() {
+        @Override
+        protected Optional<TokenEvaluator<Object>> computeValue(Class<?> type) {
+          return findEvaluator(type);
+        }
+      };
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measure encoded in a value path, if present.
@@ -75,30 +83,33 @@ public final class ValuePathEvaluator {
     }
   }
 
+  /**
+   * Compiles a value path for repeated evaluation.
+   * <p>
+   * The path is split into tokens once, rather than each time it is evaluated.
+   *
+   * @param valuePath  the value path
+   * @return the compiled value path
+   */
+  public static CompiledValuePath compile(String valuePath) {
+    return new CompiledValuePath(valuePath, tokenize(valuePath));
+  }
+
   /**
    * Evaluates a value path against a set of results, returning the resolved result for each trade.
+   * <p>
+   * If the same path is to be evaluated more than once, {@link #compile(String)} should be used instead.
    *
    * @param valuePath  the value path
    * @param results  the calculation results
    * @return the list of resolved results for each trade
    */
   public static List<Result<?>> evaluate(String valuePath, ReportCalculationResults results) {
-    List<String> tokens = tokenize(valuePath);
-
-    if (tokens.size() < 1) {
-      return Collections.nCopies(
-          results.getTargets().size(),
-          Result.failure(FailureReason.INVALID, "Column expressions must not be empty"));
-    }
-    CalculationFunctions functions = results.getCalculationFunctions();
-    int rowCount = results.getCalculationResults().getRowCount();
-    return IntStream.range(0, rowCount)
-        .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
-        .collect(toImmutableList());
+    return compile(valuePath).evaluate(results);
   }
 
   // Tokens always has at least one token
-  private static <T> Result<?> evaluate(
+  static <T> Result<?> evaluate(
       CalculationFunctions functions,
       List<String> tokens,
       TokenEvaluator<T> evaluator,
@@ -138,13 +149,18 @@ public final class ValuePathEvaluator {
 
   //-------------------------------------------------------------------------
   // splits a value path into tokens for processing
-  private static List<String> tokenize(String valuePath) {
+  private static ImmutableList<String> tokenize(String valuePath) {
     String[] tokens = valuePath.split(PATH_SEPARATOR);
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // finds the evaluator for a type of target, caching the result
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return EVALUATOR_CACHE.get(targetClass);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
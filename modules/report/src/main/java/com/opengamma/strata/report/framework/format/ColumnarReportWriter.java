@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.format;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * Writes the rows of a report in a columnar binary format.
+ * <p>
+ * Rows are written one at a time and buffered into blocks. Each block is written
+ * column by column, allowing numeric columns to be stored and read back as raw doubles
+ * without formatting or parsing.
+ * <p>
+ * The format is as follows, using the encoding of {@link java.io.DataOutputStream}:
+ * <ul>
+ *   <li>the int {@link #MAGIC}, the int {@link #VERSION} and the int column count
+ *   <li>each column header as a string
+ *   <li>any number of blocks, each containing the int row count followed by each column of the block
+ *   <li>the int zero, marking the end of the blocks
+ * </ul>
+ * Each column of a block starts with a type byte. A column of type {@link #NUMERIC} contains
+ * a double for each row, and a column of type {@link #TEXT} contains a string for each row.
+ * A column is numeric when every value in the block is a {@code Double}.
+ * Strings are written as the int length of their UTF-8 encoding followed by the encoded bytes.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class ColumnarReportWriter {
+
+  /**
+   * The magic number at the start of the output.
+   */
+  public static final int MAGIC = 0x53524350;
+  /**
+   * The version of the format.
+   */
+  public static final int VERSION = 1;
+  /**
+   * The type byte of a text column.
+   */
+  public static final byte TEXT = 0;
+  /**
+   * The type byte of a numeric column.
+   */
+  public static final byte NUMERIC = 1;
+  /**
+   * The default maximum number of rows in a block.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 4096;
+
+  /**
+   * The output.
+   */
+  private final DataOutputStream out;
+  /**
+   * The values of the current block, indexed by column then row.
+   */
+  private final Object[][] block;
+  /**
+   * The number of rows in the current block.
+   */
+  private int rowCount;
+  /**
+   * Whether the output has been finished.
+   */
+  private boolean finished;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a writer, writing the column headers to the output.
+   *
+   * @param out  the output stream to write to
+   * @param headers  the column headers, not empty
+   * @return the writer
+   */
+  public static ColumnarReportWriter of(OutputStream out, List<String> headers) {
+    return new ColumnarReportWriter(out, headers, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Creates a writer with a specific block size, writing the column headers to the output.
+   *
+   * @param out  the output stream to write to
+   * @param headers  the column headers, not empty
+   * @param blockSize  the maximum number of rows in a block
+   * @return the writer
+   */
+  public static ColumnarReportWriter of(OutputStream out, List<String> headers, int blockSize) {
+    return new ColumnarReportWriter(out, headers, blockSize);
+  }
+
+  // restricted constructor
+  private ColumnarReportWriter(OutputStream out, List<String> headers, int blockSize) {
+    ArgChecker.notNull(out, "out");
+    ArgChecker.notEmpty(headers, "headers");
+    ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.block = new Object[headers.size()][blockSize];
+    Unchecked.wrap(() -> {
+      this.out.writeInt(MAGIC);
+      this.out.writeInt(VERSION);
+      this.out.writeInt(headers.size());
+      for (String header : headers) {
+        writeString(header);
+      }
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes a row.
+   * <p>
+   * Each value must be a {@code Double} or a {@code String}.
+   * Values of other types are written using {@code toString()}.
+   *
+   * @param values  the values of the row, one for each column
+   * @throws IllegalArgumentException if the number of values does not match the number of columns
+   * @throws IllegalStateException if the output has been finished
+   */
+  public void writeRow(List<?> values) {
+    ArgChecker.isTrue(
+        values.size() == block.length, "Expected {} values but received {}", block.length, values.size());
+    if (finished) {
+      throw new IllegalStateException("Output has been finished");
+    }
+    for (int i = 0; i < block.length; i++) {
+      Object value = values.get(i);
+      block[i][rowCount] = value instanceof Double ? value : String.valueOf(value);
+    }
+    rowCount++;
+    if (rowCount == block[0].length) {
+      writeBlock();
+    }
+  }
+
+  /**
+   * Writes the buffered rows and flushes the output.
+   */
+  public void flush() {
+    writeBlock();
+    Unchecked.wrap(out::flush);
+  }
+
+  /**
+   * Writes the buffered rows and the end marker, and flushes the output.
+   * <p>
+   * No further rows can be written. The underlying stream is not closed.
+   */
+  public void finish() {
+    if (!finished) {
+      writeBlock();
+      Unchecked.wrap(() -> out.writeInt(0));
+      Unchecked.wrap(out::flush);
+      finished = true;
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // writes the current block, column by column
+  private void writeBlock() {
+    if (rowCount == 0) {
+      return;
+    }
+    Unchecked.wrap(() -> {
+      out.writeInt(rowCount);
+      for (Object[] column : block) {
+        if (isNumeric(column)) {
+          out.writeByte(NUMERIC);
+          for (int i = 0; i < rowCount; i++) {
+            out.writeDouble((Double) column[i]);
+          }
+        } else {
+          out.writeByte(TEXT);
+          for (int i = 0; i < rowCount; i++) {
+            writeString(column[i].toString());
+          }
+        }
+      }
+    });
+    for (Object[] column : block) {
+      Arrays.fill(column, 0, rowCount, null);
+    }
+    rowCount = 0;
+  }
+
+  // checks if all the values of the column in the current block are doubles
+  private boolean isNumeric(Object[] column) {
+    for (int i = 0; i < rowCount; i++) {
+      if (!(column[i] instanceof Double)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // writes a string as its length and UTF-8 bytes, avoiding the size limit of writeUTF
+  private void writeString(String str) throws IOException {
+    byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.report.ReportCalculationResults;
+import com.opengamma.strata.report.framework.expression.CompiledValuePath;
+import com.opengamma.strata.report.framework.format.ColumnarReportWriter;
+import com.opengamma.strata.report.framework.format.ReportOutputFormat;
+
+/**
+ * Writes a trade report as the calculation results are received.
+ * <p>
+ * {@link TradeReportRunner} creates a report containing every row and every value before it is written.
+ * This listener instead evaluates, formats and writes each row of the report as soon as all the
+ * calculation results for the row have been received, then discards the results of the row.
+ * This allows reports with a large number of rows to be written without holding them in memory.
+ * <p>
+ * The listener is passed to the calculation runner with the columns of the report requirements,
+ * as returned by {@link TradeReportRunner#requirements(TradeReportTemplate)}.
+ * The rows are written in the order of the calculation targets. A row that is complete
+ * before the preceding rows is held until the preceding rows have been written.
+ * <p>
+ * The report can be written in CSV format, matching {@link TradeReport#writeCsv(OutputStream)},
+ * or in the columnar binary format of {@link ColumnarReportWriter}. In the binary format, values
+ * that are doubles or currency amounts are written as doubles, and other values as CSV text.
+ * <p>
+ * The listener writes a single report and cannot be reused.
+ */
+public final class StreamingTradeReportWriter
+    implements CalculationListener {
+
+  /**
+   * The compiled value paths of the report columns.
+   */
+  private final List<Optional<CompiledValuePath>> valuePaths;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The calculation functions, used to evaluate the report columns.
+   */
+  private final CalculationFunctions functions;
+  /**
+   * The reference data, used to evaluate the report columns.
+   */
+  private final ReferenceData refData;
+  /**
+   * The output of the rows.
+   */
+  private final RowOutput output;
+  /**
+   * The calculation results of the rows that are not yet complete, keyed by row index.
+   */
+  private final Map<Integer, Result<?>[]> pendingRows = new HashMap<>();
+  /**
+   * The report values of the rows that are complete but not yet written, keyed by row index.
+   */
+  private final TreeMap<Integer, List<Result<?>>> completeRows = new TreeMap<>();
+  /**
+   * The calculation targets.
+   */
+  private List<CalculationTarget> targets;
+  /**
+   * The calculation columns.
+   */
+  private List<Column> columns;
+  /**
+   * The headers of the calculation columns.
+   */
+  private List<ColumnHeader> columnHeaders;
+  /**
+   * The index of the next row to write.
+   */
+  private int nextRow;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener writing the report in CSV format.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date
+   * @param functions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param out  the output stream to write to, which is flushed but not closed
+   * @return the listener
+   */
+  public static StreamingTradeReportWriter csv(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions functions,
+      ReferenceData refData,
+      OutputStream out) {
+
+    return new StreamingTradeReportWriter(template, valuationDate, functions, refData, new CsvRowOutput(template, out));
+  }
+
+  /**
+   * Obtains a listener writing the report in columnar binary format.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date
+   * @param functions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param out  the output stream to write to, which is flushed but not closed
+   * @return the listener
+   */
+  public static StreamingTradeReportWriter columnar(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions functions,
+      ReferenceData refData,
+      OutputStream out) {
+
+    return new StreamingTradeReportWriter(
+        template, valuationDate, functions, refData, new ColumnarRowOutput(template, out));
+  }
+
+  // restricted constructor
+  private StreamingTradeReportWriter(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions functions,
+      ReferenceData refData,
+      RowOutput output) {
+
+    this.valuePaths = TradeReportRunner.compile(ArgChecker.notNull(template, "template"));
+    this.valuationDate = ArgChecker.notNull(valuationDate, "valuationDate");
+    this.functions = ArgChecker.notNull(functions, "functions");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.output = output;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    if (this.targets != null) {
+      throw new IllegalStateException("The listener cannot be reused");
+    }
+    this.targets = ImmutableList.copyOf(targets);
+    this.columns = ImmutableList.copyOf(columns);
+    this.columnHeaders = columns.stream().map(Column::toHeader).collect(toImmutableList());
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    Result<?>[] row = pendingRows.computeIfAbsent(rowIndex, i -> new Result<?>[columns.size()]);
+    row[result.getColumnIndex()] = result.getResult();
+    for (Result<?> cell : row) {
+      if (cell == null) {
+        return;
+      }
+    }
+    pendingRows.remove(rowIndex);
+    completeRows.put(rowIndex, evaluateRow(rowIndex, row));
+    writeCompleteRows();
+  }
+
+  @Override
+  public void calculationsComplete() {
+    // rows with missing results are written with failures in place of the missing results
+    int rowCount = targets != null ? targets.size() : 0;
+    for (int rowIndex = nextRow; rowIndex < rowCount; rowIndex++) {
+      if (!completeRows.containsKey(rowIndex)) {
+        Result<?>[] row = pendingRows.getOrDefault(rowIndex, new Result<?>[columns.size()]);
+        for (int i = 0; i < row.length; i++) {
+          if (row[i] == null) {
+            row[i] = Result.failure(FailureReason.MISSING_DATA, "No result was received for the calculation");
+          }
+        }
+        completeRows.put(rowIndex, evaluateRow(rowIndex, row));
+      }
+    }
+    pendingRows.clear();
+    writeCompleteRows();
+    output.finish();
+  }
+
+  //-------------------------------------------------------------------------
+  // evaluates the report columns for a single row of calculation results
+  private List<Result<?>> evaluateRow(int rowIndex, Result<?>[] row) {
+    ReportCalculationResults rowResults = ReportCalculationResults.of(
+        valuationDate,
+        ImmutableList.of(targets.get(rowIndex)),
+        columns,
+        Results.of(columnHeaders, ImmutableList.copyOf(row)),
+        functions,
+        refData);
+    return valuePaths.stream()
+        .map(valuePath -> TradeReportRunner.evaluateColumn(valuePath, rowResults).get(0))
+        .collect(toImmutableList());
+  }
+
+  // writes the complete rows that follow the last row written
+  private void writeCompleteRows() {
+    List<Result<?>> row = completeRows.remove(nextRow);
+    while (row != null) {
+      output.writeRow(row);
+      nextRow++;
+      row = completeRows.remove(nextRow);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The output of the rows of a report.
+   */
+  private interface RowOutput {
+
+    // writes a row of the report
+    void writeRow(List<Result<?>> row);
+
+    // completes the output
+    void finish();
+  }
+
+  /**
+   * The output of a report in CSV format.
+   */
+  private static final class CsvRowOutput implements RowOutput {
+
+    private final List<TradeReportColumn> reportColumns;
+    private final OutputStreamWriter writer;
+    private final CsvOutput csvOut;
+
+    private CsvRowOutput(TradeReportTemplate template, OutputStream out) {
+      this.reportColumns = template.getColumns();
+      this.writer = new OutputStreamWriter(ArgChecker.notNull(out, "out"), StandardCharsets.UTF_8);
+      this.csvOut = CsvOutput.safe(writer);
+      csvOut.writeLine(reportColumns.stream().map(TradeReportColumn::getHeader).collect(toImmutableList()));
+    }
+
+    @Override
+    public void writeRow(List<Result<?>> row) {
+      List<String> line = new ArrayList<>(row.size());
+      for (int i = 0; i < row.size(); i++) {
+        line.add(TradeReportFormatter.INSTANCE.formatResult(reportColumns.get(i), row.get(i), ReportOutputFormat.CSV));
+      }
+      csvOut.writeLine(line);
+    }
+
+    @Override
+    public void finish() {
+      Unchecked.wrap(writer::flush);
+    }
+  }
+
+  /**
+   * The output of a report in columnar binary format.
+   */
+  private static final class ColumnarRowOutput implements RowOutput {
+
+    private final List<TradeReportColumn> reportColumns;
+    private final ColumnarReportWriter writer;
+
+    private ColumnarRowOutput(TradeReportTemplate template, OutputStream out) {
+      this.reportColumns = template.getColumns();
+      this.writer = ColumnarReportWriter.of(
+          out, reportColumns.stream().map(TradeReportColumn::getHeader).collect(toImmutableList()));
+    }
+
+    @Override
+    public void writeRow(List<Result<?>> row) {
+      List<Object> values = new ArrayList<>(row.size());
+      for (int i = 0; i < row.size(); i++) {
+        Result<?> result = row.get(i);
+        Object value = result.isSuccess() ? result.getValue() : null;
+        if (value instanceof Double) {
+          values.add(value);
+        } else if (value instanceof CurrencyAmount) {
+          values.add(((CurrencyAmount) value).getAmount());
+        } else {
+          values.add(TradeReportFormatter.INSTANCE.formatResult(reportColumns.get(i), result, ReportOutputFormat.CSV));
+        }
+      }
+      writer.writeRow(values);
+    }
+
+    @Override
+    public void finish() {
+      writer.finish();
+    }
+  }
+
+}
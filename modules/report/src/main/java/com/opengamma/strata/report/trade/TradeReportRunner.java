@@ -9,6 +9,7 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableTable;
@@ -19,6 +20,7 @@ import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.report.ReportCalculationResults;
 import com.opengamma.strata.report.ReportRequirements;
 import com.opengamma.strata.report.ReportRunner;
+import com.opengamma.strata.report.framework.expression.CompiledValuePath;
 import com.opengamma.strata.report.framework.expression.ValuePathEvaluator;
 
 /**
@@ -57,18 +59,10 @@ public final class TradeReportRunner
   @Override
   public TradeReport runReport(ReportCalculationResults results, TradeReportTemplate reportTemplate) {
     ImmutableTable.Builder<Integer, Integer, Result<?>> resultTable = ImmutableTable.builder();
+    List<Optional<CompiledValuePath>> valuePaths = compile(reportTemplate);
 
     for (int reportColumnIdx = 0; reportColumnIdx < reportTemplate.getColumns().size(); reportColumnIdx++) {
-      TradeReportColumn reportColumn = reportTemplate.getColumns().get(reportColumnIdx);
-      List<Result<?>> columnResults;
-
-      if (reportColumn.getValue().isPresent()) {
-        columnResults = ValuePathEvaluator.evaluate(reportColumn.getValue().get(), results);
-      } else {
-        columnResults = IntStream.range(0, results.getTargets().size())
-            .mapToObj(i -> Result.failure(FailureReason.INVALID, "No value specified in report template"))
-            .collect(toImmutableList());
-      }
+      List<Result<?>> columnResults = evaluateColumn(valuePaths.get(reportColumnIdx), results);
       int rowCount = results.getCalculationResults().getRowCount();
 
       for (int rowIdx = 0; rowIdx < rowCount; rowIdx++) {
@@ -84,4 +78,21 @@ public final class TradeReportRunner
         .build();
   }
 
+  // compiles the value path of each report column, so each path is parsed once rather than once per row
+  static List<Optional<CompiledValuePath>> compile(TradeReportTemplate reportTemplate) {
+    return reportTemplate.getColumns().stream()
+        .map(reportColumn -> reportColumn.getValue().map(ValuePathEvaluator::compile))
+        .collect(toImmutableList());
+  }
+
+  // evaluates the value path of a report column for each row of the results
+  static List<Result<?>> evaluateColumn(Optional<CompiledValuePath> valuePath, ReportCalculationResults results) {
+    if (valuePath.isPresent()) {
+      return valuePath.get().evaluate(results);
+    }
+    return IntStream.range(0, results.getTargets().size())
+        .mapToObj(i -> Result.failure(FailureReason.INVALID, "No value specified in report template"))
+        .collect(toImmutableList());
+  }
+
 }
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Set;
 
 import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
@@ -45,6 +46,31 @@ public class BeanTokenEvaluatorTest {
     assertThat(notional2.getResult()).hasValue(1_000_000d);
   }
 
+  @Test
+  public void evaluateInvalid() {
+    Bean bean = bean();
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    EvaluationResult result = evaluator.evaluate(bean, FUNCTIONS, "foo", ImmutableList.of());
+    assertThat(result.getResult().isFailure()).isTrue();
+    assertThat(result.getResult().getFailure().getMessage()).contains("Invalid field 'foo'");
+  }
+
+  @Test
+  public void evaluateMutableBean() {
+    FlexiBean bean = new FlexiBean();
+    bean.put("notional", 1_000_000d);
+    BeanTokenEvaluator evaluator = new BeanTokenEvaluator();
+
+    EvaluationResult notional = evaluator.evaluate(bean, FUNCTIONS, "Notional", ImmutableList.of());
+    assertThat(notional.getResult()).hasValue(1_000_000d);
+
+    // the properties of mutable beans are not cached
+    bean.put("currency", Currency.GBP);
+    EvaluationResult currency = evaluator.evaluate(bean, FUNCTIONS, "currency", ImmutableList.of());
+    assertThat(currency.getResult()).hasValue(Currency.GBP);
+  }
+
   @Test
   public void tokens() {
     Bean bean = bean();
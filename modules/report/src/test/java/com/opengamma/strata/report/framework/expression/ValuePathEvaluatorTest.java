@@ -128,6 +128,34 @@ public class ValuePathEvaluatorTest {
     assertThat(counterpartyResults).isEqualTo(expectedCounterparties);
   }
 
+  @Test
+  public void compiledPath() {
+    ReportCalculationResults reportResults = reportResults();
+
+    CompiledValuePath path = ValuePathEvaluator.compile("Trade.Counterparty.Value");
+    assertThat(path.getValuePath()).isEqualTo("Trade.Counterparty.Value");
+    assertThat(path.toString()).isEqualTo("Trade.Counterparty.Value");
+    List<Result<?>> expectedCounterparties = ImmutableList.of(
+        Result.success("cpty1"),
+        Result.success("cpty2"),
+        Result.success("cpty3"));
+    assertThat(path.evaluate(reportResults)).isEqualTo(expectedCounterparties);
+    assertThat(path.evaluate(reportResults)).isEqualTo(expectedCounterparties);
+
+    CompiledValuePath measurePath = ValuePathEvaluator.compile("Measures.PresentValue.Currency");
+    assertThat(measurePath.evaluate(reportResults))
+        .isEqualTo(ValuePathEvaluator.evaluate("Measures.PresentValue.Currency", reportResults));
+  }
+
+  @Test
+  public void compiledPath_empty() {
+    ReportCalculationResults reportResults = reportResults();
+
+    List<Result<?>> results = ValuePathEvaluator.compile(".").evaluate(reportResults);
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).getFailure().getMessage()).isEqualTo("Column expressions must not be empty");
+  }
+
   //--------------------------------------------------------------------------------------------------
 
   private static ReportCalculationResults reportResults() {
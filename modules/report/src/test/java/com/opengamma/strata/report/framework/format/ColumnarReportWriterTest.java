@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link ColumnarReportWriter}.
+ */
+public class ColumnarReportWriterTest {
+
+  @Test
+  public void test_write() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ColumnarReportWriter test = ColumnarReportWriter.of(out, ImmutableList.of("Id", "Value"), 2);
+    test.writeRow(ImmutableList.of("A", 1.5d));
+    test.writeRow(ImmutableList.of("B", 2.5d));
+    test.writeRow(ImmutableList.of("C", "FAIL: Error"));
+    test.finish();
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(in.readInt()).isEqualTo(ColumnarReportWriter.MAGIC);
+    assertThat(in.readInt()).isEqualTo(ColumnarReportWriter.VERSION);
+    assertThat(in.readInt()).isEqualTo(2);
+    assertThat(readString(in)).isEqualTo("Id");
+    assertThat(readString(in)).isEqualTo("Value");
+    // first block, with a numeric column
+    assertThat(in.readInt()).isEqualTo(2);
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.TEXT);
+    assertThat(readString(in)).isEqualTo("A");
+    assertThat(readString(in)).isEqualTo("B");
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.NUMERIC);
+    assertThat(in.readDouble()).isEqualTo(1.5d);
+    assertThat(in.readDouble()).isEqualTo(2.5d);
+    // second block, with a text column
+    assertThat(in.readInt()).isEqualTo(1);
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.TEXT);
+    assertThat(readString(in)).isEqualTo("C");
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.TEXT);
+    assertThat(readString(in)).isEqualTo("FAIL: Error");
+    // end marker
+    assertThat(in.readInt()).isEqualTo(0);
+    assertThat(in.available()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_flush() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ColumnarReportWriter test = ColumnarReportWriter.of(out, ImmutableList.of("Value"));
+    test.writeRow(ImmutableList.of(1d));
+    int headerSize = 4 + 4 + 4 + 4 + 5;
+    test.flush();
+    assertThat(out.size()).isEqualTo(headerSize + 4 + 1 + 8);
+    test.finish();
+    assertThat(out.size()).isEqualTo(headerSize + 4 + 1 + 8 + 4);
+  }
+
+  @Test
+  public void test_invalid() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThatIllegalArgumentException().isThrownBy(() -> ColumnarReportWriter.of(out, ImmutableList.of()));
+    ColumnarReportWriter test = ColumnarReportWriter.of(out, ImmutableList.of("Id", "Value"));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.writeRow(ImmutableList.of("A")));
+    test.finish();
+    assertThatIllegalStateException().isThrownBy(() -> test.writeRow(ImmutableList.of("A", 1d)));
+  }
+
+  //-------------------------------------------------------------------------
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.report.ReportCalculationResults;
+import com.opengamma.strata.report.framework.format.ColumnarReportWriter;
+
+/**
+ * Test {@link StreamingTradeReportWriter}.
+ */
+public class StreamingTradeReportWriterTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 8, 5);
+  private static final Column COLUMN = Column.of(Measure.of("PresentValue"));
+  private static final List<Trade> TRADES = ImmutableList.of(
+      trade("cpty1", 1_000_000),
+      trade("cpty2", 10_000_000),
+      trade("cpty3", 100_000_000));
+  private static final List<Result<?>> RESULTS = ImmutableList.of(
+      Result.success(CurrencyAmount.of(Currency.CAD, 2d)),
+      Result.success(CurrencyAmount.of(Currency.AUD, 3d)),
+      Result.success(CurrencyAmount.of(Currency.CHF, 4d)));
+  private static final TradeReportTemplate TEMPLATE = TradeReportTemplate.builder()
+      .columns(
+          TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build(),
+          TradeReportColumn.builder().header("PV").value("Measures.PresentValue").build(),
+          TradeReportColumn.builder().header("Empty").build())
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_csv() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingTradeReportWriter test = StreamingTradeReportWriter.csv(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    receiveAll(test);
+
+    ReportCalculationResults results = ReportCalculationResults.of(
+        VAL_DATE, TRADES, ImmutableList.of(COLUMN), Results.of(ImmutableList.of(COLUMN.toHeader()), RESULTS));
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    TradeReportRunner.INSTANCE.runReport(results, TEMPLATE).writeCsv(expected);
+    assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+        .isEqualTo(new String(expected.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void test_csv_missingResults() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingTradeReportWriter test = StreamingTradeReportWriter.csv(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    test.calculationsStarted(ImmutableList.copyOf(TRADES), ImmutableList.of(COLUMN));
+    test.resultReceived(TRADES.get(1), CalculationResult.of(1, 0, RESULTS.get(1)));
+    test.calculationsComplete();
+
+    String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+    assertThat(lines).hasSize(4);
+    assertThat(lines[1]).startsWith("cpty1,FAIL: ");
+    assertThat(lines[2]).startsWith("cpty2,3");
+    assertThat(lines[3]).startsWith("cpty3,FAIL: ");
+  }
+
+  @Test
+  public void test_columnar() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    StreamingTradeReportWriter test = StreamingTradeReportWriter.columnar(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), out);
+    receiveAll(test);
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(in.readInt()).isEqualTo(ColumnarReportWriter.MAGIC);
+    assertThat(in.readInt()).isEqualTo(ColumnarReportWriter.VERSION);
+    assertThat(in.readInt()).isEqualTo(3);
+    assertThat(readString(in)).isEqualTo("Counterparty");
+    assertThat(readString(in)).isEqualTo("PV");
+    assertThat(readString(in)).isEqualTo("Empty");
+    assertThat(in.readInt()).isEqualTo(3);
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.TEXT);
+    assertThat(readString(in)).isEqualTo("cpty1");
+    assertThat(readString(in)).isEqualTo("cpty2");
+    assertThat(readString(in)).isEqualTo("cpty3");
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.NUMERIC);
+    assertThat(in.readDouble()).isEqualTo(2d);
+    assertThat(in.readDouble()).isEqualTo(3d);
+    assertThat(in.readDouble()).isEqualTo(4d);
+    assertThat(in.readByte()).isEqualTo(ColumnarReportWriter.TEXT);
+    for (int i = 0; i < 3; i++) {
+      assertThat(readString(in)).isEqualTo("FAIL: No value specified in report template");
+    }
+    assertThat(in.readInt()).isEqualTo(0);
+  }
+
+  //-------------------------------------------------------------------------
+  // receives the results out of order
+  private static void receiveAll(StreamingTradeReportWriter listener) {
+    listener.calculationsStarted(ImmutableList.copyOf(TRADES), ImmutableList.of(COLUMN));
+    for (int rowIndex : new int[] {2, 0, 1}) {
+      listener.resultReceived(TRADES.get(rowIndex), CalculationResult.of(rowIndex, 0, RESULTS.get(rowIndex)));
+    }
+    listener.calculationsComplete();
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static Trade trade(String counterparty, double notional) {
+    TradeInfo tradeInfo = TradeInfo.builder()
+        .counterparty(StandardId.of("cpty", counterparty))
+        .build();
+    Fra fra = Fra.builder()
+        .buySell(BUY)
+        .notional(notional)
+        .startDate(date(2015, 8, 5))
+        .endDate(date(2015, 11, 5))
+        .paymentDate(AdjustableDate.of(date(2015, 8, 7)))
+        .fixedRate(0.25d)
+        .index(GBP_LIBOR_3M)
+        .build();
+    return FraTrade.builder()
+        .info(tradeInfo)
+        .product(fra)
+        .build();
+  }
+
+}